@@ -49,15 +49,35 @@ public class CloseableCsvReader implements Closeable, Iterable<String[]> {
         return delegate.iterator();
     }
 
+    public Iterator<Row> rowIterator() throws IOException {
+        return delegate.rowIterator();
+    }
+
+    public Iterator<RowView> rowViewIterator() throws IOException {
+        return delegate.rowViewIterator();
+    }
+
 
     //IFJAVA8_START
     public Stream<String[]> stream() {
         return delegate.stream();
     }
+
+    public Stream<Row> rowStream() {
+        return delegate.rowStream();
+    }
+
+    public Stream<RowView> rowViewStream() {
+        return delegate.rowViewStream();
+    }
     //IFJAVA8_END
 
     @Override
     public void close() throws IOException {
-        resource.close();
+        try {
+            resource.close();
+        } finally {
+            delegate.release();
+        }
     }
 }
@@ -0,0 +1,78 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ConfigurableByteConsumer;
+
+import java.io.IOException;
+
+/**
+ * Byte level equivalent of the {@link CsvReader}, the cells are passed as encoded byte ranges to the {@link ByteCellConsumer}.
+ * @see CsvParser.AbstractDSL#byteReader(java.io.InputStream)
+ */
+public final class CsvByteReader {
+
+	private static final ByteCellConsumer NULL_CELL_CONSUMER = new ByteCellConsumer() {
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+		}
+
+		@Override
+		public boolean endOfRow() {
+			return true;
+		}
+
+		@Override
+		public void end() {
+		}
+	};
+
+	private final ConfigurableByteConsumer consumer;
+
+	public CsvByteReader(ConfigurableByteConsumer byteConsumer) {
+		this.consumer = byteConsumer;
+	}
+
+	/**
+	 * parse cvs
+	 * @param cellConsumer the consumer that the parser will callback
+	 * @param <CC> the cell consumer type
+	 * @throws java.io.IOException if an io error occurs
+	 * @return the cell consumer
+	 */
+	public <CC extends ByteCellConsumer> CC parseAll(CC cellConsumer) throws IOException {
+		do {
+			consumer.consumeAllBuffer(cellConsumer);
+		} while(consumer.shiftAndRead(false));
+
+		consumer.finish(cellConsumer);
+		return cellConsumer;
+	}
+
+	/**
+	 * parse cvs
+	 * @param cellConsumer the cell consumer
+	 * @return true if there was data consumed
+	 * @throws IOException if io error occurs
+	 */
+	public boolean parseRow(ByteCellConsumer cellConsumer) throws IOException {
+		do {
+			if (consumer.consumeToNextRow(cellConsumer)) {
+				return true;
+			}
+		} while(consumer.shiftAndRead(false));
+
+		consumer.finish(cellConsumer);
+		return false;
+	}
+
+	public void skipRows(int n) throws IOException {
+		parseRows(NULL_CELL_CONSUMER, n);
+	}
+
+	public <CC extends ByteCellConsumer> CC parseRows(CC cellConsumer, int limit) throws IOException {
+		for(int i = 0; i < limit; i++) {
+			parseRow(cellConsumer);
+		}
+		return cellConsumer;
+	}
+}
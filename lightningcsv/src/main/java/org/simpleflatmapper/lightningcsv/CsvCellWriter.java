@@ -4,6 +4,7 @@ package org.simpleflatmapper.lightningcsv;
 import org.simpleflatmapper.util.CharSequenceImpl;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Iterator;
 
 public final class CsvCellWriter implements CellWriter {
@@ -84,8 +85,27 @@ public final class CsvCellWriter implements CellWriter {
     @Override
     public void writeValue(char[] chars, int start, int end, Appendable appendable) throws IOException {
         if (chars != null) {
-            writeValue(new CharSequenceImpl(chars, start, end), appendable);
+            if (alwaysEscape || needsEscaping(chars, start, end)) {
+                escapeCharSequence(new CharSequenceImpl(chars, start, end), 0, end - start, appendable);
+            } else if (appendable instanceof Writer) {
+                // no CharSequence wrapper, Writer.append would also copy it to a String
+                ((Writer) appendable).write(chars, start, end - start);
+            } else {
+                appendable.append(new CharSequenceImpl(chars, start, end));
+            }
+        }
+    }
+
+    private boolean needsEscaping(char[] chars, int start, int end) {
+        char[] specialCharacters = this.specialCharacters;
+        for(int i = start; i < end; i++) {
+            char c = chars[i];
+            for(int j = 0; j < specialCharacters.length; j++) {
+                char s = specialCharacters[j];
+                if (c == s) return true;
+            }
         }
+        return false;
     }
 
     private boolean needsEscaping(CharSequence sequence, int start, int end) {
@@ -1,31 +1,49 @@
 package org.simpleflatmapper.lightningcsv;
 
+import org.simpleflatmapper.lightningcsv.parser.BufferPool;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
+import org.simpleflatmapper.lightningcsv.parser.ByteArrayByteBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ByteBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
+import org.simpleflatmapper.lightningcsv.parser.ConfigurableByteConsumer;
+import org.simpleflatmapper.lightningcsv.parser.InputStreamByteBuffer;
+import org.simpleflatmapper.lightningcsv.parser.NoopByteCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.TrimByteCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.UnescapeByteCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.PushCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.TextFormat;
 import org.simpleflatmapper.lightningcsv.parser.TrimCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.UnescapeCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.YamlCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.impl.ParallelChunkParser;
+import org.simpleflatmapper.lightningcsv.impl.RowIndexBuilder;
 import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.CheckedConsumer;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.Executor;
 //IFJAVA8_START
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -220,6 +238,29 @@ public final class CsvParser {
 		}
 	}
 
+	// a row ending with \r followed by \n ends after the \n
+	private static long rowStartOffset(FileChannel fileChannel, long offset) throws IOException {
+		if (offset == 0) return 0;
+		java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(2);
+		while(bytes.hasRemaining() && fileChannel.read(bytes, offset - 1 + bytes.position()) > 0);
+		if (bytes.position() == 2 && bytes.get(0) == '\r' && bytes.get(1) == '\n') {
+			return offset + 1;
+		}
+		return offset;
+	}
+
+	private static MappedFileCharBuffer newMappedFileCharBuffer(File file, Charset charset, int bufferSize, int maxBufferSize) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		FileChannel fileChannel = randomAccessFile.getChannel();
+		try {
+			return new MappedFileCharBuffer(fileChannel, charset, bufferSize, maxBufferSize);
+		} catch(IOException e) {
+			safeClose(fileChannel);
+			safeClose(randomAccessFile);
+			throw e;
+		}
+	}
+
 	private static Reader newReaderJava6(File file, Charset charset) throws IOException {
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
 		FileChannel fileChannel = null;
@@ -270,7 +311,11 @@ public final class CsvParser {
 		protected final org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
 		protected final boolean yamlComment;
 		protected final boolean parallelReader;
+		protected final ParallelReader.WaitingStrategy parallelReaderWaitingStrategy;
 		protected final boolean specialisedCharConsumer;
+		protected final boolean memoryMappedFile;
+		protected final BufferPool bufferPool;
+		protected final ColumnProjection columnProjection;
 		
 		protected enum StringPostProcessing { NONE, UNESCAPE, TRIM_AND_UNESCAPE}
 
@@ -286,10 +331,14 @@ public final class CsvParser {
 			cellConsumerWrapper = null;
 			yamlComment = false;
 			parallelReader = false;
+			parallelReaderWaitingStrategy = null;
 			specialisedCharConsumer = true;
+			memoryMappedFile = false;
+			bufferPool = null;
+			columnProjection = null;
 		}
 
-		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
+		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.escapeChar = escapeChar;
@@ -301,7 +350,11 @@ public final class CsvParser {
 			this.cellConsumerWrapper = cellConsumerWrapper;
 			this.yamlComment = yamlComment;
 			this.parallelReader = parallelReader;
+			this.parallelReaderWaitingStrategy = parallelReaderWaitingStrategy;
 			this.specialisedCharConsumer = specialisedCharConsumer;
+			this.memoryMappedFile = memoryMappedFile;
+			this.bufferPool = bufferPool;
+			this.columnProjection = columnProjection;
 		}
 
 		/**
@@ -325,16 +378,28 @@ public final class CsvParser {
 		}
 
 		private <CC extends CellConsumer> CC parse(CharBuffer charBuffer, CC cellConsumer) throws IOException {
-			CsvReader csvreader = reader(charBuffer);
+			try {
+				CsvReader csvreader = reader(charBuffer);
 
-			if (limit == -1) {
-				return csvreader.parseAll(cellConsumer);
-			} else {
-				return csvreader.parseRows(cellConsumer, limit);
+				if (limit == -1) {
+					return csvreader.parseAll(cellConsumer);
+				} else {
+					return csvreader.parseRows(cellConsumer, limit);
+				}
+			} finally {
+				charBuffer.release();
 			}
 		}
 
 		public final <CC extends CellConsumer> CC parse(File file, CC cellConsumer) throws IOException {
+			if (memoryMappedFile) {
+				MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+				try {
+					return parse(charBuffer, cellConsumer);
+				} finally {
+					safeClose(charBuffer);
+				}
+			}
 			Reader reader = newReader(file);
 			try {
 				return parse(reader, cellConsumer);
@@ -343,6 +408,137 @@ public final class CsvParser {
 			}
 		}
 
+		/**
+		 * Parse the file as a csv tokenising chunks of the file in parallel on the default executor, the cellConsumer is
+		 * called back in order on the calling thread.
+		 * <p>
+		 * The chunks are split on line feeds, a quoted line feed at a split point triggers the re-parsing of the chunks around it.
+		 * @param file the file
+		 * @param cellConsumer the callback object for each cell value
+		 * @param <CC> the type of the cell consumer
+		 * @return cellConsumer
+		 * @throws IOException if and error occurs reading the file
+		 */
+		public final <CC extends CellConsumer> CC parseParallel(File file, CC cellConsumer) throws IOException {
+			return parseParallel(file, cellConsumer, ParallelReader.getDefaultExecutor(), ParallelChunkParser.DEFAULT_CHUNK_SIZE_8M);
+		}
+
+		public final <CC extends CellConsumer> CC parseParallel(File file, CC cellConsumer, Executor executor, int chunkSize) throws IOException {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+			try {
+				parallelChunkParser(randomAccessFile.getChannel(), resolvedColumnProjection(file), executor, chunkSize).parse(cellConsumer, skip, limit);
+				return cellConsumer;
+			} finally {
+				safeClose(randomAccessFile);
+			}
+		}
+
+		/**
+		 * Parse the file as a csv tokenising chunks of the file in parallel on the default executor.
+		 * Each chunk is delivered to its own cellConsumer on the executor, the chunks are consumed concurrently and in no particular order.
+		 * @param file the file
+		 * @param cellConsumerFactory create a new cellConsumer per chunk
+		 * @param <CC> the type of the cell consumer
+		 * @return the cellConsumers in the order of their chunk in the file
+		 * @throws IOException if and error occurs reading the file
+		 */
+		public final <CC extends CellConsumer> List<CC> parseParallelUnordered(File file, org.simpleflatmapper.util.Supplier<CC> cellConsumerFactory) throws IOException {
+			return parseParallelUnordered(file, cellConsumerFactory, ParallelReader.getDefaultExecutor(), ParallelChunkParser.DEFAULT_CHUNK_SIZE_8M);
+		}
+
+		public final <CC extends CellConsumer> List<CC> parseParallelUnordered(File file, org.simpleflatmapper.util.Supplier<CC> cellConsumerFactory, Executor executor, int chunkSize) throws IOException {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+			try {
+				return parallelChunkParser(randomAccessFile.getChannel(), resolvedColumnProjection(file), executor, chunkSize).parse(cellConsumerFactory, skip, limit);
+			} finally {
+				safeClose(randomAccessFile);
+			}
+		}
+
+		private ParallelChunkParser parallelChunkParser(FileChannel fileChannel, final ColumnProjection columnProjection, Executor executor, int chunkSize) throws IOException {
+			if (yamlComment) {
+				throw new UnsupportedOperationException("Yaml comments are not supported on parallel parsing");
+			}
+			return new ParallelChunkParser(fileChannel, DEFAULT_CHARSET, new org.simpleflatmapper.util.Function<CharBuffer, AbstractCharConsumer>() {
+				@Override
+				public AbstractCharConsumer apply(CharBuffer charBuffer) {
+					return charConsumer(charBuffer, columnProjection);
+				}
+			}, cellConsumerWrapper, executor, chunkSize);
+		}
+
+		// the chunks and the indexed rows do not start with the header row, resolve the header names upfront
+		private ColumnProjection resolvedColumnProjection(File file) throws IOException {
+			if (columnProjection == null || !columnProjection.isByHeaders()) {
+				return columnProjection;
+			}
+			Reader reader = newReader(file);
+			try {
+				CsvReader csvReader = new CsvReader(charConsumer(new ReaderCharBuffer(bufferSize, maxBufferSize, reader), null));
+				Iterator<String[]> iterator = csvReader.iterator();
+				return columnProjection.resolve(iterator.hasNext() ? iterator.next() : new String[0]);
+			} finally {
+				safeClose(reader);
+			}
+		}
+
+		/**
+		 * Parse the content from the inputStream as a csv and call back the cellConsumer with the encoded byte range of each cell.
+		 * <p>
+		 * The content is tokenised on the raw bytes without decoding, the encoding needs to be ascii compatible - utf-8, iso-8859-*... -
+		 * and the separator, quote and escape char need to be ascii.
+		 * @param inputStream the inputStream
+		 * @param cellConsumer the callback object for each cell value
+		 * @param <CC> the type of the cell consumer
+		 * @return cellConsumer
+		 * @throws IOException if and error occurs in the inputStream
+		 * @see org.simpleflatmapper.lightningcsv.parser.ByteCellConsumers
+		 */
+		public final <CC extends ByteCellConsumer> CC parseBytes(InputStream inputStream, CC cellConsumer) throws IOException {
+			return parseBytes(byteReader(inputStream), cellConsumer);
+		}
+
+		public final <CC extends ByteCellConsumer> CC parseBytes(byte[] content, CC cellConsumer) throws IOException {
+			return parseBytes(byteReader(content), cellConsumer);
+		}
+
+		public final <CC extends ByteCellConsumer> CC parseBytes(File file, CC cellConsumer) throws IOException {
+			InputStream inputStream = new FileInputStream(file);
+			try {
+				return parseBytes(inputStream, cellConsumer);
+			} finally {
+				safeClose(inputStream);
+			}
+		}
+
+		private <CC extends ByteCellConsumer> CC parseBytes(CsvByteReader csvByteReader, CC cellConsumer) throws IOException {
+			if (limit == -1) {
+				return csvByteReader.parseAll(cellConsumer);
+			} else {
+				return csvByteReader.parseRows(cellConsumer, limit);
+			}
+		}
+
+		/**
+		 * Create a CsvByteReader on the specified inputStream. Will skip the number of specified rows.
+		 * @param inputStream the content
+		 * @return a CsvByteReader on the inputStream.
+		 * @throws IOException if an io error occurs
+		 */
+		public final CsvByteReader byteReader(InputStream inputStream) throws IOException {
+			return byteReader(new InputStreamByteBuffer(bufferSize, maxBufferSize, inputStream));
+		}
+
+		public final CsvByteReader byteReader(byte[] content) throws IOException {
+			return byteReader(new ByteArrayByteBuffer(content));
+		}
+
+		private CsvByteReader byteReader(ByteBuffer byteBuffer) throws IOException {
+			CsvByteReader csvByteReader = new CsvByteReader(new ConfigurableByteConsumer(byteBuffer, getTextFormat(), getByteCellTransformer()));
+			csvByteReader.skipRows(skip);
+			return csvByteReader;
+		}
+
 		/**
 		 * Create a CsvReader and the specified reader. Will skip the number of specified rows.
 		 * @param reader the content
@@ -350,7 +546,14 @@ public final class CsvParser {
 		 * @throws IOException if an io error occurs
 		 */
 		public final CsvReader reader(Reader reader) throws IOException {
-			return reader(charBuffer(parallelReader ? new ParallelReader(reader) : reader));
+			return reader(charBuffer(parallelReader ? newParallelReader(reader) : reader));
+		}
+
+		private Reader newParallelReader(Reader reader) {
+			if (parallelReaderWaitingStrategy != null) {
+				return new ParallelReader(reader, ParallelReader.getDefaultExecutor(), ParallelReader.DEFAULT_RING_BUFFER_SIZE, ParallelReader.DEFAULT_READ_BUFFER_SIZE, parallelReaderWaitingStrategy);
+			}
+			return new ParallelReader(reader);
 		}
 
 		public final CsvReader reader(CharSequence content) throws IOException {
@@ -361,13 +564,41 @@ public final class CsvParser {
 			return reader(charBuffer(content));
 		}
 
+		/**
+		 * Create a non blocking parser that is fed by chunks, the bytes are decoded with the default charset.
+		 * Will skip and limit the number of specified rows.
+		 * @param cellConsumer the consumer that the parser will callback
+		 * @param <CC> the cell consumer type
+		 * @return a push parser delivering the rows to the cell consumer
+		 */
+		public final <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer) {
+			return pushParser(cellConsumer, DEFAULT_CHARSET);
+		}
+
+		/**
+		 * Create a non blocking parser that is fed by chunks.
+		 * Will skip and limit the number of specified rows.
+		 * @param cellConsumer the consumer that the parser will callback
+		 * @param charset the charset used to decode the bytes
+		 * @param <CC> the cell consumer type
+		 * @return a push parser delivering the rows to the cell consumer
+		 */
+		public final <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer, Charset charset) {
+			PushCharBuffer charBuffer = new PushCharBuffer(bufferSize, maxBufferSize);
+			CellConsumer wrappedCellConsumer = cellConsumerWrapper != null ? cellConsumerWrapper.apply(cellConsumer) : cellConsumer;
+			return new CsvPushParser<CC>(charConsumer(charBuffer), charBuffer, cellConsumer, wrappedCellConsumer, charset, bufferSize, skip, limit);
+		}
+
 		private CsvReader reader(CharBuffer charBuffer) throws IOException {
-			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper);
+			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper, bufferPool);
 			csvReader.skipRows(skip);
 			return csvReader;
 		}
 
 		protected CharBuffer charBuffer(Reader reader) throws IOException {
+			if (bufferPool != null) {
+				return new ReaderCharBuffer(bufferSize, maxBufferSize, reader, bufferPool);
+			}
 			return new ReaderCharBuffer(bufferSize, maxBufferSize, reader);
 		}
 
@@ -379,10 +610,103 @@ public final class CsvParser {
 			return new CharSequenceCharBuffer(content);
 		}
 
+		protected MappedFileCharBuffer mappedFileCharBuffer(File file) throws IOException {
+			return newMappedFileCharBuffer(file, DEFAULT_CHARSET, bufferSize, maxBufferSize);
+		}
+
 		public final CloseableCsvReader reader(File file) throws IOException {
+			if (memoryMappedFile) {
+				MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+				try {
+					return new CloseableCsvReader(reader(charBuffer), charBuffer);
+				} catch (IOException e) {
+					safeClose(charBuffer);
+					throw e;
+				}
+			}
 			return onReader(file, this, CREATE_CLOSEABLE_CSV_READER);
 		}
 
+		/**
+		 * Index the byte offset of every interval-th row of the file.
+		 * <p>
+		 * The file is tokenised on the raw bytes with the separator, quote and escape of the dsl, the encoding needs to be ascii compatible.
+		 * The index can be saved with RowIndex.write(File) and used to start reading from any row without parsing the rows before it.
+		 * </p>
+		 * @param file the file
+		 * @param interval the number of rows between each indexed offset
+		 * @return the row index
+		 * @throws IOException if an error occurs reading the file
+		 * @see #reader(File, RowIndex, long)
+		 */
+		public final RowIndex rowIndex(File file, int interval) throws IOException {
+			if (yamlComment) {
+				throw new UnsupportedOperationException("Yaml comments are not supported on row index");
+			}
+			if (!Arrays.equals("\r\n".getBytes(DEFAULT_CHARSET), new byte[] { '\r', '\n' })) {
+				throw new UnsupportedOperationException("Row index needs an ascii compatible charset, " + DEFAULT_CHARSET);
+			}
+			FileInputStream inputStream = new FileInputStream(file);
+			try {
+				long fileLength = inputStream.getChannel().size();
+				InputStreamByteBuffer byteBuffer = new InputStreamByteBuffer(bufferSize, maxBufferSize, inputStream);
+				// the cells are ignored, only the leading space handling matters
+				ByteCellPreProcessor cellPreProcessor = stringPostProcessing == StringPostProcessing.TRIM_AND_UNESCAPE ? new TrimByteCellPreProcessor(NoopByteCellPreProcessor.INSTANCE) : NoopByteCellPreProcessor.INSTANCE;
+				ConfigurableByteConsumer byteConsumer = new ConfigurableByteConsumer(byteBuffer, getTextFormat(), cellPreProcessor);
+				return new RowIndexBuilder(byteConsumer, byteBuffer, interval).build(fileLength);
+			} finally {
+				safeClose(inputStream);
+			}
+		}
+
+		/**
+		 * Create a CsvReader on the file that starts at the specified row, seeking to the closest offset of the rowIndex
+		 * and parsing only the rows in between. The skip of the dsl is added to startRow.
+		 * @param file the file
+		 * @param rowIndex the row index of the file
+		 * @param startRow the first row to read, 0 being the first row of the file
+		 * @return a CsvReader on the file
+		 * @throws IOException if an error occurs reading the file
+		 * @see #rowIndex(File, int)
+		 */
+		public final CloseableCsvReader reader(File file, RowIndex rowIndex, long startRow) throws IOException {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+			FileChannel fileChannel = randomAccessFile.getChannel();
+			try {
+				if (fileChannel.size() != rowIndex.fileLength()) {
+					throw new IllegalArgumentException("The row index does not match the file " + file + ", length " + fileChannel.size() + " expected " + rowIndex.fileLength());
+				}
+				long row = startRow + skip;
+				int entry = rowIndex.entryFor(row);
+				long offset = rowStartOffset(fileChannel, rowIndex.offset(entry));
+
+				CharBuffer charBuffer;
+				Closeable resource;
+				if (memoryMappedFile) {
+					MappedFileCharBuffer mappedFileCharBuffer = new MappedFileCharBuffer(fileChannel, DEFAULT_CHARSET, bufferSize, maxBufferSize, MappedFileCharBuffer.DEFAULT_MAPPING_SIZE_64M, offset);
+					charBuffer = mappedFileCharBuffer;
+					resource = mappedFileCharBuffer;
+				} else {
+					fileChannel.position(offset);
+					Reader reader = Channels.newReader(fileChannel, DEFAULT_CHARSET.newDecoder(), -1);
+					charBuffer = charBuffer(parallelReader ? newParallelReader(reader) : reader);
+					resource = reader;
+				}
+
+				CsvReader csvReader = new CsvReader(charConsumer(charBuffer, resolvedColumnProjection(file)), cellConsumerWrapper, bufferPool);
+				csvReader.skipRows((int) (Math.min(row, rowIndex.rowCount()) - rowIndex.rowOf(entry)));
+				return new CloseableCsvReader(csvReader, resource);
+			} catch (IOException e) {
+				safeClose(fileChannel);
+				safeClose(randomAccessFile);
+				throw e;
+			} catch (RuntimeException e) {
+				safeClose(fileChannel);
+				safeClose(randomAccessFile);
+				throw e;
+			}
+		}
+
 		public final Iterator<String[]> iterator(Reader reader) throws IOException {
 			return reader(reader).iterator();
 		}
@@ -396,6 +720,10 @@ public final class CsvParser {
 		}
 
 		public final CloseableIterator<String[]> iterator(File file) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				return new CloseableIterator<String[]>(csvReader.iterator(), csvReader);
+			}
 			return onReader(file, this, CREATE_CLOSEABLE_ITERATOR);
 		}
 
@@ -412,20 +740,69 @@ public final class CsvParser {
 		}
 
 		public final CloseableIterator<Row> rowIterator(File file) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				try {
+					return new CloseableIterator<Row>(csvReader.rowIterator(), csvReader);
+				} catch (IOException e) {
+					safeClose(csvReader);
+					throw e;
+				}
+			}
 			return onReader(file, this, CREATE_CLOSEABLE_ROW_ITERATOR);
 		}
+
+		public final Iterator<RowView> rowViewIterator(Reader reader) throws IOException {
+			return reader(reader).rowViewIterator();
+		}
+
+		public final Iterator<RowView> rowViewIterator(CharSequence content) throws IOException {
+			return reader(content).rowViewIterator();
+		}
+
+		public final Iterator<RowView> rowViewIterator(String content) throws IOException {
+			return reader(content).rowViewIterator();
+		}
+
+		public final CloseableIterator<RowView> rowViewIterator(File file) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				try {
+					return new CloseableIterator<RowView>(csvReader.rowViewIterator(), csvReader);
+				} catch (IOException e) {
+					safeClose(csvReader);
+					throw e;
+				}
+			}
+			return onReader(file, this, CREATE_CLOSEABLE_ROW_VIEW_ITERATOR);
+		}
 		
 
 		public final <H extends CheckedConsumer<String[]>> H forEach(Reader reader, H consumer) throws IOException {
-			return reader(reader).read(consumer);
+			CsvReader csvReader = reader(reader);
+			try {
+				return csvReader.read(consumer);
+			} finally {
+				csvReader.release();
+			}
 		}
 
 		public final <H extends CheckedConsumer<String[]>> H forEach(CharSequence content, H consumer) throws IOException {
-			return reader(content).read(consumer);
+			CsvReader csvReader = reader(content);
+			try {
+				return csvReader.read(consumer);
+			} finally {
+				csvReader.release();
+			}
 		}
 
 		public final <H extends CheckedConsumer<String[]>> H forEach(String content, H consumer) throws IOException {
-			return reader(content).read(consumer);
+			CsvReader csvReader = reader(content);
+			try {
+				return csvReader.read(consumer);
+			} finally {
+				csvReader.release();
+			}
 		}
 
 		public final <H extends CheckedConsumer<String[]>> H forEach(File file, H consumer) throws IOException {
@@ -462,6 +839,18 @@ public final class CsvParser {
 		public final Stream<Row> rowStream(String content) throws IOException {
 			return reader(content).rowStream();
 		}
+
+		public final Stream<RowView> rowViewStream(Reader reader) throws IOException {
+			return reader(reader).rowViewStream();
+		}
+
+		public final Stream<RowView> rowViewStream(CharSequence content) throws IOException {
+			return reader(content).rowViewStream();
+		}
+
+		public final Stream<RowView> rowViewStream(String content) throws IOException {
+			return reader(content).rowViewStream();
+		}
 		//IFJAVA8_END
 		/**
 		 * Use @see AbstractDSL#stream(File, Function).
@@ -471,10 +860,22 @@ public final class CsvParser {
 		//IFJAVA8_START
 		@Deprecated
 		public final Stream<String[]> stream(File file) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				return csvReader.stream().onClose(() -> safeClose(csvReader));
+			}
 			return onReader(file, this, (reader, dsl) -> dsl.stream(reader).onClose(() -> { try { reader.close(); } catch (IOException e) {} }));
 		}
 
 		public final <R> R stream(File file, Function<Stream<String[]>, R> function) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				try {
+					return function.apply(csvReader.stream());
+				} finally {
+					safeClose(csvReader);
+				}
+			}
 			Reader reader = newReader(file);
 			try {
 				return function.apply(stream(reader));
@@ -485,6 +886,14 @@ public final class CsvParser {
 		}
 
 		public final <R> R rowStream(File file, Function<Stream<Row>, R> function) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				try {
+					return function.apply(csvReader.rowStream());
+				} finally {
+					safeClose(csvReader);
+				}
+			}
 			Reader reader = newReader(file);
 			try {
 				return function.apply(rowStream(reader));
@@ -493,12 +902,37 @@ public final class CsvParser {
 				throw ioe;
 			}
 		}
+
+		public final <R> R rowViewStream(File file, Function<Stream<RowView>, R> function) throws IOException {
+			if (memoryMappedFile) {
+				CloseableCsvReader csvReader = reader(file);
+				try {
+					return function.apply(csvReader.rowViewStream());
+				} finally {
+					safeClose(csvReader);
+				}
+			}
+			Reader reader = newReader(file);
+			try {
+				return function.apply(rowViewStream(reader));
+			} catch(IOException ioe) {
+				try { reader.close(); } catch(IOException ioe2) { }
+				throw ioe;
+			}
+		}
 		//IFJAVA8_END
 
 		protected final AbstractCharConsumer charConsumer(CharBuffer charBuffer) {
+			return charConsumer(charBuffer, columnProjection);
+		}
+
+		private AbstractCharConsumer charConsumer(CharBuffer charBuffer, ColumnProjection columnProjection) {
 			final TextFormat textFormat = getTextFormat();
 			CellPreProcessor cellTransformer = getCellTransformer(textFormat, stringPostProcessing);
-			
+			if (columnProjection != null) {
+				cellTransformer = columnProjection.newCellPreProcessor(cellTransformer);
+			}
+
 			return CHAR_CONSUMER_FACTORY.newCharConsumer(textFormat, charBuffer, cellTransformer, specialisedCharConsumer);
 		}
 
@@ -520,6 +954,19 @@ public final class CsvParser {
 			}
 		}
 
+		protected ByteCellPreProcessor getByteCellTransformer() {
+			switch (stringPostProcessing) {
+				case TRIM_AND_UNESCAPE:
+					return new TrimByteCellPreProcessor(new UnescapeByteCellPreProcessor(escapeChar, quoteChar));
+				case UNESCAPE:
+					return new UnescapeByteCellPreProcessor(escapeChar, quoteChar);
+				case NONE:
+					return NoopByteCellPreProcessor.INSTANCE;
+				default:
+					throw new IllegalStateException("Could not instantiate byte consumer " + stringPostProcessing);
+			}
+		}
+
 		protected CellPreProcessor getUnescapeCellTransformer(TextFormat textFormat) {
 			return new UnescapeCellPreProcessor(textFormat.escapeChar, textFormat.quoteChar);
 		}
@@ -532,6 +979,10 @@ public final class CsvParser {
 			return bufferSize;
 		}
 
+		public final boolean yamlComment() {
+			return yamlComment;
+		}
+
 		public final int limit() {
 			return limit;
 		}
@@ -555,7 +1006,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D separator(char c) {
-			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -564,7 +1015,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D quote(char c) {
-			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -573,7 +1024,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D escape(char c) {
-			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -582,7 +1033,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D bufferSize(int size) {
-			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -591,7 +1042,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D skip(int skip) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -600,7 +1051,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D limit(int limit) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 
@@ -616,19 +1067,90 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D parallelReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 		
+		/**
+		 * same as parallelReader() but the producer and the consumer of the ring buffer wait using the specified waitingStrategy.
+		 * <p>
+		 * see org.simpleflatmapper.util.WaitingStrategies for the busy spin, yield, backoff and signal strategies, they also
+		 * record the time spent waiting on each side of the ring buffer.
+		 * </p>
+		 * @param waitingStrategy the waiting strategy
+		 * @return this
+		 */
+		public D parallelReader(ParallelReader.WaitingStrategy waitingStrategy) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, waitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
+		}
+
 		/**
 		 * deactivate the parallelReader.
 		 * @return this
 		 */
 		public D serialReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 		
+		/**
+		 * parsing from a file will decode the content directly from a memory mapped window of the file instead of going through a Reader.
+		 * <p>
+		 * It avoids the copy of the file content into user space and the intermediate buffers of the decoder, use on big files.
+		 * It only affects the method taking a File as a parameter.
+		 * </p>
+		 * @return this
+		 */
+		public D mmap() {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, true, bufferPool, columnProjection);
+		}
+
+		/**
+		 * take the char buffers and the row arrays from the bufferPool instead of allocating new ones.
+		 * <p>
+		 * The buffers go back to the pool at the end of parse and forEach or on the close of the CloseableCsvReader.
+		 * Useful when parsing a lot of small contents, the pool can be shared between threads and dsls.
+		 * </p>
+		 * @param bufferPool the pool
+		 * @return this
+		 */
+		public D bufferPool(BufferPool bufferPool) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
+		}
+
+		/**
+		 * only tokenise the specified columns, the other cells are not unescaped, trimmed or passed to the CellConsumer.
+		 * The rows contain only the selected cells in the order of the file.
+		 * @param columns the 0 based indexes of the columns
+		 * @return this
+		 */
+		public D projection(int... columns) {
+			return projection(ColumnProjection.columns(columns));
+		}
+
+		/**
+		 * only tokenise the columns with the specified headers in the first row, the other cells are not unescaped, trimmed or passed to the CellConsumer.
+		 * The rows, including the header row, contain only the selected cells in the order of the file.
+		 * @param headers the headers of the columns
+		 * @return this
+		 */
+		public D projection(String... headers) {
+			return projection(ColumnProjection.headers(headers));
+		}
+
+		/**
+		 * @param columnProjection the projection, null for all the columns
+		 * @return this
+		 * @see ColumnProjection
+		 */
+		public D projection(ColumnProjection columnProjection) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
+		}
+
+		public final ColumnProjection columnProjection() {
+			return columnProjection;
+		}
+
 		public D disableSpecialisedCharConsumer() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, false, memoryMappedFile, bufferPool, columnProjection);
 		}
 		
 		/**
@@ -637,11 +1159,11 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D maxBufferSize(int maxBufferSize) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 
-		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer);
+		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection);
 
 
 	}
@@ -654,14 +1176,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
         }
 
 		/**
@@ -678,7 +1200,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -695,16 +1217,16 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 	}
@@ -712,8 +1234,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -765,6 +1287,15 @@ public final class CsvParser {
 		}
 
 		private final CloseableCsvReader rawReader(File file) throws IOException {
+			if (memoryMappedFile) {
+				MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+				try {
+					return new CloseableCsvReader(rawReader(charBuffer), charBuffer);
+				} catch (IOException e) {
+					safeClose(charBuffer);
+					throw e;
+				}
+			}
 			return onReader(file, this, CREATE_CLOSEABLE_CSV_RAW_READER);
 		}
 
@@ -779,8 +1310,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 	}
@@ -810,6 +1341,14 @@ public final class CsvParser {
 				}
 			};
 
+	private static final OnReaderFactory<CloseableIterator<RowView>, AbstractDSL<?>> CREATE_CLOSEABLE_ROW_VIEW_ITERATOR =
+			new OnReaderFactory<CloseableIterator<RowView>, AbstractDSL<?>>() {
+				@Override
+				public CloseableIterator<RowView> apply(Reader reader, AbstractDSL<?> dsl) throws IOException {
+					return new CloseableIterator<RowView>(dsl.rowViewIterator(reader), reader);
+				}
+			};
+
 	public interface OnReaderFactory<T, D extends AbstractDSL<?>> {
 		T apply(Reader reader, D dsl) throws IOException;
 	}
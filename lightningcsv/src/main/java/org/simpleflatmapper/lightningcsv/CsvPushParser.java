@@ -0,0 +1,183 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.PushCharBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Non blocking parser, the content is pushed chunk by chunk as it arrives and the complete rows are delivered to the cell consumer.
+ * <p>
+ * The state of the partial row - and of the partial char when feeding bytes - is kept between chunks,
+ * a row can span any number of chunks. The parser is not thread safe, the chunks of a content must be fed sequentially,
+ * either all as bytes or all as chars, then finish must be called to deliver the last row.
+ * <p>
+ * The skip and limit of the dsl are applied, once the limit is reached the following chunks are ignored.
+ * @param <CC> the cell consumer type
+ * @see CsvParser.AbstractDSL#pushParser(CellConsumer)
+ */
+public final class CsvPushParser<CC extends CellConsumer> {
+
+	// enough for the bytes of a partial char in any charset
+	private static final int MAX_PARTIAL_CHAR_BYTES = 16;
+
+	private final AbstractCharConsumer consumer;
+	private final PushCharBuffer charBuffer;
+	private final CC cellConsumer;
+	private final CellConsumer wrappedCellConsumer;
+	private final CharsetDecoder decoder;
+	private final ByteBuffer partialChar;
+	private final int chunkSize;
+
+	private int remainingSkip;
+	private int remainingRows;
+	private boolean finished;
+
+	CsvPushParser(AbstractCharConsumer consumer, PushCharBuffer charBuffer, CC cellConsumer, CellConsumer wrappedCellConsumer, Charset charset, int chunkSize, int skip, int limit) {
+		this.consumer = consumer;
+		this.charBuffer = charBuffer;
+		this.cellConsumer = cellConsumer;
+		this.wrappedCellConsumer = wrappedCellConsumer;
+		this.decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.partialChar = ByteBuffer.allocate(MAX_PARTIAL_CHAR_BYTES);
+		this.chunkSize = Math.max(chunkSize, 2);
+		this.remainingSkip = skip;
+		this.remainingRows = limit;
+	}
+
+	/**
+	 * parse the chars, the rows completed by this chunk are delivered before returning.
+	 * @param chars the chars
+	 * @param offset the offset of the chunk
+	 * @param length the length of the chunk
+	 * @throws IOException if a cell exceeds the max buffer size
+	 */
+	public void feed(char[] chars, int offset, int length) throws IOException {
+		checkNotFinished();
+		int end = offset + length;
+		while(offset < end && !isDone()) {
+			consumer.shiftAndRead(false);
+			charBuffer.ensureCapacity(Math.min(end - offset, chunkSize));
+			int l = Math.min(end - offset, charBuffer.freeSpace());
+			charBuffer.append(chars, offset, l);
+			offset += l;
+			consume();
+		}
+	}
+
+	/**
+	 * decode and parse the bytes, the rows completed by this chunk are delivered before returning.
+	 * The bytes of a char split between two chunks are kept until the next chunk.
+	 * @param bytes the chunk, consumed entirely
+	 * @throws IOException if a cell exceeds the max buffer size
+	 */
+	public void feed(ByteBuffer bytes) throws IOException {
+		checkNotFinished();
+		// complete the char started in the previous chunk
+		while(partialChar.position() > 0 && bytes.hasRemaining()) {
+			partialChar.put(bytes.get());
+			partialChar.flip();
+			decode(partialChar, false);
+			partialChar.compact();
+		}
+		while(bytes.hasRemaining() && !isDone()) {
+			if (decode(bytes, false).isUnderflow()) {
+				break;
+			}
+		}
+		if (isDone()) {
+			bytes.position(bytes.limit());
+		} else if (bytes.hasRemaining()) {
+			partialChar.put(bytes);
+		}
+	}
+
+	public void feed(byte[] bytes, int offset, int length) throws IOException {
+		feed(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	/**
+	 * deliver the last row if it is not terminated by an end of line and call end on the cell consumer.
+	 * @return the cell consumer
+	 * @throws IOException if a cell exceeds the max buffer size
+	 */
+	public CC finish() throws IOException {
+		checkNotFinished();
+		if (!isDone()) {
+			partialChar.flip();
+			decode(partialChar, true);
+			partialChar.clear();
+			consumer.shiftAndRead(false);
+			charBuffer.ensureCapacity(2);
+			CharBuffer out = CharBuffer.wrap(charBuffer.buffer, charBuffer.bufferSize, charBuffer.freeSpace());
+			decoder.flush(out);
+			charBuffer.bufferSize = out.position();
+			consume();
+		}
+		finished = true;
+
+		if (remainingSkip > 0) {
+			consumer.finish(NullCellConsumer.INSTANCE);
+			wrappedCellConsumer.end();
+		} else if (isDone()) {
+			wrappedCellConsumer.end();
+		} else {
+			consumer.finish(wrappedCellConsumer);
+		}
+		return cellConsumer;
+	}
+
+	/**
+	 * @return true if the limit has been reached, the following chunks will be ignored
+	 */
+	public boolean isDone() {
+		return remainingRows == 0;
+	}
+
+	public CC cellConsumer() {
+		return cellConsumer;
+	}
+
+	private CoderResult decode(ByteBuffer in, boolean endOfInput) throws IOException {
+		consumer.shiftAndRead(false);
+		int expectedLength = (int) (in.remaining() * decoder.maxCharsPerByte());
+		charBuffer.ensureCapacity(Math.max(Math.min(expectedLength, chunkSize), 2));
+		CharBuffer out = CharBuffer.wrap(charBuffer.buffer, charBuffer.bufferSize, charBuffer.freeSpace());
+		CoderResult result = decoder.decode(in, out, endOfInput);
+		charBuffer.bufferSize = out.position();
+		consume();
+		return result;
+	}
+
+	private void consume() {
+		while(remainingSkip > 0) {
+			if (!consumer.consumeToNextRow(NullCellConsumer.INSTANCE)) {
+				return;
+			}
+			remainingSkip--;
+		}
+		if (remainingRows == -1) {
+			consumer.consumeAllBuffer(wrappedCellConsumer);
+		} else {
+			while(remainingRows > 0 && consumer.consumeToNextRow(wrappedCellConsumer)) {
+				remainingRows--;
+			}
+		}
+	}
+
+	private void checkNotFinished() {
+		if (finished) {
+			throw new IllegalStateException("The push parser is finished");
+		}
+	}
+}
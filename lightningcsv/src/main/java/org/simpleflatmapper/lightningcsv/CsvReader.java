@@ -3,6 +3,7 @@ package org.simpleflatmapper.lightningcsv;
 import org.simpleflatmapper.lightningcsv.impl.CellConsumerCapture;
 import org.simpleflatmapper.lightningcsv.impl.CellConsumerFixLengthToCheckConsumer;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.BufferPool;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
@@ -17,6 +18,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 //IFJAVA8_START
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -30,13 +32,20 @@ public final class CsvReader implements Iterable<String[]> {
 
 	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
 
+	private final BufferPool bufferPool;
+
 	public CsvReader(AbstractCharConsumer charConsumer) {
 		this(charConsumer, null);
 	}
 
 	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper) {
+		this(charConsumer, cellConsumerWrapper, null);
+	}
+
+	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, BufferPool bufferPool) {
 		this.consumer = charConsumer;
 		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.bufferPool = bufferPool;
 	}
 
 	/**
@@ -111,6 +120,9 @@ public final class CsvReader implements Iterable<String[]> {
 	}
 
 	private CellConsumer toCellConsumer(CheckedConsumer<String[]> consumer) {
+		if (bufferPool != null) {
+			return StringArrayCellConsumer.newInstance(consumer, bufferPool);
+		}
 		return StringArrayCellConsumer.newInstance(consumer);
 	}
 
@@ -123,6 +135,13 @@ public final class CsvReader implements Iterable<String[]> {
 		return consumer.charBuffer();
 	}
 
+	/**
+	 * give back the char buffer to its pool if any, the reader must not be used after.
+	 */
+	public void release() {
+		consumer.charBuffer().release();
+	}
+
 	@Override
 	public Iterator<String[]> iterator() {
 		return new CsvStringArrayIterator(this);
@@ -132,17 +151,94 @@ public final class CsvReader implements Iterable<String[]> {
 		return new CsvRowArrayIterator(this);
 	}
 
+	/**
+	 * Iterate over the rows without materialising the cells, the first row is used as headers.
+	 * The iterator returns the same RowView instance for every row, it is only valid until the next call to hasNext or next.
+	 * @return an iterator over the flyweight rows
+	 * @throws IOException if an io error occurs while reading the headers
+	 * @see RowView#detach()
+	 */
+	public Iterator<RowView> rowViewIterator() throws IOException {
+		return new CsvRowViewIterator(this);
+	}
+
+	private boolean parseRowView(RowView rowView) throws IOException {
+		rowView.reset();
+		rawParseRow(wrapConsumer(rowView.cellConsumer()), true);
+		return rowView.hasRow();
+	}
+
 	//IFJAVA8_START
 	public Stream<String[]> stream() {
 		return StreamSupport.stream(new CsvStringArraySpliterator(this), false);
 	}
 
+	/**
+	 * Spliterator that splits by parsing the rows in batches of growing size, the same way Spliterators.AbstractSpliterator does.
+	 * Allows a parallel stream to process the rows on other threads, the parsing itself stays sequential.
+	 */
+	private static abstract class CsvBatchSpliterator<T> implements Spliterator<T> {
+		private static final int BATCH_UNIT = 1 << 10;
+		private static final int MAX_BATCH = 1 << 25;
 
-	private static class CsvStringArraySpliterator implements Spliterator<String[]> {
-		private final CsvReader reader;
+		protected final CsvReader reader;
+		private int batch;
+
+		protected CsvBatchSpliterator(CsvReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int n = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+			ArrayCollector<T> collector = new ArrayCollector<T>(n);
+			try {
+				fill(collector);
+			} catch (IOException e) {
+				return ErrorHelper.rethrow(e);
+			}
+			if (collector.size == 0) {
+				return null;
+			}
+			batch = collector.size;
+			return Spliterators.spliterator(collector.values, 0, collector.size, characteristics());
+		}
+
+		protected abstract void fill(ArrayCollector<T> collector) throws IOException;
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.NONNULL;
+		}
+	}
+
+	private static final class ArrayCollector<T> implements org.simpleflatmapper.util.Consumer<T> {
+		private final Object[] values;
+		private int size;
+
+		private ArrayCollector(int capacity) {
+			this.values = new Object[capacity];
+		}
+
+		@Override
+		public void accept(T t) {
+			values[size++] = t;
+		}
+
+		private boolean isFull() {
+			return size >= values.length;
+		}
+	}
+
+	private static class CsvStringArraySpliterator extends CsvBatchSpliterator<String[]> {
 
 		public CsvStringArraySpliterator(CsvReader csvReader) {
-			this.reader = csvReader;
+			super(csvReader);
 		}
 
 		@Override
@@ -164,7 +260,54 @@ public final class CsvReader implements Iterable<String[]> {
 		}
 
 		@Override
-		public Spliterator<String[]> trySplit() {
+		protected void fill(ArrayCollector<String[]> collector) throws IOException {
+			CellConsumer cellConsumer = reader.toCellConsumer(collector);
+			while(!collector.isFull() && reader.parseRow(cellConsumer)) {
+			}
+		}
+	}
+
+	public Stream<Row> rowStream() {
+		return StreamSupport.stream(new CsvRowSpliterator(this), false);
+	}
+
+	/**
+	 * Stream over the rows without materialising the cells, the first row is used as headers.
+	 * The stream does not split, the same RowView instance being reused for every row,
+	 * use {@link RowView#detach()} before passing the row to another stage that keeps it.
+	 * @return a stream of flyweight rows
+	 */
+	public Stream<RowView> rowViewStream() {
+		return StreamSupport.stream(new CsvRowViewSpliterator(this), false);
+	}
+
+	private static class CsvRowViewSpliterator implements Spliterator<RowView> {
+
+		private final CsvReader reader;
+		private RowView rowView;
+
+		public CsvRowViewSpliterator(CsvReader csvReader) {
+			this.reader = csvReader;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super RowView> action) {
+			try {
+				if (rowView == null) {
+					rowView = new RowView(headers(reader), reader.charBuffer());
+				}
+				if (reader.parseRowView(rowView)) {
+					action.accept(rowView);
+					return true;
+				}
+				return false;
+			} catch (IOException e) {
+				return ErrorHelper.rethrow(e);
+			}
+		}
+
+		@Override
+		public Spliterator<RowView> trySplit() {
 			return null;
 		}
 
@@ -179,17 +322,12 @@ public final class CsvReader implements Iterable<String[]> {
 		}
 	}
 
-	public Stream<Row> rowStream() {
-		return StreamSupport.stream(new CsvRowSpliterator(this), false);
-	}
+	private static class CsvRowSpliterator extends CsvBatchSpliterator<Row> {
 
-	private static class CsvRowSpliterator implements Spliterator<Row> {
-		private final CsvReader reader;
-		
 		private Row.Headers headers;
 
 		public CsvRowSpliterator(CsvReader csvReader) {
-			this.reader = csvReader;
+			super(csvReader);
 		}
 
 		@Override
@@ -217,21 +355,14 @@ public final class CsvReader implements Iterable<String[]> {
 		}
 
 		@Override
-		public Spliterator<Row> trySplit() {
-			return null;
-		}
-
-		@Override
-		public long estimateSize() {
-			return Long.MAX_VALUE;
-		}
-
-		@Override
-		public int characteristics() {
-			return Spliterator.ORDERED | Spliterator.NONNULL;
+		protected void fill(final ArrayCollector<Row> collector) throws IOException {
+			if (headers == null) {
+				headers = headers(reader);
+			}
+			CellConsumer cellConsumer = new CellConsumerFixLengthToCheckConsumer(headers.size(), values -> collector.accept(new Row(headers, values)));
+			while(!collector.isFull() && reader.parseRow(cellConsumer)) {
+			}
 		}
-		
-		
 	}
 	//IFJAVA8_END
 
@@ -338,6 +469,50 @@ public final class CsvReader implements Iterable<String[]> {
 		}
 	}
 	
+	private static class CsvRowViewIterator implements Iterator<RowView> {
+
+		private final CsvReader reader;
+		private final RowView rowView;
+
+		private boolean hasValue;
+		private boolean isFetched;
+
+		public CsvRowViewIterator(CsvReader csvReader) throws IOException {
+			reader = csvReader;
+			rowView = new RowView(headers(csvReader), csvReader.charBuffer());
+		}
+
+		@Override
+		public boolean hasNext() {
+			fetch();
+			return hasValue;
+		}
+
+		private void fetch() {
+			if (!isFetched) {
+				try {
+					hasValue = reader.parseRowView(rowView);
+				} catch (IOException e) {
+					ErrorHelper.rethrow(e);
+				}
+				isFetched = true;
+			}
+		}
+
+		@Override
+		public RowView next() {
+			fetch();
+			if (!hasValue) throw new NoSuchElementException();
+			isFetched = false;
+			return rowView;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	private static Row.Headers headers(CsvReader reader) throws IOException {
 		CellConsumerCapture cellConsumer = new CellConsumerCapture();
 		reader.parseRow(cellConsumer);
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.lightningcsv;
 
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
 //IFJAVA8_START
@@ -180,6 +181,24 @@ public class CsvWriter {
             return new OutputStreamWriter(new FileOutputStream(file), charset);
         }
 
+        /**
+         * @param outputStream the stream to write to
+         * @return a writer encoding the csv in UTF-8 straight to the stream, closing it closes the stream
+         * @see Utf8ByteSink
+         */
+        public ClosableCsvWriter to(OutputStream outputStream) {
+            return new ClosableCsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), new Utf8ByteSink(outputStream));
+        }
+
+        /**
+         * @param channel the channel to write to
+         * @return a writer encoding the csv in UTF-8 straight to the channel, closing it closes the channel
+         * @see Utf8ByteSink
+         */
+        public ClosableCsvWriter to(WritableByteChannel channel) {
+            return new ClosableCsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), new Utf8ByteSink(channel));
+        }
+
         public CsvWriter to(Appendable appendable) {
             return new CsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), appendable);
         }
@@ -0,0 +1,121 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Byte offset of every interval-th row of a csv file.
+ * <p>
+ * The offsets are recorded on row boundaries, outside of any quoted area, so the parsing can restart from any of them
+ * with a fresh state. The index can be saved as a sidecar file - a list of long - and reloaded as long as the csv file does not change.
+ * @see CsvParser.AbstractDSL#rowIndex(File, int)
+ * @see CsvParser.AbstractDSL#reader(File, RowIndex, long)
+ */
+public final class RowIndex {
+
+	private static final long MAGIC = 0x53464d524f57494eL; // SFMROWIN
+	private static final long VERSION = 1;
+
+	private final int interval;
+	private final long rowCount;
+	private final long fileLength;
+	private final long[] offsets;
+
+	/**
+	 * @param interval the number of rows between each offset
+	 * @param rowCount the number of rows in the file
+	 * @param fileLength the length in bytes of the indexed file
+	 * @param offsets the byte offset of the row i * interval at index i
+	 */
+	public RowIndex(int interval, long rowCount, long fileLength, long[] offsets) {
+		if (interval <= 0) throw new IllegalArgumentException("Invalid interval " + interval);
+		if (offsets.length == 0) throw new IllegalArgumentException("Offsets should contains at least the offset of the first row");
+		this.interval = interval;
+		this.rowCount = rowCount;
+		this.fileLength = fileLength;
+		this.offsets = offsets;
+	}
+
+	public int interval() {
+		return interval;
+	}
+
+	public long rowCount() {
+		return rowCount;
+	}
+
+	public long fileLength() {
+		return fileLength;
+	}
+
+	public int size() {
+		return offsets.length;
+	}
+
+	/**
+	 * @param i the entry index
+	 * @return the byte offset of the row i * interval
+	 */
+	public long offset(int i) {
+		return offsets[i];
+	}
+
+	/**
+	 * @param row the row
+	 * @return the index of the closest entry at or before the row
+	 */
+	public int entryFor(long row) {
+		if (row < 0) throw new IllegalArgumentException("Invalid row " + row);
+		return (int) Math.min(row / interval, offsets.length - 1);
+	}
+
+	/**
+	 * @param i the entry index
+	 * @return the row at the offset of the entry
+	 */
+	public long rowOf(int i) {
+		return ((long) i) * interval;
+	}
+
+	public void write(File file) throws IOException {
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		try {
+			dos.writeLong(MAGIC);
+			dos.writeLong(VERSION);
+			dos.writeLong(interval);
+			dos.writeLong(rowCount);
+			dos.writeLong(fileLength);
+			dos.writeLong(offsets.length);
+			for (long offset : offsets) {
+				dos.writeLong(offset);
+			}
+		} finally {
+			dos.close();
+		}
+	}
+
+	public static RowIndex read(File file) throws IOException {
+		DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try {
+			if (dis.readLong() != MAGIC || dis.readLong() != VERSION) {
+				throw new IOException("File " + file + " is not a row index");
+			}
+			int interval = (int) dis.readLong();
+			long rowCount = dis.readLong();
+			long fileLength = dis.readLong();
+			long[] offsets = new long[(int) dis.readLong()];
+			for(int i = 0; i < offsets.length; i++) {
+				offsets[i] = dis.readLong();
+			}
+			return new RowIndex(interval, rowCount, fileLength, offsets);
+		} finally {
+			dis.close();
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flyweight view of the current row of a CsvReader.
+ * <p>
+ * The view only keeps the offset and length of each cell in the CharBuffer, the String are created on demand by get.
+ * The same instance is reused for every row, it is only valid until the next row is read,
+ * use {@link #detach()} to keep a copy of the row.
+ * @see CsvReader#rowViewIterator()
+ */
+public final class RowView implements Map<String, String> {
+
+    private final Row.Headers headers;
+    private final CharBuffer charBuffer;
+    // relative offset, length pairs, a length of -1 means no cell
+    private final int[] fieldsBoundaries;
+    private final String[] values;
+    private final CellConsumer cellConsumer;
+
+    private int currentIndex;
+    private int rowStartMark;
+    private boolean hasValues;
+    private boolean hasRow;
+
+    RowView(Row.Headers headers, CharBuffer charBuffer) {
+        this.headers = headers;
+        this.charBuffer = charBuffer;
+        this.fieldsBoundaries = new int[headers.size() * 2];
+        this.values = new String[headers.size()];
+        this.cellConsumer = new RowViewCellConsumer();
+        Arrays.fill(fieldsBoundaries, -1);
+    }
+
+    CellConsumer cellConsumer() {
+        return cellConsumer;
+    }
+
+    boolean hasRow() {
+        return hasRow;
+    }
+
+    void reset() {
+        if (currentIndex > 0) {
+            Arrays.fill(fieldsBoundaries, 0, currentIndex * 2, -1);
+            currentIndex = 0;
+        }
+        if (hasValues) {
+            Arrays.fill(values, null);
+            hasValues = false;
+        }
+        hasRow = false;
+    }
+
+    /**
+     * @param i the column index
+     * @return the value of the cell i, created on the first call
+     */
+    public String get(int i) {
+        String value = values[i];
+        if (value == null) {
+            int length = fieldsBoundaries[i * 2 + 1];
+            if (length == -1) {
+                return null;
+            }
+            value = new String(charBuffer.buffer, rowStartMark + fieldsBoundaries[i * 2], length);
+            values[i] = value;
+            hasValues = true;
+        }
+        return value;
+    }
+
+    /**
+     * @return a Row holding a copy of the values that stays valid after the next row is read
+     */
+    public Row detach() {
+        String[] strings = new String[values.length];
+        for(int i = 0; i < strings.length; i++) {
+            strings[i] = get(i);
+        }
+        return new Row(headers, strings);
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof String) {
+            return headers.containsKey((String) key);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for(int i = 0; i < values.length; i++) {
+            String v = get(i);
+            if (value == null ? v == null : value.equals(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        int i = headers.indexOf((String)key);
+
+        if (i != -1) {
+            return get(i);
+        }
+        return null;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends String> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return headers.keySet();
+    }
+
+    @Override
+    public Collection<String> values() {
+        return detach().values();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        HashSet<Entry<String, String>> set = new HashSet<Entry<String, String>>();
+        for(int i = 0; i < headers.headers.length; i++) {
+            set.add(new AbstractMap.SimpleImmutableEntry<String, String>(headers.headers[i], get(i)));
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    @Override
+    public String toString() {
+        return detach().entrySet().toString();
+    }
+
+    private final class RowViewCellConsumer implements CellConsumer {
+        @Override
+        public void newCell(char[] chars, int offset, int length) {
+            int index = currentIndex;
+            if (index < values.length) {
+                if (chars == charBuffer.buffer) {
+                    fieldsBoundaries[index * 2] = offset - charBuffer.rowStartMark;
+                    fieldsBoundaries[index * 2 + 1] = length;
+                } else {
+                    // cell not backed by the buffer, a preprocessor or a wrapper provided its own chars
+                    fieldsBoundaries[index * 2 + 1] = length;
+                    values[index] = new String(chars, offset, length);
+                    hasValues = true;
+                }
+                currentIndex = index + 1;
+            }
+        }
+
+        @Override
+        public boolean endOfRow() {
+            rowStartMark = charBuffer.rowStartMark;
+            hasRow = true;
+            return true;
+        }
+
+        @Override
+        public void end() {
+            if (currentIndex > 0) {
+                endOfRow();
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writer that encodes the chars in UTF-8 straight into its own byte buffer and writes it to an OutputStream or a WritableByteChannel.
+ * <p>
+ * It replaces the OutputStreamWriter - BufferedOutputStream chain behind a CsvWriter,
+ * the CellWriter still does the escaping and appends a whole cell at a time, the sink encodes it in a single loop.
+ * An unpaired surrogate is written as '?' like the jdk encoder does.
+ * <p>
+ * The sink is a Writer so the CellWriter can hand it a char[] range without wrapping it.
+ * It is not thread safe and does not lock, call {@link #flush()} or {@link #close()} to write the remaining bytes.
+ */
+public final class Utf8ByteSink extends Writer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream outputStream;
+    private final WritableByteChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer byteBuffer;
+
+    private int position;
+    private char highSurrogate;
+
+    public Utf8ByteSink(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8ByteSink(OutputStream outputStream, int bufferSize) {
+        this(outputStream, null, bufferSize);
+    }
+
+    public Utf8ByteSink(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8ByteSink(WritableByteChannel channel, int bufferSize) {
+        this(null, channel, bufferSize);
+    }
+
+    private Utf8ByteSink(OutputStream outputStream, WritableByteChannel channel, int bufferSize) {
+        if (outputStream == null && channel == null) throw new NullPointerException();
+        if (bufferSize < 4) throw new IllegalArgumentException("Buffer size too small " + bufferSize);
+        this.outputStream = outputStream;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.byteBuffer = channel != null ? ByteBuffer.wrap(buffer) : null;
+    }
+
+    @Override
+    public Utf8ByteSink append(CharSequence csq) throws IOException {
+        if (csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8ByteSink append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) csq = "null";
+        final byte[] buffer = this.buffer;
+        int position = this.position;
+        for(int i = start; i < end; i++) {
+            char c = csq.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                if (position == buffer.length) {
+                    this.position = position;
+                    flushBuffer();
+                    position = 0;
+                }
+                buffer[position++] = (byte) c;
+            } else {
+                this.position = position;
+                encode(c);
+                position = this.position;
+            }
+        }
+        this.position = position;
+        return this;
+    }
+
+    @Override
+    public Utf8ByteSink append(char c) throws IOException {
+        encode(c);
+        return this;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        final byte[] buffer = this.buffer;
+        int position = this.position;
+        for(int i = off; i < off + len; i++) {
+            char c = cbuf[i];
+            if (c < 0x80 && highSurrogate == 0) {
+                if (position == buffer.length) {
+                    this.position = position;
+                    flushBuffer();
+                    position = 0;
+                }
+                buffer[position++] = (byte) c;
+            } else {
+                this.position = position;
+                encode(c);
+                position = this.position;
+            }
+        }
+        this.position = position;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        append(str, off, off + len);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        encode((char) c);
+    }
+
+    private void encode(char c) throws IOException {
+        if (buffer.length - position < 4) {
+            flushBuffer();
+        }
+        final byte[] buffer = this.buffer;
+        int position = this.position;
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                this.position = position;
+                return;
+            }
+            buffer[position++] = '?';
+        }
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xc0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xe0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        }
+        this.position = position;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position == 0) return;
+        if (outputStream != null) {
+            outputStream.write(buffer, 0, position);
+        } else {
+            // Buffer methods, ByteBuffer covariant overrides do not exist before java 9
+            Buffer buffer = byteBuffer;
+            buffer.clear();
+            buffer.limit(position);
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+        }
+        position = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                append('?');
+            }
+            flushBuffer();
+        } finally {
+            if (outputStream != null) {
+                outputStream.close();
+            } else {
+                channel.close();
+            }
+        }
+    }
+}
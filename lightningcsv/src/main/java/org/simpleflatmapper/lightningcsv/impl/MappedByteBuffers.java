@@ -0,0 +1,56 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Unmap a MappedByteBuffer without waiting for the garbage collector, through sun.misc.Unsafe.invokeCleaner on jdk 9+
+ * or the cleaner of the buffer on jdk 8. If the runtime exposes neither the buffer stays mapped until it is garbage collected,
+ * on Windows the file stays locked until then.
+ */
+public final class MappedByteBuffers {
+
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", java.nio.ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			unsafe = theUnsafe.get(null);
+		} catch (Throwable e) {
+			// before jdk 9 or no jdk.unsupported, fall back on the buffer cleaner
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	private MappedByteBuffers() {
+	}
+
+	/**
+	 * the buffer must not be accessed after that call.
+	 * @param buffer the buffer to unmap
+	 */
+	public static void unmap(MappedByteBuffer buffer) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+			} else {
+				Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+				cleanerMethod.setAccessible(true);
+				Object cleaner = cleanerMethod.invoke(buffer);
+				if (cleaner != null) {
+					cleaner.getClass().getMethod("clean").invoke(cleaner);
+				}
+			}
+		} catch (Throwable e) {
+			// left to the garbage collector
+		}
+	}
+}
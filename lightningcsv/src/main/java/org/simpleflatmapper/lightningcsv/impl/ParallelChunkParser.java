@@ -0,0 +1,464 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.Function;
+import org.simpleflatmapper.util.Supplier;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parse a file by splitting it in chunks of bytes tokenised in parallel.
+ * <p>
+ * The chunk boundaries are speculatively placed after the first line feed following each split point, assuming it is
+ * not inside a quoted cell. A chunk is only delivered once the chunk before it is confirmed to end on a row boundary,
+ * if it does not - the line feed was quoted - the two chunks are re-parsed as one.
+ * <p>
+ * The tokenised cells are captured as offsets in the decoded chunk and replayed to the CellConsumer.
+ */
+public final class ParallelChunkParser {
+
+	public static final int DEFAULT_CHUNK_SIZE_8M = 1 << 23;
+
+	private static final int SCAN_WINDOW = 1 << 13;
+	private static final int END_OF_ROW = -1;
+
+	private final FileChannel fileChannel;
+	private final Charset charset;
+	private final Function<CharBuffer, AbstractCharConsumer> charConsumerFactory;
+	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
+	private final Executor executor;
+	private final int maxInFlight;
+	private final long[] boundaries;
+
+	public ParallelChunkParser(FileChannel fileChannel, Charset charset, Function<CharBuffer, AbstractCharConsumer> charConsumerFactory, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, Executor executor, int chunkSize) throws IOException {
+		this(fileChannel, charset, charConsumerFactory, cellConsumerWrapper, executor, chunkSize, 2 * Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelChunkParser(FileChannel fileChannel, Charset charset, Function<CharBuffer, AbstractCharConsumer> charConsumerFactory, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, Executor executor, int chunkSize, int maxInFlight) throws IOException {
+		if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive " + chunkSize);
+		if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be positive " + maxInFlight);
+		this.fileChannel = fileChannel;
+		this.charset = charset;
+		this.charConsumerFactory = charConsumerFactory;
+		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.boundaries = boundaries(fileChannel, chunkSize, isLineFeedSingleByte(charset));
+	}
+
+	public int nbChunks() {
+		return boundaries.length - 1;
+	}
+
+	/**
+	 * Parse the file, the chunks are delivered in order to the cellConsumer on the calling thread.
+	 * @param cellConsumer the consumer
+	 * @param skip the number of rows to skip
+	 * @param limit the maximum number of rows to deliver, -1 for no limit
+	 * @throws IOException if an error occurs reading the file
+	 */
+	public void parse(CellConsumer cellConsumer, int skip, int limit) throws IOException {
+		CellConsumer wrappedCellConsumer = wrapConsumer(cellConsumer);
+		run(new OrderedDelivery(wrappedCellConsumer), skip, limit);
+		wrappedCellConsumer.end();
+	}
+
+	/**
+	 * Parse the file, each chunk is delivered to its own cellConsumer on the executor as soon as it is confirmed.
+	 * The chunks can be consumed concurrently and in any order.
+	 * @param cellConsumerFactory create a consumer per chunk, called on the calling thread
+	 * @param skip the number of rows to skip
+	 * @param limit the maximum number of rows to deliver, -1 for no limit
+	 * @param <CC> the type of consumer
+	 * @return the consumers in the order of their chunk in the file
+	 * @throws IOException if an error occurs reading the file
+	 */
+	public <CC extends CellConsumer> List<CC> parse(Supplier<CC> cellConsumerFactory, int skip, int limit) throws IOException {
+		UnorderedDelivery<CC> delivery = new UnorderedDelivery<CC>(cellConsumerFactory);
+		run(delivery, skip, limit);
+		return delivery.consumers;
+	}
+
+	private void run(Delivery delivery, int skip, int limit) throws IOException {
+		int nbChunks = nbChunks();
+		@SuppressWarnings("unchecked")
+		FutureTask<Chunk>[] futures = new FutureTask[nbChunks];
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		delivery.inFlight = inFlight;
+
+		int nextToSubmit = 0;
+		int remainingSkip = skip;
+		int remainingRows = limit;
+		try {
+			int i = 0;
+			while(i < nbChunks && remainingRows != 0) {
+				// keep the pool busy with the next chunks
+				if (nextToSubmit == i) {
+					inFlight.acquire();
+					futures[nextToSubmit] = submit(nextToSubmit, inFlight);
+					nextToSubmit++;
+				}
+				while(nextToSubmit < nbChunks && inFlight.tryAcquire()) {
+					futures[nextToSubmit] = submit(nextToSubmit, inFlight);
+					nextToSubmit++;
+				}
+
+				Chunk chunk = get(futures[i]);
+				futures[i] = null;
+
+				int next = i + 1;
+				// the line feed at the end of the chunk was in a quoted cell, re-parse including the next chunk
+				while(!chunk.cleanEnd) {
+					if (next < nextToSubmit) {
+						cancel(futures[next], inFlight);
+						futures[next] = null;
+					}
+					next++;
+					chunk = parseChunk(boundaries[i], boundaries[next], next == nbChunks);
+				}
+				nextToSubmit = Math.max(nextToSubmit, next);
+
+				int chunkSkip = Math.min(remainingSkip, chunk.nbRows);
+				remainingSkip -= chunkSkip;
+				int chunkLimit = remainingRows == -1 ? -1 : Math.min(remainingRows, chunk.nbRows - chunkSkip);
+				if (remainingRows != -1) {
+					remainingRows -= chunkLimit;
+				}
+
+				if (chunkSkip < chunk.nbRows && chunkLimit != 0) {
+					delivery.deliver(chunk, chunkSkip, chunkLimit);
+				} else {
+					inFlight.release();
+				}
+
+				i = next;
+			}
+
+			// limit reached, the chunks left are not needed
+			for(int j = i; j < nextToSubmit; j++) {
+				if (futures[j] != null) {
+					cancel(futures[j], inFlight);
+					futures[j] = null;
+				}
+			}
+			delivery.awaitCompletion(maxInFlight);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} finally {
+			for(int j = 0; j < futures.length; j++) {
+				if (futures[j] != null) {
+					futures[j].cancel(false);
+				}
+			}
+		}
+	}
+
+	private CellConsumer wrapConsumer(CellConsumer cellConsumer) {
+		if (cellConsumerWrapper == null) return cellConsumer;
+		return cellConsumerWrapper.apply(cellConsumer);
+	}
+
+	private FutureTask<Chunk> submit(final int i, final Semaphore inFlight) {
+		FutureTask<Chunk> futureTask = new FutureTask<Chunk>(new Callable<Chunk>() {
+			@Override
+			public Chunk call() throws Exception {
+				return parseChunk(boundaries[i], boundaries[i + 1], i + 1 == nbChunks());
+			}
+		}) {
+			@Override
+			public void run() {
+				try {
+					super.run();
+				} finally {
+					// a cancelled task gives its permit back once it is no longer running
+					if (isCancelled()) {
+						inFlight.release();
+					}
+				}
+			}
+		};
+		executor.execute(futureTask);
+		return futureTask;
+	}
+
+	private static void cancel(FutureTask<Chunk> future, Semaphore inFlight) {
+		// the task already completed, its chunk is dropped here
+		if (!future.cancel(false)) {
+			inFlight.release();
+		}
+	}
+
+	private static Chunk get(FutureTask<Chunk> future) throws IOException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			return ErrorHelper.rethrow(cause);
+		}
+	}
+
+	private Chunk parseChunk(long start, long end, boolean lastChunk) throws IOException {
+		char[] chars;
+		int length;
+		if (end > start) {
+			MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+			try {
+				java.nio.CharBuffer decoded = charset.newDecoder().decode(mappedByteBuffer);
+				chars = decoded.array();
+				length = decoded.limit();
+			} finally {
+				MappedByteBuffers.unmap(mappedByteBuffer);
+			}
+		} else {
+			chars = new char[0];
+			length = 0;
+		}
+
+		CharSequenceCharBuffer charBuffer = new CharSequenceCharBuffer(chars, length);
+		AbstractCharConsumer charConsumer = charConsumerFactory.apply(charBuffer);
+
+		CellCapture cellCapture = new CellCapture(chars);
+		charConsumer.consumeAllBuffer(cellCapture);
+
+		boolean cleanEnd;
+		if (lastChunk) {
+			charConsumer.finish(cellCapture);
+			cleanEnd = true;
+		} else {
+			cleanEnd = charBuffer.rowStartMark == length;
+		}
+
+		return new Chunk(chars, cellCapture.cells, cellCapture.size, cellCapture.nbRows(), cleanEnd);
+	}
+
+	private static boolean isLineFeedSingleByte(Charset charset) {
+		return Arrays.equals("\n".getBytes(charset), new byte[] { '\n' });
+	}
+
+	private static long[] boundaries(FileChannel fileChannel, int chunkSize, boolean splittable) throws IOException {
+		long fileSize = fileChannel.size();
+
+		if (!splittable) {
+			return new long[] { 0, fileSize };
+		}
+
+		long[] boundaries = new long[(int) ((fileSize + chunkSize - 1) / chunkSize) + 2];
+		ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+		int nb = 1;
+		for(long splitPoint = chunkSize; splitPoint < fileSize; splitPoint += chunkSize) {
+			long boundary = lineStart(fileChannel, Math.max(splitPoint, boundaries[nb - 1]), fileSize, window);
+			if (boundary >= fileSize) {
+				break;
+			}
+			if (boundary > boundaries[nb - 1]) {
+				boundaries[nb++] = boundary;
+			}
+		}
+		boundaries[nb++] = fileSize;
+		return Arrays.copyOf(boundaries, nb);
+	}
+
+	private static long lineStart(FileChannel fileChannel, long from, long fileSize, ByteBuffer window) throws IOException {
+		long position = from;
+		while(position < fileSize) {
+			window.clear();
+			int size = fileChannel.read(window, position);
+			if (size <= 0) {
+				break;
+			}
+			byte[] bytes = window.array();
+			for(int i = 0; i < size; i++) {
+				if (bytes[i] == '\n') {
+					return position + i + 1;
+				}
+			}
+			position += size;
+		}
+		return fileSize;
+	}
+
+	private static int replay(Chunk chunk, CellConsumer cellConsumer, int skip, int limit) {
+		int[] cells = chunk.cells;
+		char[] chars = chunk.chars;
+		int size = chunk.size;
+		int row = 0;
+		int i = 0;
+
+		// skip rows
+		while(row < skip && i < size) {
+			if (cells[i] == END_OF_ROW) {
+				row++;
+			}
+			i += 2;
+		}
+
+		int maxRow = limit == -1 ? Integer.MAX_VALUE : skip + limit;
+		while(row < maxRow && i < size) {
+			int offset = cells[i];
+			if (offset == END_OF_ROW) {
+				cellConsumer.endOfRow();
+				row++;
+			} else {
+				cellConsumer.newCell(chars, offset, cells[i + 1]);
+			}
+			i += 2;
+		}
+		return row - skip;
+	}
+
+	private static final class Chunk {
+		private final char[] chars;
+		private final int[] cells;
+		private final int size;
+		private final int nbRows;
+		private final boolean cleanEnd;
+
+		private Chunk(char[] chars, int[] cells, int size, int nbRows, boolean cleanEnd) {
+			this.chars = chars;
+			this.cells = cells;
+			this.size = size;
+			this.nbRows = nbRows;
+			this.cleanEnd = cleanEnd;
+		}
+	}
+
+	private static final class CellCapture implements CellConsumer {
+		private final char[] chars;
+		private int[] cells = new int[256];
+		private int size;
+		private int nbRows;
+
+		private CellCapture(char[] chars) {
+			this.chars = chars;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			if (chars != this.chars) {
+				throw new IllegalStateException("Cell not in the chunk buffer");
+			}
+			add(offset, length);
+		}
+
+		@Override
+		public boolean endOfRow() {
+			add(END_OF_ROW, 0);
+			nbRows++;
+			return true;
+		}
+
+		@Override
+		public void end() {
+		}
+
+		private void add(int offset, int length) {
+			if (size + 2 > cells.length) {
+				cells = Arrays.copyOf(cells, cells.length * 2);
+			}
+			cells[size++] = offset;
+			cells[size++] = length;
+		}
+
+		private int nbRows() {
+			// cells after the last end of row are a row without line feed
+			if (size > 0 && cells[size - 2] != END_OF_ROW) {
+				return nbRows + 1;
+			}
+			return nbRows;
+		}
+	}
+
+	private static abstract class Delivery {
+		protected Semaphore inFlight;
+
+		abstract void deliver(Chunk chunk, int skip, int limit);
+
+		// all the permits are back once the delivered and the cancelled chunks are done
+		void awaitCompletion(int permits) throws InterruptedException, IOException {
+			inFlight.acquire(permits);
+			inFlight.release(permits);
+		}
+	}
+
+	private static final class OrderedDelivery extends Delivery {
+		private final CellConsumer cellConsumer;
+
+		private OrderedDelivery(CellConsumer cellConsumer) {
+			this.cellConsumer = cellConsumer;
+		}
+
+		@Override
+		void deliver(Chunk chunk, int skip, int limit) {
+			try {
+				replay(chunk, cellConsumer, skip, limit);
+			} finally {
+				inFlight.release();
+			}
+		}
+	}
+
+	private final class UnorderedDelivery<CC extends CellConsumer> extends Delivery {
+		private final Supplier<CC> cellConsumerFactory;
+		private final List<CC> consumers = new ArrayList<CC>();
+		private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+		private UnorderedDelivery(Supplier<CC> cellConsumerFactory) {
+			this.cellConsumerFactory = cellConsumerFactory;
+		}
+
+		@Override
+		void deliver(final Chunk chunk, final int skip, final int limit) {
+			final CC cellConsumer = cellConsumerFactory.get();
+			consumers.add(cellConsumer);
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						if (error.get() == null) {
+							CellConsumer wrappedCellConsumer = wrapConsumer(cellConsumer);
+							replay(chunk, wrappedCellConsumer, skip, limit);
+							wrappedCellConsumer.end();
+						}
+					} catch (Throwable e) {
+						error.compareAndSet(null, e);
+					} finally {
+						inFlight.release();
+					}
+				}
+			});
+		}
+
+		@Override
+		void awaitCompletion(int permits) throws InterruptedException, IOException {
+			super.awaitCompletion(permits);
+			Throwable e = error.get();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			} else if (e != null) {
+				ErrorHelper.rethrow(e);
+			}
+		}
+	}
+}
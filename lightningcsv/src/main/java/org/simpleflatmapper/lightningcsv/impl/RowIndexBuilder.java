@@ -0,0 +1,83 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import org.simpleflatmapper.lightningcsv.RowIndex;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ConfigurableByteConsumer;
+import org.simpleflatmapper.lightningcsv.parser.InputStreamByteBuffer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Build a RowIndex by tokenising the raw bytes of the file, the cells are not materialised.
+ */
+public final class RowIndexBuilder {
+
+	private final ConfigurableByteConsumer byteConsumer;
+	private final InputStreamByteBuffer byteBuffer;
+	private final int interval;
+
+	public RowIndexBuilder(ConfigurableByteConsumer byteConsumer, InputStreamByteBuffer byteBuffer, int interval) {
+		if (interval <= 0) throw new IllegalArgumentException("Invalid interval " + interval);
+		this.byteConsumer = byteConsumer;
+		this.byteBuffer = byteBuffer;
+		this.interval = interval;
+	}
+
+	public RowIndex build(long fileLength) throws IOException {
+		final ConfigurableByteConsumer byteConsumer = this.byteConsumer;
+		final InputStreamByteBuffer byteBuffer = this.byteBuffer;
+		final RowCounter rowCounter = new RowCounter();
+
+		long[] offsets = new long[16];
+		int size = 1;
+		long rows = 0;
+		int untilNextOffset = interval;
+
+		while(true) {
+			if (byteConsumer.consumeToNextRow(rowCounter)) {
+				rows++;
+				if (--untilNextOffset == 0) {
+					if (size == offsets.length) {
+						offsets = Arrays.copyOf(offsets, size * 2);
+					}
+					offsets[size++] = byteBuffer.bufferOffset() + byteBuffer.rowStartMark;
+					untilNextOffset = interval;
+				}
+			} else if (!byteConsumer.shiftAndRead(false)) {
+				break;
+			}
+		}
+
+		byteConsumer.finish(rowCounter);
+		if (rowCounter.pendingRow) {
+			rows++;
+		}
+
+		// drop the offset of a row that does not exist - end of file -
+		if (((long) size - 1) * interval >= rows && size > 1) {
+			size--;
+		}
+
+		return new RowIndex(interval, rows, fileLength, Arrays.copyOf(offsets, size));
+	}
+
+	private static final class RowCounter implements ByteCellConsumer {
+		private boolean pendingRow;
+
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+			pendingRow = true;
+		}
+
+		@Override
+		public boolean endOfRow() {
+			pendingRow = false;
+			return true;
+		}
+
+		@Override
+		public void end() {
+		}
+	}
+}
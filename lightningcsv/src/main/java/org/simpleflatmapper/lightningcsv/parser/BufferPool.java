@@ -0,0 +1,109 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread safe pool of the char[] used by the ReaderCharBuffer and of the String[] row used by the StringArrayCellConsumer.
+ * <p>
+ * The arrays are kept in a fixed number of slots, a thread starts looking for a free slot at a stripe derived from its id
+ * to limit the contention. When no array fits, a new one is allocated, when no slot is free on release the array is left to the gc.
+ * <p>
+ * Arrays bigger than maxPooledLength are never pooled.
+ */
+public final class BufferPool {
+
+	public static final int DEFAULT_MAX_POOLED_LENGTH = 1024 * 1024;
+
+	private static final int PROBES = 4;
+
+	private final AtomicReferenceArray<char[]> charArrays;
+	private final AtomicReferenceArray<String[]> stringArrays;
+	private final int mask;
+	private final int maxPooledLength;
+
+	public BufferPool() {
+		this(Runtime.getRuntime().availableProcessors() * 4, DEFAULT_MAX_POOLED_LENGTH);
+	}
+
+	/**
+	 * @param nbSlots the number of array of each type kept, rounded up to the next power of 2
+	 * @param maxPooledLength the max length of a pooled array
+	 */
+	public BufferPool(int nbSlots, int maxPooledLength) {
+		int size = Integer.highestOneBit(Math.max(nbSlots, 1) - 1) << 1;
+		if (size <= 0) size = 1;
+		this.charArrays = new AtomicReferenceArray<char[]>(size);
+		this.stringArrays = new AtomicReferenceArray<String[]>(size);
+		this.mask = size - 1;
+		this.maxPooledLength = maxPooledLength;
+	}
+
+	/**
+	 * @param minLength the min length of the array
+	 * @param maxLength the max length of the array
+	 * @return a pooled array with a length between minLength and maxLength or a new array of minLength
+	 */
+	public char[] acquireCharArray(int minLength, int maxLength) {
+		final AtomicReferenceArray<char[]> charArrays = this.charArrays;
+		int stripe = stripe();
+		for(int i = 0; i < PROBES; i++) {
+			int index = (stripe + i) & mask;
+			char[] chars = charArrays.get(index);
+			if (chars != null && chars.length >= minLength && chars.length <= maxLength
+					&& charArrays.compareAndSet(index, chars, null)) {
+				return chars;
+			}
+		}
+		return new char[minLength];
+	}
+
+	public void releaseCharArray(char[] chars) {
+		if (chars == null || chars.length == 0 || chars.length > maxPooledLength) return;
+		final AtomicReferenceArray<char[]> charArrays = this.charArrays;
+		int stripe = stripe();
+		for(int i = 0; i < PROBES; i++) {
+			int index = (stripe + i) & mask;
+			if (charArrays.get(index) == null && charArrays.compareAndSet(index, null, chars)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @param minLength the min length of the array
+	 * @return a pooled array, filled with null, with a length of at least minLength or a new array of minLength
+	 */
+	public String[] acquireStringArray(int minLength) {
+		final AtomicReferenceArray<String[]> stringArrays = this.stringArrays;
+		int stripe = stripe();
+		for(int i = 0; i < PROBES; i++) {
+			int index = (stripe + i) & mask;
+			String[] strings = stringArrays.get(index);
+			if (strings != null && strings.length >= minLength
+					&& stringArrays.compareAndSet(index, strings, null)) {
+				return strings;
+			}
+		}
+		return new String[minLength];
+	}
+
+	public void releaseStringArray(String[] strings) {
+		if (strings == null || strings.length == 0 || strings.length > maxPooledLength) return;
+		// do not retain the values
+		Arrays.fill(strings, null);
+		final AtomicReferenceArray<String[]> stringArrays = this.stringArrays;
+		int stripe = stripe();
+		for(int i = 0; i < PROBES; i++) {
+			int index = (stripe + i) & mask;
+			if (stringArrays.get(index) == null && stringArrays.compareAndSet(index, null, strings)) {
+				return;
+			}
+		}
+	}
+
+	private int stripe() {
+		long id = Thread.currentThread().getId();
+		return (int) (id ^ (id >>> 16)) * PROBES;
+	}
+}
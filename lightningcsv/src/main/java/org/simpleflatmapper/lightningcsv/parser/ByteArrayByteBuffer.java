@@ -0,0 +1,22 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+public final class ByteArrayByteBuffer extends ByteBuffer {
+
+	public ByteArrayByteBuffer(final byte[] bytes) {
+		this(bytes, bytes.length);
+	}
+
+	public ByteArrayByteBuffer(final byte[] bytes, int length) {
+		super(bytes, length);
+	}
+
+	@Override
+	public boolean isConstant() {
+		return true;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,19 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+
+public abstract class ByteBuffer {
+
+	public byte[] buffer;
+	public int bufferSize;
+	public int cellStartMark;
+	public int rowStartMark;
+
+	public ByteBuffer(byte[] buffer, final int bufferSize) {
+		this.buffer = buffer;
+		this.bufferSize = bufferSize;
+	}
+
+	public abstract boolean isConstant();
+	public abstract boolean shiftAndRead(int shiftFrom) throws IOException;
+}
@@ -0,0 +1,35 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Cell callback of the byte level parser, the cell is the raw byte range - unquoted and unescaped - still encoded.
+ * @see ByteCellConsumers
+ */
+//IFJAVA8_START
+@FunctionalInterface
+//IFJAVA8_END
+public interface ByteCellConsumer {
+	void newCell(byte[] bytes, int offset, int length);
+//IFJAVA8_START
+	default
+//IFJAVA8_END
+
+	/**
+	 * @return false if the row was skipped
+	 */
+	boolean endOfRow()
+//IFJAVA8_START
+	{
+		return true;
+	}
+//IFJAVA8_END
+	;
+//IFJAVA8_START
+	default
+//IFJAVA8_END
+	void end()
+//IFJAVA8_START
+	{
+	}
+//IFJAVA8_END
+	;
+}
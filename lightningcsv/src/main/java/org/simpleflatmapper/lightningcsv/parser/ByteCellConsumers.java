@@ -0,0 +1,134 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+/**
+ * Helpers to consume the byte ranges of the {@link ByteCellConsumer}.
+ */
+public final class ByteCellConsumers {
+
+    private ByteCellConsumers() {
+    }
+
+    /**
+     * Adapt a CellConsumer to the byte level parser, each cell is decoded into a reusable char buffer before being
+     * passed to the cellConsumer. Pure ascii cells are widened without going through the decoder.
+     * @param cellConsumer the char cell consumer
+     * @param charset the encoding of the content
+     * @return a ByteCellConsumer that decode the cell and call the cellConsumer
+     */
+    public static ByteCellConsumer decoding(CellConsumer cellConsumer, Charset charset) {
+        return new DecodingByteCellConsumer(cellConsumer, charset);
+    }
+
+    public static String toString(byte[] bytes, int offset, int length, Charset charset) {
+        if (length == 0) return "";
+        return new String(bytes, offset, length, charset);
+    }
+
+    public static int parseInt(byte[] bytes, int offset, int length) throws NumberFormatException {
+        long l = parseLong(bytes, offset, length);
+        if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+            throw numberFormatException(bytes, offset, length);
+        }
+        return (int) l;
+    }
+
+    public static long parseLong(byte[] bytes, int offset, int length) throws NumberFormatException {
+        int end = offset + length;
+        int i = offset;
+        if (i >= end) {
+            throw numberFormatException(bytes, offset, length);
+        }
+
+        boolean negative = false;
+        byte first = bytes[i];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i >= end) {
+                throw numberFormatException(bytes, offset, length);
+            }
+        }
+
+        // accumulate negatively to be able to represent Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        for(; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                throw numberFormatException(bytes, offset, length);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(bytes, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException numberFormatException(byte[] bytes, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + new String(bytes, offset, length, Charset.forName("ISO-8859-1")) + "\"");
+    }
+
+    private static final class DecodingByteCellConsumer implements ByteCellConsumer {
+        private final CellConsumer cellConsumer;
+        private final CharsetDecoder decoder;
+        private char[] chars = new char[64];
+
+        private DecodingByteCellConsumer(CellConsumer cellConsumer, Charset charset) {
+            this.cellConsumer = cellConsumer;
+            this.decoder = charset.newDecoder();
+        }
+
+        @Override
+        public void newCell(byte[] bytes, int offset, int length) {
+            char[] lchars = chars;
+            if (lchars.length < length) {
+                lchars = chars = Arrays.copyOf(lchars, Math.max(length, lchars.length * 2));
+            }
+            for(int i = 0; i < length; i++) {
+                byte b = bytes[offset + i];
+                if (b < 0) {
+                    decode(bytes, offset, length);
+                    return;
+                }
+                lchars[i] = (char) b;
+            }
+            cellConsumer.newCell(lchars, 0, length);
+        }
+
+        private void decode(byte[] bytes, int offset, int length) {
+            // a multi byte sequence can not produce more chars than bytes
+            java.nio.CharBuffer out = java.nio.CharBuffer.wrap(chars);
+            decoder.reset();
+            try {
+                CoderResult coderResult = decoder.decode(java.nio.ByteBuffer.wrap(bytes, offset, length), out, true);
+                if (coderResult.isError()) coderResult.throwException();
+                coderResult = decoder.flush(out);
+                if (coderResult.isError()) coderResult.throwException();
+            } catch (CharacterCodingException e) {
+                ErrorHelper.rethrow(e);
+            }
+            cellConsumer.newCell(chars, 0, out.position());
+        }
+
+        @Override
+        public boolean endOfRow() {
+            return cellConsumer.endOfRow();
+        }
+
+        @Override
+        public void end() {
+            cellConsumer.end();
+        }
+    }
+}
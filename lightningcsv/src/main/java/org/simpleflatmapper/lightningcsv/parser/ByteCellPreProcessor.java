@@ -0,0 +1,6 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+public abstract class ByteCellPreProcessor {
+    public abstract void newCell(byte[] bytes, int start, int end, ByteCellConsumer cellConsumer, int state);
+    public abstract boolean ignoreLeadingSpace();
+}
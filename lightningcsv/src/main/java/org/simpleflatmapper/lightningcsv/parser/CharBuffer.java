@@ -4,6 +4,8 @@ import java.io.IOException;
 
 public abstract class CharBuffer {
 
+	protected static final char[] EMPTY = new char[0];
+
 	public char[] buffer;
 	public int bufferSize;
 	public int cellStartMark;
@@ -16,4 +18,10 @@ public abstract class CharBuffer {
 
 	public abstract boolean isConstant();
 	public abstract boolean shiftAndRead(int shiftFrom) throws IOException;
+
+	/**
+	 * give back the buffer to its pool if any, the CharBuffer must not be used after.
+	 */
+	public void release() {
+	}
 }
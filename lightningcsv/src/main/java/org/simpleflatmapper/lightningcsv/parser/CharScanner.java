@@ -0,0 +1,84 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Look ahead for the structural chars of the csv.
+ * <p>
+ * On jdk 17+ the multi-release jar provides a VectorCharScanner that compares multiple chars per instruction
+ * using the jdk.incubator.vector module, it is only used if the module is resolved - --add-modules jdk.incubator.vector -
+ * otherwise or if the system property org.simpleflatmapper.lightningcsv.disableVector is true the scalar implementation is used.
+ * <p>
+ * On the module path the org.simpleflatmapper.lightningcsv module does not read jdk.incubator.vector,
+ * it can't require it as the module descriptor is compiled for jdk 9, the scalar implementation is then always used.
+ */
+public abstract class CharScanner {
+
+	public static final String DISABLE_VECTOR_PROPERTY = "org.simpleflatmapper.lightningcsv.disableVector";
+
+	private static final String VECTOR_CHAR_SCANNER = "org.simpleflatmapper.lightningcsv.parser.VectorCharScanner";
+
+	protected static final char LF = '\n';
+	protected static final char CR = '\r';
+
+	/**
+	 * @param chars the buffer
+	 * @param start the start index
+	 * @param end the end index
+	 * @param separatorChar the separator
+	 * @param separatorFingerPrint the bits the separator, CR and LF have in common
+	 * @param separatorFingerPrintMask the mask to apply to a char before comparing it to the finger print
+	 * @return the index of the first separator, CR or LF between start and end, end if none
+	 */
+	public abstract int indexOfEndOfCell(char[] chars, int start, int end, char separatorChar, int separatorFingerPrint, int separatorFingerPrintMask);
+
+	/**
+	 * @param chars the buffer
+	 * @param start the start index
+	 * @param end the end index
+	 * @param c1 the first char to look for
+	 * @param c2 the second char to look for
+	 * @return the index of the first c1 or c2 between start and end, end if none
+	 */
+	public abstract int indexOf(char[] chars, int start, int end, char c1, char c2);
+
+	public abstract boolean isVectorized();
+
+	public static CharScanner newInstance() {
+		if (!Boolean.getBoolean(DISABLE_VECTOR_PROPERTY)) {
+			try {
+				return (CharScanner) Class.forName(VECTOR_CHAR_SCANNER).getDeclaredConstructor().newInstance();
+			} catch (Throwable e) {
+				// not on jdk17+, jdk.incubator.vector not resolved or not readable from the module
+			}
+		}
+		return new ScalarCharScanner();
+	}
+
+	public static final class ScalarCharScanner extends CharScanner {
+		@Override
+		public int indexOfEndOfCell(char[] chars, int start, int end, char separatorChar, int separatorFingerPrint, int separatorFingerPrintMask) {
+			for(int i = start; i < end; i++) {
+				final char c = chars[i];
+				if (((c & separatorFingerPrintMask) == separatorFingerPrint) && (c == separatorChar || c == LF || c == CR)) {
+					return i;
+				}
+			}
+			return end;
+		}
+
+		@Override
+		public int indexOf(char[] chars, int start, int end, char c1, char c2) {
+			for(int i = start; i < end; i++) {
+				final char c = chars[i];
+				if (c == c1 || c == c2) {
+					return i;
+				}
+			}
+			return end;
+		}
+
+		@Override
+		public boolean isVectorized() {
+			return false;
+		}
+	}
+}
@@ -10,6 +10,10 @@ public final class CharSequenceCharBuffer extends CharBuffer {
 		super(toCharArray(str), str.length());
 	}
 
+	public CharSequenceCharBuffer(final char[] buffer, final int bufferSize) {
+		super(buffer, bufferSize);
+	}
+
 	@Override
 	public boolean isConstant() {
 		return true;
@@ -0,0 +1,124 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * The columns to tokenise, the other cells are skipped before being unescaped or trimmed.
+ * <p>
+ * By default the selected cells are passed to the CellConsumer in the order of the file without the skipped cells.
+ * With keepPositions() the skipped cells are passed as empty cells so the column indexes are kept.
+ * <p>
+ * A projection by header names is resolved on the first row parsed.
+ */
+public final class ColumnProjection {
+
+	private final int[] columns;
+	private final String[] headers;
+	private final boolean keepPositions;
+
+	private ColumnProjection(int[] columns, String[] headers, boolean keepPositions) {
+		this.columns = columns;
+		this.headers = headers;
+		this.keepPositions = keepPositions;
+	}
+
+	/**
+	 * @param columns the 0 based indexes of the columns to select
+	 * @return a projection on the column indexes
+	 */
+	public static ColumnProjection columns(int... columns) {
+		for(int column : columns) {
+			if (column < 0) throw new IllegalArgumentException("Invalid column index " + column);
+		}
+		return new ColumnProjection(columns.clone(), null, false);
+	}
+
+	/**
+	 * @param headers the names of the columns to select as they appear in the first row
+	 * @return a projection on the header names
+	 */
+	public static ColumnProjection headers(String... headers) {
+		return new ColumnProjection(null, headers.clone(), false);
+	}
+
+	/**
+	 * @return a projection that passes the skipped cells as empty cells
+	 */
+	public ColumnProjection keepPositions() {
+		return new ColumnProjection(columns, headers, true);
+	}
+
+	public boolean isKeepPositions() {
+		return keepPositions;
+	}
+
+	public boolean isByHeaders() {
+		return headers != null;
+	}
+
+	/**
+	 * @param headerRow the values of the header row
+	 * @return the projection on the indexes of the headers in the header row
+	 */
+	public ColumnProjection resolve(String[] headerRow) {
+		if (headers == null) return this;
+		return new ColumnProjection(toColumns(selectedHeaders(headerRow)), null, keepPositions);
+	}
+
+	private boolean[] selectedHeaders(String[] headerRow) {
+		boolean[] selected = new boolean[headerRow.length];
+		for(int i = 0; i < headerRow.length; i++) {
+			selected[i] = isSelectedHeader(headerRow[i]);
+		}
+		return selected;
+	}
+
+	boolean isSelectedHeader(String header) {
+		for(String h : headers) {
+			if (h.equals(header)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean[] selectedColumns() {
+		if (columns == null) return new boolean[0];
+		int max = -1;
+		for(int column : columns) {
+			max = Math.max(max, column);
+		}
+		boolean[] selected = new boolean[max + 1];
+		for(int column : columns) {
+			selected[column] = true;
+		}
+		return selected;
+	}
+
+	private static int[] toColumns(boolean[] selected) {
+		int[] columns = new int[selected.length];
+		int n = 0;
+		for(int i = 0; i < selected.length; i++) {
+			if (selected[i]) {
+				columns[n++] = i;
+			}
+		}
+		return Arrays.copyOf(columns, n);
+	}
+
+	/**
+	 * @param cellPreProcessor the cell pre processor of the selected cells
+	 * @return a new cell pre processor that skips the unselected cells, it keeps track of the current column and must not be shared between parsers
+	 */
+	public CellPreProcessor newCellPreProcessor(CellPreProcessor cellPreProcessor) {
+		return new ProjectionCellPreProcessor(cellPreProcessor, this);
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnProjection{" +
+				(columns != null ? "columns=" + Arrays.toString(columns) : "headers=" + Arrays.toString(headers)) +
+				", keepPositions=" + keepPositions +
+				'}';
+	}
+}
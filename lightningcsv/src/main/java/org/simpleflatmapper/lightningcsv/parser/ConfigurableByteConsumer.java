@@ -0,0 +1,339 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+
+import java.io.IOException;
+
+import static org.simpleflatmapper.lightningcsv.parser.ConfigurableCharConsumer.*;
+
+/**
+ * Consume the byteBuffer.
+ * <p>
+ * Separator, quote, escape and end of line are ascii so the scan can run on the raw bytes of an ascii compatible encoding
+ * - utf-8, iso-8859-*... - as no byte of a multi byte sequence can match them.
+ * The cells are handed over as byte ranges and are only decoded by the ByteCellConsumer that need it.
+ * <p>
+ * Same state machine as the ConfigurableCharConsumer without the yaml comments.
+ */
+public final class ConfigurableByteConsumer {
+
+	private static final int TURN_OFF_LAST_CHAR_MASK = ~(LAST_CHAR_WAS_CR|LAST_CHAR_WAS_SEPARATOR);
+	private static final int TURN_OFF_QUOTED_AREA = ~(QUOTED_AREA);
+	private static final int TURN_OFF_ESCAPED = ~(ESCAPED);
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+	private static final byte SPACE = ' ';
+
+	private final ByteBuffer csvBuffer;
+	private final byte separatorChar;
+	private final byte quoteChar;
+	private final byte escapeChar;
+	private final ByteCellPreProcessor cellPreProcessor;
+
+	private int _currentIndex = 0;
+	private int _currentState = NONE;
+
+	public ConfigurableByteConsumer(ByteBuffer csvBuffer, TextFormat textFormat, ByteCellPreProcessor cellPreProcessor) {
+		if (textFormat.yamlComment) {
+			throw new UnsupportedOperationException("Yaml comments are not supported on byte level parsing");
+		}
+		this.csvBuffer = csvBuffer;
+		this.cellPreProcessor = cellPreProcessor;
+		this.separatorChar = toAsciiByte(textFormat.separatorChar);
+		this.quoteChar = toAsciiByte(textFormat.quoteChar);
+		this.escapeChar = toAsciiByte(textFormat.escapeChar);
+	}
+
+	public static byte toAsciiByte(char c) {
+		if (c >= 128) {
+			throw new IllegalArgumentException("Byte level parsing only support ascii separator, quote or escape char, got " + c);
+		}
+		return (byte) c;
+	}
+
+	public ByteBuffer byteBuffer() {
+		return csvBuffer;
+	}
+
+	public final void consumeAllBuffer(final ByteCellConsumer cellConsumer) {
+
+		final boolean notIgnoreLeadingSpace = !ignoreLeadingSpace();
+		final byte escapeChar = escapeChar();
+		final byte separatorChar = separatorChar();
+		final byte quoteChar = quoteChar();
+		final int separatorFingerPrint = (separatorChar & CR & LF);
+		final int separatorFingerPrintMask = separatorFingerPrint | ((~separatorChar) & (~CR) & (~LF));
+
+		int currentState = _currentState;
+		int currentIndex = _currentIndex;
+
+		final byte[] chars = csvBuffer.buffer;
+		final int bufferSize = csvBuffer.bufferSize;
+
+		final ByteCellPreProcessor cellPreProcessor = this.cellPreProcessor;
+		if (bufferSize > chars.length) throw new ArrayIndexOutOfBoundsException();
+
+		try {
+			
+			mainloop:
+			while (currentIndex < bufferSize) {
+				// unescaped loop
+				if ((currentState & QUOTED_AREA) == 0) {
+					nonquotedloop:
+					while (currentIndex < bufferSize) {
+						final byte character = chars[currentIndex];
+						final int cellEnd = currentIndex;
+
+						currentIndex++;
+						if (character == separatorChar) { // separator
+							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							csvBuffer.cellStartMark = currentIndex;
+							currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+							continue;
+						} else if (character == LF) { // \n
+							if ((currentState & LAST_CHAR_WAS_CR) == 0) {
+								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+								cellConsumer.endOfRow();
+							}
+							markEndOfRow(currentIndex);
+							currentState = NONE;
+							continue;
+						} else if (character == CR) { // \r
+							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							cellConsumer.endOfRow();
+							markEndOfRow(currentIndex);
+							currentState = LAST_CHAR_WAS_CR;
+							continue;
+						}
+
+						if ((currentState & (QUOTED | CELL_DATA)) == (CELL_DATA)) {
+							while (currentIndex < bufferSize) {
+								final byte c = chars[currentIndex];
+								final int ce = currentIndex;
+								currentIndex++;
+								if (((c & separatorFingerPrintMask) == separatorFingerPrint) && (c == separatorChar || c == LF || c == CR)) { // separator
+									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
+									if (c == separatorChar) {
+										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+									} else {
+										currentState = (c == LF ? NONE : LAST_CHAR_WAS_CR);
+										cellConsumer.endOfRow();
+										csvBuffer.rowStartMark = currentIndex;
+									}
+									csvBuffer.cellStartMark = currentIndex;
+									continue nonquotedloop;
+								}
+							}
+							return;
+						}
+
+						if (((currentState ^ CELL_DATA) & (QUOTED | CELL_DATA)) != 0 && character == quoteChar) { // no cell data | quoted
+							currentState =
+									QUOTED_AREA
+											| QUOTED
+											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+							break;
+						}
+
+						currentState &= TURN_OFF_LAST_CHAR_MASK;
+
+						if (notIgnoreLeadingSpace || character != SPACE) {
+							currentState |= CELL_DATA;
+						}
+					}
+				} else {
+					// escaped area
+					while (currentIndex < bufferSize) {
+						if ((currentState & ESCAPED) == 0) {
+							byte c = chars[currentIndex++];
+							if (c == quoteChar) {
+								currentState &= TURN_OFF_QUOTED_AREA;
+								continue mainloop;
+							} else if (c == escapeChar) {
+								currentState |= ESCAPED | CONTAINS_ESCAPED_CHAR;
+							}
+						} else {
+							currentState &= TURN_OFF_ESCAPED;
+						}
+					}
+					return;
+				}
+			}
+		} finally {
+			_currentState = currentState;
+			_currentIndex = currentIndex;
+		}
+	}
+
+	public final boolean consumeToNextRow(ByteCellConsumer cellConsumer) {
+		final boolean notIgnoreLeadingSpace = !ignoreLeadingSpace();
+		final byte escapeChar = escapeChar();
+		final byte separatorChar = separatorChar();
+		final byte quoteChar = quoteChar();
+		
+		final int separatorFingerPrint = (separatorChar & CR & LF);
+		final int separatorFingerPrintMask = separatorFingerPrint | ((~separatorChar) & (~CR) & (~LF));
+
+		int currentState = _currentState;
+		int currentIndex = _currentIndex;
+		
+		final byte[] chars = csvBuffer.buffer;
+		final int bufferSize = csvBuffer.bufferSize;
+		final ByteCellPreProcessor cellPreProcessor = this.cellPreProcessor;
+		if (bufferSize > chars.length) throw new ArrayIndexOutOfBoundsException();
+
+		try {
+			
+			mainloop:
+			while (currentIndex < bufferSize) {
+				// unescaped loop
+				if ((currentState & QUOTED_AREA) == 0) {
+					nonquotesloop:
+					while (currentIndex < bufferSize) {
+						final byte character = chars[currentIndex];
+						final int cellEnd = currentIndex;
+
+						currentIndex++;
+
+						if (character == separatorChar) { // separator
+							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							csvBuffer.cellStartMark = currentIndex;
+							currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+							continue;
+						} else if (character == LF) { // \n
+							if ((currentState & LAST_CHAR_WAS_CR) == 0) {
+								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+								if (cellConsumer.endOfRow()) {
+									markEndOfRow(currentIndex);
+									currentState = NONE;
+									return true;
+								}
+							}
+							markEndOfRow(currentIndex);
+							currentState = NONE;
+							continue;
+						} else if (character == CR) { // \r
+							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							currentState = LAST_CHAR_WAS_CR;
+							if (cellConsumer.endOfRow()) {
+								markEndOfRow(currentIndex);
+								return true;
+							}
+							markEndOfRow(currentIndex);
+							continue;
+						}
+							
+						if ((currentState & (QUOTED | CELL_DATA)) == (CELL_DATA)) {
+							// unquoted cell looks for separator
+							while (currentIndex < bufferSize) {
+								final byte c = chars[currentIndex];
+								final int ce = currentIndex;
+								currentIndex++;
+								if (((c & separatorFingerPrintMask) == separatorFingerPrint)
+										&& (c == separatorChar || c == LF || c == CR)) { // separator
+									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
+									if (c == separatorChar) {
+										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+									} else {
+										currentState = c == LF ? NONE : LAST_CHAR_WAS_CR;
+										if (cellConsumer.endOfRow()) {
+											markEndOfRow(currentIndex);
+											return true;
+										}
+										csvBuffer.rowStartMark = currentIndex;
+									}
+									csvBuffer.cellStartMark = currentIndex;
+									continue nonquotesloop;
+								}
+							}
+							return false;
+						}
+						
+						if (((currentState ^ CELL_DATA) & (QUOTED | CELL_DATA)) != 0 && character == quoteChar) { 
+							// no cell data | quoted  quote is first character
+							currentState =
+									QUOTED_AREA
+											| QUOTED
+											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+							break;
+						} 
+						
+						currentState &= TURN_OFF_LAST_CHAR_MASK;
+
+						if (notIgnoreLeadingSpace || character != SPACE) {
+							currentState |= CELL_DATA;
+						}
+					}
+				} else {
+					// escaped area
+					while (currentIndex < bufferSize) {
+						if ((currentState & ESCAPED) == 0) {
+							byte c = chars[currentIndex++];
+							if (c == quoteChar) {
+								currentState &= TURN_OFF_QUOTED_AREA;
+								continue mainloop;
+							} else if (c == escapeChar) {
+								currentState |= ESCAPED | CONTAINS_ESCAPED_CHAR;
+							}
+						} else {
+							currentState &= TURN_OFF_ESCAPED;
+						}
+					}
+					return false;
+				}
+			}
+			return false;
+		} finally {
+			_currentState = currentState;
+			_currentIndex = currentIndex;
+		}
+
+
+	}
+
+	private void markEndOfRow(int currentIndex) {
+		ByteBuffer csvBuffer = this.csvBuffer;
+		csvBuffer.cellStartMark = currentIndex;
+		csvBuffer.rowStartMark = currentIndex;
+	}
+
+	private byte quoteChar() {
+		return quoteChar;
+	}
+
+	private byte separatorChar() {
+		return separatorChar;
+	}
+
+	private byte escapeChar() {
+		return escapeChar;
+	}
+
+	private boolean ignoreLeadingSpace() {
+		return cellPreProcessor.ignoreLeadingSpace();
+	}
+
+	public final void finish(ByteCellConsumer cellConsumer) {
+		if ( hasUnconsumedData()
+				|| (_currentState & LAST_CHAR_WAS_SEPARATOR) != 0) {
+			cellPreProcessor.newCell(csvBuffer.buffer, csvBuffer.cellStartMark, _currentIndex, cellConsumer, _currentState);
+			csvBuffer.cellStartMark = _currentIndex + 1;
+			_currentState = NONE;
+		}
+		cellConsumer.end();
+	}
+
+	private boolean hasUnconsumedData() {
+		return _currentIndex > csvBuffer.cellStartMark;
+	}
+
+	public boolean shiftAndRead(boolean keepRow) throws IOException {
+		if (csvBuffer.isConstant()) return false;
+		
+		int shiftFrom = keepRow ? csvBuffer.rowStartMark : Math.min(csvBuffer.cellStartMark, csvBuffer.bufferSize);
+		
+		boolean b = csvBuffer.shiftAndRead(shiftFrom);
+		_currentIndex -= shiftFrom;
+		return b;
+	}
+}
@@ -28,6 +28,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 	private static final char SPACE = ' ';
 	private static final char COMMENT = '#';
 
+	private static final CharScanner CHAR_SCANNER = CharScanner.newInstance();
+
 	private final CharBuffer csvBuffer;
 	private final TextFormat textFormat;
 	private final CellPreProcessor cellPreProcessor;
@@ -100,23 +102,22 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 						}
 
 						if ((currentState & (QUOTED | CELL_DATA)) == (CELL_DATA)) {
-							while (currentIndex < bufferSize) {
-								final char c = chars[currentIndex];
-								final int ce = currentIndex;
-								currentIndex++;
-								if (((c & separatorFingerPrintMask) == separatorFingerPrint) && (c == separatorChar || c == LF || c == CR)) { // separator
-									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
-									if (c == separatorChar) {
-										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
-									} else {
-										currentState = (c == LF ? NONE : LAST_CHAR_WAS_CR);
-										cellConsumer.endOfRow();
-										csvBuffer.rowStartMark = currentIndex;
-									}
-									csvBuffer.cellStartMark = currentIndex;
-									continue nonquotedloop;
+							final int ce = CHAR_SCANNER.indexOfEndOfCell(chars, currentIndex, bufferSize, separatorChar, separatorFingerPrint, separatorFingerPrintMask);
+							if (ce < bufferSize) {
+								final char c = chars[ce];
+								currentIndex = ce + 1;
+								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
+								if (c == separatorChar) {
+									currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+								} else {
+									currentState = (c == LF ? NONE : LAST_CHAR_WAS_CR);
+									cellConsumer.endOfRow();
+									csvBuffer.rowStartMark = currentIndex;
 								}
+								csvBuffer.cellStartMark = currentIndex;
+								continue nonquotedloop;
 							}
+							currentIndex = bufferSize;
 							return;
 						}
 
@@ -124,6 +125,7 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							currentState =
 									QUOTED_AREA
 											| QUOTED
+											| (currentState & ROW_DATA)
 											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
 							break;
 						}
@@ -143,11 +145,17 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 					// escaped area
 					while (currentIndex < bufferSize) {
 						if ((currentState & ESCAPED) == 0) {
-							char c = chars[currentIndex++];
+							final int i = CHAR_SCANNER.indexOf(chars, currentIndex, bufferSize, quoteChar, escapeChar);
+							if (i >= bufferSize) {
+								currentIndex = bufferSize;
+								break;
+							}
+							char c = chars[i];
+							currentIndex = i + 1;
 							if (c == quoteChar) {
 								currentState &= TURN_OFF_QUOTED_AREA;
 								continue mainloop;
-							} else if (c == escapeChar) {
+							} else {
 								currentState |= ESCAPED | CONTAINS_ESCAPED_CHAR;
 							}
 						} else {
@@ -236,27 +244,25 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							
 						if ((currentState & (QUOTED | CELL_DATA)) == (CELL_DATA)) {
 							// unquoted cell looks for separator
-							while (currentIndex < bufferSize) {
-								final char c = chars[currentIndex];
-								final int ce = currentIndex;
-								currentIndex++;
-								if (((c & separatorFingerPrintMask) == separatorFingerPrint)
-										&& (c == separatorChar || c == LF || c == CR)) { // separator
-									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
-									if (c == separatorChar) {
-										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
-									} else {
-										currentState = c == LF ? NONE : LAST_CHAR_WAS_CR;
-										if (cellConsumer.endOfRow()) {
-											markEndOfRow(currentIndex);
-											return true;
-										}
-										csvBuffer.rowStartMark = currentIndex;
+							final int ce = CHAR_SCANNER.indexOfEndOfCell(chars, currentIndex, bufferSize, separatorChar, separatorFingerPrint, separatorFingerPrintMask);
+							if (ce < bufferSize) {
+								final char c = chars[ce];
+								currentIndex = ce + 1;
+								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
+								if (c == separatorChar) {
+									currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+								} else {
+									currentState = c == LF ? NONE : LAST_CHAR_WAS_CR;
+									if (cellConsumer.endOfRow()) {
+										markEndOfRow(currentIndex);
+										return true;
 									}
-									csvBuffer.cellStartMark = currentIndex;
-									continue nonquotesloop;
+									csvBuffer.rowStartMark = currentIndex;
 								}
+								csvBuffer.cellStartMark = currentIndex;
+								continue nonquotesloop;
 							}
+							currentIndex = bufferSize;
 							return false;
 						}
 						
@@ -265,6 +271,7 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							currentState =
 									QUOTED_AREA
 											| QUOTED
+											| (currentState & ROW_DATA)
 											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
 							break;
 						} 
@@ -285,11 +292,17 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 					// escaped area
 					while (currentIndex < bufferSize) {
 						if ((currentState & ESCAPED) == 0) {
-							char c = chars[currentIndex++];
+							final int i = CHAR_SCANNER.indexOf(chars, currentIndex, bufferSize, quoteChar, escapeChar);
+							if (i >= bufferSize) {
+								currentIndex = bufferSize;
+								break;
+							}
+							char c = chars[i];
+							currentIndex = i + 1;
 							if (c == quoteChar) {
 								currentState &= TURN_OFF_QUOTED_AREA;
 								continue mainloop;
-							} else if (c == escapeChar) {
+							} else {
 								currentState |= ESCAPED | CONTAINS_ESCAPED_CHAR;
 							}
 						} else {
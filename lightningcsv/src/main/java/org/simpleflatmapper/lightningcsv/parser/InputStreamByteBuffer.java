@@ -0,0 +1,77 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public final class InputStreamByteBuffer extends ByteBuffer {
+
+	private final int maxBufferSize;
+	private final InputStream inputStream;
+	private final int readSize;
+	private long bufferOffset;
+
+	public InputStreamByteBuffer(final int readSize, int maxBufferLength, InputStream inputStream) {
+		super(new byte[readSize < 4096 ? readSize : readSize * 2], 0);
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+		this.inputStream = inputStream;
+	}
+
+	/**
+	 * @return the offset in the stream of the first byte of the buffer
+	 */
+	public long bufferOffset() {
+		return bufferOffset;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) throws IOException {
+		int newSize = this.bufferSize - shiftFrom;
+
+		// shift left over
+		byte[] lbuffer = this.buffer;
+		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
+		cellStartMark -= shiftFrom;
+		rowStartMark -= shiftFrom;
+		bufferOffset += shiftFrom;
+
+		int bufferLength = lbuffer.length;
+
+		// make sure we can read readSize
+		if (bufferLength - newSize < readSize) {
+			int newBufferSize = bufferLength * 2;
+
+			if (newBufferSize < bufferLength + readSize) {
+				newBufferSize =  bufferLength + readSize;
+			}
+
+			if (newBufferSize > maxBufferSize) {
+				newBufferSize = maxBufferSize;
+			}
+
+			if (newSize >= newBufferSize) {
+				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ newSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+
+			lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
+			this.buffer = lbuffer;
+		}
+
+		int l = inputStream.read(lbuffer, newSize, Math.min(readSize, lbuffer.length - newSize));
+
+		if (l >= 0) {
+			this.bufferSize = newSize + l;
+			return true;
+		} else {
+			this.bufferSize = newSize;
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import org.simpleflatmapper.lightningcsv.impl.MappedByteBuffers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+/**
+ * CharBuffer that decodes the content of a file straight from a memory mapped window.
+ * <p>
+ * The window slides over the file as the content get consumed, the bytes are decoded directly into the char buffer
+ * avoiding the copy into user space and the intermediate byte buffer of a Reader.
+ * <p>
+ * A window is unmapped when the next one is mapped and on close, see {@link MappedByteBuffers}.
+ */
+public final class MappedFileCharBuffer extends CharBuffer implements Closeable {
+
+	public static final int DEFAULT_MAPPING_SIZE_64M = 1 << 26;
+
+	private final FileChannel fileChannel;
+	private final CharsetDecoder decoder;
+	private final int readSize;
+	private final int maxBufferSize;
+	private final int mappingSize;
+	private final long fileSize;
+
+	private MappedByteBuffer mappedByteBuffer;
+	private long mappedPosition;
+	private boolean endOfInput;
+	private boolean flushed;
+
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, final int readSize, int maxBufferLength) throws IOException {
+		this(fileChannel, charset, readSize, maxBufferLength, DEFAULT_MAPPING_SIZE_64M);
+	}
+
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, final int readSize, int maxBufferLength, int mappingSize) throws IOException {
+		this(fileChannel, charset, readSize, maxBufferLength, mappingSize, 0);
+	}
+
+	/**
+	 * @param position the offset in the file to start decoding from
+	 */
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, final int readSize, int maxBufferLength, int mappingSize, long position) throws IOException {
+		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		this.fileChannel = fileChannel;
+		this.decoder = charset.newDecoder();
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+		this.mappingSize = mappingSize;
+		this.fileSize = fileChannel.size();
+		this.mappedPosition = position;
+		this.endOfInput = fileSize <= position;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) throws IOException {
+		int newSize = this.bufferSize - shiftFrom;
+
+		// shift left over
+		char[] lbuffer = this.buffer;
+		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
+		cellStartMark -= shiftFrom;
+		rowStartMark -= shiftFrom;
+
+		int bufferLength = lbuffer.length;
+
+		// make sure we can read readSize
+		if (bufferLength - newSize < readSize) {
+			int newBufferSize = bufferLength * 2;
+
+			if (newBufferSize < bufferLength + readSize) {
+				newBufferSize =  bufferLength + readSize;
+			}
+
+			if (newBufferSize > maxBufferSize) {
+				newBufferSize = maxBufferSize;
+			}
+
+			if (newSize >= newBufferSize) {
+				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ newSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+
+			lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
+			this.buffer = lbuffer;
+		}
+
+		int l = decode(lbuffer, newSize, Math.min(readSize, lbuffer.length - newSize));
+
+		this.bufferSize = newSize + l;
+		return l > 0 || !flushed;
+	}
+
+	private int decode(char[] chars, int offset, int length) throws IOException {
+		java.nio.CharBuffer out = java.nio.CharBuffer.wrap(chars, offset, length);
+
+		while(out.hasRemaining() && !flushed) {
+			if (mappedByteBuffer == null) {
+				mapNextWindow();
+			}
+
+			CoderResult coderResult = decoder.decode(mappedByteBuffer, out, endOfInput);
+			if (coderResult.isError()) {
+				coderResult.throwException();
+			}
+
+			if (coderResult.isOverflow()) {
+				break;
+			}
+
+			// underflow, need more bytes
+			if (endOfInput) {
+				if (decoder.flush(out).isOverflow()) {
+					break;
+				}
+				flushed = true;
+			} else {
+				mapNextWindow();
+			}
+		}
+		return out.position() - offset;
+	}
+
+	private void mapNextWindow() throws IOException {
+		// unconsumed bytes - partial char at the end of the window - are remapped at the start of the next one
+		if (mappedByteBuffer != null) {
+			mappedPosition += mappedByteBuffer.position();
+			MappedByteBuffers.unmap(mappedByteBuffer);
+			mappedByteBuffer = null;
+		}
+
+		long size = Math.min(mappingSize, fileSize - mappedPosition);
+
+		mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, mappedPosition, size);
+
+		endOfInput = mappedPosition + size >= fileSize;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (mappedByteBuffer != null) {
+			MappedByteBuffers.unmap(mappedByteBuffer);
+			mappedByteBuffer = null;
+		}
+		fileChannel.close();
+	}
+}
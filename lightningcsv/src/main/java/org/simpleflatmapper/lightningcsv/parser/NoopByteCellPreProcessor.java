@@ -0,0 +1,17 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+public final class NoopByteCellPreProcessor extends ByteCellPreProcessor {
+    public static final NoopByteCellPreProcessor INSTANCE = new NoopByteCellPreProcessor();
+
+    private NoopByteCellPreProcessor() {
+    }
+
+    public final void newCell(byte[] bytes, int start, int end, ByteCellConsumer cellConsumer, int state) {
+        cellConsumer.newCell(bytes, start, end - start);
+    }
+
+    @Override
+    public final boolean ignoreLeadingSpace() {
+        return false;
+    }
+}
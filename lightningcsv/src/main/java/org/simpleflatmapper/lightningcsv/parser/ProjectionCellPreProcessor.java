@@ -0,0 +1,96 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * Keep track of the column of each cell and only call the delegate on the selected ones.
+ * The first cell of a row is the only one without the ROW_DATA flag.
+ */
+public final class ProjectionCellPreProcessor extends CellPreProcessor {
+
+	private final CellPreProcessor delegate;
+	private final ColumnProjection columnProjection;
+	private final boolean keepPositions;
+
+	private boolean[] selected;
+	private int column = -1;
+
+	private boolean resolvingHeaders;
+	private HeaderCellConsumer headerCellConsumer;
+
+	public ProjectionCellPreProcessor(CellPreProcessor delegate, ColumnProjection columnProjection) {
+		this.delegate = delegate;
+		this.columnProjection = columnProjection;
+		this.keepPositions = columnProjection.isKeepPositions();
+		this.selected = columnProjection.selectedColumns();
+		this.resolvingHeaders = columnProjection.isByHeaders();
+	}
+
+	@Override
+	public void newCell(char[] chars, int start, int end, CellConsumer cellConsumer, int state) {
+		final int column = (state & ConfigurableCharConsumer.ROW_DATA) == 0 ? 0 : this.column + 1;
+		this.column = column;
+
+		if (resolvingHeaders) {
+			if (column == 0 && headerCellConsumer != null) {
+				resolvingHeaders = false;
+			} else {
+				newHeaderCell(chars, start, end, cellConsumer, state, column);
+				return;
+			}
+		}
+
+		final boolean[] selected = this.selected;
+		if (column < selected.length && selected[column]) {
+			delegate.newCell(chars, start, end, cellConsumer, state);
+		} else if (keepPositions) {
+			cellConsumer.newCell(chars, start, 0);
+		}
+	}
+
+	private void newHeaderCell(char[] chars, int start, int end, CellConsumer cellConsumer, int state, int column) {
+		if (headerCellConsumer == null) {
+			headerCellConsumer = new HeaderCellConsumer();
+		}
+		final HeaderCellConsumer headerCellConsumer = this.headerCellConsumer;
+		delegate.newCell(chars, start, end, headerCellConsumer, state);
+		String header = new String(headerCellConsumer.chars, headerCellConsumer.offset, headerCellConsumer.length);
+
+		if (column >= selected.length) {
+			selected = Arrays.copyOf(selected, Math.max(column + 1, selected.length * 2));
+		}
+		if (columnProjection.isSelectedHeader(header)) {
+			selected[column] = true;
+			cellConsumer.newCell(headerCellConsumer.chars, headerCellConsumer.offset, headerCellConsumer.length);
+		} else if (keepPositions) {
+			cellConsumer.newCell(chars, start, 0);
+		}
+	}
+
+	@Override
+	public boolean ignoreLeadingSpace() {
+		return delegate.ignoreLeadingSpace();
+	}
+
+	private static final class HeaderCellConsumer implements CellConsumer {
+		private char[] chars;
+		private int offset;
+		private int length;
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			this.chars = chars;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public boolean endOfRow() {
+			return true;
+		}
+
+		@Override
+		public void end() {
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * CharBuffer filled by the caller instead of a Reader, never blocks.
+ * shiftAndRead only discards the consumed data, new data is pushed with append or written directly after ensureCapacity.
+ */
+public final class PushCharBuffer extends CharBuffer {
+
+	private final int maxBufferSize;
+
+	public PushCharBuffer(int initialSize, int maxBufferSize) {
+		super(new char[initialSize], 0);
+		this.maxBufferSize = maxBufferSize;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public boolean shiftAndRead(int shiftFrom) {
+		int newSize = bufferSize - shiftFrom;
+		if (shiftFrom > 0) {
+			System.arraycopy(buffer, shiftFrom, buffer, 0, newSize);
+			cellStartMark -= shiftFrom;
+			rowStartMark -= shiftFrom;
+			bufferSize = newSize;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of chars that can be appended without growing the buffer
+	 */
+	public int freeSpace() {
+		return buffer.length - bufferSize;
+	}
+
+	/**
+	 * grow the buffer so that at least length chars can be appended.
+	 * @param length the number of chars
+	 * @throws BufferOverflowException if the buffer would need to exceed the max buffer size
+	 */
+	public void ensureCapacity(int length) throws BufferOverflowException {
+		int bufferLength = buffer.length;
+		int requiredSize = bufferSize + length;
+		if (requiredSize <= bufferLength) {
+			return;
+		}
+		if (requiredSize > maxBufferSize) {
+			throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ requiredSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+		}
+		int newBufferSize = Math.min(Math.max(bufferLength * 2, requiredSize), maxBufferSize);
+		buffer = Arrays.copyOf(buffer, newBufferSize);
+	}
+
+	/**
+	 * append the chars, growing the buffer if necessary.
+	 */
+	public void append(char[] chars, int offset, int length) throws BufferOverflowException {
+		ensureCapacity(length);
+		System.arraycopy(chars, offset, buffer, bufferSize, length);
+		bufferSize += length;
+	}
+}
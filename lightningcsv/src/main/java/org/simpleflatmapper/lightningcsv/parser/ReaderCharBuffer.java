@@ -9,12 +9,26 @@ public final class ReaderCharBuffer extends CharBuffer {
 	private final int maxBufferSize;
 	private final Reader reader;
 	private final int readSize;
+	private final BufferPool bufferPool;
 
 	public ReaderCharBuffer(final int readSize, int maxBufferLength, Reader reader) {
-		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		super(new char[initialSize(readSize)], 0);
 		this.readSize = readSize;
 		this.maxBufferSize = maxBufferLength;
 		this.reader = reader;
+		this.bufferPool = null;
+	}
+
+	public ReaderCharBuffer(final int readSize, int maxBufferLength, Reader reader, BufferPool bufferPool) {
+		super(bufferPool.acquireCharArray(initialSize(readSize), maxBufferLength), 0);
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+		this.reader = reader;
+		this.bufferPool = bufferPool;
+	}
+
+	private static int initialSize(int readSize) {
+		return readSize < 4096 ? readSize : readSize * 2;
 	}
 
 	@Override
@@ -58,7 +72,14 @@ public final class ReaderCharBuffer extends CharBuffer {
 			}
 
 
-			lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
+			if (bufferPool != null) {
+				char[] newBuffer = bufferPool.acquireCharArray(newBufferSize, maxBufferSize);
+				System.arraycopy(lbuffer, 0, newBuffer, 0, newSize);
+				bufferPool.releaseCharArray(lbuffer);
+				lbuffer = newBuffer;
+			} else {
+				lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
+			}
 			this.buffer = lbuffer;
 
 			if (effectiveReadSize > bufferLength - newSize) {
@@ -77,4 +98,14 @@ public final class ReaderCharBuffer extends CharBuffer {
 		}
 	}
 
+	@Override
+	public void release() {
+		if (bufferPool != null && buffer.length > 0) {
+			bufferPool.releaseCharArray(buffer);
+			buffer = EMPTY;
+			bufferSize = 0;
+			cellStartMark = 0;
+			rowStartMark = 0;
+		}
+	}
 }
@@ -7,32 +7,67 @@ import java.util.Arrays;
 public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super String[]>> implements CellConsumer {
 
 	public static final int DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW = 64 * 1024 * 1024;
+	private static final int INITIAL_ROW_SIZE = 8;
+	private static final String[] EMPTY = new String[0];
 	private final RH handler;
 	private final int maxNumberOfCellPerRow;
+	private final BufferPool bufferPool;
+	private final StringCache[] stringCaches;
 	private int currentIndex;
-	private String[] currentRow = new String[8];
+	private String[] currentRow;
 
-	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow) {
+	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow, BufferPool bufferPool, StringCache[] stringCaches) {
 		this.handler = handler;
 		this.maxNumberOfCellPerRow = maxNumberOfCellPerRow;
+		this.bufferPool = bufferPool;
+		this.stringCaches = stringCaches;
+		this.currentRow = newRow(INITIAL_ROW_SIZE);
 	}
 
 	@Override
 	public void newCell(char[] chars, int offset, int length) {
 		ensureCapacity();
-		currentRow[currentIndex] = length > 0 ? new String(chars, offset, length) : "";
+		if (stringCaches != null) {
+			newCachedCell(chars, offset, length);
+		} else {
+			currentRow[currentIndex] = length > 0 ? new String(chars, offset, length) : "";
+		}
 		currentIndex ++;
 	}
 
+	private void newCachedCell(char[] chars, int offset, int length) {
+		StringCache stringCache = currentIndex < stringCaches.length ? stringCaches[currentIndex] : null;
+		if (stringCache != null) {
+			currentRow[currentIndex] = stringCache.get(chars, offset, length);
+		} else {
+			currentRow[currentIndex] = length > 0 ? new String(chars, offset, length) : "";
+		}
+	}
+
 	private void ensureCapacity() {
 		if (currentIndex >= currentRow.length) {
+			if (currentRow.length == 0) { // released
+				currentRow = newRow(INITIAL_ROW_SIZE);
+				return;
+			}
 			if (currentRow.length >= maxNumberOfCellPerRow) {
 				throw new ArrayIndexOutOfBoundsException("Reach maximum number of cell per row " + currentIndex);
 			}
-			currentRow = Arrays.copyOf(currentRow, currentRow.length * 2);
+			if (bufferPool != null) {
+				String[] newRow = newRow(currentRow.length * 2);
+				System.arraycopy(currentRow, 0, newRow, 0, currentIndex);
+				bufferPool.releaseStringArray(currentRow);
+				currentRow = newRow;
+			} else {
+				currentRow = Arrays.copyOf(currentRow, currentRow.length * 2);
+			}
 		}
 	}
 
+	private String[] newRow(int size) {
+		return bufferPool != null ? bufferPool.acquireStringArray(size) : new String[size];
+	}
+
 	@Override
 	public boolean endOfRow() {
 		try {
@@ -56,9 +91,34 @@ public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super St
 		if (currentIndex > 0) {
 			endOfRow();
 		}
+		if (bufferPool != null && currentRow.length > 0) {
+			bufferPool.releaseStringArray(currentRow);
+			currentRow = EMPTY;
+		}
 	}
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, int maxNumberOfCellPerRow) {
-		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow);
+		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow, null, null);
+	}
+
+	/**
+	 * @param handler the row handler
+	 * @param bufferPool the pool the row buffer is taken from, it is given back on end()
+	 * @param <RH> the type of handler
+	 * @return a new StringArrayCellConsumer
+	 */
+	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, BufferPool bufferPool) {
+		return new StringArrayCellConsumer<RH>(handler, DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, bufferPool, null);
+	}
+
+	/**
+	 * @param handler the row handler
+	 * @param stringCaches the cache to use for each column, null for the columns that are not cached
+	 * @param <RH> the type of handler
+	 * @return a new StringArrayCellConsumer
+	 * @see StringCache#forColumns(int...)
+	 */
+	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, StringCache[] stringCaches) {
+		return new StringArrayCellConsumer<RH>(handler, DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, null, stringCaches);
 	}
 
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler) {
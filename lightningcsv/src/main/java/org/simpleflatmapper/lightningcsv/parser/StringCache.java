@@ -0,0 +1,105 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Bounded cache of the String of a column with few distinct values - country code, status, currency.
+ * <p>
+ * The table is an open addressing table of String keyed by the String.hashCode of the char range,
+ * a value already seen is compared to the chars in the buffer and returned without allocation.
+ * When the few slots probed are all taken by other values the first one is replaced, the cache never grows.
+ * <p>
+ * The only state is the array of immutable String, the cache can be shared between threads,
+ * a race only leads to a value being created twice.
+ */
+public final class StringCache {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+	public static final int DEFAULT_MAX_LENGTH = 64;
+
+	private static final int PROBES = 4;
+
+	private final String[] table;
+	private final int mask;
+	private final int maxLength;
+
+	public StringCache() {
+		this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * @param capacity the number of values kept, rounded up to the next power of 2
+	 * @param maxLength the max length of a cached value, longer values are always created
+	 */
+	public StringCache(int capacity, int maxLength) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		this.table = new String[size];
+		this.mask = size - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * @param columns the indexes of the cached columns
+	 * @return an array with a new cache at the index of each column
+	 */
+	public static StringCache[] forColumns(int... columns) {
+		int length = 0;
+		for(int column : columns) {
+			length = Math.max(length, column + 1);
+		}
+		StringCache[] stringCaches = new StringCache[length];
+		for(int column : columns) {
+			stringCaches[column] = new StringCache();
+		}
+		return stringCaches;
+	}
+
+	/**
+	 * @param chars the buffer
+	 * @param offset the start of the value
+	 * @param length the length of the value
+	 * @return the cached String equals to the chars or a new one
+	 */
+	public String get(char[] chars, int offset, int length) {
+		if (length == 0) {
+			return "";
+		}
+		if (length > maxLength) {
+			return new String(chars, offset, length);
+		}
+		int h = 0;
+		final int end = offset + length;
+		for(int i = offset; i < end; i++) {
+			h = 31 * h + chars[i];
+		}
+
+		final String[] table = this.table;
+		final int start = (h ^ (h >>> 16)) & mask;
+		int index = start;
+		for(int p = 0; p < PROBES; p++) {
+			String value = table[index];
+			if (value == null) {
+				value = new String(chars, offset, length);
+				table[index] = value;
+				return value;
+			}
+			if (value.hashCode() == h && matches(value, chars, offset, length)) {
+				return value;
+			}
+			index = (index + 1) & mask;
+		}
+		String value = new String(chars, offset, length);
+		table[start] = value;
+		return value;
+	}
+
+	private static boolean matches(String value, char[] chars, int offset, int length) {
+		if (value.length() != length) {
+			return false;
+		}
+		for(int i = 0; i < length; i++) {
+			if (value.charAt(i) != chars[offset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,38 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+
+public final class TrimByteCellPreProcessor extends ByteCellPreProcessor {
+
+    private final ByteCellPreProcessor delegate;
+
+    public TrimByteCellPreProcessor(ByteCellPreProcessor cellPreProcessor) {
+        this.delegate = cellPreProcessor;
+    }
+
+    public final void newCell(byte[] bytes, int start, int end, ByteCellConsumer cellConsumer, int state) {
+        int strStart = start;
+        int strEnd = end;
+
+        strEnd = strEnd(strStart, strEnd, bytes);
+        strStart = strStart(strStart, strEnd, bytes);
+
+        delegate.newCell(bytes, strStart, strEnd, cellConsumer, state);
+    }
+
+    private int strEnd(int start, int end, byte[] bytes) {
+        for(; start < end && bytes[end - 1] == ' '; end--)
+            ;
+        return end;
+    }
+
+    private int strStart(int start, int end, byte[] bytes) {
+        for(;start < end && bytes[start] == ' '; start++)
+            ;
+        return start;
+    }
+
+    @Override
+    public boolean ignoreLeadingSpace() {
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Byte version of {@link UnescapeCellPreProcessor}, the escape and quote char are ascii so
+ * they can not be part of a multi byte utf-8 sequence.
+ */
+public class UnescapeByteCellPreProcessor extends ByteCellPreProcessor {
+
+    private byte escapeChar;
+    private byte quoteChar;
+
+    public UnescapeByteCellPreProcessor(char escapeChar, char quoteChar) {
+        this.escapeChar = ConfigurableByteConsumer.toAsciiByte(escapeChar);
+        this.quoteChar = ConfigurableByteConsumer.toAsciiByte(quoteChar);
+    }
+
+
+    public final void newCell(byte[] bytes, int start, int end, ByteCellConsumer cellConsumer, int state) {
+        if ((state & ConfigurableCharConsumer.QUOTED) == 0) {
+            cellConsumer.newCell(bytes, start, end - start);
+        } else if ((state & ConfigurableCharConsumer.CONTAINS_ESCAPED_CHAR) == 0) {
+            unquote(bytes, start + 1, end, cellConsumer);
+        } else {
+            unescape(bytes, start + 1, end, cellConsumer);
+        }
+    }
+
+    private void unquote(final byte[] bytes, int start, int end, ByteCellConsumer cellConsumer) {
+        int l = end - start;
+        if (l > 0 && bytes[end - 1] == quoteChar) {
+            l--;
+        }
+        cellConsumer.newCell(bytes, start, l);
+    }
+
+    private void unescape(final byte[] bytes, int start, int end, ByteCellConsumer cellConsumer) {
+        for(int i = start; i < end - 1; i++) {
+            if (bytes[i] == escapeChar) {
+                unescape(bytes, start, end, cellConsumer, i);
+                return;
+            }
+        }
+        // no escape Char ??? fall back on unquote
+        unquote(bytes, start, end, cellConsumer);
+    }
+
+    private void unescape(byte[] bytes, int start, int end, ByteCellConsumer cellConsumer, int currentIndex) {
+        int destIndex = currentIndex;
+        boolean escaped = true;
+        for(int i = currentIndex +1 ;i < end -1; i++) {
+            byte c = bytes[i];
+            if (!escaped) {
+                if (c != escapeChar) {
+                    bytes[destIndex++] = c;
+                } else {
+                    escaped = true;
+                }
+            } else {
+                bytes[destIndex++] = unescapeChar(c);
+                escaped = false;
+            }
+        }
+        byte c = bytes[end - 1];
+        if (c != quoteChar || escaped) {
+            bytes[destIndex++] = c;
+        }
+        cellConsumer.newCell(bytes, start, destIndex - start);
+    }
+
+    private byte unescapeChar(byte c) {
+        if (escapeChar == '\\') {
+            switch (c) {
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'v':
+                    return 0x0B;
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public final boolean ignoreLeadingSpace() {
+        return false;
+    }
+
+}
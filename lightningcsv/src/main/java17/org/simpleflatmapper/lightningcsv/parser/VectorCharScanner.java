@@ -0,0 +1,72 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * CharScanner comparing a full vector of chars per iteration and looking for the first set bit of the resulting mask.
+ * The chars are loaded as shorts, the csv structural chars are all in the basic latin block.
+ * The remaining chars that do not fill a vector are scanned one by one.
+ * Only packaged in META-INF/versions/17 of the multi-release jar, ShortVector.fromCharArray is not in the jdk 16 incubator.
+ */
+public final class VectorCharScanner extends CharScanner {
+
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+	private static final int LENGTH = SPECIES.length();
+
+	public VectorCharScanner() {
+		// fail on creation if the vector api is not fully usable
+		if (LENGTH < 4) throw new IllegalStateException("Vector too small " + LENGTH);
+	}
+
+	@Override
+	public int indexOfEndOfCell(char[] chars, int start, int end, char separatorChar, int separatorFingerPrint, int separatorFingerPrintMask) {
+		int i = start;
+		final int upperBound = end - LENGTH;
+		final short separator = (short) separatorChar;
+		while (i <= upperBound) {
+			ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, i);
+			VectorMask<Short> mask = vector.eq(separator).or(vector.eq((short) LF)).or(vector.eq((short) CR));
+			if (mask.anyTrue()) {
+				return i + mask.firstTrue();
+			}
+			i += LENGTH;
+		}
+		for(; i < end; i++) {
+			final char c = chars[i];
+			if (c == separatorChar || c == LF || c == CR) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	@Override
+	public int indexOf(char[] chars, int start, int end, char c1, char c2) {
+		int i = start;
+		final int upperBound = end - LENGTH;
+		final short s1 = (short) c1;
+		final short s2 = (short) c2;
+		while (i <= upperBound) {
+			ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, i);
+			VectorMask<Short> mask = vector.eq(s1).or(vector.eq(s2));
+			if (mask.anyTrue()) {
+				return i + mask.firstTrue();
+			}
+			i += LENGTH;
+		}
+		for(; i < end; i++) {
+			final char c = chars[i];
+			if (c == c1 || c == c2) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	@Override
+	public boolean isVectorized() {
+		return true;
+	}
+}
@@ -0,0 +1,132 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvByteReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumers;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvByteReaderTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final String CONTENT =
+			"h1,h2,h3\r\n" +
+			"été,\"q\"\"u,o\nté\",123\n" +
+			"  a  , \"b\" ,-42\r" +
+			"€,,\n" +
+			"last,\"\",9223372036854775807";
+
+	@Test
+	public void testParseBytesMatchesParseChars() throws IOException {
+		CsvParser.DSL[] dsls = new CsvParser.DSL[] {
+				CsvParser.dsl(),
+				CsvParser.dsl().trimSpaces(),
+				CsvParser.dsl().disableUnescaping(),
+				CsvParser.dsl().skip(1),
+				CsvParser.dsl().limit(2)
+		};
+		for(CsvParser.DSL dsl : dsls) {
+			List<String[]> expected = dsl.parse(CONTENT, StringArrayCellConsumer.newInstance(new ListCollector<String[]>())).handler().getList();
+
+			for(int bufferSize = 1; bufferSize < 16; bufferSize++) {
+				ListCollector<String[]> collector = new ListCollector<String[]>();
+				dsl.bufferSize(bufferSize).parseBytes(new ByteArrayInputStream(CONTENT.getBytes(UTF8)), decoding(collector));
+				assertRowsEquals(expected, collector.getList());
+			}
+
+			ListCollector<String[]> collector = new ListCollector<String[]>();
+			dsl.parseBytes(CONTENT.getBytes(UTF8), decoding(collector));
+			assertRowsEquals(expected, collector.getList());
+		}
+	}
+
+	@Test
+	public void testParseNumberFromBytes() throws IOException {
+		final long[] sum = new long[1];
+		CsvParser.dsl().skip(1).parseBytes(CONTENT.getBytes(UTF8), new ByteCellConsumer() {
+			int column;
+			@Override
+			public void newCell(byte[] bytes, int offset, int length) {
+				if (column == 2 && length > 0) {
+					sum[0] += ByteCellConsumers.parseLong(bytes, offset, length) / 2;
+				}
+				column++;
+			}
+
+			@Override
+			public boolean endOfRow() {
+				column = 0;
+				return true;
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+		assertEquals(123 / 2 - 42 / 2 + Long.MAX_VALUE / 2, sum[0]);
+	}
+
+	@Test
+	public void testParseRow() throws IOException {
+		CsvByteReader reader = CsvParser.dsl().skip(1).bufferSize(4).byteReader(new ByteArrayInputStream(CONTENT.getBytes(UTF8)));
+		ListCollector<String[]> collector = new ListCollector<String[]>();
+		ByteCellConsumer cellConsumer = decoding(collector);
+		assertTrue(reader.parseRow(cellConsumer));
+		assertArrayEquals(new String[] {"été", "q\"u,o\nté", "123"}, collector.getList().get(0));
+		reader.skipRows(1);
+		assertTrue(reader.parseRow(cellConsumer));
+		assertArrayEquals(new String[] {"€", "", ""}, collector.getList().get(1));
+		// last row without end of line is flushed on finish
+		assertFalse(reader.parseRow(cellConsumer));
+		assertArrayEquals(new String[] {"last", "", "9223372036854775807"}, collector.getList().get(2));
+	}
+
+	@Test
+	public void testParseLong() {
+		assertEquals(Long.MIN_VALUE, ByteCellConsumers.parseLong("-9223372036854775808".getBytes(UTF8), 0, 20));
+		assertEquals(12, ByteCellConsumers.parseInt("+12".getBytes(UTF8), 0, 3));
+		try {
+			ByteCellConsumers.parseLong("9223372036854775808".getBytes(UTF8), 0, 19);
+			fail();
+		} catch (NumberFormatException e) {
+			// expected
+		}
+		try {
+			ByteCellConsumers.parseInt("2147483648".getBytes(UTF8), 0, 10);
+			fail();
+		} catch (NumberFormatException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonAsciiSeparatorFails() throws IOException {
+		CsvParser.dsl().separator('§').byteReader(new byte[0]);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testYamlCommentsFails() throws IOException {
+		CsvParser.dsl().withYamlComments().byteReader(new byte[0]);
+	}
+
+	private ByteCellConsumer decoding(ListCollector<String[]> collector) {
+		return ByteCellConsumers.decoding(StringArrayCellConsumer.newInstance(collector), UTF8);
+	}
+
+	private void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+}
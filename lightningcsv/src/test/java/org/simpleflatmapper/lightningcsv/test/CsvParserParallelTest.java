@@ -0,0 +1,172 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.impl.ParallelChunkParser;
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ConfigurableCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.util.Function;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
+import org.simpleflatmapper.util.Supplier;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class CsvParserParallelTest {
+
+	private static final String CONTENT =
+			"h1,h2,h3\r\n" +
+			"a,\"multi\nline\nquoted\ncell with \"\"quotes\"\"\",1\n" +
+			"b,\"\n\n\n\",2\r\n" +
+			"c,d,3\n" +
+			"\"\",,4\n" +
+			"e,\"x\ny\",5\n" +
+			"last,row,6";
+
+	@Test
+	public void testParseParallelMatchesSequential() throws IOException {
+		File file = createFile(CONTENT);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CsvParser.DSL[] dsls = new CsvParser.DSL[] {
+					CsvParser.dsl(),
+					CsvParser.dsl().trimSpaces(),
+					CsvParser.dsl().skip(1),
+					CsvParser.dsl().skip(3).limit(2),
+					CsvParser.dsl().limit(1)
+			};
+			for(CsvParser.DSL dsl : dsls) {
+				List<String[]> expected = dsl.parse(CONTENT, StringArrayCellConsumer.newInstance(new ListCollector<String[]>())).handler().getList();
+				for(int chunkSize = 1; chunkSize < CONTENT.length() + 2; chunkSize++) {
+					List<String[]> ordered = dsl.parseParallel(file, StringArrayCellConsumer.newInstance(new ListCollector<String[]>()), executor, chunkSize).handler().getList();
+					assertRowsEquals(expected, ordered);
+
+					List<StringArrayCellConsumer<ListCollector<String[]>>> consumers = dsl.parseParallelUnordered(file, new Supplier<StringArrayCellConsumer<ListCollector<String[]>>>() {
+						@Override
+						public StringArrayCellConsumer<ListCollector<String[]>> get() {
+							return StringArrayCellConsumer.newInstance(new ListCollector<String[]>());
+						}
+					}, executor, chunkSize);
+					List<String[]> unordered = new ArrayList<String[]>();
+					for(StringArrayCellConsumer<ListCollector<String[]>> consumer : consumers) {
+						unordered.addAll(consumer.handler().getList());
+					}
+					assertRowsEquals(expected, unordered);
+				}
+			}
+		} finally {
+			executor.shutdown();
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testParseParallelLargeFile() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 20000; i++) {
+			sb.append(i).append(",\"v\n").append(i).append("\",").append(i % 7 == 0 ? "\"\"\"\"" : "x").append("\n");
+		}
+		String content = sb.toString();
+		File file = createFile(content);
+		try {
+			List<String[]> expected = CsvParser.parse(content, StringArrayCellConsumer.newInstance(new ListCollector<String[]>())).handler().getList();
+			List<String[]> rows = CsvParser.dsl().parseParallel(file, StringArrayCellConsumer.newInstance(new ListCollector<String[]>()), ParallelReader.getDefaultExecutor(), 4096).handler().getList();
+			assertEquals(20000, rows.size());
+			assertRowsEquals(expected, rows);
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testParseParallelEmptyFile() throws IOException {
+		File file = createFile("");
+		try {
+			List<String[]> rows = CsvParser.dsl().parseParallel(file, StringArrayCellConsumer.newInstance(new ListCollector<String[]>())).handler().getList();
+			assertTrue(rows.isEmpty());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testParseParallelWithFewPermits() throws IOException {
+		File file = createFile(CONTENT);
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			List<String[]> expected = parseChunks(channel, executor, CONTENT.length(), 1, -1);
+			for(int chunkSize = 1; chunkSize < CONTENT.length() + 2; chunkSize++) {
+				for(int maxInFlight = 1; maxInFlight <= 3; maxInFlight++) {
+					// a permit not given back by a cancelled chunk would hang the parse
+					assertRowsEquals(expected, parseChunks(channel, executor, chunkSize, maxInFlight, -1));
+					assertRowsEquals(expected.subList(0, 2), parseChunks(channel, executor, chunkSize, maxInFlight, 2));
+				}
+			}
+		} finally {
+			executor.shutdown();
+			randomAccessFile.close();
+			file.delete();
+		}
+	}
+
+	private static List<String[]> parseChunks(FileChannel channel, ExecutorService executor, int chunkSize, int maxInFlight, int limit) throws IOException {
+		ParallelChunkParser parser = new ParallelChunkParser(channel, CsvParser.DEFAULT_CHARSET, new Function<CharBuffer, AbstractCharConsumer>() {
+			@Override
+			public AbstractCharConsumer apply(CharBuffer charBuffer) {
+				return new ConfigurableCharConsumer(charBuffer, TextFormat.RFC4180, NoopCellPreProcessor.INSTANCE);
+			}
+		}, null, executor, chunkSize, maxInFlight);
+		StringArrayCellConsumer<ListCollector<String[]>> cellConsumer = StringArrayCellConsumer.newInstance(new ListCollector<String[]>());
+		parser.parse(cellConsumer, 0, limit);
+		return cellConsumer.handler().getList();
+	}
+
+	@Test
+	public void testParseParallelYamlCommentNotSupported() throws IOException {
+		File file = createFile(CONTENT);
+		try {
+			CsvParser.dsl().withYamlComments().parseParallel(file, StringArrayCellConsumer.newInstance(new ListCollector<String[]>()));
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// expected
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+
+	private static File createFile(String content) throws IOException {
+		File file = File.createTempFile("parallel", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}
@@ -0,0 +1,121 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.RowIndex;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvParserProjectionTest {
+
+	private static final String CONTENT =
+			"h0,\"h1\",h2,h3\n" +
+			"a0,\"a\"\"1\",\"a,2\",a3\r\n" +
+			"\"b0\",b1,\"b\n2\",b3\n" +
+			"c0\n" +
+			" d0 , \"d1\" ,d2,d3,d4";
+
+	@Test
+	public void testProjectionOnColumns() throws IOException {
+		CsvParser.DSL[] dsls = new CsvParser.DSL[] { CsvParser.dsl(), CsvParser.dsl().disableSpecialisedCharConsumer(), CsvParser.dsl().bufferSize(4) };
+		for(CsvParser.DSL dsl : dsls) {
+			List<String[]> rows = dsl.projection(1, 2).forEach(CONTENT, new ListCollector<String[]>()).getList();
+			assertEquals(5, rows.size());
+			assertArrayEquals(new String[] {"h1", "h2"}, rows.get(0));
+			assertArrayEquals(new String[] {"a\"1", "a,2"}, rows.get(1));
+			assertArrayEquals(new String[] {"b1", "b\n2"}, rows.get(2));
+			assertArrayEquals(new String[0], rows.get(3));
+			assertArrayEquals(new String[] {" \"d1\" ", "d2"}, rows.get(4));
+
+			rows = dsl.trimSpaces().projection(0, 1).forEach(CONTENT, new ListCollector<String[]>()).getList();
+			assertArrayEquals(new String[] {"d0", "d1"}, rows.get(4));
+		}
+	}
+
+	@Test
+	public void testProjectionOnHeaders() throws IOException {
+		List<String[]> rows = CsvParser.dsl().projection("h3", "h1", "missing").forEach(CONTENT, new ListCollector<String[]>()).getList();
+		assertArrayEquals(new String[] {"h1", "h3"}, rows.get(0));
+		assertArrayEquals(new String[] {"a\"1", "a3"}, rows.get(1));
+		assertArrayEquals(new String[] {"b1", "b3"}, rows.get(2));
+		assertArrayEquals(new String[0], rows.get(3));
+		assertArrayEquals(new String[] {" \"d1\" ", "d3"}, rows.get(4));
+
+		rows = CsvParser.dsl().skip(1).projection("h2").forEach(CONTENT, new ListCollector<String[]>()).getList();
+		assertEquals(4, rows.size());
+		assertArrayEquals(new String[] {"a,2"}, rows.get(0));
+	}
+
+	@Test
+	public void testProjectionKeepPositionsDoesNotProcessSkippedCells() throws IOException {
+		final List<String> cells = new ArrayList<String>();
+		CsvParser.dsl().projection(ColumnProjection.columns(2).keepPositions()).parse(CONTENT, new CellConsumer() {
+			@Override
+			public void newCell(char[] chars, int offset, int length) {
+				cells.add(new String(chars, offset, length));
+			}
+
+			@Override
+			public boolean endOfRow() {
+				cells.add("|");
+				return true;
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+		assertEquals(
+				"[, , h2, , |, , , a,2, , |, , , b\n2, , |, , |, , , d2, , ]",
+				cells.toString());
+	}
+
+	@Test
+	public void testProjectionOnHeadersParallelAndIndexed() throws IOException {
+		File file = File.createTempFile("projection", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+		try {
+			writer.write(CONTENT);
+		} finally {
+			writer.close();
+		}
+		try {
+			CsvParser.DSL dsl = CsvParser.dsl().projection("h2", "h3");
+			List<String[]> expected = dsl.forEach(CONTENT, new ListCollector<String[]>()).getList();
+
+			List<String[]> rows = dsl.parseParallel(file, StringArrayCellConsumer.newInstance(new ListCollector<String[]>()), ParallelReader.getDefaultExecutor(), 8).handler().getList();
+			assertRowsEquals(expected, rows);
+
+			RowIndex rowIndex = dsl.rowIndex(file, 2);
+			CloseableCsvReader csvReader = dsl.reader(file, rowIndex, 3);
+			try {
+				assertRowsEquals(expected.subList(3, expected.size()), csvReader.read(new ListCollector<String[]>()).getList());
+			} finally {
+				csvReader.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.RowIndex;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvParserRowIndexTest {
+
+	private static final String CONTENT =
+			"h1,h2,h3\r\n" +
+			"a,\"multi\nline\r\nquoted\",1\n" +
+			"b,\"\"\"\",2\r" +
+			"\n" +
+			"\r\n" +
+			"c,d,3\r" +
+			"  \"e\r\n\",f,4\n" +
+			"last,row,5";
+
+	@Test
+	public void testReaderFromIndexedRow() throws IOException {
+		File file = createFile(CONTENT);
+		try {
+			CsvParser.DSL[] dsls = new CsvParser.DSL[] {
+					CsvParser.dsl(),
+					CsvParser.dsl().trimSpaces(),
+					CsvParser.dsl().mmap(),
+					CsvParser.dsl().bufferSize(4),
+					CsvParser.dsl().skip(2)
+			};
+			for (CsvParser.DSL dsl : dsls) {
+				List<String[]> expected = dsl.skip(0).forEach(CONTENT, new ListCollector<String[]>()).getList();
+				for (int interval = 1; interval < 6; interval++) {
+					RowIndex rowIndex = dsl.rowIndex(file, interval);
+					assertEquals(expected.size(), rowIndex.rowCount());
+
+					for (int startRow = 0; startRow <= expected.size() + 1; startRow++) {
+						int from = Math.min(startRow + dsl.skip(), expected.size());
+						CloseableCsvReader csvReader = dsl.reader(file, rowIndex, startRow);
+						try {
+							assertRowsEquals(expected.subList(from, expected.size()), csvReader.read(new ListCollector<String[]>()).getList());
+						} finally {
+							csvReader.close();
+						}
+					}
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testWriteAndReadIndex() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			sb.append(i).append(",\"v\n").append(i).append("\"\n");
+		}
+		File file = createFile(sb.toString());
+		File indexFile = File.createTempFile("rowindex", ".idx");
+		try {
+			RowIndex rowIndex = CsvParser.dsl().rowIndex(file, 100);
+			assertEquals(10000, rowIndex.rowCount());
+			assertEquals(100, rowIndex.size());
+			rowIndex.write(indexFile);
+
+			RowIndex readIndex = RowIndex.read(indexFile);
+			assertEquals(rowIndex.rowCount(), readIndex.rowCount());
+			assertEquals(rowIndex.interval(), readIndex.interval());
+			assertEquals(rowIndex.fileLength(), readIndex.fileLength());
+			assertEquals(rowIndex.size(), readIndex.size());
+			for (int i = 0; i < rowIndex.size(); i++) {
+				assertEquals(rowIndex.offset(i), readIndex.offset(i));
+			}
+
+			CloseableCsvReader csvReader = CsvParser.dsl().reader(file, readIndex, 4321);
+			try {
+				List<String[]> rows = csvReader.read(new ListCollector<String[]>(), 2).getList();
+				assertArrayEquals(new String[] {"4321", "v\n4321"}, rows.get(0));
+				assertArrayEquals(new String[] {"4322", "v\n4322"}, rows.get(1));
+			} finally {
+				csvReader.close();
+			}
+		} finally {
+			file.delete();
+			indexFile.delete();
+		}
+	}
+
+	@Test
+	public void testIndexDoesNotMatchFile() throws IOException {
+		File file = createFile(CONTENT);
+		try {
+			RowIndex rowIndex = CsvParser.dsl().rowIndex(file, 2);
+			Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), CsvParser.DEFAULT_CHARSET);
+			try {
+				writer.write("\nnew,row");
+			} finally {
+				writer.close();
+			}
+			try {
+				CsvParser.dsl().reader(file, rowIndex, 2);
+				fail();
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+
+	private static File createFile(String content) throws IOException {
+		File file = File.createTempFile("rowindex", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}
@@ -0,0 +1,134 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.Row;
+import org.simpleflatmapper.lightningcsv.RowView;
+import org.simpleflatmapper.util.CloseableIterator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+//IFJAVA8_START
+import java.util.stream.Collectors;
+//IFJAVA8_END
+
+import static org.junit.Assert.*;
+
+public class CsvParserRowViewTest {
+
+	private static final String CONTENT =
+			"id,name,comment\r\n" +
+			"1,bob,\"quoted, \"\"with\"\" escape\"\r\n" +
+			"2,\"multi\nline\",\n" +
+			"3,short\n" +
+			"4,  spaces  ,\"\",extra\n" +
+			"5,last,row";
+
+	@Test
+	public void testRowViewIteratorMatchesRowIterator() throws IOException {
+		CsvParser.DSL[] dsls = new CsvParser.DSL[] {
+				CsvParser.dsl(),
+				CsvParser.dsl().trimSpaces(),
+				CsvParser.dsl().bufferSize(4),
+				CsvParser.dsl().bufferSize(4).trimSpaces()
+		};
+		for(CsvParser.DSL dsl : dsls) {
+			List<Map<String, String>> expected = new ArrayList<Map<String, String>>();
+			Iterator<Row> rows = dsl.rowIterator(new StringReader(CONTENT));
+			while(rows.hasNext()) {
+				expected.add(new HashMap<String, String>(rows.next()));
+			}
+
+			List<Map<String, String>> actual = new ArrayList<Map<String, String>>();
+			Iterator<RowView> views = dsl.rowViewIterator(new StringReader(CONTENT));
+			while(views.hasNext()) {
+				RowView view = views.next();
+				assertEquals(expected.get(actual.size()).get("name"), view.get("name"));
+				actual.add(new HashMap<String, String>(view.detach()));
+			}
+			assertEquals(expected, actual);
+			try {
+				views.next();
+				fail();
+			} catch (NoSuchElementException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testRowViewLazyValues() throws IOException {
+		Iterator<RowView> views = CsvParser.dsl().rowViewIterator(CONTENT);
+
+		RowView view = views.next();
+		assertEquals("1", view.get("id"));
+		assertEquals("quoted, \"with\" escape", view.get(2));
+		assertSame(view.get("id"), view.get(0));
+		assertNull(view.get("missing"));
+		assertTrue(view.containsKey("comment"));
+		assertEquals(3, view.size());
+
+		Row detached = view.detach();
+
+		assertSame(view, views.next());
+		assertEquals("2", view.get("id"));
+		assertEquals("multi\nline", view.get("name"));
+		assertEquals("", view.get("comment"));
+
+		views.next();
+		assertEquals("3", view.get("id"));
+		assertNull(view.get("comment"));
+
+		assertEquals("1", detached.get("id"));
+		assertEquals("bob", detached.get("name"));
+		assertEquals("quoted, \"with\" escape", detached.get("comment"));
+	}
+
+	@Test
+	public void testRowViewIteratorMemoryMappedFile() throws IOException {
+		File file = File.createTempFile("rowview", ".csv");
+		try {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+			try {
+				writer.write(CONTENT);
+			} finally {
+				writer.close();
+			}
+			List<String> ids = new ArrayList<String>();
+			CloseableIterator<RowView> views = CsvParser.dsl().mmap().rowViewIterator(file);
+			try {
+				while(views.hasNext()) {
+					ids.add(views.next().get("id"));
+				}
+			} finally {
+				views.close();
+			}
+			assertEquals(Arrays.asList("1", "2", "3", "4", "5"), ids);
+		} finally {
+			file.delete();
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testRowViewStream() throws IOException {
+		List<String> names = CsvParser.dsl().rowViewStream(CONTENT).map(r -> r.get("name")).collect(Collectors.toList());
+		assertEquals(Arrays.asList("bob", "multi\nline", "short", "  spaces  ", "last"), names);
+
+		List<Map<String, String>> rows = CsvParser.dsl().bufferSize(4).rowViewStream(CONTENT).parallel().map(r -> new HashMap<String, String>(r.detach())).collect(Collectors.toList());
+		List<Map<String, String>> expected = CsvParser.dsl().rowStream(CONTENT).map(r -> new HashMap<String, String>(r)).collect(Collectors.toList());
+		assertEquals(expected, rows);
+	}
+	//IFJAVA8_END
+}
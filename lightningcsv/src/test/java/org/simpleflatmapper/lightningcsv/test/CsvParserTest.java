@@ -11,6 +11,7 @@ import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.WaitingStrategies;
 
 import java.io.CharArrayReader;
 import java.io.File;
@@ -26,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 //IFJAVA8_START
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 //IFJAVA8_END
@@ -142,6 +144,8 @@ public class CsvParserTest {
 		testDsl(expectations, separator, quote, escape, cr, dsl);
 		testDsl(expectations, separator, quote, escape, cr, dslTrim);
 		testDsl(expectations, separator, quote, escape, cr, dsl.parallelReader());
+		testDsl(expectations, separator, quote, escape, cr, dsl.parallelReader(WaitingStrategies.backoff()));
+		testDsl(expectations, separator, quote, escape, cr, dsl.parallelReader(WaitingStrategies.signal()));
 
 
 	}
@@ -372,6 +376,27 @@ public class CsvParserTest {
 		assertEquals(3, i);
 	}
 
+	@Test
+	public void testParallelStreamSplits() throws
+			IOException {
+		StringBuilder sb = new StringBuilder("h1,h2\n");
+		for(int r = 0; r < 10000; r++) {
+			sb.append(r).append(",v").append(r).append("\n");
+		}
+		Spliterator<String[]> spliterator = CsvParser.reader(sb.toString()).stream().spliterator();
+		Spliterator<String[]> prefix = spliterator.trySplit();
+		assertNotNull(prefix);
+		assertEquals(1024, prefix.estimateSize());
+
+		List<String> values = CsvParser.skip(1).stream(sb.toString()).parallel().map(strings -> strings[1]).collect(Collectors.toList());
+		assertEquals(10000, values.size());
+		for(int r = 0; r < 10000; r++) {
+			assertEquals("v" + r, values.get(r));
+		}
+
+		assertEquals(10000, CsvParser.dsl().rowStream(sb.toString()).parallel().filter(row -> row.get("h2").startsWith("v")).count());
+	}
+
 	//IFJAVA8_END
 
 	private static class AccumulateCellConsumer implements CellConsumer {
@@ -524,6 +549,46 @@ public class CsvParserTest {
 
 	}
 
+	@Test
+	public void testMmapFromFile() throws IOException {
+		File file = createTempCsv("h1,h2\nv1,\"v\n2\"\nv3,v4");
+		CsvParser.DSL dsl = CsvParser.dsl().mmap();
+
+		assertArrayEquals(new String[][] {{"h1", "h2"}, {"v1", "v\n2"}, {"v3", "v4"}}, dsl.parse(file, new AccumulateCellConsumer()).allValues());
+		assertArrayEquals(new String[][] {{"v1", "v\n2"}}, dsl.skip(1).limit(1).parse(file, new AccumulateCellConsumer()).allValues());
+
+		testForEachList(CsvParser.dsl().mmap().forEach(createTempCsv("a,b\nc,d"), new ListCollector<String[]>()).getList());
+
+		CloseableIterator<String[]> iterator = dsl.iterator(file);
+		try {
+			assertArrayEquals(new String[] {"h1", "h2"}, iterator.next());
+			assertArrayEquals(new String[] {"v1", "v\n2"}, iterator.next());
+			assertArrayEquals(new String[] {"v3", "v4"}, iterator.next());
+			assertFalse(iterator.hasNext());
+		} finally {
+			iterator.close();
+		}
+
+		CloseableIterator<Row> rowIterator = dsl.rowIterator(file);
+		try {
+			assertEquals("v\n2", rowIterator.next().get("h2"));
+			assertEquals("v3", rowIterator.next().get("h1"));
+		} finally {
+			rowIterator.close();
+		}
+
+		//IFJAVA8_START
+		assertEquals(3, dsl.stream(file, s -> s.count()).longValue());
+		assertEquals(2, dsl.rowStream(file, s -> s.count()).longValue());
+		//IFJAVA8_END
+	}
+
+	@Test
+	public void testMmapEmptyFile() throws IOException {
+		File file = createTempCsv("");
+		assertArrayEquals(new String[0][], CsvParser.dsl().mmap().parse(file, new AccumulateCellConsumer()).allValues());
+	}
+
 	@Test
 	public void testForEach() throws Exception {
 		testForEachList(CsvParser.forEach("a,b\nc,d", new ListCollector<String[]>()).getList());
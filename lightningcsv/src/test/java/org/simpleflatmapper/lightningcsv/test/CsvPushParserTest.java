@@ -0,0 +1,116 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvPushParser;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvPushParserTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final String CONTENT =
+			"h1,h2,h3\r\n" +
+			"a,\"multi\nline\r\nquoted cell with \"\"quotes\"\"\",1\n" +
+			"\u00e9t\u00e9,\"\u20ac\ud83d\ude00\",2\r\n" +
+			"c,  d  ,3\n" +
+			"\"\",,4\r" +
+			"last,row,5";
+
+	@Test
+	public void testFeedCharsMatchesReader() throws IOException {
+		char[] chars = CONTENT.toCharArray();
+		for(CsvParser.DSL dsl : dsls()) {
+			List<String[]> expected = dsl.parse(CONTENT, newConsumer()).handler().getList();
+			for(int chunkSize = 1; chunkSize <= chars.length; chunkSize++) {
+				CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> parser = dsl.pushParser(newConsumer());
+				for(int i = 0; i < chars.length; i += chunkSize) {
+					parser.feed(chars, i, Math.min(chunkSize, chars.length - i));
+				}
+				assertRowsEquals(expected, parser.finish().handler().getList());
+			}
+		}
+	}
+
+	@Test
+	public void testFeedBytesKeepsCharsSplitBetweenChunks() throws IOException {
+		byte[] bytes = CONTENT.getBytes(UTF8);
+		for(CsvParser.DSL dsl : dsls()) {
+			List<String[]> expected = dsl.parse(CONTENT, newConsumer()).handler().getList();
+			for(int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+				CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> parser = dsl.pushParser(newConsumer(), UTF8);
+				for(int i = 0; i < bytes.length; i += chunkSize) {
+					ByteBuffer chunk = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i));
+					parser.feed(chunk);
+					assertFalse(chunk.hasRemaining());
+				}
+				assertRowsEquals(expected, parser.finish().handler().getList());
+			}
+		}
+	}
+
+	@Test
+	public void testRowsDeliveredAsSoonAsComplete() throws IOException {
+		CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> parser = CsvParser.dsl().pushParser(newConsumer());
+		List<String[]> rows = parser.cellConsumer().handler().getList();
+
+		parser.feed("a,b".toCharArray(), 0, 3);
+		assertTrue(rows.isEmpty());
+		parser.feed(",c\nd".toCharArray(), 0, 4);
+		assertEquals(1, rows.size());
+		assertArrayEquals(new String[] {"a", "b", "c"}, rows.get(0));
+
+		parser.finish();
+		assertEquals(2, rows.size());
+		assertArrayEquals(new String[] {"d"}, rows.get(1));
+
+		try {
+			parser.feed("e".toCharArray(), 0, 1);
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testLimitIgnoresFollowingChunks() throws IOException {
+		CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> parser = CsvParser.dsl().skip(1).limit(2).pushParser(newConsumer());
+		char[] chars = "h\n1\n2\n3\n4".toCharArray();
+		for(int i = 0; i < chars.length; i++) {
+			parser.feed(chars, i, 1);
+		}
+		assertTrue(parser.isDone());
+		List<String[]> rows = parser.finish().handler().getList();
+		assertEquals(2, rows.size());
+		assertArrayEquals(new String[] {"1"}, rows.get(0));
+		assertArrayEquals(new String[] {"2"}, rows.get(1));
+	}
+
+	private static CsvParser.DSL[] dsls() {
+		return new CsvParser.DSL[] {
+				CsvParser.dsl(),
+				CsvParser.dsl().trimSpaces(),
+				CsvParser.dsl().bufferSize(4),
+				CsvParser.dsl().skip(2).limit(2)
+		};
+	}
+
+	private static StringArrayCellConsumer<ListCollector<String[]>> newConsumer() {
+		return StringArrayCellConsumer.newInstance(new ListCollector<String[]>());
+	}
+
+	private static void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+}
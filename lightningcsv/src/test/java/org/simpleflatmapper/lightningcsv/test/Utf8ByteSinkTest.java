@@ -0,0 +1,106 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.ClosableCsvWriter;
+import org.simpleflatmapper.lightningcsv.CsvWriter;
+import org.simpleflatmapper.lightningcsv.Utf8ByteSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class Utf8ByteSinkTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testEncodeSameAsJdk() throws IOException {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            String value = randomString(random, random.nextInt(200));
+            for (int bufferSize : new int[] {4, 5, 17, 1024}) {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                Utf8ByteSink sink = new Utf8ByteSink(bos, bufferSize);
+                // mix the bulk and char appends
+                int split = value.length() / 2;
+                sink.append(value, 0, split);
+                for (int j = split; j < value.length(); j++) {
+                    sink.append(value.charAt(j));
+                }
+                sink.close();
+                assertArrayEquals(value, value.getBytes(UTF_8), bos.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    public void testSurrogatePairSplitAcrossAppends() throws IOException {
+        String value = "a\ud83d\ude00b";
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Utf8ByteSink sink = new Utf8ByteSink(bos, 4);
+        sink.append(value, 0, 2);
+        sink.append(value, 2, 4);
+        sink.append("\ud83d");
+        sink.close();
+        assertArrayEquals((value + "?").getBytes(UTF_8), bos.toByteArray());
+    }
+
+    @Test
+    public void testCsvWriterToOutputStreamAndChannel() throws IOException {
+        String[][] rows = {
+                {"id", "name", "comment"},
+                {"1", "caf\u00e9", "say \"hi\", \u4f60\u597d"},
+                {"2", "\ud83d\ude00", "multi\nline"}
+        };
+
+        StringWriter expected = new StringWriter();
+        CsvWriter stringWriter = CsvWriter.dsl().to(expected);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ClosableCsvWriter streamWriter = CsvWriter.dsl().to(bos);
+
+        ByteArrayOutputStream channelBos = new ByteArrayOutputStream();
+        ClosableCsvWriter channelWriter = CsvWriter.dsl().to(Channels.newChannel(channelBos));
+
+        for (String[] row : rows) {
+            stringWriter.appendRow(row);
+            streamWriter.appendRow(row);
+            channelWriter.appendRow(row);
+        }
+
+        streamWriter.flush();
+        assertEquals(expected.toString(), new String(bos.toByteArray(), UTF_8));
+        streamWriter.close();
+        channelWriter.close();
+        assertEquals(expected.toString(), new String(channelBos.toByteArray(), UTF_8));
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    sb.append((char) (0x80 + random.nextInt(0x780)));
+                    break;
+                case 1:
+                    sb.append((char) (0x800 + random.nextInt(0xd000)));
+                    break;
+                case 2:
+                    sb.appendCodePoint(0x10000 + random.nextInt(0x100000));
+                    break;
+                case 3:
+                    // unpaired surrogate
+                    sb.append((char) (0xd800 + random.nextInt(0x800)));
+                    break;
+                default:
+                    sb.append((char) random.nextInt(0x80));
+            }
+        }
+        return sb.toString();
+    }
+}
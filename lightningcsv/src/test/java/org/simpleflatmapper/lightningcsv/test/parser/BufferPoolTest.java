@@ -0,0 +1,92 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.BufferPool;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BufferPoolTest {
+
+	@Test
+	public void testCharArrayReuse() {
+		BufferPool bufferPool = new BufferPool(4, 1024);
+
+		char[] chars = bufferPool.acquireCharArray(16, 64);
+		assertEquals(16, chars.length);
+		bufferPool.releaseCharArray(chars);
+
+		assertSame(chars, bufferPool.acquireCharArray(8, 64));
+		assertNotSame(chars, bufferPool.acquireCharArray(8, 64));
+
+		bufferPool.releaseCharArray(chars);
+		// too big or too small for the request
+		assertNotSame(chars, bufferPool.acquireCharArray(32, 64));
+		assertNotSame(chars, bufferPool.acquireCharArray(4, 8));
+		assertSame(chars, bufferPool.acquireCharArray(16, 16));
+
+		// not pooled over max pooled length
+		char[] big = new char[2048];
+		bufferPool.releaseCharArray(big);
+		assertNotSame(big, bufferPool.acquireCharArray(1, 4096));
+	}
+
+	@Test
+	public void testStringArrayAreClearedOnRelease() {
+		BufferPool bufferPool = new BufferPool(4, 1024);
+
+		String[] strings = bufferPool.acquireStringArray(4);
+		strings[0] = "value";
+		bufferPool.releaseStringArray(strings);
+
+		String[] acquired = bufferPool.acquireStringArray(2);
+		assertSame(strings, acquired);
+		assertNull(acquired[0]);
+	}
+
+	@Test
+	public void testParseWithBufferPool() throws IOException {
+		BufferPool bufferPool = new BufferPool();
+		CsvParser.DSL dsl = CsvParser.bufferSize(4).bufferPool(bufferPool);
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 100; i++) {
+			sb.append("v").append(i).append(",\"quoted ").append(i).append("\"\n");
+		}
+		String content = sb.toString();
+
+		List<String[]> expected = CsvParser.bufferSize(4).forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+
+		for(int i = 0; i < 10; i++) {
+			List<String[]> rows = dsl.forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+			assertRowsEquals(expected, rows);
+
+			rows = dsl.parse(new StringReader(content), StringArrayCellConsumer.newInstance(new ListCollector<String[]>(), bufferPool)).handler().getList();
+			assertRowsEquals(expected, rows);
+		}
+	}
+
+	@Test
+	public void testCharBufferReleasedOnRelease() throws IOException {
+		BufferPool bufferPool = new BufferPool(1, 1024 * 1024);
+		CsvReader csvReader = CsvParser.dsl().bufferPool(bufferPool).reader(new StringReader("a,b\nc,d"));
+		char[] buffer = csvReader.charBuffer().buffer;
+		assertEquals(2, csvReader.read(new ListCollector<String[]>()).getList().size());
+		csvReader.release();
+
+		assertSame(buffer, bufferPool.acquireCharArray(1, Integer.MAX_VALUE));
+	}
+
+	private static void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.parser.CharScanner;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class CharScannerTest {
+
+	private static final char SEPARATOR = ',';
+	private static final int FINGER_PRINT = (SEPARATOR & '\r' & '\n');
+	private static final int FINGER_PRINT_MASK = FINGER_PRINT | ((~SEPARATOR) & (~'\r') & (~'\n'));
+
+	@Test
+	public void testScalarScanner() {
+		testScanner(new CharScanner.ScalarCharScanner());
+	}
+
+	@Test
+	public void testDefaultScanner() {
+		testScanner(CharScanner.newInstance());
+	}
+
+	@Test
+	public void testVectorScanner() {
+		// only set by the jdk17-vector profile
+		assumeTrue(Boolean.getBoolean("org.simpleflatmapper.lightningcsv.test.vector"));
+		CharScanner scanner = CharScanner.newInstance();
+		assertTrue(scanner.isVectorized());
+		testScanner(scanner);
+	}
+
+	private void testScanner(CharScanner scanner) {
+		Random random = new Random(7);
+		char[] alphabet = "abcdefghijklmnopqrstuvwxyz\u00e9\u20ac \t".toCharArray();
+		for(int length = 0; length < 200; length++) {
+			char[] chars = new char[length];
+			for(int i = 0; i < length; i++) {
+				chars[i] = alphabet[random.nextInt(alphabet.length)];
+			}
+			for(int position = 0; position < length; position++) {
+				for(char c : new char[] { ',', '\r', '\n', '"', '\\' }) {
+					char old = chars[position];
+					chars[position] = c;
+					for(int start = 0; start <= length; start += 3) {
+						assertEquals(expectedEndOfCell(chars, start, length), scanner.indexOfEndOfCell(chars, start, length, SEPARATOR, FINGER_PRINT, FINGER_PRINT_MASK));
+						assertEquals(expectedIndexOf(chars, start, length), scanner.indexOf(chars, start, length, '"', '\\'));
+					}
+					chars[position] = old;
+				}
+			}
+			assertEquals(length, scanner.indexOfEndOfCell(chars, 0, length, SEPARATOR, FINGER_PRINT, FINGER_PRINT_MASK));
+			assertEquals(length, scanner.indexOf(chars, 0, length, '"', '\\'));
+		}
+	}
+
+	private int expectedEndOfCell(char[] chars, int start, int end) {
+		for(int i = start; i < end; i++) {
+			if (chars[i] == SEPARATOR || chars[i] == '\r' || chars[i] == '\n') return i;
+		}
+		return end;
+	}
+
+	private int expectedIndexOf(char[] chars, int start, int end) {
+		for(int i = start; i < end; i++) {
+			if (chars[i] == '"' || chars[i] == '\\') return i;
+		}
+		return end;
+	}
+}
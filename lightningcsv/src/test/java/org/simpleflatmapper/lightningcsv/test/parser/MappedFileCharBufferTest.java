@@ -0,0 +1,52 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedFileCharBufferTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testMultiByteCharAcrossMappingWindows() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 200; i++) {
+            sb.append("é€").append(i).append(",\"qé\n").append(i).append("\"\n");
+        }
+        File file = File.createTempFile("mapped", ".csv");
+        FileOutputStream os = new FileOutputStream(file);
+        try {
+            os.write(sb.toString().getBytes(UTF8));
+        } finally {
+            os.close();
+        }
+
+        for(int mappingSize = 3; mappingSize < 17; mappingSize++) {
+            MappedFileCharBuffer charBuffer = new MappedFileCharBuffer(new RandomAccessFile(file, "r").getChannel(), UTF8, 7, 1024, mappingSize);
+            try {
+                CsvReader reader = new CsvReader(CharConsumerFactory.newInstance().newCharConsumer(TextFormat.RFC4180, charBuffer, NoopCellPreProcessor.INSTANCE, false));
+                List<String[]> rows = reader.read(new ListCollector<String[]>()).getList();
+                assertEquals(200, rows.size());
+                for(int i = 0; i < rows.size(); i++) {
+                    assertArrayEquals(new String[] {"é€" + i, "\"qé\n" + i + "\""}, rows.get(i));
+                }
+            } finally {
+                charBuffer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.StringCache;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StringCacheTest {
+
+    @Test
+    public void testReturnsSameInstanceForEqualValues() {
+        StringCache stringCache = new StringCache(4, 8);
+        char[] chars = "xxFRyyFRzzGB".toCharArray();
+
+        String fr = stringCache.get(chars, 2, 2);
+        assertEquals("FR", fr);
+        assertSame(fr, stringCache.get(chars, 6, 2));
+        assertEquals("GB", stringCache.get(chars, 10, 2));
+        assertSame(fr, stringCache.get("FR".toCharArray(), 0, 2));
+        assertEquals("", stringCache.get(chars, 0, 0));
+    }
+
+    @Test
+    public void testBoundedAndLongValuesNotCached() {
+        StringCache stringCache = new StringCache(4, 3);
+        char[] chars = "abcd".toCharArray();
+        String longValue = stringCache.get(chars, 0, 4);
+        assertEquals("abcd", longValue);
+        assertNotSame(longValue, stringCache.get(chars, 0, 4));
+
+        // more distinct values than slots, evicted values are created again but stay correct
+        for(int i = 0; i < 100; i++) {
+            char[] value = Integer.toString(i).toCharArray();
+            assertEquals(Integer.toString(i), stringCache.get(value, 0, value.length));
+        }
+    }
+
+    @Test
+    public void testStringArrayCellConsumerCachesSelectedColumns() throws IOException {
+        String content = "1,FR,EUR\n2,FR,EUR\n3,GB,GBP\n4,FR,EUR\n";
+        List<String[]> rows = CsvParser.parse(content, StringArrayCellConsumer.newInstance(new ListCollector<String[]>(), StringCache.forColumns(1))).handler().getList();
+
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[] {"3", "GB", "GBP"}, rows.get(2));
+        assertSame(rows.get(0)[1], rows.get(1)[1]);
+        assertSame(rows.get(0)[1], rows.get(3)[1]);
+        assertNotSame(rows.get(0)[2], rows.get(1)[2]);
+    }
+}
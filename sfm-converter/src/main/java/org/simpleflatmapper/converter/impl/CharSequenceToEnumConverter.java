@@ -2,29 +2,18 @@ package org.simpleflatmapper.converter.impl;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.EnumLookup;
 
 public class CharSequenceToEnumConverter<E extends Enum<E>> implements ContextualConverter<CharSequence, E> {
-    private final Class<E> enumClass;
-    private final E[] values;
+    private final EnumLookup<E> enumLookup;
 
     public CharSequenceToEnumConverter(Class<E> enumClass) {
-        this.enumClass = enumClass;
-        this.values = enumClass.getEnumConstants();
+        this.enumLookup = EnumLookup.of(enumClass);
     }
 
     @Override
     public E convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
-        
-        char c = in.charAt(0);
-        if (Character.isDigit(c)) {
-            int i = Integer.parseInt(in.toString());
-            if (i < 0 || i >= values.length) {
-                throw new IllegalArgumentException("Invalid ordinal value " + in  + " for " + enumClass);
-            }
-            return values[i];
-        }
-        
-        return Enum.valueOf(enumClass, in.toString());
+        return enumLookup.get(in);
     }
 }
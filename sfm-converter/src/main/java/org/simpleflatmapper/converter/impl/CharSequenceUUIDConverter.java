@@ -2,6 +2,7 @@ package org.simpleflatmapper.converter.impl;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.UUIDHelper;
 
 import java.util.UUID;
 
@@ -9,7 +10,7 @@ public class CharSequenceUUIDConverter implements ContextualConverter<CharSequen
     @Override
     public UUID convert(CharSequence in, Context context) throws Exception {
         if (in == null) return null;
-        return UUID.fromString(in.toString());
+        return UUIDHelper.fromCharSequence(in);
     }
 
     public String toString() {
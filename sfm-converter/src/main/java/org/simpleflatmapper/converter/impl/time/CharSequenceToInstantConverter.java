@@ -9,14 +9,24 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToInstantConverter implements ContextualConverter<CharSequence, Instant> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final IsoDateTimeParser isoDateTimeParser;
 
     public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter, IsoDateTimeParser isoDateTimeParser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.isoDateTimeParser = isoDateTimeParser;
     }
 
     @Override
     public Instant convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (isoDateTimeParser != null) {
+            Instant value = isoDateTimeParser.parseInstant(in);
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parse(in, Instant::from);
     }
 }
@@ -9,14 +9,24 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToLocalDateConverter implements ContextualConverter<CharSequence, LocalDate> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final IsoDateTimeParser isoDateTimeParser;
 
     public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter, IsoDateTimeParser isoDateTimeParser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.isoDateTimeParser = isoDateTimeParser;
     }
 
     @Override
     public LocalDate convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (isoDateTimeParser != null) {
+            LocalDate value = isoDateTimeParser.parseLocalDate(in);
+            if (value != null) return value;
+        }
         return LocalDate.parse(in, dateTimeFormatter);
     }
 }
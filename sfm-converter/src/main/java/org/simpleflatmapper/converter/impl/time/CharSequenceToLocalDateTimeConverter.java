@@ -9,14 +9,24 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final IsoDateTimeParser isoDateTimeParser;
 
     public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter, IsoDateTimeParser isoDateTimeParser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.isoDateTimeParser = isoDateTimeParser;
     }
 
     @Override
     public LocalDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (isoDateTimeParser != null) {
+            LocalDateTime value = isoDateTimeParser.parseLocalDateTime(in);
+            if (value != null) return value;
+        }
         return LocalDateTime.parse(in, dateTimeFormatter);
     }
 }
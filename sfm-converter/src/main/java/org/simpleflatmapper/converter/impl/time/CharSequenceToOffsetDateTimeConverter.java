@@ -9,14 +9,24 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToOffsetDateTimeConverter implements ContextualConverter<CharSequence, OffsetDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final IsoDateTimeParser isoDateTimeParser;
 
     public CharSequenceToOffsetDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToOffsetDateTimeConverter(DateTimeFormatter dateTimeFormatter, IsoDateTimeParser isoDateTimeParser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.isoDateTimeParser = isoDateTimeParser;
     }
 
     @Override
     public OffsetDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (isoDateTimeParser != null) {
+            OffsetDateTime value = isoDateTimeParser.parseOffsetDateTime(in);
+            if (value != null) return value;
+        }
         return OffsetDateTime.parse(in, dateTimeFormatter);
     }
 }
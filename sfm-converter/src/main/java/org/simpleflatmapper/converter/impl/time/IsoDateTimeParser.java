@@ -0,0 +1,242 @@
+package org.simpleflatmapper.converter.impl.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+
+/**
+ * Hand written parser for the fixed ISO layouts - yyyy-MM-dd, yyyy-MM-dd'T'HH:mm:ss[.SSS][offset] - reading the CharSequence directly.
+ * <p>
+ * Selected by {@link #of(DateTimeFormatter)} only when the formatter is one of the known layouts.
+ * The parse methods return null for anything outside the plain layout - signed or 5+ digits year, missing seconds,
+ * leap second, 24:00, day overflowing the month, lower case letters - the caller then uses the formatter
+ * so the result and the error stay the ones of the formatter.
+ */
+public final class IsoDateTimeParser {
+
+    private static final int NO_OFFSET = 0;
+    // Z or +HH:MM
+    private static final int ISO_OFFSET = 1;
+    // +HHMM
+    private static final int BASIC_OFFSET = 2;
+    // Z only, parsed as an Instant
+    private static final int INSTANT = 3;
+
+    private static final int FIXED_FRACTION = 3;
+    private static final int VARIABLE_FRACTION = -1;
+
+    private static final Object[][] LAYOUTS = {
+            { DateTimeFormatter.ISO_LOCAL_DATE, new IsoDateTimeParser(false, 'T', 0, NO_OFFSET) },
+            { DateTimeFormatter.ISO_LOCAL_DATE_TIME, new IsoDateTimeParser(true, 'T', VARIABLE_FRACTION, NO_OFFSET) },
+            { DateTimeFormatter.ISO_OFFSET_DATE_TIME, new IsoDateTimeParser(true, 'T', VARIABLE_FRACTION, ISO_OFFSET) },
+            { DateTimeFormatter.ISO_INSTANT, new IsoDateTimeParser(true, 'T', VARIABLE_FRACTION, INSTANT) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd"), new IsoDateTimeParser(false, 'T', 0, NO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"), new IsoDateTimeParser(true, 'T', 0, NO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"), new IsoDateTimeParser(true, 'T', FIXED_FRACTION, NO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"), new IsoDateTimeParser(true, ' ', 0, NO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"), new IsoDateTimeParser(true, ' ', FIXED_FRACTION, NO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX"), new IsoDateTimeParser(true, 'T', 0, ISO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"), new IsoDateTimeParser(true, 'T', FIXED_FRACTION, ISO_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ"), new IsoDateTimeParser(true, 'T', 0, BASIC_OFFSET) },
+            { DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ"), new IsoDateTimeParser(true, 'T', FIXED_FRACTION, BASIC_OFFSET) },
+    };
+
+    private final boolean time;
+    private final char timeSeparator;
+    private final int fraction;
+    private final int offset;
+
+    private IsoDateTimeParser(boolean time, char timeSeparator, int fraction, int offset) {
+        this.time = time;
+        this.timeSeparator = timeSeparator;
+        this.fraction = fraction;
+        this.offset = offset;
+    }
+
+    /**
+     * @param formatter the formatter
+     * @return the parser for the layout of the formatter or null if it is not one of the supported layouts
+     */
+    public static IsoDateTimeParser of(DateTimeFormatter formatter) {
+        if (formatter == null
+                || formatter.getResolverFields() != null
+                || !DecimalStyle.STANDARD.equals(formatter.getDecimalStyle())
+                || (formatter.getChronology() != null && formatter.getChronology() != IsoChronology.INSTANCE)) {
+            return null;
+        }
+        String description = formatter.toString();
+        for(Object[] layout : LAYOUTS) {
+            DateTimeFormatter reference = (DateTimeFormatter) layout[0];
+            if (reference.getResolverStyle() == formatter.getResolverStyle()
+                    && reference.toString().equals(description)) {
+                return (IsoDateTimeParser) layout[1];
+            }
+        }
+        return null;
+    }
+
+    public LocalDate parseLocalDate(CharSequence in) {
+        if (offset == INSTANT) return null;
+        int end = end(in);
+        if (end == -1) return null;
+        return LocalDate.of(year(in), month(in), day(in));
+    }
+
+    public LocalDateTime parseLocalDateTime(CharSequence in) {
+        if (!time || offset == INSTANT) return null;
+        int end = end(in);
+        if (end == -1) return null;
+        return localDateTime(in);
+    }
+
+    public OffsetDateTime parseOffsetDateTime(CharSequence in) {
+        if (offset != ISO_OFFSET && offset != BASIC_OFFSET) return null;
+        int end = end(in);
+        if (end == -1) return null;
+        return OffsetDateTime.of(localDateTime(in), zoneOffset(in, end));
+    }
+
+    public Instant parseInstant(CharSequence in) {
+        if (offset != INSTANT) return null;
+        int end = end(in);
+        if (end == -1) return null;
+        return localDateTime(in).toInstant(ZoneOffset.UTC);
+    }
+
+    private LocalDateTime localDateTime(CharSequence in) {
+        return LocalDateTime.of(year(in), month(in), day(in),
+                number(in, 11), number(in, 14), number(in, 17), nano(in));
+    }
+
+    /**
+     * validate the layout and the field ranges.
+     * @return the index of the offset or -1 if the value is not in the plain layout
+     */
+    private int end(CharSequence in) {
+        final int length = in.length();
+        if (length < 10
+                || !isDigits(in, 0, 4) || in.charAt(4) != '-'
+                || !isDigits(in, 5, 7) || in.charAt(7) != '-'
+                || !isDigits(in, 8, 10)) {
+            return -1;
+        }
+        int year = year(in);
+        if (year == 0) return -1;
+        int month = month(in);
+        if (month < 1 || month > 12) return -1;
+        int day = day(in);
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) return -1;
+
+        if (!time) {
+            return length == 10 ? 10 : -1;
+        }
+
+        if (length < 19
+                || in.charAt(10) != timeSeparator
+                || !isDigits(in, 11, 13) || in.charAt(13) != ':'
+                || !isDigits(in, 14, 16) || in.charAt(16) != ':'
+                || !isDigits(in, 17, 19)
+                || number(in, 11) > 23 || number(in, 14) > 59 || number(in, 17) > 59) {
+            return -1;
+        }
+
+        int i = 19;
+        if (fraction == FIXED_FRACTION) {
+            if (length < 23 || in.charAt(19) != '.' || !isDigits(in, 20, 23)) return -1;
+            i = 23;
+        } else if (fraction == VARIABLE_FRACTION && i < length && in.charAt(i) == '.') {
+            i++;
+            int start = i;
+            while(i < length && i - start < 9 && isDigit(in.charAt(i))) {
+                i++;
+            }
+            if (i == start) return -1;
+        }
+
+        switch (offset) {
+            case NO_OFFSET:
+                return i == length ? i : -1;
+            case INSTANT:
+                return i + 1 == length && in.charAt(i) == 'Z' ? i : -1;
+            case ISO_OFFSET:
+                if (i + 1 == length && in.charAt(i) == 'Z') return i;
+                return i + 6 == length && isSign(in.charAt(i))
+                        && isDigits(in, i + 1, i + 3) && in.charAt(i + 3) == ':' && isDigits(in, i + 4, i + 6)
+                        && isValidOffset(number(in, i + 1), number(in, i + 4)) ? i : -1;
+            case BASIC_OFFSET:
+                return i + 5 == length && isSign(in.charAt(i))
+                        && isDigits(in, i + 1, i + 5)
+                        && isValidOffset(number(in, i + 1), number(in, i + 3)) ? i : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isValidOffset(int hours, int minutes) {
+        return hours < 18 && minutes <= 59 || hours == 18 && minutes == 0;
+    }
+
+    private static ZoneOffset zoneOffset(CharSequence in, int i) {
+        if (in.charAt(i) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        int hours = number(in, i + 1);
+        int minutes = in.charAt(i + 3) == ':' ? number(in, i + 4) : number(in, i + 3);
+        if (in.charAt(i) == '-') {
+            return ZoneOffset.ofHoursMinutes(-hours, -minutes);
+        }
+        return ZoneOffset.ofHoursMinutes(hours, minutes);
+    }
+
+    private int nano(CharSequence in) {
+        if (fraction == 0 || in.length() <= 19 || in.charAt(19) != '.') return 0;
+        int nano = 0;
+        int i = 20;
+        final int length = in.length();
+        for(; i < length && i < 29 && isDigit(in.charAt(i)); i++) {
+            nano = nano * 10 + (in.charAt(i) - '0');
+        }
+        for(; i < 29; i++) {
+            nano *= 10;
+        }
+        return nano;
+    }
+
+    private static int year(CharSequence in) {
+        return number(in, 0) * 100 + number(in, 2);
+    }
+
+    private static int month(CharSequence in) {
+        return number(in, 5);
+    }
+
+    private static int day(CharSequence in) {
+        return number(in, 8);
+    }
+
+    private static int number(CharSequence in, int i) {
+        return (in.charAt(i) - '0') * 10 + (in.charAt(i + 1) - '0');
+    }
+
+    private static boolean isDigits(CharSequence in, int start, int end) {
+        for(int i = start; i < end; i++) {
+            if (!isDigit(in.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSign(char c) {
+        return c == '+' || c == '-';
+    }
+}
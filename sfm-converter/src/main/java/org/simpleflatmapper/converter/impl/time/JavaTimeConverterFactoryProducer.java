@@ -166,7 +166,7 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             @SuppressWarnings("unchecked")
             @Override
             protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter) {
-                return new CharSequenceToInstantConverter(formatter);
+                return new CharSequenceToInstantConverter(formatter, IsoDateTimeParser.of(formatter));
             }
         });
 
@@ -174,14 +174,14 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             @SuppressWarnings("unchecked")
             @Override
             protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter) {
-                return new CharSequenceToLocalDateConverter(formatter);
+                return new CharSequenceToLocalDateConverter(formatter, IsoDateTimeParser.of(formatter));
             }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDateTime>(CharSequence.class, LocalDateTime.class) {
             @SuppressWarnings("unchecked")
             @Override
             protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter) {
-                return new CharSequenceToLocalDateTimeConverter(formatter);
+                return new CharSequenceToLocalDateTimeConverter(formatter, IsoDateTimeParser.of(formatter));
             }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalTime>(CharSequence.class, LocalTime.class) {
@@ -195,7 +195,7 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             @SuppressWarnings("unchecked")
             @Override
             protected ContextualConverter<CharSequence, OffsetDateTime> newConverter(DateTimeFormatter formatter) {
-                return new CharSequenceToOffsetDateTimeConverter(formatter);
+                return new CharSequenceToOffsetDateTimeConverter(formatter, IsoDateTimeParser.of(formatter));
             }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, OffsetTime>(CharSequence.class, OffsetTime.class) {
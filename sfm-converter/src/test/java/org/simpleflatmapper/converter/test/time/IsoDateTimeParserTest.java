@@ -0,0 +1,124 @@
+package org.simpleflatmapper.converter.test.time;
+
+import org.junit.Test;
+import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.converter.ConverterService;
+import org.simpleflatmapper.converter.EmptyContextFactoryBuilder;
+import org.simpleflatmapper.converter.impl.time.IsoDateTimeParser;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalQuery;
+
+import static org.junit.Assert.*;
+
+public class IsoDateTimeParserTest {
+
+    private static final String[] DATES = {
+            "2017-03-15", "2016-02-29", "2017-02-29", "2017-02-30", "2017-04-31", "2017-13-01", "2017-00-10",
+            "2017-01-00", "0000-01-01", "0001-01-01", "9999-12-31", "+2017-03-15", "12017-03-15", "2017-3-15",
+            "2017/03/15", "2017-03-15x", "2017-03-1a", ""
+    };
+
+    private static final String[] TIMES = {
+            "10:15:30", "00:00:00", "23:59:59", "23:59:60", "24:00:00", "10:15", "10:60:00", "10:15:30.1",
+            "10:15:30.123", "10:15:30.123456789", "10:15:30.1234567891", "10:15:30.", "1:15:30"
+    };
+
+    private static final String[] OFFSETS = {
+            "", "Z", "z", "+01:00", "-05:30", "+18:00", "+18:30", "+19:00", "+0100", "-0530", "+01", "+01:00:00"
+    };
+
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+            "yyyy-MM-dd'T'HH:mm:ssZ", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"
+    };
+
+    private int accepted;
+
+    @Test
+    public void testSelectedOnlyForKnownLayouts() {
+        for(String pattern : PATTERNS) {
+            assertNotNull(pattern, IsoDateTimeParser.of(DateTimeFormatter.ofPattern(pattern)));
+            assertNotNull(pattern, IsoDateTimeParser.of(DateTimeFormatter.ofPattern(pattern).withZone(ZoneOffset.UTC)));
+        }
+        assertNotNull(IsoDateTimeParser.of(DateTimeFormatter.ISO_LOCAL_DATE));
+        assertNotNull(IsoDateTimeParser.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        assertNotNull(IsoDateTimeParser.of(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        assertNotNull(IsoDateTimeParser.of(DateTimeFormatter.ISO_INSTANT));
+
+        assertNull(IsoDateTimeParser.of(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+        assertNull(IsoDateTimeParser.of(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+        assertNull(IsoDateTimeParser.of(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        assertNull(IsoDateTimeParser.of(DateTimeFormatter.ofPattern("yyyy-MM-dd").withResolverStyle(ResolverStyle.LENIENT)));
+        assertNull(IsoDateTimeParser.of(DateTimeFormatter.ofPattern("yyyy-MM-dd").withResolverStyle(ResolverStyle.STRICT)));
+    }
+
+    @Test
+    public void testSameResultAsFormatter() {
+        for(String pattern : PATTERNS) {
+            checkLayout(DateTimeFormatter.ofPattern(pattern));
+            checkLayout(DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of("Europe/Paris")));
+        }
+        checkLayout(DateTimeFormatter.ISO_LOCAL_DATE);
+        checkLayout(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        checkLayout(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        checkLayout(DateTimeFormatter.ISO_INSTANT);
+    }
+
+    @Test
+    public void testConverterUsesFastPath() throws Exception {
+        ContextualConverter<? super CharSequence, ? extends LocalDateTime> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDateTime.class, EmptyContextFactoryBuilder.INSTANCE, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        assertEquals(LocalDateTime.of(2017, 3, 15, 10, 15, 30), converter.convert("2017-03-15 10:15:30", null));
+        // day overflow resolved by the formatter
+        assertEquals(LocalDateTime.of(2017, 2, 28, 10, 15, 30), converter.convert("2017-02-30 10:15:30", null));
+
+        ContextualConverter<? super CharSequence, ? extends Instant> instantConverter =
+                ConverterService.getInstance().findConverter(CharSequence.class, Instant.class, EmptyContextFactoryBuilder.INSTANCE, DateTimeFormatter.ISO_INSTANT);
+        assertEquals(Instant.parse("2017-03-15T10:15:30.500Z"), instantConverter.convert("2017-03-15T10:15:30.5Z", null));
+    }
+
+    private void checkLayout(DateTimeFormatter formatter) {
+        IsoDateTimeParser parser = IsoDateTimeParser.of(formatter);
+        assertNotNull(formatter.toString(), parser);
+        accepted = 0;
+        for(String date : DATES) {
+            check(formatter, parser, date);
+            for(String time : TIMES) {
+                for(String offset : OFFSETS) {
+                    check(formatter, parser, date + "T" + time + offset);
+                    check(formatter, parser, date + " " + time + offset);
+                }
+            }
+        }
+        assertTrue(formatter.toString(), accepted > 0);
+    }
+
+    private void check(DateTimeFormatter formatter, IsoDateTimeParser parser, String value) {
+        checkValue(formatter, value, parser.parseLocalDate(value), LocalDate::from);
+        checkValue(formatter, value, parser.parseLocalDateTime(value), LocalDateTime::from);
+        checkValue(formatter, value, parser.parseOffsetDateTime(value), OffsetDateTime::from);
+        checkValue(formatter, value, parser.parseInstant(value), Instant::from);
+    }
+
+    private <T> void checkValue(DateTimeFormatter formatter, String value, T fast, TemporalQuery<T> query) {
+        if (fast == null) return;
+        accepted++;
+        T expected;
+        try {
+            expected = formatter.parse(value, query);
+        } catch (Exception e) {
+            fail("fast parser accepted " + value + " rejected by " + formatter + " : " + e);
+            return;
+        }
+        assertEquals(value + " " + formatter, expected, fast);
+    }
+}
@@ -0,0 +1,250 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.csv.impl.FloatingPointParser;
+
+/**
+ * Up to capacity rows of a csv stored by column in primitive arrays, filled by {@link CsvParser.MapToColumnsDSL}.
+ * <p>
+ * A column is an int[], a long[], a double[] or, for a STRING column, an int[] of codes in a dictionary.
+ * Only the first size() values of the arrays belong to the current batch.
+ * An empty cell is read as 0 in a numeric column and as the code -1 in a STRING column.
+ * <p>
+ * The batch and its arrays are reused for the next rows once the consumer returns, the values must be copied to be kept.
+ * The dictionary of a STRING column is shared by all the batches of a parse, a code identifies the same String in all of them.
+ */
+public final class ColumnBatch {
+
+    public enum Type {
+        INT, LONG, DOUBLE, STRING
+    }
+
+    private final String[] names;
+    private final Type[] types;
+    private final Object[] columns;
+    private final Dictionary[] dictionaries;
+    private final int capacity;
+
+    int size;
+
+    ColumnBatch(String[] names, Type[] types, int capacity) {
+        this.names = names;
+        this.types = types;
+        this.capacity = capacity;
+        this.columns = new Object[types.length];
+        this.dictionaries = new Dictionary[types.length];
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case INT:
+                    columns[i] = new int[capacity];
+                    break;
+                case LONG:
+                    columns[i] = new long[capacity];
+                    break;
+                case DOUBLE:
+                    columns[i] = new double[capacity];
+                    break;
+                case STRING:
+                    columns[i] = new int[capacity];
+                    dictionaries[i] = new Dictionary();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported type " + types[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of rows in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the length of the arrays, the maximum number of rows in a batch
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public int getNbColumns() {
+        return types.length;
+    }
+
+    public String name(int column) {
+        return names[column];
+    }
+
+    public Type type(int column) {
+        return types[column];
+    }
+
+    /**
+     * @param name the name of the column
+     * @return the index of the column in the batch, -1 if not present
+     */
+    public int columnIndex(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int[] ints(int column) {
+        return (int[]) column(column, Type.INT);
+    }
+
+    public long[] longs(int column) {
+        return (long[]) column(column, Type.LONG);
+    }
+
+    public double[] doubles(int column) {
+        return (double[]) column(column, Type.DOUBLE);
+    }
+
+    /**
+     * @param column the STRING column
+     * @return the codes of the values in {@link #dictionary(int)}, -1 for an empty cell
+     */
+    public int[] codes(int column) {
+        return (int[]) column(column, Type.STRING);
+    }
+
+    /**
+     * @param column the STRING column
+     * @return the values indexed by code, only the first dictionarySize(column) are set. The array is replaced when the dictionary grows.
+     */
+    public String[] dictionary(int column) {
+        column(column, Type.STRING);
+        return dictionaries[column].values;
+    }
+
+    public int dictionarySize(int column) {
+        column(column, Type.STRING);
+        return dictionaries[column].size;
+    }
+
+    /**
+     * @param column the STRING column
+     * @param row the row in the batch
+     * @return the value of the cell, null if empty
+     */
+    public String getString(int column, int row) {
+        int code = codes(column)[row];
+        return code == -1 ? null : dictionaries[column].values[code];
+    }
+
+    private Object column(int column, Type type) {
+        if (types[column] != type) {
+            throw new IllegalArgumentException("Column " + names[column] + " is " + types[column] + " not " + type);
+        }
+        return columns[column];
+    }
+
+    void setValue(int column, int row, char[] chars, int offset, int length) {
+        Object values = columns[column];
+        switch (types[column]) {
+            case INT:
+                ((int[]) values)[row] = length == 0 ? 0 : CsvRow.parseInt(chars, offset, offset + length);
+                break;
+            case LONG:
+                ((long[]) values)[row] = length == 0 ? 0 : CsvRow.parseLong(chars, offset, offset + length);
+                break;
+            case DOUBLE:
+                ((double[]) values)[row] = length == 0 ? 0 : FloatingPointParser.parseDouble(chars, offset, length);
+                break;
+            case STRING:
+                ((int[]) values)[row] = length == 0 ? -1 : dictionaries[column].code(chars, offset, length);
+                break;
+        }
+    }
+
+    void setEmpty(int column, int row) {
+        setValue(column, row, null, 0, 0);
+    }
+
+    /**
+     * open addressing table from the chars of a value to its code, a known value is found without creating a String.
+     */
+    private static final class Dictionary {
+        private String[] values = new String[16];
+        private int[] hashes = new int[16];
+        private int[] table = newTable(32);
+        private int size;
+
+        private int code(char[] chars, int offset, int length) {
+            int h = 0;
+            final int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                h = 31 * h + chars[i];
+            }
+            int mask = table.length - 1;
+            int index = (h ^ (h >>> 16)) & mask;
+            while (true) {
+                int code = table[index];
+                if (code == -1) {
+                    return add(h, index, new String(chars, offset, length));
+                }
+                if (hashes[code] == h && matches(values[code], chars, offset, length)) {
+                    return code;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private int add(int h, int index, String value) {
+            int code = size++;
+            if (code == values.length) {
+                String[] newValues = new String[code * 2];
+                System.arraycopy(values, 0, newValues, 0, code);
+                values = newValues;
+                int[] newHashes = new int[code * 2];
+                System.arraycopy(hashes, 0, newHashes, 0, code);
+                hashes = newHashes;
+            }
+            values[code] = value;
+            hashes[code] = h;
+            table[index] = code;
+            if (size * 2 > table.length) {
+                rehash();
+            }
+            return code;
+        }
+
+        private void rehash() {
+            int[] newTable = newTable(table.length * 2);
+            int mask = newTable.length - 1;
+            for (int code = 0; code < size; code++) {
+                int h = hashes[code];
+                int index = (h ^ (h >>> 16)) & mask;
+                while (newTable[index] != -1) {
+                    index = (index + 1) & mask;
+                }
+                newTable[index] = code;
+            }
+            table = newTable;
+        }
+
+        private static int[] newTable(int length) {
+            int[] table = new int[length];
+            for (int i = 0; i < length; i++) {
+                table[i] = -1;
+            }
+            return table;
+        }
+
+        private static boolean matches(String value, char[] chars, int offset, int length) {
+            if (value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
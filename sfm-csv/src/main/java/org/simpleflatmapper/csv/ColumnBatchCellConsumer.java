@@ -0,0 +1,83 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+/**
+ * Parse the cells straight into the arrays of a ColumnBatch and pass the batch to the consumer when full.
+ */
+final class ColumnBatchCellConsumer implements CellConsumer {
+
+    private final ColumnBatch batch;
+    // column of the batch by cell index, -1 if the cell is not selected
+    private final int[] batchColumns;
+    private final CheckedConsumer<? super ColumnBatch> consumer;
+    private int limit;
+
+    private int cellIndex;
+
+    ColumnBatchCellConsumer(ColumnBatch batch, int[] batchColumns, CheckedConsumer<? super ColumnBatch> consumer, int limit) {
+        this.batch = batch;
+        this.batchColumns = batchColumns;
+        this.consumer = consumer;
+        this.limit = limit;
+    }
+
+    @Override
+    public void newCell(char[] chars, int offset, int length) {
+        int index = cellIndex++;
+        if (index < batchColumns.length) {
+            int column = batchColumns[index];
+            if (column != -1) {
+                batch.setValue(column, batch.size, chars, offset, length);
+            }
+        }
+    }
+
+    @Override
+    public boolean endOfRow() {
+        endRow();
+        return true;
+    }
+
+    @Override
+    public void end() {
+        endRow();
+        flush();
+    }
+
+    boolean isDone() {
+        return limit == 0;
+    }
+
+    private void endRow() {
+        // a row without cell is skipped, as in CsvRowSet
+        if (cellIndex == 0 || limit == 0) return;
+
+        int row = batch.size;
+        for (int i = cellIndex; i < batchColumns.length; i++) {
+            int column = batchColumns[i];
+            if (column != -1) {
+                batch.setEmpty(column, row);
+            }
+        }
+        cellIndex = 0;
+        if (limit > 0) limit--;
+
+        batch.size = row + 1;
+        if (batch.size == batch.capacity()) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (batch.size == 0) return;
+        try {
+            consumer.accept(batch);
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        batch.size = 0;
+    }
+}
@@ -0,0 +1,176 @@
+package org.simpleflatmapper.csv;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Demand driven emission of the objects mapped by a CsvMapper, in List batches of up to batchSize objects.
+ * <p>
+ * This is the base of the java.util.concurrent.Flow and reactive streams publishers, it follows the same rules without depending on either api:
+ * a batch is only mapped when requested, the signals to the subscriber are serialized on the executor,
+ * the reader is opened on the first request and closed on completion, error or cancel.
+ * <p>
+ * start must be called once the subscriber has received the subscription, the requests made before are only processed then.
+ * @param <T> the mapped type
+ */
+public final class CsvBatchSubscription<T> implements Runnable {
+
+    public interface Subscriber<T> {
+        void onNext(List<T> batch);
+        void onError(Throwable error);
+        void onComplete();
+    }
+
+    private final CsvMapper<T> mapper;
+    private final Callable<? extends Reader> readerFactory;
+    private final int batchSize;
+    private final Executor executor;
+    private final Subscriber<T> subscriber;
+
+    private final AtomicLong requested = new AtomicLong();
+    // number of pending drain, starts at 1 to hold the drain until start is called
+    private final AtomicInteger wip = new AtomicInteger(1);
+    private volatile boolean cancelled;
+    private volatile long invalidRequest;
+
+    // only accessed by the drain loop
+    private Reader reader;
+    private Iterator<T> iterator;
+    private boolean done;
+
+    public CsvBatchSubscription(CsvMapper<T> mapper, Callable<? extends Reader> readerFactory, int batchSize, Executor executor, Subscriber<T> subscriber) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        this.mapper = mapper;
+        this.readerFactory = readerFactory;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.subscriber = subscriber;
+    }
+
+    public void start() {
+        if (wip.decrementAndGet() != 0) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * @param n the number of batches to add to the demand
+     */
+    public void request(long n) {
+        if (n <= 0) {
+            invalidRequest = n == 0 ? -1 : n;
+        } else {
+            for(;;) {
+                long r = requested.get();
+                long u = r + n;
+                if (u < 0) {
+                    u = Long.MAX_VALUE;
+                }
+                if (requested.compareAndSet(r, u)) {
+                    break;
+                }
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * stop the emission, the reader is closed on the executor.
+     */
+    public void cancel() {
+        cancelled = true;
+        schedule();
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for(;;) {
+            drain();
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        if (done) return;
+        if (cancelled) {
+            terminate();
+            return;
+        }
+        if (invalidRequest != 0) {
+            terminate();
+            subscriber.onError(new IllegalArgumentException("non-positive request " + (invalidRequest == -1 ? 0 : invalidRequest)));
+            return;
+        }
+        long r = requested.get();
+        if (r == 0) return;
+        try {
+            if (iterator == null) {
+                reader = readerFactory.call();
+                iterator = mapper.iterator(reader);
+            }
+            long e = 0;
+            for(;;) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                // hasNext maps the next row, only probe it when there is demand
+                if (e == r) {
+                    break;
+                }
+                if (!iterator.hasNext()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(nextBatch());
+                e++;
+            }
+            if (r != Long.MAX_VALUE) {
+                requested.addAndGet(-e);
+            }
+        } catch (Throwable t) {
+            if (!done) {
+                terminate();
+                subscriber.onError(t);
+            }
+        }
+    }
+
+    private List<T> nextBatch() {
+        List<T> batch = new ArrayList<T>(batchSize);
+        do {
+            batch.add(iterator.next());
+        } while(batch.size() < batchSize && iterator.hasNext());
+        return batch;
+    }
+
+    private void terminate() {
+        done = true;
+        iterator = null;
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (Exception e) {
+                // ignore
+            }
+            reader = null;
+        }
+    }
+}
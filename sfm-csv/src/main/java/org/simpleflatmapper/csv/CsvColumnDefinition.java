@@ -2,6 +2,7 @@ package org.simpleflatmapper.csv;
 
 import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
 import org.simpleflatmapper.csv.property.CustomReaderProperty;
+import org.simpleflatmapper.csv.property.StringCacheProperty;
 import org.simpleflatmapper.lightningcsv.StringReader;
 import org.simpleflatmapper.map.property.DefaultDateFormatProperty;
 import org.simpleflatmapper.map.mapper.ColumnDefinition;
@@ -110,6 +111,14 @@ public class CsvColumnDefinition extends ColumnDefinition<CsvColumnKey, CsvColum
     public CsvColumnDefinition addCustomReader(StringReader<?> cellValueReader) {
         return add(new CustomReaderProperty(cellValueReader));
     }
+    public CsvColumnDefinition addStringCache() {
+        return add(StringCacheProperty.DEFAULT);
+    }
+
+    public CsvColumnDefinition addStringCache(int capacity, int maxLength) {
+        return add(new StringCacheProperty(capacity, maxLength));
+    }
+
     public CsvColumnDefinition addCustomCellValueReaderFactory(CellValueReaderFactory cellValueReaderFactory) {
         return add(new CustomReaderFactoryProperty(cellValueReaderFactory));
     }
@@ -138,6 +147,10 @@ public class CsvColumnDefinition extends ColumnDefinition<CsvColumnKey, CsvColum
         return identity().addTimeZone(timeZone);
     }
 
+    public static CsvColumnDefinition stringCacheDefinition() {
+        return identity().addStringCache();
+    }
+
     public static CsvColumnDefinition ignoreDefinition() {
         return identity().addIgnore();
     }
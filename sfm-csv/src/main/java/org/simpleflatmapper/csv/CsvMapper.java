@@ -4,6 +4,7 @@ import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Supplier;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -129,6 +130,41 @@ public interface CsvMapper<T> extends SetRowMapper<CsvRow, CsvRowSet, T, IOExcep
 	 */
 	<H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, int limit) throws IOException, MappingException;
 
+	/**
+	 * Will map each row of the content of reader to an object of type T on the executor of the parallelOptions and will pass that object to the handle via the {@link CheckedConsumer}.handler(T t) call back.
+	 * <p>
+	 * The rows are parsed on the calling thread and mapped in batches by the executor, the handle is called on the calling thread,
+	 * in the order of the rows if {@link ParallelOptions#isOrdered()}. A mapper that joins consecutive rows maps them on the calling thread.
+	 *
+	 * @param reader the reader
+	 * @param handle the callback newInstance
+	 * @param parallelOptions the executor, ordering and batch size
+     * @param <H> the row handler type
+	 * @return the callback newInstance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 */
+	<H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, ParallelOptions parallelOptions) throws IOException, MappingException;
+
+	/**
+	 * Will map each row of the content of reader into the same instance of T, obtained once from the supplier, and will pass it to the handle via the {@link CheckedConsumer}.handler(T t) call back.
+	 * <p>
+	 * Each row sets all the mapped properties, an empty cell sets the property to null or its default, the properties that are not mapped are left unchanged.
+	 * A nested object is mapped to a new instance for each row, unless the mapper infers it is null - then the property is reset to null.
+	 * The target must be mutable, and the handle must not keep it as it is overwritten by the next row.
+	 * The mappers that aggregate rows in collections - with keys - are not supported.
+	 *
+	 * @param reader the reader
+	 * @param supplier the factory of the reused instance
+	 * @param handle the callback newInstance
+     * @param <H> the row handler type
+	 * @return the callback newInstance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @throws UnsupportedOperationException if the mapper joins rows
+	 */
+	<H extends CheckedConsumer<? super T>> H forEachReusing(Reader reader, Supplier<? extends T> supplier, H handle) throws IOException, MappingException;
+
 	/**
 	 * Will return an iterator on the reader that will return a mapped object for each row.
 	 *
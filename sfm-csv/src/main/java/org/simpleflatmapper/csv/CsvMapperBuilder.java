@@ -3,6 +3,7 @@ package org.simpleflatmapper.csv;
 import org.simpleflatmapper.csv.mapper.CsvMappingContextFactoryBuilder;
 import org.simpleflatmapper.csv.mapper.CsvRowEnumerableFactory;
 import org.simpleflatmapper.csv.mapper.CsvRowGetterFactory;
+import org.simpleflatmapper.csv.mapper.CsvRowSpillFormat;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
@@ -87,7 +88,7 @@ public class CsvMapperBuilder<T> extends MapperBuilder<CsvRow, CsvRowSet, T, Csv
 				new DefaultSetRowMapperBuilder<CsvRow, CsvRowSet, T, CsvColumnKey, IOException>(
 						classMeta, parentBuilder, mapperConfig,
 						FIELD_MAPPER_SOURCE.getterFactory(getterFactory), KEY_FACTORY, new CsvRowEnumerableFactory(),
-						CsvRowKeySourceGetter.INSTANCE),
+						CsvRowKeySourceGetter.INSTANCE, CsvRowSpillFormat.INSTANCE),
 				new BiFunction<SetRowMapper<CsvRow, CsvRowSet, T, IOException>, List<CsvColumnKey>, CsvMapper<T>>() {
 					@Override
 					public CsvMapper<T> apply(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, List<CsvColumnKey> keys) {
@@ -1,6 +1,8 @@
 package org.simpleflatmapper.csv;
 
 import org.simpleflatmapper.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.simpleflatmapper.csv.impl.CsvMapperImpl;
+import org.simpleflatmapper.csv.impl.ParallelCsvRowMapping;
 import org.simpleflatmapper.csv.mapper.CsvMappingContextFactoryBuilder;
 import org.simpleflatmapper.csv.mapper.CsvRowGetterFactory;
 import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
@@ -296,6 +298,27 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 			return handle;
 		}
 
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, ParallelOptions parallelOptions) throws IOException, MappingException {
+			CsvReader csvReader = CsvParser.reader(reader);
+			CsvColumnKey[] keys = new CsvRowSet(csvReader, -1).getKeys();
+			SetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper = getMapper(new MapperKey<CsvColumnKey>(keys));
+			if (mapper instanceof CsvMapperImpl) {
+				return ((CsvMapperImpl<T>) mapper).forEach(csvReader, handle, parallelOptions);
+			}
+			return ParallelCsvRowMapping.forEach(mapper, csvReader, keys, handle, parallelOptions);
+		}
+
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEachReusing(Reader reader, Supplier<? extends T> supplier, H handle) throws IOException, MappingException {
+			CsvRowSet rowSet = toCsvRowSet(reader, 0, -1);
+			SetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper = getMapper(new MapperKey<CsvColumnKey>(rowSet.getKeys()));
+			if (mapper instanceof CsvMapperImpl) {
+				return ((CsvMapperImpl<T>) mapper).forEachReusing(rowSet, supplier, handle);
+			}
+			throw new UnsupportedOperationException("Cannot reuse the instance with " + mapper);
+		}
+
 		@Override
 		public Iterator<T> iterator(Reader reader) throws IOException {
 			return iterator(toCsvRowSet(reader, 0 , -1));
@@ -1,9 +1,13 @@
 package org.simpleflatmapper.csv;
 
 import org.simpleflatmapper.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.simpleflatmapper.csv.impl.CsvMapperImpl;
+import org.simpleflatmapper.csv.impl.ExternalSortReader;
 import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
 import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.lightningcsv.CsvParser.OnReaderFactory;
+import org.simpleflatmapper.lightningcsv.parser.BufferPool;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
@@ -26,6 +30,7 @@ import org.simpleflatmapper.tuple.Tuples;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.util.CloseableIterator;
+import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.Predicate;
 import org.simpleflatmapper.util.CheckedConsumer;
 
@@ -93,6 +98,16 @@ import java.util.stream.Stream;
  *     CsvMapper&lt;MyClass&gt; jdbcMapper = CsvMapperFactory.newInstance().newMapper(MyClass.class);<br>
  *     CsvParser.mapWith(jdbcMapper).stream(reader).forEach(System.out::println);<br>
  * </code>
+ * <p>
+ *  or parsing the columns in batches of primitive arrays, see {@link ColumnBatch}.<br><br>
+ * <code>
+ *     CsvParser.mapToColumns().addInt("id").addDouble("price").forEach(reader, batchConsumer);<br>
+ * </code>
+ * <p>
+ *  or joining an unordered csv sorting it first, the rows past maxRowsInMemory are sorted through temp files.<br><br>
+ * <code>
+ *     CsvParser.sortedBy("id").maxRowsInMemory(100000).mapTo(Professor.class).addKeys("id", "students_id").forEach(reader, consumer);<br>
+ * </code>
  *
  * <p>
  *  Each call to the DSL return an immutable representation of the current setup. So that it is possible to cache step of the DSL without side effect.<br><br>
@@ -143,6 +158,10 @@ public final class CsvParser {
 		return dsl().limit(limit);
 	}
 
+	public static SortedDSL sortedBy(String... keys) {
+		return dsl().sortedBy(keys);
+	}
+
 	public static <T> MapToDSL<T> mapTo(Type type) {
 		return dsl().mapTo(type);
 	}
@@ -187,6 +206,14 @@ public final class CsvParser {
 		return dsl().mapWith(mapper);
 	}
 
+	/**
+	 * @return a DSL to parse the csv in batches of primitive columns
+	 * @see MapToColumnsDSL
+	 */
+	public static MapToColumnsDSL mapToColumns() {
+		return dsl().mapToColumns();
+	}
+
 	/**
 	 * @param reader the reader
 	 * @return a csv reader based on the default setup.
@@ -319,8 +346,8 @@ public final class CsvParser {
 		public AbstractDSL() {
 		}
 
-		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		public final <T> MapToDSL<T> mapTo(Type target) {
@@ -367,6 +394,10 @@ public final class CsvParser {
 			return new MapWithDSL<T>(this, mapper);
 		}
 
+		public final MapToColumnsDSL mapToColumns() {
+			return new MapToColumnsDSL(this, new String[0], new ColumnBatch.Type[0], MapToColumnsDSL.DEFAULT_BATCH_SIZE);
+		}
+
 	}
     /**
      * DSL for csv parsing.
@@ -377,14 +408,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
         }
 
 		/**
@@ -401,7 +432,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		/**
@@ -418,25 +449,104 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
+		}
+
+		/**
+		 * will sort the rows by the text of the keys columns before parsing them, the first row being the header.
+		 * Past maxRowsInMemory rows the sorted rows are merged from temp files.
+		 * Useful to join an unordered csv with addKeys without loading it in memory.
+		 * @param keys the names of the columns to sort by
+		 * @return a DSL on the sorted rows
+		 */
+		public SortedDSL sortedBy(String... keys) {
+			return new SortedDSL(separatorChar, quoteChar, escapeChar, bufferSize, 0, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, false, bufferPool, columnProjection,
+					keys, SortedDSL.DEFAULT_MAX_ROWS_IN_MEMORY, skip);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 	}
 
 
+    /**
+     * DSL for csv parsing of the rows sorted by keys.
+     * The skip set before sortedBy applies to the input, the skip set after it and the limit apply to the sorted rows - header included.
+     * @see DSL#sortedBy(String...)
+     */
+	public static final class SortedDSL extends AbstractDSL<SortedDSL> {
+		public static final int DEFAULT_MAX_ROWS_IN_MEMORY = 1 << 16;
+
+		private final String[] keys;
+		private final int maxRowsInMemory;
+		private final int inputSkip;
+
+		protected SortedDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection, String[] keys, int maxRowsInMemory, int inputSkip) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
+			if (keys.length == 0) throw new IllegalArgumentException("No keys to sort by");
+			if (maxRowsInMemory <= 0) throw new IllegalArgumentException("maxRowsInMemory should be greater than 0");
+			this.keys = keys;
+			this.maxRowsInMemory = maxRowsInMemory;
+			this.inputSkip = inputSkip;
+		}
+
+		/**
+		 * @param maxRowsInMemory the number of rows sorted in memory before spilling them to a temp file
+		 * @return this
+		 */
+		public SortedDSL maxRowsInMemory(int maxRowsInMemory) {
+			return new SortedDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection, keys, maxRowsInMemory, inputSkip);
+		}
+
+		public final int maxRowsInMemory() {
+			return maxRowsInMemory;
+		}
+
+		@Override
+		protected CharBuffer charBuffer(Reader reader) throws IOException {
+			return super.charBuffer(sortedReader(inputDSL().reader(reader)));
+		}
+
+		@Override
+		protected CharBuffer charBuffer(CharSequence content) throws IOException {
+			return super.charBuffer(sortedReader(inputDSL().reader(content)));
+		}
+
+		@Override
+		protected CharBuffer charBuffer(String content) throws IOException {
+			return super.charBuffer(sortedReader(inputDSL().reader(content)));
+		}
+
+		private Reader sortedReader(CsvReader csvReader) {
+			return new ExternalSortReader(csvReader, keys, maxRowsInMemory,
+					org.simpleflatmapper.lightningcsv.CsvWriter.dsl().separator(separatorChar).quote(quoteChar).escape(escapeChar));
+		}
+
+		// the unescaped cells are written back escaped
+		private DSL inputDSL() {
+			StringPostProcessing inputPostProcessing = stringPostProcessing == StringPostProcessing.NONE ? StringPostProcessing.UNESCAPE : stringPostProcessing;
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, inputSkip, -1, maxBufferSize, inputPostProcessing, null, false, false, parallelReaderWaitingStrategy, specialisedCharConsumer, false, bufferPool, null);
+		}
+
+		@Override
+		protected SortedDSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			// the file is read through the sort, not mapped
+			return new SortedDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, false, bufferPool, columnProjection, keys, maxRowsInMemory, inputSkip);
+		}
+
+	}
+
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -502,8 +612,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, ParallelReader.WaitingStrategy parallelReaderWaitingStrategy, boolean specialisedCharConsumer, boolean memoryMappedFile, BufferPool bufferPool, ColumnProjection columnProjection) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, parallelReaderWaitingStrategy, specialisedCharConsumer, memoryMappedFile, bufferPool, columnProjection);
 		}
 
 	}
@@ -712,6 +822,20 @@ public final class CsvParser {
             return dsl;
         }
 
+		/**
+		 * only unescape the columns the mapper reads, the other cells are passed as empty cells so the column indexes are kept.
+		 * <p>
+		 * Not applicable to a mapper that resolves its columns from the header row.
+		 * @return a MapWithDSL that skips the unescaping of the columns the mapper does not read
+		 * @throws IllegalStateException if the columns of the mapper are not known upfront
+		 */
+		public final MapWithDSL<T> projectMapperColumns() {
+			if (!(mapper instanceof CsvMapperImpl)) {
+				throw new IllegalStateException("The columns of " + mapper + " are not known upfront");
+			}
+			return new MapWithDSL<T>(dsl.projection(((CsvMapperImpl<T>) mapper).columnProjection()), mapper);
+		}
+
 		public final Iterator<T> iterator(Reader reader) throws IOException {
 			return mapper.iterator(dsl.reader(reader));
 		}
@@ -757,11 +881,15 @@ public final class CsvParser {
 		}
 
 		private <H extends CheckedConsumer<T>> H forEach(H consumer, CsvReader csvReader) throws IOException {
-			if (dsl.limit() == -1) {
-                mapper.forEach(csvReader, consumer);
-            } else {
-                mapper.forEach(csvReader, consumer, dsl.limit());
-            }
+			try {
+				if (dsl.limit() == -1) {
+					mapper.forEach(csvReader, consumer);
+				} else {
+					mapper.forEach(csvReader, consumer, dsl.limit());
+				}
+			} finally {
+				csvReader.release();
+			}
 			return consumer;
 		}
 
@@ -814,6 +942,129 @@ public final class CsvParser {
 		//IFJAVA8_END
 	}
 	
+	/**
+	 * DSL to parse the selected columns of a csv in a reused {@link ColumnBatch} of batchSize rows, without an object per row.
+	 * <p>
+	 * The columns are selected by name in the header row and parsed straight from the char buffer.
+	 * <br>
+	 * <code>
+	 *     CsvParser.mapToColumns().addInt("id").addDouble("price").addString("country").forEach(reader, batchConsumer);
+	 * </code>
+	 * @see ColumnBatch
+	 */
+	public static final class MapToColumnsDSL {
+		public static final int DEFAULT_BATCH_SIZE = 1024;
+
+		private final org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl;
+		private final String[] names;
+		private final ColumnBatch.Type[] types;
+		private final int batchSize;
+
+		private MapToColumnsDSL(org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl, String[] names, ColumnBatch.Type[] types, int batchSize) {
+			if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive " + batchSize);
+			this.dsl = dsl;
+			this.names = names;
+			this.types = types;
+			this.batchSize = batchSize;
+		}
+
+		public MapToColumnsDSL addInt(String column) {
+			return addColumn(column, ColumnBatch.Type.INT);
+		}
+
+		public MapToColumnsDSL addLong(String column) {
+			return addColumn(column, ColumnBatch.Type.LONG);
+		}
+
+		public MapToColumnsDSL addDouble(String column) {
+			return addColumn(column, ColumnBatch.Type.DOUBLE);
+		}
+
+		/**
+		 * add a column of dictionary encoded String.
+		 * @param column the column name
+		 * @return a new DSL with the column
+		 */
+		public MapToColumnsDSL addString(String column) {
+			return addColumn(column, ColumnBatch.Type.STRING);
+		}
+
+		public MapToColumnsDSL addColumn(String column, ColumnBatch.Type type) {
+			if (column == null || type == null) throw new NullPointerException();
+			String[] newNames = Arrays.copyOf(names, names.length + 1);
+			newNames[names.length] = column;
+			ColumnBatch.Type[] newTypes = Arrays.copyOf(types, types.length + 1);
+			newTypes[types.length] = type;
+			return new MapToColumnsDSL(dsl, newNames, newTypes, batchSize);
+		}
+
+		/**
+		 * @param batchSize the number of rows of a batch
+		 * @return a new DSL with the batch size
+		 */
+		public MapToColumnsDSL batchSize(int batchSize) {
+			return new MapToColumnsDSL(dsl, names, types, batchSize);
+		}
+
+		public <H extends CheckedConsumer<? super ColumnBatch>> H forEach(Reader reader, H consumer) throws IOException {
+			return forEach(consumer, dsl.reader(reader));
+		}
+
+		public <H extends CheckedConsumer<? super ColumnBatch>> H forEach(CharSequence content, H consumer) throws IOException {
+			return forEach(consumer, dsl.reader(content));
+		}
+
+		public <H extends CheckedConsumer<? super ColumnBatch>> H forEach(String content, H consumer) throws IOException {
+			return forEach(consumer, dsl.reader(content));
+		}
+
+		public <H extends CheckedConsumer<? super ColumnBatch>> H forEach(File file, H consumer) throws IOException {
+			Reader reader = newReader(file);
+			try {
+				return forEach(reader, consumer);
+			} finally {
+				try { reader.close(); } catch (IOException e) { }
+			}
+		}
+
+		private <H extends CheckedConsumer<? super ColumnBatch>> H forEach(H consumer, CsvReader csvReader) throws IOException {
+			try {
+				CsvColumnKey[] keys = new CsvRowSet(csvReader, -1).getKeys();
+				ColumnBatchCellConsumer cellConsumer =
+						new ColumnBatchCellConsumer(new ColumnBatch(names, types, batchSize), batchColumns(keys), consumer, dsl.limit());
+				CellConsumer wrappedConsumer = csvReader.wrapConsumer(cellConsumer);
+				while (!cellConsumer.isDone() && csvReader.rawParseRow(wrappedConsumer, false)) {
+				}
+				cellConsumer.flush();
+			} finally {
+				csvReader.release();
+			}
+			return consumer;
+		}
+
+		private int[] batchColumns(CsvColumnKey[] keys) {
+			int[] batchColumns = new int[keys.length];
+			Arrays.fill(batchColumns, -1);
+			for (int i = 0; i < names.length; i++) {
+				CsvColumnKey key = findKey(keys, names[i]);
+				if (key == null) {
+					throw new IllegalArgumentException("Column " + names[i] + " not found in header " + Arrays.toString(keys));
+				}
+				batchColumns[key.getIndex()] = i;
+			}
+			return batchColumns;
+		}
+
+		private static CsvColumnKey findKey(CsvColumnKey[] keys, String name) {
+			for (CsvColumnKey key : keys) {
+				if (key.getName().equalsIgnoreCase(name)) {
+					return key;
+				}
+			}
+			return null;
+		}
+	}
+
 	private static <T> CsvMapper<T> newDefaultStaticMapper(ClassMeta<T> classMeta, CsvColumnDefinitionProviderImpl columnDefinitionProvider) {
 		CsvMapperBuilder<T> builder = new CsvMapperBuilder<T>(classMeta, columnDefinitionProvider);
 
@@ -1,8 +1,12 @@
 package org.simpleflatmapper.csv;
 
+import org.simpleflatmapper.csv.impl.FloatingPointParser;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.StringCache;
 import org.simpleflatmapper.util.CharSequenceImpl;
+import org.simpleflatmapper.util.EnumLookup;
+import org.simpleflatmapper.util.UUIDHelper;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -78,6 +82,19 @@ public final class CsvRow implements CellConsumer {
         int rowOffset = fieldsBoundaries[i * 2];
         return new String(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
+
+    /**
+     * @param i the column index
+     * @param stringCache the cache of the column
+     * @return the value of the column, the same instance as a previous equal value if still in the cache
+     */
+    public String getString(int i, StringCache stringCache) {
+        int length = fieldsBoundaries[i * 2 + 1];
+        if (length == 0) return null;
+
+        int rowOffset = fieldsBoundaries[i * 2];
+        return stringCache.get(charBuffer.buffer, rowStartMark + rowOffset, length);
+    }
     
     public int length(int i) {
         return fieldsBoundaries[i * 2 + 1];
@@ -111,11 +128,15 @@ public final class CsvRow implements CellConsumer {
     }
     public float getFloat(int i) {
         if (isEmpty(i)) return 0;
-        return Float.parseFloat(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return FloatingPointParser.parseFloat(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
     public double getDouble(int i) {
         if (isEmpty(i)) return 0;
-        return Double.parseDouble(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return FloatingPointParser.parseDouble(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
     public boolean getBoolean(int i) {
         if (isEmpty(i)) return false;
@@ -197,7 +218,9 @@ public final class CsvRow implements CellConsumer {
     
     public BigDecimal getBigDecimal(int i) {
         if (isEmpty(i)) return null;
-        return new BigDecimal(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return new BigDecimal(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
 
     public BigInteger getBigInteger(int i) {
@@ -207,7 +230,16 @@ public final class CsvRow implements CellConsumer {
 
     public UUID getUUID(int i) {
         if (isEmpty(i)) return null;
-        return UUID.fromString(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return UUIDHelper.fromChars(charBuffer.buffer, rowStartMark + rowOffset, length);
+    }
+
+    public <E extends Enum<E>> E getEnum(int i, EnumLookup<E> enumLookup) {
+        if (isEmpty(i)) return null;
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return enumLookup.get(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
 
     public int getNbColumns() {
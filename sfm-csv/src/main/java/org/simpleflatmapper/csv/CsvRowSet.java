@@ -3,6 +3,7 @@ package org.simpleflatmapper.csv;
 import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
 import org.simpleflatmapper.util.Asserts;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
@@ -56,6 +57,23 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
         return i;
     }
 
+    /**
+     * @param keys the keys used by the mapper
+     * @return the projection on the columns of the keys that keeps the position of the other cells, as expected by the CsvRow
+     */
+    public static ColumnProjection columnProjection(CsvColumnKey[] keys) {
+        int[] columns = new int[keys.length];
+        int n = 0;
+        for(CsvColumnKey k : keys) {
+            if (k != null) {
+                columns[n++] = k.getIndex();
+            }
+        }
+        int[] selected = new int[n];
+        System.arraycopy(columns, 0, selected, 0, n);
+        return ColumnProjection.columns(selected).keepPositions();
+    }
+
     private CsvColumnKey[] fetchKeys() throws IOException {
         KeysCellConsumer keysCellConsumer = new KeysCellConsumer();
         csvReader.parseRow(keysCellConsumer);
@@ -7,6 +7,7 @@ import org.simpleflatmapper.converter.ToStringConverter;
 import org.simpleflatmapper.csv.mapper.FieldMapperToAppendableFactory;
 import org.simpleflatmapper.lightningcsv.CellWriter;
 import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.lightningcsv.Utf8ByteSink;
 import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.PropertyWithGetter;
@@ -19,16 +20,19 @@ import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.reflect.meta.PropertyMeta;
 import org.simpleflatmapper.util.Consumer;
 import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.Predicate;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.TypeReference;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.text.Format;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * A CsvWriter allows the caller to write object of type T to an appendable in a specified format. See {@link CsvWriter#from(Class)} to create one.
@@ -58,6 +62,15 @@ import java.util.List;
  * <code>
  *     CsvWriter csvWriter = CsvWriter.from(MyObject.class).columns("date", new SimpleDateFormat("yyyyMMdd")).to(myWriter);<br>
  * </code>
+ * <br>
+ * To write UTF-8 bytes straight to an OutputStream or a WritableByteChannel use a {@link org.simpleflatmapper.lightningcsv.Utf8ByteSink}, flush or close it when done.
+ * <br>
+ * <code>
+ *     Utf8ByteSink sink = new Utf8ByteSink(outputStream);<br>
+ *     CsvWriter csvWriter = CsvWriter.from(MyObject.class).to(sink);<br>
+ * </code>
+ * <br>
+ * To format the rows on several threads and write them in order to an OutputStream use {@link CsvWriter.CsvWriterDSL#toParallel(java.io.OutputStream)}.
  *
  * @param <T> the type of object to write
  */
@@ -265,6 +278,48 @@ public class CsvWriter<T>  {
             return new CsvWriter<T>(mapper, appendable, mapper.newMappingContext());
         }
 
+        /**
+         * Create a parallel writer of UTF-8 csv on the specified OutputStream for the type T, the rows are formatted on the default executor.
+         * @param outputStream the OutputStream to write to
+         * @return a ParallelCsvWriter on the specified OutputStream
+         * @throws IOException If an I/O error occurs
+         * @see ParallelCsvWriter
+         */
+        public ParallelCsvWriter<T> toParallel(OutputStream outputStream) throws IOException {
+            return toParallel(outputStream, ParallelReader.getDefaultExecutor());
+        }
+
+        /**
+         * Create a parallel writer of UTF-8 csv on the specified OutputStream for the type T, the rows are formatted on the executor.
+         * @param outputStream the OutputStream to write to
+         * @param executor the executor formatting the blocks
+         * @return a ParallelCsvWriter on the specified OutputStream
+         * @throws IOException If an I/O error occurs
+         * @see ParallelCsvWriter
+         */
+        public ParallelCsvWriter<T> toParallel(OutputStream outputStream, Executor executor) throws IOException {
+            return toParallel(outputStream, executor, ParallelCsvWriter.DEFAULT_BLOCK_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Create a parallel writer of UTF-8 csv on the specified OutputStream for the type T, the rows are formatted on the executor.
+         * @param outputStream the OutputStream to write to
+         * @param executor the executor formatting the blocks
+         * @param blockSize the number of rows formatted by a task
+         * @param maxBlocksInFlight the maximum number of blocks held in memory
+         * @return a ParallelCsvWriter on the specified OutputStream
+         * @throws IOException If an I/O error occurs
+         * @see ParallelCsvWriter
+         */
+        public ParallelCsvWriter<T> toParallel(OutputStream outputStream, Executor executor, int blockSize, int maxBlocksInFlight) throws IOException {
+            if (!skipHeaders) {
+                Utf8ByteSink sink = new Utf8ByteSink(outputStream, 1024);
+                addHeaders(sink);
+                sink.flush();
+            }
+            return new ParallelCsvWriter<T>(mapper, outputStream, executor, blockSize, maxBlocksInFlight);
+        }
+
         private void addHeaders(Appendable appendable) throws IOException {
             for(int i = 0; i < columns.length; i++) {
                 if (i != 0) {
@@ -448,6 +503,11 @@ public class CsvWriter<T>  {
         public CsvWriter<T> to(Appendable appendable) throws IOException {
             throw new IllegalStateException("No column defined");
         }
+
+        @Override
+        public ParallelCsvWriter<T> toParallel(OutputStream outputStream, Executor executor, int blockSize, int maxBlocksInFlight) throws IOException {
+            throw new IllegalStateException("No column defined");
+        }
         
         @Override
         protected NoColumnCsvWriterDSL<T> newCsvWriterDSL(Column[] columns,
@@ -0,0 +1,207 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.lightningcsv.Utf8ByteSink;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.mapper.ContextualSourceFieldMapperImpl;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Write object of type T as UTF-8 csv to an OutputStream, the rows are formatted in blocks on an Executor.
+ * See {@link CsvWriter.CsvWriterDSL#toParallel(OutputStream)} to create one.
+ * <p>
+ * The appended values are buffered in blocks of blockSize rows, a full block is formatted by a task in its own byte buffer
+ * with its own MappingContext. The blocks are written to the OutputStream in the order the values were appended,
+ * by the thread calling append - when maxBlocksInFlight blocks are pending it waits for the oldest one and writes it.
+ * The memory is bounded by the maxBlocksInFlight blocks.
+ * <p>
+ * The values must not be modified until they are written, the writer is not thread safe.
+ * Call {@link #flush()} or {@link #close()} to wait for the remaining blocks.
+ * <p>
+ * When a block fails to be formatted or written, the pending blocks are cancelled and nothing more is written,
+ * the following calls fail with an IOException caused by the first failure.
+ * @param <T> the type of object to write
+ */
+public final class ParallelCsvWriter<T> implements Flushable, Closeable {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final ContextualSourceFieldMapperImpl<T, Appendable> mapper;
+    private final OutputStream outputStream;
+    private final Executor executor;
+    private final int blockSize;
+    private final int maxBlocksInFlight;
+
+    private final ArrayDeque<Block<T>> pendingBlocks = new ArrayDeque<Block<T>>();
+    private final ArrayDeque<Block<T>> freeBlocks = new ArrayDeque<Block<T>>();
+    private int nbBlocks;
+    private Block<T> currentBlock;
+    private Throwable failure;
+
+    ParallelCsvWriter(ContextualSourceFieldMapperImpl<T, Appendable> mapper, OutputStream outputStream, Executor executor, int blockSize, int maxBlocksInFlight) {
+        if (blockSize <= 0) throw new IllegalArgumentException("blockSize must be positive " + blockSize);
+        if (maxBlocksInFlight <= 0) throw new IllegalArgumentException("maxBlocksInFlight must be positive " + maxBlocksInFlight);
+        this.mapper = mapper;
+        this.outputStream = outputStream;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxBlocksInFlight = maxBlocksInFlight;
+    }
+
+    /**
+     * add the specified value to the current block, submit the block when full.
+     * @param value the value to write
+     * @return the current writer
+     * @throws IOException If an I/O error occurs writing a previous block
+     */
+    public ParallelCsvWriter<T> append(T value) throws IOException {
+        checkNotFailed();
+        Block<T> block = currentBlock;
+        if (block == null) {
+            block = currentBlock = nextBlock();
+        }
+        block.values[block.size++] = value;
+        if (block.size == blockSize) {
+            submit(block);
+            currentBlock = null;
+        }
+        return this;
+    }
+
+    /**
+     * submit the current block, write all the pending blocks and flush the OutputStream.
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        checkNotFailed();
+        if (currentBlock != null) {
+            submit(currentBlock);
+            currentBlock = null;
+        }
+        while (!pendingBlocks.isEmpty()) {
+            writeOldestBlock();
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * flush and close the OutputStream.
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private Block<T> nextBlock() throws IOException {
+        Block<T> block = freeBlocks.poll();
+        if (block != null) {
+            return block;
+        }
+        if (nbBlocks < maxBlocksInFlight) {
+            nbBlocks++;
+            return new Block<T>(mapper, mapper.newMappingContext(), blockSize);
+        }
+        writeOldestBlock();
+        return freeBlocks.poll();
+    }
+
+    private void submit(Block<T> block) {
+        FutureTask<Void> task = new FutureTask<Void>(block, null);
+        block.task = task;
+        pendingBlocks.add(block);
+        executor.execute(task);
+    }
+
+    private void writeOldestBlock() throws IOException {
+        Block<T> block = pendingBlocks.poll();
+        try {
+            block.task.get();
+            block.writeTo(outputStream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw poison(new InterruptedIOException());
+        } catch (ExecutionException e) {
+            Throwable cause = poison(e.getCause());
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            ErrorHelper.rethrow(cause);
+        } catch (IOException e) {
+            throw poison(e);
+        }
+        freeBlocks.add(block);
+    }
+
+    // a lost block would leave a gap in the csv, drop everything after it
+    private <E extends Throwable> E poison(E e) {
+        failure = e;
+        for (Block<T> pending : pendingBlocks) {
+            pending.task.cancel(false);
+        }
+        pendingBlocks.clear();
+        currentBlock = null;
+        return e;
+    }
+
+    private void checkNotFailed() throws IOException {
+        if (failure != null) {
+            throw new IOException("A previous block failed, nothing more is written", failure);
+        }
+    }
+
+    private static final class Block<T> implements Runnable {
+        private final ContextualSourceFieldMapperImpl<T, Appendable> mapper;
+        private final MappingContext<? super T> mappingContext;
+        private final Object[] values;
+        private final ByteArrayOutputStream bytes;
+        private final Utf8ByteSink sink;
+
+        private int size;
+        private FutureTask<Void> task;
+
+        private Block(ContextualSourceFieldMapperImpl<T, Appendable> mapper, MappingContext<? super T> mappingContext, int blockSize) {
+            this.mapper = mapper;
+            this.mappingContext = mappingContext;
+            this.values = new Object[blockSize];
+            this.bytes = new ByteArrayOutputStream();
+            this.sink = new Utf8ByteSink(bytes, 8192);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < size; i++) {
+                    mapper.mapTo((T) values[i], sink, mappingContext);
+                    values[i] = null;
+                }
+                sink.flush();
+            } catch (Exception e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        private void writeTo(OutputStream outputStream) throws IOException {
+            bytes.writeTo(outputStream);
+            bytes.reset();
+            size = 0;
+            task = null;
+        }
+    }
+}
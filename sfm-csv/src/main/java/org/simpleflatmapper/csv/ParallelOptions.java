@@ -0,0 +1,109 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options of {@link CsvMapper#forEach(java.io.Reader, org.simpleflatmapper.util.CheckedConsumer, ParallelOptions)}.
+ * <p>
+ * The rows are parsed on the calling thread and copied in batches of batchSize rows, each batch is mapped by a task on the executor.
+ * The objects are passed to the handler on the calling thread, in the order of the rows if ordered, or batch by batch as they complete otherwise.
+ * At most maxBatchesInFlight batches are allocated, the memory is bounded by them.
+ * <p>
+ * The class is immutable, batchSize and maxBatchesInFlight return a new instance.
+ */
+public final class ParallelOptions {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final Executor executor;
+    private final boolean ordered;
+    private final int batchSize;
+    private final int maxBatchesInFlight;
+
+    private ParallelOptions(Executor executor, boolean ordered, int batchSize, int maxBatchesInFlight) {
+        if (executor == null) throw new NullPointerException("executor");
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive " + batchSize);
+        if (maxBatchesInFlight <= 0) throw new IllegalArgumentException("maxBatchesInFlight must be positive " + maxBatchesInFlight);
+        this.executor = executor;
+        this.ordered = ordered;
+        this.batchSize = batchSize;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
+    /**
+     * @return options passing the objects in the order of the rows, mapped on the default executor
+     */
+    public static ParallelOptions ordered() {
+        return ordered(ParallelReader.getDefaultExecutor());
+    }
+
+    /**
+     * @param executor the executor mapping the batches
+     * @return options passing the objects in the order of the rows
+     */
+    public static ParallelOptions ordered(Executor executor) {
+        return new ParallelOptions(executor, true, DEFAULT_BATCH_SIZE, defaultMaxBatchesInFlight());
+    }
+
+    /**
+     * @return options passing the objects batch by batch as they are mapped, on the default executor
+     */
+    public static ParallelOptions unordered() {
+        return unordered(ParallelReader.getDefaultExecutor());
+    }
+
+    /**
+     * @param executor the executor mapping the batches
+     * @return options passing the objects batch by batch as they are mapped, the rows of a batch stay in order
+     */
+    public static ParallelOptions unordered(Executor executor) {
+        return new ParallelOptions(executor, false, DEFAULT_BATCH_SIZE, defaultMaxBatchesInFlight());
+    }
+
+    /**
+     * @param batchSize the number of rows mapped by one task
+     * @return a new options with the specified batch size
+     */
+    public ParallelOptions batchSize(int batchSize) {
+        return new ParallelOptions(executor, ordered, batchSize, maxBatchesInFlight);
+    }
+
+    /**
+     * @param maxBatchesInFlight the maximum number of batches being parsed, mapped or waiting for the handler
+     * @return a new options with the specified maximum
+     */
+    public ParallelOptions maxBatchesInFlight(int maxBatchesInFlight) {
+        return new ParallelOptions(executor, ordered, batchSize, maxBatchesInFlight);
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public int maxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+
+    private static int defaultMaxBatchesInFlight() {
+        return 2 * Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelOptions{" +
+                "ordered=" + ordered +
+                ", batchSize=" + batchSize +
+                ", maxBatchesInFlight=" + maxBatchesInFlight +
+                '}';
+    }
+}
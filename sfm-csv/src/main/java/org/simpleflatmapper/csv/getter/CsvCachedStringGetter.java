@@ -0,0 +1,21 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.lightningcsv.parser.StringCache;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+public class CsvCachedStringGetter implements ContextualGetter<CsvRow, String> {
+    public final int index;
+    private final StringCache stringCache;
+
+    public CsvCachedStringGetter(int index, StringCache stringCache) {
+        this.index = index;
+        this.stringCache = stringCache;
+    }
+
+    @Override
+    public String get(CsvRow target, Context context)  {
+        return target.getString(index, stringCache);
+    }
+}
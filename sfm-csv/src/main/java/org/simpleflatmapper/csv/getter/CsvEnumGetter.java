@@ -0,0 +1,21 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.util.EnumLookup;
+
+public class CsvEnumGetter<E extends Enum<E>> implements ContextualGetter<CsvRow, E> {
+    public final int index;
+    private final EnumLookup<E> enumLookup;
+
+    public CsvEnumGetter(int index, EnumLookup<E> enumLookup) {
+        this.index = index;
+        this.enumLookup = enumLookup;
+    }
+
+    @Override
+    public E get(CsvRow target, Context context)  {
+        return target.getEnum(index, enumLookup);
+    }
+}
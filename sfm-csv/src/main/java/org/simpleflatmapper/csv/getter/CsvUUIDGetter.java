@@ -0,0 +1,25 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.map.getter.OptimizableIndexedContextualGetter;
+
+import java.util.UUID;
+
+public class CsvUUIDGetter implements ContextualGetter<CsvRow, UUID>, OptimizableIndexedContextualGetter {
+    public final int index;
+
+    public CsvUUIDGetter(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public UUID get(CsvRow target, Context context)  {
+        return get(target, context, index);
+    }
+
+    public static UUID get(CsvRow target, Context context, int index) {
+        return target.getUUID(index);
+    }
+}
@@ -5,12 +5,16 @@ import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvParser;
 import org.simpleflatmapper.csv.CsvRow;
 import org.simpleflatmapper.csv.CsvRowSet;
+import org.simpleflatmapper.csv.ParallelOptions;
 import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.mapper.StaticSetRowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.Supplier;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -23,10 +27,20 @@ import java.util.stream.Stream;
 public class CsvMapperImpl<T> implements CsvMapper<T> {
     private final SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper;
     private final CsvColumnKey[] keys;
+    private final ColumnProjection columnProjection;
 
     public CsvMapperImpl(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvColumnKey[] keys) {
         this.setRowMapper = setRowMapper;
         this.keys = keys;
+        this.columnProjection = CsvRowSet.columnProjection(keys);
+    }
+
+    /**
+     * the projection is not applied by default, use CsvParser.mapWith(mapper).projectMapperColumns() to skip the unescaping of the unused columns.
+     * @return the projection on the columns used by the mapper, the other cells are not unescaped
+     */
+    public ColumnProjection columnProjection() {
+        return columnProjection;
     }
 
     @Override
@@ -59,6 +73,36 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return handle;
     }
 
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, ParallelOptions parallelOptions) throws IOException, MappingException {
+        return forEach(CsvParser.reader(reader), handle, parallelOptions);
+    }
+
+    /**
+     * map the rows of the reader on the executor of parallelOptions.
+     * @see CsvMapper#forEach(Reader, CheckedConsumer, ParallelOptions)
+     */
+    public <H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, ParallelOptions parallelOptions) throws IOException, MappingException {
+        return ParallelCsvRowMapping.forEach(setRowMapper, reader, keys, handle, parallelOptions);
+    }
+
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEachReusing(Reader reader, Supplier<? extends T> supplier, H handle) throws IOException, MappingException {
+        return forEachReusing(toCsvRowSet(reader, 0, -1), supplier, handle);
+    }
+
+    /**
+     * map the rows into the same instance.
+     * @see CsvMapper#forEachReusing(Reader, Supplier, CheckedConsumer)
+     */
+    @SuppressWarnings("unchecked")
+    public <H extends CheckedConsumer<? super T>> H forEachReusing(CsvRowSet source, Supplier<? extends T> supplier, H handle) throws IOException, MappingException {
+        if (setRowMapper instanceof StaticSetRowMapper) {
+            return ((StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException>) setRowMapper).forEachReusing(source, supplier, handle);
+        }
+        throw new UnsupportedOperationException("Cannot reuse the instance with " + setRowMapper);
+    }
+
     @Override
     public Iterator<T> iterator(Reader reader) throws IOException {
         return iterator(toCsvRowSet(reader, 0 , -1));
@@ -0,0 +1,283 @@
+package org.simpleflatmapper.csv.impl;
+
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Read the rows of a csv reader sorted by the text of the key columns, the first row being the header.
+ * <p>
+ * Up to maxRowsInMemory rows are sorted in memory. Past that the rows are sorted in runs written to temp files,
+ * then merged with a heap of the current row of each run. The rows with the same keys keep their input order.
+ * The content is written with the outputFormat.
+ * <p>
+ * A run file is deleted as soon as it is opened for the merge, the open stream keeps its content readable.
+ * So the runs do not outlive the reader when it is not read to the end. Where an open file cannot be deleted - on Windows -
+ * it is deleted once merged or on close.
+ */
+public final class ExternalSortReader extends Reader {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int FILL_SIZE = 8192;
+
+    private final CsvReader csvReader;
+    private final String[] keys;
+    private final int maxRowsInMemory;
+
+    private final StringBuilder buffer = new StringBuilder(FILL_SIZE * 2);
+    private final CsvWriter csvWriter;
+    private int position;
+
+    private boolean sorted;
+    private String[] header;
+    private Iterator<String[]> rows;
+    private final List<Run> runs = new ArrayList<Run>();
+    private PriorityQueue<Run> heap;
+
+    private RowComparator comparator;
+
+    public ExternalSortReader(CsvReader csvReader, String[] keys, int maxRowsInMemory, CsvWriter.DSL outputFormat) {
+        if (keys.length == 0) throw new IllegalArgumentException("No keys to sort by");
+        if (maxRowsInMemory <= 0) throw new IllegalArgumentException("maxRowsInMemory should be greater than 0");
+        this.csvReader = csvReader;
+        this.keys = keys;
+        this.maxRowsInMemory = maxRowsInMemory;
+        this.csvWriter = outputFormat.to(buffer);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (!sorted) {
+            sorted = true;
+            try {
+                sort();
+            } catch (IOException e) {
+                close();
+                throw e;
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        if (position == buffer.length()) {
+            buffer.setLength(0);
+            position = 0;
+            fill();
+            if (buffer.length() == 0) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, buffer.length() - position);
+        buffer.getChars(position, position + n, cbuf, off);
+        position += n;
+        return n;
+    }
+
+    private void sort() throws IOException {
+        Iterator<String[]> iterator = csvReader.iterator();
+        if (!iterator.hasNext()) {
+            rows = Collections.<String[]>emptyList().iterator();
+            return;
+        }
+        header = iterator.next();
+        comparator = new RowComparator(keyIndexes(header));
+
+        List<String[]> chunk = new ArrayList<String[]>();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == maxRowsInMemory) {
+                writeRun(chunk);
+                chunk.clear();
+            }
+        }
+        Collections.sort(chunk, comparator);
+        if (runs.isEmpty()) {
+            rows = chunk.iterator();
+            return;
+        }
+        if (!chunk.isEmpty()) {
+            writeRun(chunk);
+        }
+        chunk = null;
+
+        heap = new PriorityQueue<Run>(runs.size(), new Comparator<Run>() {
+            @Override
+            public int compare(Run o1, Run o2) {
+                int c = comparator.compare(o1.current, o2.current);
+                // keep the rows with the same keys in the input order
+                return c != 0 ? c : o1.index - o2.index;
+            }
+        });
+        for (Run run : runs) {
+            run.open();
+            if (run.next()) {
+                heap.add(run);
+            }
+        }
+    }
+
+    private int[] keyIndexes(String[] header) {
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < header.length; j++) {
+                if (header[j].equalsIgnoreCase(keys[i])) {
+                    indexes[i] = j;
+                    break;
+                }
+            }
+            if (indexes[i] == -1) {
+                throw new IllegalArgumentException("Could not find sort key " + keys[i] + " in header " + Arrays.toString(header));
+            }
+        }
+        return indexes;
+    }
+
+    private void writeRun(List<String[]> chunk) throws IOException {
+        Collections.sort(chunk, comparator);
+        File file = File.createTempFile("sfm-sort", ".csv");
+        // registered before writing, so close deletes it on failure
+        Run run = new Run(file, runs.size());
+        runs.add(run);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
+        try {
+            CsvWriter runWriter = CsvWriter.dsl().to(writer);
+            for (String[] row : chunk) {
+                appendRow(runWriter, row);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (header != null) {
+            appendRow(csvWriter, header);
+            header = null;
+        }
+        while (buffer.length() < FILL_SIZE) {
+            String[] row = nextRow();
+            if (row == null) return;
+            appendRow(csvWriter, row);
+        }
+    }
+
+    private String[] nextRow() throws IOException {
+        if (heap == null) {
+            return rows.hasNext() ? rows.next() : null;
+        }
+        Run run = heap.poll();
+        if (run == null) {
+            return null;
+        }
+        String[] row = run.current;
+        if (run.next()) {
+            heap.add(run);
+        } else {
+            run.close();
+        }
+        return row;
+    }
+
+    private static void appendRow(CsvWriter csvWriter, String[] row) throws IOException {
+        for (String cell : row) {
+            csvWriter.appendCell(cell != null ? cell : "");
+        }
+        csvWriter.endOfRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        for (Run run : runs) {
+            try {
+                run.close();
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+        runs.clear();
+        heap = null;
+        rows = Collections.<String[]>emptyList().iterator();
+        if (error != null) throw error;
+    }
+
+    private static final class RowComparator implements Comparator<String[]> {
+        private final int[] keyIndexes;
+
+        private RowComparator(int[] keyIndexes) {
+            this.keyIndexes = keyIndexes;
+        }
+
+        @Override
+        public int compare(String[] o1, String[] o2) {
+            for (int index : keyIndexes) {
+                int c = value(o1, index).compareTo(value(o2, index));
+                if (c != 0) return c;
+            }
+            return 0;
+        }
+
+        private static String value(String[] row, int index) {
+            return index < row.length && row[index] != null ? row[index] : "";
+        }
+    }
+
+    private static final class Run {
+        private final File file;
+        private final int index;
+        private Reader reader;
+        private Iterator<String[]> iterator;
+        private String[] current;
+
+        private Run(File file, int index) {
+            this.file = file;
+            this.index = index;
+        }
+
+        private void open() throws IOException {
+            reader = new InputStreamReader(new FileInputStream(file), UTF_8);
+            iterator = CsvParser.dsl().reader(reader).iterator();
+            file.delete();
+        }
+
+        private boolean next() {
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            current = null;
+            return false;
+        }
+
+        private void close() throws IOException {
+            try {
+                if (reader != null) {
+                    reader.close();
+                    reader = null;
+                }
+            } finally {
+                file.delete();
+            }
+        }
+    }
+}
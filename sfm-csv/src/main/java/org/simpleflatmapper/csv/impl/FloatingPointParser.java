@@ -0,0 +1,148 @@
+package org.simpleflatmapper.csv.impl;
+
+/**
+ * Parse double and float straight from a char[] without creating a String.
+ * <p>
+ * The decimal mantissa and exponent are read in a single pass, when the mantissa is exactly representable
+ * and the power of ten too, a single multiplication or division gives the correctly rounded result - Clinger fast path.
+ * That covers the usual csv values, prices, quantities, rates.
+ * Anything else - mantissa over 2^53, large exponent, NaN, Infinity, hexadecimal, surrounding spaces -
+ * falls back to Double.parseDouble and Float.parseFloat, the result is always the same as theirs.
+ */
+public final class FloatingPointParser {
+
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    // 18 digits always fit in a long, the 19th could overflow
+    private static final int MAX_DIGITS = 18;
+
+    private static final double[] DOUBLE_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final long[] LONG_POW10 = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L
+    };
+
+    private FloatingPointParser() {
+    }
+
+    public static double parseDouble(char[] chars, int offset, int length) {
+        return parse(chars, offset, length, false);
+    }
+
+    public static float parseFloat(char[] chars, int offset, int length) {
+        // the float result is exactly representable as double
+        return (float) parse(chars, offset, length, true);
+    }
+
+    private static double parse(char[] chars, int offset, int length, boolean asFloat) {
+        int i = offset;
+        final int end = offset + length;
+        boolean negative = false;
+        if (i < end) {
+            char c = chars[i];
+            if (c == '-') {
+                negative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exp10 = 0;
+        boolean hasDigit = false;
+        boolean truncated = false;
+
+        // integer part
+        for(; i < end; i++) {
+            int d = chars[i] - '0';
+            if (d < 0 || d > 9) break;
+            hasDigit = true;
+            if (digits < MAX_DIGITS) {
+                mantissa = mantissa * 10 + d;
+                if (mantissa != 0) digits++;
+            } else {
+                exp10++;
+                if (d != 0) truncated = true;
+            }
+        }
+
+        // fraction
+        if (i < end && chars[i] == '.') {
+            i++;
+            for(; i < end; i++) {
+                int d = chars[i] - '0';
+                if (d < 0 || d > 9) break;
+                hasDigit = true;
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    exp10--;
+                    if (mantissa != 0) digits++;
+                } else if (d != 0) {
+                    truncated = true;
+                }
+            }
+        }
+
+        // exponent
+        if (hasDigit && i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExp = chars[i] == '-';
+                i++;
+            }
+            int exp = 0;
+            boolean hasExpDigit = false;
+            for(; i < end; i++) {
+                int d = chars[i] - '0';
+                if (d < 0 || d > 9) break;
+                hasExpDigit = true;
+                if (exp < 100000) {
+                    exp = exp * 10 + d;
+                }
+            }
+            if (!hasExpDigit) {
+                hasDigit = false;
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+
+        if (hasDigit && i == end && !truncated) {
+            if (mantissa == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (asFloat) {
+                if (mantissa > 0 && mantissa <= MAX_EXACT_FLOAT_MANTISSA && exp10 >= -10 && exp10 <= 10) {
+                    float f = exp10 >= 0 ? mantissa * FLOAT_POW10[exp10] : mantissa / FLOAT_POW10[-exp10];
+                    return negative ? -f : f;
+                }
+            } else if (mantissa > 0 && mantissa <= MAX_EXACT_DOUBLE_MANTISSA) {
+                if (exp10 >= 0 && exp10 <= 22) {
+                    double d = mantissa * DOUBLE_POW10[exp10];
+                    return negative ? -d : d;
+                } else if (exp10 < 0 && exp10 >= -22) {
+                    double d = mantissa / DOUBLE_POW10[-exp10];
+                    return negative ? -d : d;
+                } else if (exp10 > 22 && exp10 <= 22 + 15) {
+                    // move the extra power of ten in the mantissa if it stays exact
+                    long scale = LONG_POW10[exp10 - 22];
+                    if (mantissa <= MAX_EXACT_DOUBLE_MANTISSA / scale) {
+                        double d = (mantissa * scale) * DOUBLE_POW10[22];
+                        return negative ? -d : d;
+                    }
+                }
+            }
+        }
+
+        String str = new String(chars, offset, length);
+        return asFloat ? Float.parseFloat(str) : Double.parseDouble(str);
+    }
+}
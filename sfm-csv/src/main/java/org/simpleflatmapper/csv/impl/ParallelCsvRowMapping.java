@@ -0,0 +1,258 @@
+package org.simpleflatmapper.csv.impl;
+
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.CsvRowSet;
+import org.simpleflatmapper.csv.ParallelOptions;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.mapper.StaticSetRowMapper;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Map the rows of a CsvReader on the executor of the ParallelOptions.
+ * <p>
+ * The calling thread tokenises the rows and copies the cells used by the mapper in a batch - a char[] and the cell boundaries.
+ * A full batch is mapped by a task with its own CsvRow and MappingContext, the calling thread then passes the objects to the handler.
+ * The batches are recycled, at most maxBatchesInFlight are allocated.
+ * <p>
+ * Only a StaticSetRowMapper maps each row independently, the join mappers aggregate consecutive rows and are run sequentially.
+ * @param <T> the mapped type
+ */
+public final class ParallelCsvRowMapping<T> implements CellConsumer {
+
+    private final StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper;
+    private final CsvColumnKey[] keys;
+    private final ParallelOptions options;
+    private final int maxIndex;
+    private final int nbColumns;
+
+    private final ArrayDeque<Batch<T>> pendingBatches = new ArrayDeque<Batch<T>>();
+    private final LinkedBlockingQueue<Batch<T>> completedBatches = new LinkedBlockingQueue<Batch<T>>();
+    private final ArrayDeque<Batch<T>> freeBatches = new ArrayDeque<Batch<T>>();
+    private int nbBatches;
+    private int nbPending;
+
+    private Batch<T> currentBatch;
+    private int cellIndex;
+
+    private ParallelCsvRowMapping(StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper, CsvColumnKey[] keys, ParallelOptions options) {
+        this.mapper = mapper;
+        this.keys = keys;
+        this.options = options;
+        this.maxIndex = maxIndex(keys);
+        this.nbColumns = maxIndex + 1;
+    }
+
+    public static <T, H extends CheckedConsumer<? super T>> H forEach(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvReader reader, CsvColumnKey[] keys, H handler, ParallelOptions options) throws IOException {
+        if (setRowMapper instanceof StaticSetRowMapper) {
+            new ParallelCsvRowMapping<T>((StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException>) setRowMapper, keys, options).run(reader, handler);
+        } else {
+            setRowMapper.forEach(new CsvRowSet(reader, -1, keys), handler);
+        }
+        return handler;
+    }
+
+    private void run(CsvReader reader, CheckedConsumer<? super T> handler) throws IOException {
+        CellConsumer cellConsumer = reader.wrapConsumer(this);
+        currentBatch = nextBatch(handler);
+        boolean hasMoreRows;
+        do {
+            hasMoreRows = reader.rawParseRow(cellConsumer, false);
+            if (currentBatch.nbRows == options.batchSize()) {
+                submit(currentBatch);
+                currentBatch = nextBatch(handler);
+            }
+        } while (hasMoreRows);
+
+        if (currentBatch.nbRows > 0) {
+            submit(currentBatch);
+        }
+        currentBatch = null;
+        while (nbPending > 0) {
+            handleNextBatch(handler);
+        }
+    }
+
+    @Override
+    public void newCell(char[] chars, int offset, int length) {
+        if (cellIndex < nbColumns) {
+            currentBatch.addCell(chars, offset, length);
+        }
+        cellIndex++;
+    }
+
+    @Override
+    public boolean endOfRow() {
+        endRow();
+        return true;
+    }
+
+    @Override
+    public void end() {
+        endRow();
+    }
+
+    // same as CsvRowSet, a row without cell is skipped
+    private void endRow() {
+        if (cellIndex > 0) {
+            currentBatch.endRow();
+            cellIndex = 0;
+        }
+    }
+
+    private Batch<T> nextBatch(CheckedConsumer<? super T> handler) throws IOException {
+        Batch<T> batch = freeBatches.poll();
+        if (batch != null) {
+            return batch;
+        }
+        if (nbBatches < options.maxBatchesInFlight()) {
+            nbBatches++;
+            return new Batch<T>(mapper, keys, maxIndex, options.batchSize());
+        }
+        handleNextBatch(handler);
+        return freeBatches.poll();
+    }
+
+    private void submit(final Batch<T> batch) {
+        FutureTask<Void> task;
+        if (options.isOrdered()) {
+            task = new FutureTask<Void>(batch, null);
+            pendingBatches.add(batch);
+        } else {
+            task = new FutureTask<Void>(batch, null) {
+                @Override
+                protected void done() {
+                    completedBatches.add(batch);
+                }
+            };
+        }
+        batch.task = task;
+        nbPending++;
+        options.executor().execute(task);
+    }
+
+    private void handleNextBatch(CheckedConsumer<? super T> handler) throws IOException {
+        try {
+            Batch<T> batch = options.isOrdered() ? pendingBatches.poll() : completedBatches.take();
+            nbPending--;
+            batch.task.get();
+            batch.handle(handler, mapper.getErrorHandler());
+            freeBatches.add(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            ErrorHelper.rethrow(cause);
+        }
+    }
+
+    private static int maxIndex(CsvColumnKey[] keys) {
+        int maxIndex = 0;
+        for (CsvColumnKey key : keys) {
+            if (key != null) {
+                maxIndex = Math.max(maxIndex, key.getIndex());
+            }
+        }
+        return maxIndex;
+    }
+
+    private static final class Batch<T> implements Runnable {
+        private final StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper;
+        private final MappingContext<? super CsvRow> mappingContext;
+        private final CsvRow row;
+        private final CharSequenceCharBuffer charBuffer;
+
+        private char[] chars;
+        private int charsLength;
+        // offset and length of each cell
+        private final int[] cells;
+        private int nbCells;
+        // index of the cell after the last cell of each row
+        private final int[] rowEnds;
+        private int nbRows;
+        private final Object[] results;
+
+        private FutureTask<Void> task;
+
+        private Batch(StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper, CsvColumnKey[] keys, int maxIndex, int batchSize) {
+            int nbColumns = maxIndex + 1;
+            this.mapper = mapper;
+            this.mappingContext = mapper.getMappingContextFactory().newContext();
+            this.chars = new char[batchSize * nbColumns * 8];
+            this.charBuffer = new CharSequenceCharBuffer(chars, 0);
+            this.row = new CsvRow(keys, maxIndex, charBuffer);
+            this.cells = new int[batchSize * nbColumns * 2];
+            this.rowEnds = new int[batchSize];
+            this.results = new Object[batchSize];
+        }
+
+        private void addCell(char[] source, int offset, int length) {
+            if (charsLength + length > chars.length) {
+                char[] newChars = new char[Math.max(chars.length * 2, charsLength + length)];
+                System.arraycopy(chars, 0, newChars, 0, charsLength);
+                chars = newChars;
+            }
+            System.arraycopy(source, offset, chars, charsLength, length);
+            int i = nbCells * 2;
+            cells[i] = charsLength;
+            cells[i + 1] = length;
+            charsLength += length;
+            nbCells++;
+        }
+
+        private void endRow() {
+            rowEnds[nbRows++] = nbCells;
+        }
+
+        @Override
+        public void run() {
+            // the row start mark stays at 0, the offsets in the batch are absolute
+            charBuffer.buffer = chars;
+            charBuffer.bufferSize = charsLength;
+            int cell = 0;
+            for (int r = 0; r < nbRows; r++) {
+                row.reset();
+                int end = rowEnds[r];
+                for (; cell < end; cell++) {
+                    row.newCell(chars, cells[cell * 2], cells[cell * 2 + 1]);
+                }
+                row.endOfRow();
+                results[r] = mapper.map(row, mappingContext);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handle(CheckedConsumer<? super T> handler, ConsumerErrorHandler errorHandler) {
+            for (int r = 0; r < nbRows; r++) {
+                T t = (T) results[r];
+                results[r] = null;
+                try {
+                    handler.accept(t);
+                } catch (Throwable e) {
+                    errorHandler.handlerError(e, t);
+                }
+            }
+            charsLength = 0;
+            nbCells = 0;
+            nbRows = 0;
+            task = null;
+        }
+    }
+}
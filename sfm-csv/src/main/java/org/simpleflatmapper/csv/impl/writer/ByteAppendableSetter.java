@@ -8,13 +8,16 @@ import org.simpleflatmapper.reflect.primitive.ByteSetter;
 public class ByteAppendableSetter implements ByteContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public ByteAppendableSetter(CellWriter cellWriter) {
+    public ByteAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setByte(Appendable target, byte value, Context context) throws Exception {
-        cellWriter.writeValue(Byte.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        cellWriter.writeValue(chars, 0, NumberChars.writeInt(value, chars, 0), target);
     }
 }
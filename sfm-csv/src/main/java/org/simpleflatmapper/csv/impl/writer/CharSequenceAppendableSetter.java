@@ -0,0 +1,19 @@
+package org.simpleflatmapper.csv.impl.writer;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.lightningcsv.CellWriter;
+import org.simpleflatmapper.map.setter.ContextualSetter;
+
+public class CharSequenceAppendableSetter implements ContextualSetter<Appendable, CharSequence> {
+
+    private final CellWriter cellWriter;
+
+    public CharSequenceAppendableSetter(CellWriter cellWriter) {
+        this.cellWriter = cellWriter;
+    }
+
+    @Override
+    public void set(Appendable target, CharSequence value, Context context) throws Exception {
+        cellWriter.writeValue(value, target);
+    }
+}
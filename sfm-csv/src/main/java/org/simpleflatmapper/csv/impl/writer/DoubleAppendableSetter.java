@@ -8,13 +8,21 @@ import org.simpleflatmapper.reflect.primitive.DoubleSetter;
 public class DoubleAppendableSetter implements DoubleContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public DoubleAppendableSetter(CellWriter cellWriter) {
+    public DoubleAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setDouble(Appendable target, double value, Context context) throws Exception {
-        cellWriter.writeValue(Double.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        int end = NumberChars.writeDouble(value, chars, 0);
+        if (end != -1) {
+            cellWriter.writeValue(chars, 0, end, target);
+        } else {
+            cellWriter.writeValue(Double.toString(value), target);
+        }
     }
 }
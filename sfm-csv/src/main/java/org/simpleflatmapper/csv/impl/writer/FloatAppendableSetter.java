@@ -8,13 +8,21 @@ import org.simpleflatmapper.reflect.primitive.FloatSetter;
 public class FloatAppendableSetter implements FloatContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public FloatAppendableSetter(CellWriter cellWriter) {
+    public FloatAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setFloat(Appendable target, float value, Context context) throws Exception {
-        cellWriter.writeValue(Float.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        int end = NumberChars.writeFloat(value, chars, 0);
+        if (end != -1) {
+            cellWriter.writeValue(chars, 0, end, target);
+        } else {
+            cellWriter.writeValue(Float.toString(value), target);
+        }
     }
 }
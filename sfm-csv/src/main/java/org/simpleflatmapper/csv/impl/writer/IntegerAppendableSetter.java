@@ -7,13 +7,16 @@ import org.simpleflatmapper.map.setter.IntContextualSetter;
 public class IntegerAppendableSetter implements IntContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public IntegerAppendableSetter(CellWriter cellWriter) {
+    public IntegerAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setInt(Appendable target, int value, Context context) throws Exception {
-        cellWriter.writeValue(Integer.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        cellWriter.writeValue(chars, 0, NumberChars.writeInt(value, chars, 0), target);
     }
 }
@@ -8,13 +8,16 @@ import org.simpleflatmapper.reflect.primitive.LongSetter;
 public class LongAppendableSetter implements LongContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public LongAppendableSetter(CellWriter cellWriter) {
+    public LongAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setLong(Appendable target, long value, Context context) throws Exception {
-        cellWriter.writeValue(Long.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        cellWriter.writeValue(chars, 0, NumberChars.writeLong(value, chars, 0), target);
     }
 }
@@ -0,0 +1,27 @@
+package org.simpleflatmapper.csv.impl.writer;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextualConverter;
+
+import java.text.Format;
+
+import static org.simpleflatmapper.util.Asserts.requireNonNull;
+
+/**
+ * Format the value with the non thread safe Format held in the mapping context at index.
+ */
+public class MappingContextFormatConverter implements ContextualConverter<Object, String> {
+
+    private final int index;
+
+    public MappingContextFormatConverter(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public String convert(Object in, Context context) throws Exception {
+        Format format = context.context(index);
+        requireNonNull("Format in mapping context", format);
+        return format.format(in);
+    }
+}
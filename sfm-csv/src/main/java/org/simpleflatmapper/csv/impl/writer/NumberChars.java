@@ -0,0 +1,205 @@
+package org.simpleflatmapper.csv.impl.writer;
+
+import org.simpleflatmapper.util.Supplier;
+
+/**
+ * Format primitive numbers into a char[] without creating a String.
+ * <p>
+ * The integral types are written digit by digit. The double and float are written as the shortest decimal that
+ * parses back to the same value, in the layout of Double.toString and Float.toString.
+ * Only the values between 10^-3 and 10^7 whose shortest decimal fits in the mantissa are handled,
+ * there the check that the decimal parses back is a single correctly rounded division;
+ * the others return -1 and the caller falls back on the jdk toString.
+ */
+public final class NumberChars {
+
+    /**
+     * enough for a long, or the plain layout of a double.
+     */
+    public static final int BUFFER_SIZE = 32;
+
+    private static final char[] MIN_LONG = Long.toString(Long.MIN_VALUE).toCharArray();
+
+    private static final double[] DOUBLE_POW10 = new double[16];
+    private static final float[] FLOAT_POW10 = new float[11];
+    static {
+        double d = 1;
+        for (int i = 0; i < DOUBLE_POW10.length; i++) {
+            DOUBLE_POW10[i] = d;
+            d *= 10;
+        }
+        float f = 1;
+        for (int i = 0; i < FLOAT_POW10.length; i++) {
+            FLOAT_POW10[i] = f;
+            f *= 10;
+        }
+    }
+
+    private static final double DOUBLE_MAX_EXACT = 1L << 53;
+    private static final double FLOAT_MAX_EXACT = 1L << 24;
+
+    private NumberChars() {
+    }
+
+    public static int writeInt(int value, char[] chars, int offset) {
+        if (value == Integer.MIN_VALUE) {
+            return writeLong(value, chars, offset);
+        }
+        int pos = offset;
+        if (value < 0) {
+            chars[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int i = end;
+        do {
+            int q = value / 10;
+            chars[--i] = (char) ('0' + (value - q * 10));
+            value = q;
+        } while (value != 0);
+        return end;
+    }
+
+    public static int writeLong(long value, char[] chars, int offset) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(MIN_LONG, 0, chars, offset, MIN_LONG.length);
+            return offset + MIN_LONG.length;
+        }
+        int pos = offset;
+        if (value < 0) {
+            chars[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int i = end;
+        do {
+            long q = value / 10;
+            chars[--i] = (char) ('0' + (value - q * 10));
+            value = q;
+        } while (value != 0);
+        return end;
+    }
+
+    /**
+     * @return the end of the value in chars, or -1 if the value needs Double.toString
+     */
+    public static int writeDouble(double value, char[] chars, int offset) {
+        int pos = offset;
+        if (Double.doubleToRawLongBits(value) < 0) {
+            chars[pos++] = '-';
+            value = -value;
+        }
+        if (value == 0) {
+            return writeZero(chars, pos);
+        }
+        if (!(value >= 1e-3 && value < 1e7)) {
+            return -1;
+        }
+        for (int k = 0; k < DOUBLE_POW10.length; k++) {
+            double pow10 = DOUBLE_POW10[k];
+            double scaled = value * pow10;
+            if (scaled >= DOUBLE_MAX_EXACT) {
+                return -1;
+            }
+            // the product is rounded, both neighbours are candidates
+            long low = (long) scaled;
+            boolean lowMatches = low / pow10 == value;
+            boolean highMatches = (low + 1) / pow10 == value;
+            if (lowMatches || highMatches) {
+                if (lowMatches && highMatches) {
+                    return -1;
+                }
+                return writePlain(lowMatches ? low : low + 1, k, chars, pos);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the end of the value in chars, or -1 if the value needs Float.toString
+     */
+    public static int writeFloat(float value, char[] chars, int offset) {
+        int pos = offset;
+        if (Float.floatToRawIntBits(value) < 0) {
+            chars[pos++] = '-';
+            value = -value;
+        }
+        if (value == 0) {
+            return writeZero(chars, pos);
+        }
+        if (!(value >= 1e-3f && value < 1e7f)) {
+            return -1;
+        }
+        for (int k = 0; k < FLOAT_POW10.length; k++) {
+            float pow10 = FLOAT_POW10[k];
+            // exact in double, 24 bits times at most 24 bits
+            double scaled = (double) value * pow10;
+            if (scaled >= FLOAT_MAX_EXACT) {
+                return -1;
+            }
+            long low = (long) scaled;
+            boolean lowMatches = low / pow10 == value;
+            boolean highMatches = (low + 1) / pow10 == value;
+            if (lowMatches || highMatches) {
+                if (lowMatches && highMatches) {
+                    return -1;
+                }
+                return writePlain(lowMatches ? low : low + 1, k, chars, pos);
+            }
+        }
+        return -1;
+    }
+
+    private static int writeZero(char[] chars, int pos) {
+        chars[pos++] = '0';
+        chars[pos++] = '.';
+        chars[pos++] = '0';
+        return pos;
+    }
+
+    // unscaled * 10^-fractionDigits with at least one digit on each side of the point
+    private static int writePlain(long unscaled, int fractionDigits, char[] chars, int pos) {
+        if (fractionDigits == 0) {
+            pos = writeLong(unscaled, chars, pos);
+            chars[pos++] = '.';
+            chars[pos++] = '0';
+            return pos;
+        }
+        int digits = digitCount(unscaled);
+        if (digits <= fractionDigits) {
+            chars[pos++] = '0';
+            chars[pos++] = '.';
+            for (int i = digits; i < fractionDigits; i++) {
+                chars[pos++] = '0';
+            }
+            return writeLong(unscaled, chars, pos);
+        }
+        int end = writeLong(unscaled, chars, pos + 1);
+        int point = end - fractionDigits;
+        System.arraycopy(chars, pos + 1, chars, pos, point - pos - 1);
+        chars[point - 1] = '.';
+        return end;
+    }
+
+    private static int digitCount(long value) {
+        int n = 1;
+        long p = 10;
+        while (n < 19 && value >= p) {
+            n++;
+            p *= 10;
+        }
+        return n;
+    }
+
+    /**
+     * the cells are written one after another, all the number setters of a context share this buffer.
+     */
+    public static final Supplier<char[]> BUFFER_SUPPLIER = new BufferSupplier();
+
+    private static final class BufferSupplier implements Supplier<char[]> {
+        @Override
+        public char[] get() {
+            return new char[BUFFER_SIZE];
+        }
+    }
+}
@@ -8,13 +8,16 @@ import org.simpleflatmapper.reflect.primitive.ShortSetter;
 public class ShortAppendableSetter implements ShortContextualSetter<Appendable> {
 
     private final CellWriter cellWriter;
+    private final int bufferIndex;
 
-    public ShortAppendableSetter(CellWriter cellWriter) {
+    public ShortAppendableSetter(CellWriter cellWriter, int bufferIndex) {
         this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
     }
 
     @Override
     public void setShort(Appendable target, short value, Context context) throws Exception {
-        cellWriter.writeValue(Short.toString(value), target);
+        char[] chars = context.context(bufferIndex);
+        cellWriter.writeValue(chars, 0, NumberChars.writeInt(value, chars, 0), target);
     }
 }
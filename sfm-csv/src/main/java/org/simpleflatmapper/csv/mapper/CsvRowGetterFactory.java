@@ -16,20 +16,25 @@ import org.simpleflatmapper.csv.getter.CsvBoxedIntegerGetter;
 import org.simpleflatmapper.csv.getter.CsvBoxedLongGetter;
 import org.simpleflatmapper.csv.getter.CsvBoxedShortGetter;
 import org.simpleflatmapper.csv.getter.CsvByteGetter;
+import org.simpleflatmapper.csv.getter.CsvCachedStringGetter;
 import org.simpleflatmapper.csv.getter.CsvCharGetter;
 import org.simpleflatmapper.csv.getter.CsvCharSequenceGetter;
 import org.simpleflatmapper.csv.getter.CsvDoubleGetter;
+import org.simpleflatmapper.csv.getter.CsvEnumGetter;
 import org.simpleflatmapper.csv.getter.CsvFloatGetter;
 import org.simpleflatmapper.csv.getter.CsvIntegerGetter;
 import org.simpleflatmapper.csv.getter.CsvLongGetter;
 import org.simpleflatmapper.csv.getter.CsvShortGetter;
 import org.simpleflatmapper.csv.getter.CsvStringGetter;
+import org.simpleflatmapper.csv.getter.CsvUUIDGetter;
 import org.simpleflatmapper.csv.getter.CustomReaderGetter;
 import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
 import org.simpleflatmapper.csv.property.CustomReaderProperty;
+import org.simpleflatmapper.csv.property.StringCacheProperty;
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.getter.*;
+import org.simpleflatmapper.util.EnumLookup;
 import org.simpleflatmapper.util.TypeHelper;
 
 import java.lang.reflect.Type;
@@ -37,6 +42,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvColumnKey> {
     
@@ -179,6 +185,11 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
             @Override
             public <P> ContextualGetter<CsvRow, P> newGetter(final Type target, CsvColumnKey key, MappingContextFactoryBuilder<?, ? extends FieldKey<?>> mappingContextFactoryBuilder, Object... properties) {
                 int index = key.getIndex();
+                for(Object property : properties) {
+                    if (property instanceof StringCacheProperty) {
+                        return (ContextualGetter<CsvRow, P>) new CsvCachedStringGetter(index, ((StringCacheProperty) property).newStringCache());
+                    }
+                }
                 return (ContextualGetter<CsvRow, P>) new CsvStringGetter(index);
             }
         });
@@ -206,6 +217,14 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
                 return (ContextualGetter<CsvRow, P>) new CsvBigIntegerGetter(index);
             }
         });
+
+        getterFactory.put(UUID.class, new ContextualGetterFactory<CsvRow, CsvColumnKey>() {
+            @Override
+            public <P> ContextualGetter<CsvRow, P> newGetter(final Type target, CsvColumnKey key, MappingContextFactoryBuilder<?, ? extends FieldKey<?>> mappingContextFactoryBuilder, Object... properties) {
+                int index = key.getIndex();
+                return (ContextualGetter<CsvRow, P>) new CsvUUIDGetter(index);
+            }
+        });
     }
     
     @Override
@@ -244,7 +263,10 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
         if (getterFactory != null) {
             return getterFactory.newGetter(target, key, mappingContextFactoryBuilder, properties);
         }
-        
+
+        if (clazz.isEnum()) {
+            return (ContextualGetter<CsvRow, P>) new CsvEnumGetter(key.getIndex(), EnumLookup.of((Class) clazz));
+        }
 
         return null;
     }
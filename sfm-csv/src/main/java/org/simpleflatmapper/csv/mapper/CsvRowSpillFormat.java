@@ -0,0 +1,84 @@
+package org.simpleflatmapper.csv.mapper;
+
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.CsvRowSet;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvWriter;
+import org.simpleflatmapper.map.mapper.RowSpillFormat;
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Spill the CsvRow as a csv in UTF-8, the first row is the names of the keys at their index.
+ */
+public final class CsvRowSpillFormat implements RowSpillFormat<CsvRow> {
+
+    public static final CsvRowSpillFormat INSTANCE = new CsvRowSpillFormat();
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private CsvRowSpillFormat() {
+    }
+
+    @Override
+    public RowWriter<CsvRow> newWriter(OutputStream out) {
+        return new CsvRowWriter(new OutputStreamWriter(out, UTF_8));
+    }
+
+    @Override
+    public Enumerable<CsvRow> newReader(InputStream in) throws IOException {
+        CsvRowSet rowSet = new CsvRowSet(CsvParser.reader(new InputStreamReader(in, UTF_8)), -1);
+        rowSet.getKeys();
+        return rowSet;
+    }
+
+    private static final class CsvRowWriter implements RowWriter<CsvRow> {
+        private final Writer writer;
+        private final CsvWriter csvWriter;
+        private boolean headerWritten;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+            this.csvWriter = CsvWriter.dsl().to(writer);
+        }
+
+        @Override
+        public void write(CsvRow row) throws IOException {
+            if (!headerWritten) {
+                writeHeader(row);
+                headerWritten = true;
+            }
+            for (int i = 0; i < row.getNbColumns(); i++) {
+                CharSequence value = row.getCharSequence(i);
+                csvWriter.appendCell(value != null ? value : "");
+            }
+            csvWriter.endOfRow();
+        }
+
+        private void writeHeader(CsvRow row) throws IOException {
+            String[] names = new String[row.getNbColumns()];
+            for (CsvColumnKey key : row.getKeys()) {
+                if (key != null && key.getIndex() < names.length) {
+                    names[key.getIndex()] = key.getName();
+                }
+            }
+            for (String name : names) {
+                csvWriter.appendCell(name != null ? name : "");
+            }
+            csvWriter.endOfRow();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -12,7 +12,6 @@ import org.simpleflatmapper.map.property.SetterProperty;
 import org.simpleflatmapper.map.fieldmapper.*;
 import org.simpleflatmapper.map.mapper.ColumnDefinition;
 import org.simpleflatmapper.map.FieldMapper;
-import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.property.DateFormatProperty;
 import org.simpleflatmapper.map.property.EnumOrdinalFormatProperty;
 import org.simpleflatmapper.map.property.FormatProperty;
@@ -79,19 +78,19 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
             if (getter instanceof BooleanGetter) {
                 return new BooleanConstantTargetFieldMapper<S, Appendable>((BooleanGetter<? super S>) getter, new BooleanAppendableSetter(cellWriter));
             } else if (getter instanceof ByteGetter) {
-                return new ByteConstantTargetFieldMapper<S, Appendable>((ByteGetter<? super S>) getter, new ByteAppendableSetter(cellWriter));
+                return new ByteConstantTargetFieldMapper<S, Appendable>((ByteGetter<? super S>) getter, new ByteAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             } else if (getter instanceof CharacterGetter) {
                 return new CharacterConstantTargetFieldMapper<S, Appendable>((CharacterGetter<? super S>) getter, new CharacterAppendableSetter(cellWriter));
             } else if (getter instanceof ShortGetter) {
-                return new ShortConstantTargetFieldMapper<S, Appendable>((ShortGetter<? super S>) getter, new ShortAppendableSetter(cellWriter));
+                return new ShortConstantTargetFieldMapper<S, Appendable>((ShortGetter<? super S>) getter, new ShortAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             } else if (getter instanceof IntGetter) {
-                return new IntConstantTargetFieldMapper<S, Appendable>((IntGetter<? super S>) getter, new IntegerAppendableSetter(cellWriter));
+                return new IntConstantTargetFieldMapper<S, Appendable>((IntGetter<? super S>) getter, new IntegerAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             } else if (getter instanceof LongGetter) {
-                return new LongConstantTargetFieldMapper<S, Appendable>((LongGetter<? super S>) getter, new LongAppendableSetter(cellWriter));
+                return new LongConstantTargetFieldMapper<S, Appendable>((LongGetter<? super S>) getter, new LongAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             } else if (getter instanceof FloatGetter) {
-                return new FloatConstantTargetFieldMapper<S, Appendable>((FloatGetter<? super S>) getter, new FloatAppendableSetter(cellWriter));
+                return new FloatConstantTargetFieldMapper<S, Appendable>((FloatGetter<? super S>) getter, new FloatAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             } else if (getter instanceof DoubleGetter) {
-                return new DoubleConstantTargetFieldMapper<S, Appendable>((DoubleGetter<? super S>) getter, new DoubleAppendableSetter(cellWriter));
+                return new DoubleConstantTargetFieldMapper<S, Appendable>((DoubleGetter<? super S>) getter, new DoubleAppendableSetter(cellWriter, builder.addSupplier(NumberChars.BUFFER_SUPPLIER)));
             }
         }
 
@@ -118,7 +117,7 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
         if (format != null) {
             final Format f = format;
             int  i = builder.addSupplier(new CloneFormatSupplier(f));
-            return new FormatingAppender<S>(getter, new MappingContextFormatGetter<S>(i), cellWriter);
+            return new ConvertingConstantTargetFieldMapper<S, Appendable, P, CharSequence>(getter, new MappingContextFormatConverter(i), new CharSequenceAppendableSetter(cellWriter));
         }
 
 
@@ -135,7 +134,7 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
                             columnDefinition.properties());
 
             if (converter != null) {
-                return new ConvertingAppender<S, P>(getter, converter, cellWriter);
+                return new ConvertingConstantTargetFieldMapper<S, Appendable, P, CharSequence>(getter, converter, new CharSequenceAppendableSetter(cellWriter));
             }
         }
 
@@ -196,19 +195,6 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
     }
 
 
-    private static class MappingContextFormatGetter<S> implements Getter<MappingContext<? super S>, Format> {
-        private final int index;
-
-        public MappingContextFormatGetter(int index) {
-            this.index = index;
-        }
-
-        @Override
-        public Format get(MappingContext<? super S> target) throws Exception {
-            return target.context(index);
-        }
-    }
-
     private static class CloneFormatSupplier implements Supplier<Format> {
         private final Format f;
 
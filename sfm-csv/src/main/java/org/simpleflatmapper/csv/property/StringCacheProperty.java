@@ -0,0 +1,36 @@
+package org.simpleflatmapper.csv.property;
+
+import org.simpleflatmapper.lightningcsv.parser.StringCache;
+
+/**
+ * Indicate that the String values of the column should be deduplicated through a StringCache.
+ * Meant for columns with few distinct values, each mapper gets its own cache for the column.
+ */
+public final class StringCacheProperty {
+    public static final StringCacheProperty DEFAULT = new StringCacheProperty(StringCache.DEFAULT_CAPACITY, StringCache.DEFAULT_MAX_LENGTH);
+
+    private final int capacity;
+    private final int maxLength;
+
+    public StringCacheProperty(int capacity, int maxLength) {
+        this.capacity = capacity;
+        this.maxLength = maxLength;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public StringCache newStringCache() {
+        return new StringCache(capacity, maxLength);
+    }
+
+    @Override
+    public String toString() {
+        return "StringCache{" + capacity + ", " + maxLength + "}";
+    }
+}
@@ -0,0 +1,93 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Flow.Publisher of the objects mapped by a CsvMapper, emitted in List batches.
+ * <p>
+ * Each subscriber gets its own reader from the reader factory, opened on the first request and closed on completion, error or cancel.
+ * The rows are only parsed and mapped when a batch is requested, request(n) asks for n batches of up to batchSize objects.
+ * The signals are delivered on the executor, by default the ParallelReader executor.
+ * <p>
+ * Only packaged in META-INF/versions/9 of the multi-release jar.
+ * @param <T> the mapped type
+ * @see CsvBatchSubscription
+ */
+public final class CsvFlowPublisher<T> implements Flow.Publisher<List<T>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final CsvMapper<T> mapper;
+    private final Callable<? extends Reader> readerFactory;
+    private final int batchSize;
+    private final Executor executor;
+
+    public CsvFlowPublisher(CsvMapper<T> mapper, Callable<? extends Reader> readerFactory) {
+        this(mapper, readerFactory, DEFAULT_BATCH_SIZE, ParallelReader.getDefaultExecutor());
+    }
+
+    public CsvFlowPublisher(CsvMapper<T> mapper, Callable<? extends Reader> readerFactory, int batchSize, Executor executor) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.readerFactory = Objects.requireNonNull(readerFactory);
+        this.batchSize = batchSize;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public static <T> CsvFlowPublisher<T> of(CsvMapper<T> mapper, File file) {
+        return of(mapper, file, CsvParser.DEFAULT_CHARSET);
+    }
+
+    public static <T> CsvFlowPublisher<T> of(CsvMapper<T> mapper, final File file, final Charset charset) {
+        return new CsvFlowPublisher<T>(mapper, new Callable<Reader>() {
+            @Override
+            public Reader call() throws Exception {
+                return new InputStreamReader(new FileInputStream(file), charset);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super List<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final CsvBatchSubscription<T> subscription = new CsvBatchSubscription<T>(mapper, readerFactory, batchSize, executor, new CsvBatchSubscription.Subscriber<T>() {
+            @Override
+            public void onNext(List<T> batch) {
+                subscriber.onNext(batch);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                subscriber.onError(error);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                subscription.cancel();
+            }
+        });
+        subscription.start();
+    }
+}
@@ -0,0 +1,134 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.ColumnBatch;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ColumnBatchTest {
+
+    private static final String CSV = "id,country,timestamp,price,comment\n"
+            + "1,FR,1000000000000,1.5,\"a, b\"\n"
+            + "2,GB,2000000000000,2.25,c\n"
+            + "3,FR,,,d\n"
+            + "4,,4,-0.5\n"
+            + "5,DE,5,1e3,e";
+
+    @Test
+    public void testFillsColumnsInBatches() throws Exception {
+        final List<String> rows = new ArrayList<String>();
+        final List<Integer> sizes = new ArrayList<Integer>();
+        CsvParser.mapToColumns()
+                .addInt("id")
+                .addString("country")
+                .addLong("timestamp")
+                .addDouble("price")
+                .batchSize(2)
+                .forEach(new StringReader(CSV), new CheckedConsumer<ColumnBatch>() {
+                    @Override
+                    public void accept(ColumnBatch batch) {
+                        assertEquals(2, batch.capacity());
+                        sizes.add(batch.size());
+                        int[] ids = batch.ints(0);
+                        long[] timestamps = batch.longs(2);
+                        double[] prices = batch.doubles(batch.columnIndex("price"));
+                        for (int i = 0; i < batch.size(); i++) {
+                            rows.add(ids[i] + ":" + batch.getString(1, i) + ":" + timestamps[i] + ":" + prices[i]);
+                        }
+                    }
+                });
+
+        assertEquals("[2, 2, 1]", sizes.toString());
+        assertEquals("[1:FR:1000000000000:1.5, 2:GB:2000000000000:2.25, 3:FR:0:0.0, 4:null:4:-0.5, 5:DE:5:1000.0]", rows.toString());
+    }
+
+    @Test
+    public void testDictionaryCodesAreStableAcrossBatches() throws Exception {
+        final List<Integer> codes = new ArrayList<Integer>();
+        final ColumnBatch[] lastBatch = new ColumnBatch[1];
+        CsvParser.mapToColumns()
+                .addString("country")
+                .batchSize(1)
+                .forEach(CSV, new CheckedConsumer<ColumnBatch>() {
+                    @Override
+                    public void accept(ColumnBatch batch) {
+                        assertTrue(lastBatch[0] == null || lastBatch[0] == batch);
+                        lastBatch[0] = batch;
+                        codes.add(batch.codes(0)[0]);
+                    }
+                });
+
+        assertEquals("[0, 1, 0, -1, 2]", codes.toString());
+        ColumnBatch batch = lastBatch[0];
+        assertEquals(3, batch.dictionarySize(0));
+        assertEquals("FR", batch.dictionary(0)[0]);
+        assertEquals("GB", batch.dictionary(0)[1]);
+        assertEquals("DE", batch.dictionary(0)[2]);
+    }
+
+    @Test
+    public void testDictionaryGrows() throws Exception {
+        StringBuilder sb = new StringBuilder("value\n");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("v").append(i % 300).append('\n');
+        }
+        final int[] nbRows = new int[1];
+        CsvParser.mapToColumns().addString("value").forEach(sb, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                int[] codes = batch.codes(0);
+                for (int i = 0; i < batch.size(); i++) {
+                    int row = nbRows[0]++;
+                    assertEquals(row % 300, codes[i]);
+                    assertEquals("v" + (row % 300), batch.getString(0, i));
+                }
+                assertEquals(300, batch.dictionarySize(0));
+            }
+        });
+        assertEquals(1000, nbRows[0]);
+    }
+
+    @Test
+    public void testLimit() throws Exception {
+        final int[] nbRows = new int[1];
+        CsvParser.limit(3).mapToColumns().addInt("id").forEach(CSV, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                nbRows[0] += batch.size();
+            }
+        });
+        assertEquals(3, nbRows[0]);
+    }
+
+    @Test
+    public void testWrongTypeOrMissingColumn() throws Exception {
+        try {
+            CsvParser.mapToColumns().addInt("unknown").forEach(CSV, new CheckedConsumer<ColumnBatch>() {
+                @Override
+                public void accept(ColumnBatch batch) {
+                }
+            });
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        CsvParser.mapToColumns().addInt("id").forEach(CSV, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                try {
+                    batch.longs(0);
+                    fail();
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        });
+    }
+}
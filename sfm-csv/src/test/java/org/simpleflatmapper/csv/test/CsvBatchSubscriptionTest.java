@@ -0,0 +1,230 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvBatchSubscription;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CsvBatchSubscriptionTest {
+
+	private static final Executor SAME_THREAD = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private final CsvMapper<Item> mapper = CsvMapperFactory.newInstance().newMapper(Item.class);
+
+	@Test
+	public void testEmitsRequestedBatchesOnly() {
+		TrackingReaderFactory readerFactory = new TrackingReaderFactory(content(10));
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		CsvBatchSubscription<Item> subscription = new CsvBatchSubscription<Item>(mapper, readerFactory, 3, SAME_THREAD, subscriber);
+
+		subscription.request(1);
+		subscription.start();
+		assertEquals(1, subscriber.batches.size());
+		assertEquals(3, subscriber.batches.get(0).size());
+		assertEquals(0, subscriber.batches.get(0).get(0).id);
+
+		subscription.request(2);
+		assertEquals(3, subscriber.batches.size());
+		assertFalse(subscriber.completed);
+		assertFalse(readerFactory.reader.closed);
+
+		subscription.request(Long.MAX_VALUE);
+		assertEquals(4, subscriber.batches.size());
+		assertEquals(1, subscriber.batches.get(3).size());
+		assertEquals(9, subscriber.batches.get(3).get(0).id);
+		assertTrue(subscriber.completed);
+		assertTrue(readerFactory.reader.closed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testDoesNotMapRowsWithoutDemand() {
+		CountedItem.instances.set(0);
+		CsvMapper<CountedItem> countedMapper = CsvMapperFactory.newInstance().newMapper(CountedItem.class);
+		TrackingReaderFactory readerFactory = new TrackingReaderFactory(content(10));
+		CsvBatchSubscription<CountedItem> subscription = new CsvBatchSubscription<CountedItem>(countedMapper, readerFactory, 3, SAME_THREAD, new CsvBatchSubscription.Subscriber<CountedItem>() {
+			@Override
+			public void onNext(List<CountedItem> batch) {
+			}
+
+			@Override
+			public void onError(Throwable error) {
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+		subscription.start();
+		assertEquals(0, CountedItem.instances.get());
+
+		subscription.request(1);
+		assertEquals(3, CountedItem.instances.get());
+
+		subscription.request(1);
+		assertEquals(6, CountedItem.instances.get());
+	}
+
+	@Test
+	public void testCancelClosesReader() {
+		TrackingReaderFactory readerFactory = new TrackingReaderFactory(content(10));
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		CsvBatchSubscription<Item> subscription = new CsvBatchSubscription<Item>(mapper, readerFactory, 3, SAME_THREAD, subscriber);
+		subscription.start();
+		assertNull("reader opened on first request", readerFactory.reader);
+
+		subscription.request(1);
+		subscription.cancel();
+		subscription.request(1);
+
+		assertEquals(1, subscriber.batches.size());
+		assertTrue(readerFactory.reader.closed);
+		assertFalse(subscriber.completed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testInvalidRequestSignalsError() {
+		TrackingReaderFactory readerFactory = new TrackingReaderFactory(content(10));
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		CsvBatchSubscription<Item> subscription = new CsvBatchSubscription<Item>(mapper, readerFactory, 3, SAME_THREAD, subscriber);
+		subscription.start();
+
+		subscription.request(1);
+		subscription.request(0);
+
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertTrue(readerFactory.reader.closed);
+	}
+
+	@Test
+	public void testRequestFromOnNextOnExecutor() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final CountDownLatch latch = new CountDownLatch(1);
+			final List<Item> items = new ArrayList<Item>();
+			final CsvBatchSubscription<Item>[] holder = new CsvBatchSubscription[1];
+			TrackingReaderFactory readerFactory = new TrackingReaderFactory(content(1000));
+			holder[0] = new CsvBatchSubscription<Item>(mapper, readerFactory, 7, executor, new CsvBatchSubscription.Subscriber<Item>() {
+				@Override
+				public void onNext(List<Item> batch) {
+					items.addAll(batch);
+					holder[0].request(1);
+				}
+
+				@Override
+				public void onError(Throwable error) {
+					latch.countDown();
+				}
+
+				@Override
+				public void onComplete() {
+					latch.countDown();
+				}
+			});
+			holder[0].request(1);
+			holder[0].start();
+
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+			assertEquals(1000, items.size());
+			for(int i = 0; i < items.size(); i++) {
+				assertEquals(i, items.get(i).id);
+			}
+			assertTrue(readerFactory.reader.closed);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static String content(int n) {
+		StringBuilder sb = new StringBuilder("id,name\n");
+		for(int i = 0; i < n; i++) {
+			sb.append(i).append(",name").append(i).append("\n");
+		}
+		return sb.toString();
+	}
+
+	public static class Item {
+		public int id;
+		public String name;
+	}
+
+	public static class CountedItem {
+		private static final AtomicInteger instances = new AtomicInteger();
+		public int id;
+		public String name;
+
+		public CountedItem() {
+			instances.incrementAndGet();
+		}
+	}
+
+	private static class TrackingReader extends StringReader {
+		private volatile boolean closed;
+
+		TrackingReader(String s) {
+			super(s);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+
+	private static class TrackingReaderFactory implements Callable<Reader> {
+		private final String content;
+		private volatile TrackingReader reader;
+
+		TrackingReaderFactory(String content) {
+			this.content = content;
+		}
+
+		@Override
+		public Reader call() {
+			reader = new TrackingReader(content);
+			return reader;
+		}
+	}
+
+	private static class RecordingSubscriber implements CsvBatchSubscription.Subscriber<Item> {
+		private final List<List<Item>> batches = new ArrayList<List<Item>>();
+		private boolean completed;
+		private Throwable error;
+
+		@Override
+		public void onNext(List<Item> batch) {
+			batches.add(batch);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class CsvMapperEnumUUIDTest {
+
+	public enum Status {
+		ACTIVE, SUSPENDED, CLOSED
+	}
+
+	public static class Account {
+		public Status status;
+		public UUID id;
+	}
+
+	@Test
+	public void testMapEnumAndUUID() throws IOException {
+		CsvMapper<Account> mapper = CsvMapperFactory.newInstance().newMapper(Account.class);
+		UUID uuid = UUID.randomUUID();
+		Iterator<Account> iterator = mapper.iterator(new StringReader("status,id\nSUSPENDED," + uuid + "\n2,1-2-3-4-5\n,\n"));
+
+		Account account = iterator.next();
+		assertEquals(Status.SUSPENDED, account.status);
+		assertEquals(uuid, account.id);
+
+		account = iterator.next();
+		assertEquals(Status.CLOSED, account.status);
+		assertEquals(UUID.fromString("1-2-3-4-5"), account.id);
+
+		account = iterator.next();
+		assertNull(account.status);
+		assertNull(account.id);
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testInvalidEnum() throws IOException {
+		CsvMapper<Account> mapper = CsvMapperFactory.newInstance().newMapper(Account.class);
+		Iterator<Account> iterator = mapper.iterator(new StringReader("status\nOPEN\n"));
+		try {
+			iterator.next();
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("OPEN"));
+		}
+	}
+}
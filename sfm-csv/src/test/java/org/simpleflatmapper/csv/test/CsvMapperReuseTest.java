@@ -0,0 +1,107 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.map.property.InferNullProperty;
+import org.simpleflatmapper.test.beans.ProfessorGS;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Supplier;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvMapperReuseTest {
+
+    @Test
+    public void testReuseInstance() throws Exception {
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newMapper(Row.class);
+        final List<String> values = new ArrayList<String>();
+        final List<Row> instances = new ArrayList<Row>();
+        final int[] nbCreated = new int[1];
+
+        mapper.forEachReusing(new StringReader("id,name,address_city\n1,a,Paris\n2,,\n3,c,Rome"),
+                new Supplier<Row>() {
+                    @Override
+                    public Row get() {
+                        nbCreated[0]++;
+                        Row row = new Row();
+                        row.unmapped = "kept";
+                        return row;
+                    }
+                },
+                new CheckedConsumer<Row>() {
+                    @Override
+                    public void accept(Row row) {
+                        instances.add(row);
+                        values.add(row.id + ":" + row.name + ":" + row.address.city + ":" + row.unmapped);
+                    }
+                });
+
+        assertEquals(1, nbCreated[0]);
+        assertEquals(3, instances.size());
+        assertSame(instances.get(0), instances.get(1));
+        assertSame(instances.get(0), instances.get(2));
+        // empty cells are set to null, the nested address is a new instance on each row
+        assertEquals("[1:a:Paris:kept, 2:null:null:kept, 3:c:Rome:kept]", values.toString());
+    }
+
+    @Test
+    public void testReuseResetsNestedObjectInferredNull() throws Exception {
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().addColumnProperty("address_city", InferNullProperty.DEFAULT).newMapper(Row.class);
+        final List<String> values = new ArrayList<String>();
+
+        mapper.forEachReusing(new StringReader("id,name,address_city\n1,a,Paris\n2,b,\n3,c,Rome"),
+                new Supplier<Row>() {
+                    @Override
+                    public Row get() {
+                        return new Row();
+                    }
+                },
+                new CheckedConsumer<Row>() {
+                    @Override
+                    public void accept(Row row) {
+                        values.add(row.id + ":" + row.name + ":" + (row.address != null ? row.address.city : "no address"));
+                    }
+                });
+
+        // the empty address group does not keep the address of the previous row
+        assertEquals("[1:a:Paris, 2:b:no address, 3:c:Rome]", values.toString());
+    }
+
+    @Test
+    public void testReuseNotSupportedWithJoin() throws Exception {
+        CsvMapper<ProfessorGS> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").newMapper(ProfessorGS.class);
+        try {
+            mapper.forEachReusing(new StringReader("id,name,students_id,students_name\n1,p1,3,s3"),
+                    new Supplier<ProfessorGS>() {
+                        @Override
+                        public ProfessorGS get() {
+                            return new ProfessorGS();
+                        }
+                    },
+                    new CheckedConsumer<ProfessorGS>() {
+                        @Override
+                        public void accept(ProfessorGS professorGS) {
+                        }
+                    });
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    public static class Row {
+        public int id;
+        public String name;
+        public Address address;
+        public String unmapped;
+    }
+
+    public static class Address {
+        public String city;
+    }
+}
@@ -0,0 +1,40 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvColumnDefinition;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvMapperStringCacheTest {
+
+	@Test
+	public void testStringCacheDefinitionDeduplicatesValues() throws IOException {
+		CsvMapper<Order> mapper = CsvMapperFactory.newInstance()
+				.addColumnDefinition("country", CsvColumnDefinition.stringCacheDefinition())
+				.newMapper(Order.class);
+
+		List<Order> orders = mapper.forEach(new StringReader("id,country,currency\n1,FR,EUR\n2,FR,EUR\n3,GB,GBP\n4,FR,\n"), new ListCollector<Order>()).getList();
+
+		assertEquals(4, orders.size());
+		assertEquals("GB", orders.get(2).country);
+		assertEquals("FR", orders.get(3).country);
+		assertSame(orders.get(0).country, orders.get(1).country);
+		assertSame(orders.get(0).country, orders.get(3).country);
+		assertEquals(orders.get(0).currency, orders.get(1).currency);
+		assertNotSame(orders.get(0).currency, orders.get(1).currency);
+		assertNull(orders.get(3).currency);
+	}
+
+	public static class Order {
+		public int id;
+		public String country;
+		public String currency;
+	}
+}
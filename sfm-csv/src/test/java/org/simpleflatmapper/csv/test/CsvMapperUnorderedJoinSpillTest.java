@@ -0,0 +1,169 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+import static org.junit.Assert.*;
+
+public class CsvMapperUnorderedJoinSpillTest {
+
+    @Test
+    public void testSpillMatchesInMemoryJoin() throws Exception {
+        String csv = newShuffledCsv(2000, 3);
+
+        CsvMapper<Professor> inMemoryMapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin().newMapper(Professor.class);
+        CsvMapper<Professor> spillMapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin(5).newMapper(Professor.class);
+
+        int nbTempFiles = nbTempFiles();
+        List<String> expected = toStrings(inMemoryMapper.forEach(new StringReader(csv), new ListCollector<Professor>()).getList());
+        List<String> professors = toStrings(spillMapper.forEach(new StringReader(csv), new ListCollector<Professor>()).getList());
+
+        assertEquals(2000, expected.size());
+        assertEquals(expected, professors);
+        assertEquals(nbTempFiles, nbTempFiles());
+    }
+
+    @Test
+    public void testCloseDeletesRemainingPartitions() throws Exception {
+        String csv = newShuffledCsv(200, 3);
+        CsvMapper<Professor> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin(5).newMapper(Professor.class);
+
+        int nbTempFiles = nbTempFiles();
+        Iterator<Professor> iterator = mapper.iterator(new StringReader(csv));
+        iterator.next();
+        assertTrue(nbTempFiles() > nbTempFiles);
+        ((Closeable) iterator).close();
+        assertEquals(nbTempFiles, nbTempFiles());
+        assertFalse(iterator.hasNext());
+
+        try {
+            mapper.forEach(new StringReader(csv), new CheckedConsumer<Professor>() {
+                @Override
+                public void accept(Professor professor) {
+                    throw new IllegalStateException();
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(nbTempFiles, nbTempFiles());
+    }
+
+    //IFJAVA8_START
+    @Test
+    public void testCloseStreamDeletesRemainingPartitions() throws Exception {
+        String csv = newShuffledCsv(200, 3);
+        CsvMapper<Professor> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin(5).newMapper(Professor.class);
+
+        int nbTempFiles = nbTempFiles();
+        Stream<Professor> stream = mapper.stream(new StringReader(csv));
+        assertEquals(2, stream.limit(2).count());
+        stream.close();
+        assertEquals(nbTempFiles, nbTempFiles());
+    }
+    //IFJAVA8_END
+
+    @Test
+    public void testNoSpillUnderLimit() throws Exception {
+        String csv = "id,name,students_id,students_name\n"
+                + "1,p1,3,s3\n"
+                + "2,p2,4,s4\n"
+                + "1,p1,5,s5\n";
+        CsvMapper<Professor> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin(10).newMapper(Professor.class);
+
+        List<Professor> professors = mapper.forEach(new StringReader(csv), new ListCollector<Professor>()).getList();
+
+        assertEquals("[1:p1:[3:s3, 5:s5], 2:p2:[4:s4]]", professors.toString());
+    }
+
+    @Test
+    public void testKeepsSpecialCharacters() throws Exception {
+        String csv = "id,name,students_id,students_name\n"
+                + "1,\"p,1\",3,\"s\"\"3\"\n"
+                + "2,\"p\n2\",4,\n"
+                + "3,p\u00e93,5,s5\n"
+                + "2,\"p\n2\",6,s6\n";
+        CsvMapper<Professor> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin(1).newMapper(Professor.class);
+
+        List<String> professors = toStrings(mapper.forEach(new StringReader(csv), new ListCollector<Professor>()).getList());
+
+        assertEquals("[1:p,1:[3:s\"3], 2:p\n2:[4:null, 6:s6], 3:p\u00e93:[5:s5]]", professors.toString());
+    }
+
+    private static int nbTempFiles() {
+        String[] names = new File(System.getProperty("java.io.tmpdir")).list();
+        int n = 0;
+        if (names != null) {
+            for (String name : names) {
+                if (name.startsWith("sfm-unordered-join")) n++;
+            }
+        }
+        return n;
+    }
+
+    private static String newShuffledCsv(int nbProfessors, int nbStudents) {
+        List<String> rows = new ArrayList<String>();
+        for (int p = 0; p < nbProfessors; p++) {
+            for (int s = 0; s < nbStudents; s++) {
+                rows.add(p + ",professor" + p + "," + (p * nbStudents + s) + ",student" + s);
+            }
+        }
+        Collections.shuffle(rows, new Random(31));
+        StringBuilder sb = new StringBuilder("id,name,students_id,students_name\n");
+        for (String row : rows) {
+            sb.append(row).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static List<String> toStrings(List<Professor> professors) {
+        List<String> strings = new ArrayList<String>();
+        for (Professor professor : professors) {
+            List<String> students = new ArrayList<String>();
+            for (Student student : professor.students) {
+                students.add(student.toString());
+            }
+            Collections.sort(students);
+            strings.add(professor.id + ":" + professor.name + ":" + students);
+        }
+        Collections.sort(strings);
+        return strings;
+    }
+
+    public static class Professor {
+        public int id;
+        public String name;
+        public List<Student> students;
+
+        @Override
+        public String toString() {
+            return id + ":" + name + ":" + students;
+        }
+    }
+
+    public static class Student {
+        public int id;
+        public String name;
+
+        @Override
+        public String toString() {
+            return id + ":" + name;
+        }
+    }
+}
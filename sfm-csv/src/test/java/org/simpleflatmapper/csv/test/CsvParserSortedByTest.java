@@ -0,0 +1,154 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class CsvParserSortedByTest {
+
+    @Test
+    public void testJoinUnorderedCsvThroughTempFiles() throws Exception {
+        String csv = newShuffledCsv(500, 3);
+
+        List<String> expected = toStrings(CsvMapperFactory.newInstance().addKeys("id", "students_id").unorderedJoin().newMapper(Professor.class)
+                .forEach(new StringReader(csv), new ListCollector<Professor>()).getList());
+
+        int nbTempFiles = nbTempFiles();
+        List<Professor> professors = CsvParser.sortedBy("id").maxRowsInMemory(7)
+                .mapTo(Professor.class).addKeys("id", "students_id")
+                .forEach(new StringReader(csv), new ListCollector<Professor>()).getList();
+
+        assertEquals(500, professors.size());
+        assertEquals(expected, toStrings(professors));
+        assertEquals(nbTempFiles, nbTempFiles());
+    }
+
+    @Test
+    public void testRunsDoNotOutliveAPartialRead() throws Exception {
+        // an open file cannot be deleted on windows, the runs are deleted on close there
+        assumeTrue(File.separatorChar == '/');
+        String csv = newShuffledCsv(100, 3);
+
+        int nbTempFiles = nbTempFiles();
+        Iterator<String[]> iterator = CsvParser.sortedBy("id").maxRowsInMemory(7).iterator(new StringReader(csv));
+        assertArrayEquals(new String[] {"id", "name", "students_id", "students_name"}, iterator.next());
+        assertEquals("0", iterator.next()[0]);
+        assertEquals(nbTempFiles, nbTempFiles());
+    }
+
+    @Test
+    public void testSortInMemoryKeepsInputOrder() throws Exception {
+        String csv = "k,v\n"
+                + "b,1\n"
+                + "a,2\n"
+                + "b,3\n"
+                + ",4\n"
+                + "a,5\n";
+
+        assertEquals("[[k, v], [, 4], [a, 2], [a, 5], [b, 1], [b, 3]]", rows(CsvParser.sortedBy("K").reader(csv)));
+        assertEquals(rows(CsvParser.sortedBy("k").reader(csv)), rows(CsvParser.sortedBy("k").maxRowsInMemory(2).reader(csv)));
+    }
+
+    @Test
+    public void testKeepsDialectAndSpecialCharacters() throws Exception {
+        String csv = "comment\n"
+                + "id;name\n"
+                + "2;'x;''y'\n"
+                + "1;'l\n2'\n"
+                + "3;z\u00e9\n";
+
+        String expected = "[[id, name], [1, l\n2], [2, x;'y], [3, z\u00e9]]";
+        assertEquals(expected, rows(CsvParser.separator(';').quote('\'').escape('\'').skip(1).sortedBy("id").reader(csv)));
+        assertEquals(expected, rows(CsvParser.separator(';').quote('\'').escape('\'').skip(1).sortedBy("id").maxRowsInMemory(1).reader(new StringReader(csv))));
+        // skip after sortedBy applies to the sorted rows
+        assertEquals("[[1, l\n2], [2, x;'y], [3, z\u00e9]]", rows(CsvParser.separator(';').quote('\'').escape('\'').skip(1).sortedBy("id").skip(1).reader(csv)));
+    }
+
+    @Test
+    public void testUnknownKey() throws Exception {
+        try {
+            rows(CsvParser.sortedBy("unknown").reader("id,name\n1,a"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static String rows(CsvReader reader) {
+        List<String> rows = new ArrayList<String>();
+        for (String[] row : reader) {
+            rows.add(Arrays.toString(row));
+        }
+        return rows.toString();
+    }
+
+    private static int nbTempFiles() {
+        String[] names = new File(System.getProperty("java.io.tmpdir")).list();
+        int n = 0;
+        if (names != null) {
+            for (String name : names) {
+                if (name.startsWith("sfm-sort")) n++;
+            }
+        }
+        return n;
+    }
+
+    private static String newShuffledCsv(int nbProfessors, int nbStudents) {
+        List<String> rows = new ArrayList<String>();
+        for (int p = 0; p < nbProfessors; p++) {
+            for (int s = 0; s < nbStudents; s++) {
+                rows.add(p + ",professor" + p + "," + (p * nbStudents + s) + ",student" + s);
+            }
+        }
+        Collections.shuffle(rows, new Random(17));
+        StringBuilder sb = new StringBuilder("id,name,students_id,students_name\n");
+        for (String row : rows) {
+            sb.append(row).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static List<String> toStrings(List<Professor> professors) {
+        List<String> strings = new ArrayList<String>();
+        for (Professor professor : professors) {
+            List<String> students = new ArrayList<String>();
+            for (Student student : professor.students) {
+                students.add(student.toString());
+            }
+            Collections.sort(students);
+            strings.add(professor.id + ":" + professor.name + ":" + students);
+        }
+        Collections.sort(strings);
+        return strings;
+    }
+
+    public static class Professor {
+        public int id;
+        public String name;
+        public List<Student> students;
+    }
+
+    public static class Student {
+        public int id;
+        public String name;
+
+        @Override
+        public String toString() {
+            return id + ":" + name;
+        }
+    }
+}
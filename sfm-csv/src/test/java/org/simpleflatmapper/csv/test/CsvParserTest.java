@@ -9,6 +9,7 @@ import org.simpleflatmapper.csv.CsvMapperBuilder;
 import org.simpleflatmapper.csv.CsvMapperFactory;
 import org.simpleflatmapper.csv.CsvParser;
 import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.CsvRowSet;
 import org.simpleflatmapper.csv.ParsingContext;
 import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
 import org.simpleflatmapper.lightningcsv.CsvReader;
@@ -1402,6 +1403,37 @@ public class CsvParserTest {
 	}
 	
 	
+	@Test
+	public void testMapWithProjectsOnMapperColumns() throws Exception {
+		CsvMapper<Tuple2<String, String>> mapper = CsvMapperFactory.newInstance()
+				.<Tuple2<String, String>>newBuilder(Tuples.typeDef(String.class, String.class))
+				.addMapping("element0", 1)
+				.addMapping("element1", 3)
+				.mapper();
+
+		CsvParser.MapWithDSL<Tuple2<String, String>> mapWithDSL = CsvParser.skip(1).mapWith(mapper).projectMapperColumns();
+		List<Tuple2<String, String>> list = mapWithDSL.forEach("h0,h1,h2,h3,h4\n\"x\"\"\",\"a\"\"1\",\"y,\n\",a3,z\n,b1,,\"b\"\"3\"", new ListCollector<Tuple2<String, String>>()).getList();
+
+		assertEquals(2, list.size());
+		assertEquals("a\"1", list.get(0).getElement0());
+		assertEquals("a3", list.get(0).getElement1());
+		assertEquals("b1", list.get(1).getElement0());
+		assertEquals("b\"3", list.get(1).getElement1());
+
+		assertEquals("ColumnProjection{columns=[1, 3], keepPositions=true}",
+				CsvRowSet.columnProjection(new CsvColumnKey[] { new CsvColumnKey("element0", 1), null, new CsvColumnKey("element1", 3)}).toString());
+	}
+
+	@Test
+	public void testProjectMapperColumnsFailsOnDynamicMapper() throws Exception {
+		try {
+			CsvParser.mapTo(DbObject.class).projectMapperColumns();
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
 	@Test
 	public void testOptMapRowIterator() throws Exception {
 		Iterator<Row> rowIterator = CsvParser.dsl().rowIterator(ROW_DATA);
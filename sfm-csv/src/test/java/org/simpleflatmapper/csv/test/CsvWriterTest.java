@@ -2,12 +2,15 @@ package org.simpleflatmapper.csv.test;
 
 import org.junit.Test;
 import org.simpleflatmapper.csv.CsvWriter;
+import org.simpleflatmapper.csv.CsvWriterBuilder;
 import org.simpleflatmapper.lightningcsv.CsvCellWriter;
 import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.MapperBuilderErrorHandler;
 import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.property.RenameProperty;
+import org.simpleflatmapper.reflect.ReflectionService;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.map.property.DateFormatProperty;
 import org.simpleflatmapper.map.property.EnumOrdinalFormatProperty;
@@ -16,11 +19,14 @@ import org.simpleflatmapper.tuple.Tuple2;
 import org.simpleflatmapper.tuple.Tuples;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.io.StringWriter;
+import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -241,6 +247,71 @@ public class CsvWriterTest {
         }
     }
 
+    @Test
+    public void testGeneratedWriterMatchesNoAsmWriter() throws Exception {
+        PrimitivesPojo pojo = new PrimitivesPojo();
+        pojo.b = true;
+        pojo.by = -3;
+        pojo.s = 1234;
+        pojo.i = Integer.MIN_VALUE;
+        pojo.l = Long.MAX_VALUE;
+        pojo.f = 0.1f;
+        pojo.d = 12.25;
+        pojo.str = "a,b";
+        pojo.bd = new BigDecimal("-1.50");
+        pojo.boxed = 42;
+        pojo.date = new Date(0);
+
+        CsvWriterBuilder<PrimitivesPojo> builder = CsvWriterBuilder.newBuilder(PrimitivesPojo.class);
+        String[] columns = {"b", "by", "s", "i", "l", "f", "d", "str", "bd", "boxed", "absent", "date"};
+        for (String column : columns) {
+            builder.addColumn(column);
+        }
+        Object mapper = builder.mapper().getDelegate();
+        assertTrue(mapper.toString().contains("AsmMapper"));
+        // each column has its getter inlined, only the cell separators are left to FieldMapper.mapTo
+        int getters = 0;
+        int converters = 0;
+        int fieldMappers = 0;
+        for (Field field : mapper.getClass().getDeclaredFields()) {
+            if (field.getName().endsWith("Getter")) getters++;
+            if (field.getName().endsWith("Converter")) converters++;
+            if (FieldMapper.class.isAssignableFrom(field.getType())) fieldMappers++;
+        }
+        assertEquals(columns.length, getters);
+        assertEquals(5, converters);
+        assertEquals(columns.length, fieldMappers);
+
+        StringBuilder asm = new StringBuilder();
+        CsvWriter.from(PrimitivesPojo.class).to(asm).append(pojo);
+
+        StringBuilder noAsm = new StringBuilder();
+        CsvWriter.from(PrimitivesPojo.class)
+                .classMeta(ReflectionService.disableAsm().<PrimitivesPojo>getClassMeta(PrimitivesPojo.class))
+                .to(noAsm).append(pojo);
+
+        assertEquals(
+                "b,by,s,i,l,f,d,str,bd,boxed,absent,date\r\n" +
+                "true,-3,1234,-2147483648,9223372036854775807,0.1,12.25,\"a,b\",-1.50,42,,"
+                        + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(pojo.date) + "\r\n",
+                asm.toString());
+        assertEquals(noAsm.toString(), asm.toString());
+    }
+
+    public static class PrimitivesPojo {
+        public boolean b;
+        public byte by;
+        public short s;
+        public int i;
+        public long l;
+        public float f;
+        public double d;
+        public String str;
+        public BigDecimal bd;
+        public Integer boxed;
+        public Integer absent;
+        public Date date;
+    }
 
     public static class Pojo461 {
         public final long ts;
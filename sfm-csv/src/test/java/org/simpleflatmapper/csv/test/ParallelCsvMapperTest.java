@@ -0,0 +1,138 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.ParallelOptions;
+import org.simpleflatmapper.test.beans.ProfessorGS;
+import org.simpleflatmapper.test.jdbc.JoinTest;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class ParallelCsvMapperTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testOrderedMatchesSequential() throws Exception {
+        String csv = newCsv(10000);
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newBuilder(Row.class)
+                .addMapping("id").addMapping("name").addMapping("value").mapper();
+
+        List<Row> expected = mapper.forEach(new StringReader(csv), new ListCollector<Row>()).getList();
+        List<Row> rows = mapper.forEach(new StringReader(csv), new ListCollector<Row>(),
+                ParallelOptions.ordered(executor).batchSize(7).maxBatchesInFlight(3)).getList();
+
+        assertEquals(toStrings(expected), toStrings(rows));
+    }
+
+    @Test
+    public void testUnorderedContainsAllRows() throws Exception {
+        String csv = newCsv(10000);
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newBuilder(Row.class)
+                .addMapping("id").addMapping("name").addMapping("value").mapper();
+
+        List<Row> expected = mapper.forEach(new StringReader(csv), new ListCollector<Row>()).getList();
+        List<Row> rows = mapper.forEach(new StringReader(csv), new ListCollector<Row>(),
+                ParallelOptions.unordered(executor).batchSize(13).maxBatchesInFlight(5)).getList();
+
+        List<String> expectedStrings = toStrings(expected);
+        List<String> strings = toStrings(rows);
+        Collections.sort(expectedStrings);
+        Collections.sort(strings);
+        assertEquals(expectedStrings, strings);
+    }
+
+    @Test
+    public void testDynamicMapperReadsHeader() throws Exception {
+        String csv = "value,id,name\n" + "0.5,1,\"a,b\"\n" + "1.5,2,\"c\"\"d\"\n" + "2.5,3,e";
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newMapper(Row.class);
+
+        List<Row> rows = mapper.forEach(new StringReader(csv), new ListCollector<Row>(),
+                ParallelOptions.ordered(executor).batchSize(2)).getList();
+
+        assertEquals(toStrings(mapper.forEach(new StringReader(csv), new ListCollector<Row>()).getList()), toStrings(rows));
+        assertEquals("[1:a,b:0.5, 2:c\"d:1.5, 3:e:2.5]", toStrings(rows).toString());
+    }
+
+    @Test
+    public void testJoinMapperFallsBackToSequential() throws Exception {
+        String csv = "id,name,students_id,students_name,students_phones_str\n"
+                + "1,professor1,3,student3,phone31\n"
+                + "1,professor1,3,student3,phone32\n"
+                + "1,professor1,4,student4,phone41\n"
+                + "2,professor2,4,student4,phone51\n"
+                + "2,professor2,4,student4,phone52\n"
+                + "3,professor3,,,,";
+        CsvMapper<ProfessorGS> mapper = CsvMapperFactory.newInstance().addKeys("id", "students_id").newMapper(ProfessorGS.class);
+
+        List<ProfessorGS> professors = mapper.forEach(new StringReader(csv), new ListCollector<ProfessorGS>(),
+                ParallelOptions.ordered(executor).batchSize(2)).getList();
+
+        JoinTest.validateProfessors(professors);
+    }
+
+    @Test
+    public void testPropagateMappingError() throws Exception {
+        CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newBuilder(Row.class)
+                .addMapping("id").addMapping("name").addMapping("value").mapper();
+        try {
+            mapper.forEach(new StringReader("1,a,0.5\nnotanint,b,1\n"), new ListCollector<Row>(),
+                    ParallelOptions.ordered(executor).batchSize(1));
+            fail();
+        } catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    private static String newCsv(int nbRows) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < nbRows; i++) {
+            sb.append(i).append(',');
+            if (i % 3 == 0) {
+                sb.append("\"name, ").append(i).append('"');
+            } else {
+                sb.append("name\u00e9").append(i);
+            }
+            sb.append(',').append(i / 4.0).append(",ignored\n");
+            if (i % 100 == 0) {
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> toStrings(List<Row> rows) {
+        List<String> strings = new ArrayList<String>();
+        for (Row row : rows) {
+            strings.add(row.id + ":" + row.name + ":" + row.value);
+        }
+        return strings;
+    }
+
+    public static class Row {
+        public int id;
+        public String name;
+        public double value;
+    }
+}
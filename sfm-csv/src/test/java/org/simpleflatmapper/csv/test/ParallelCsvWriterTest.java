@@ -0,0 +1,141 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvWriter;
+import org.simpleflatmapper.csv.ParallelCsvWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class ParallelCsvWriterTest {
+
+    @Test
+    public void testWritesBlocksInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StringBuilder expected = new StringBuilder();
+            CsvWriter<Row> writer = CsvWriter.from(Row.class).columns("id", "name", "value").to(expected);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ParallelCsvWriter<Row> parallelWriter = CsvWriter.from(Row.class).columns("id", "name", "value").toParallel(bos, executor, 7, 3);
+
+            for (int i = 0; i < 10000; i++) {
+                Row row = new Row(i, "name\u00e9 " + i, i / 8.0);
+                writer.append(row);
+                parallelWriter.append(row);
+            }
+            parallelWriter.close();
+
+            assertEquals(expected.toString(), new String(bos.toByteArray(), "UTF-8"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFlushWritesPartialBlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ParallelCsvWriter<Row> parallelWriter = CsvWriter.from(Row.class).columns("id", "name", "value").skipHeaders().toParallel(bos, executor);
+
+            parallelWriter.append(new Row(1, "a,b", 0.5));
+            assertEquals(0, bos.size());
+            parallelWriter.flush();
+            assertEquals("1,\"a,b\",0.5\r\n", new String(bos.toByteArray(), "UTF-8"));
+
+            parallelWriter.append(new Row(2, "c", 1));
+            parallelWriter.close();
+            assertEquals("1,\"a,b\",0.5\r\n2,c,1.0\r\n", new String(bos.toByteArray(), "UTF-8"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPropagateIOException() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            OutputStream failing = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("failed");
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    throw new IOException("failed");
+                }
+            };
+            ParallelCsvWriter<Row> parallelWriter = CsvWriter.from(Row.class).columns("id").skipHeaders().toParallel(failing, executor, 2, 2);
+            try {
+                for (int i = 0; i < 10; i++) {
+                    parallelWriter.append(new Row(i, "n", i));
+                }
+                parallelWriter.flush();
+                fail();
+            } catch (IOException e) {
+                assertEquals("failed", e.getMessage());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStopWritingAfterAFailedBlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ParallelCsvWriter<Row> parallelWriter = CsvWriter.from(Row.class).columns("id", "name").skipHeaders().toParallel(bos, executor, 2, 2);
+            try {
+                for (int i = 0; i < 10; i++) {
+                    parallelWriter.append(new Row(i, i == 3 ? null : "n", i));
+                }
+                parallelWriter.flush();
+                fail();
+            } catch (IllegalStateException e) {
+                assertEquals("no name", e.getMessage());
+            }
+            try {
+                parallelWriter.close();
+                fail();
+            } catch (IOException e) {
+                assertEquals("no name", e.getCause().getMessage());
+            }
+            assertEquals("0,n\r\n1,n\r\n", new String(bos.toByteArray(), "UTF-8"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class Row {
+        private final int id;
+        private final String name;
+        private final double value;
+
+        public Row(int id, String name, double value) {
+            this.id = id;
+            this.name = name;
+            this.value = value;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            if (name == null) throw new IllegalStateException("no name");
+            return name;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+}
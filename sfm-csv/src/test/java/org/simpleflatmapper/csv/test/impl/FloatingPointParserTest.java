@@ -0,0 +1,141 @@
+package org.simpleflatmapper.csv.test.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.impl.FloatingPointParser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FloatingPointParserTest {
+
+    private static final String[] VALUES = {
+            "0", "-0", "+0", "0.0", "-0.0", "0e10", "0e-400", "00012", "1", "-1", "+1",
+            "0.1", "0.2", "0.3", "1.5", "-1.5", ".5", "5.", "-.5", "3.14159", "2.718281828459045",
+            "123.456", "99999.99", "1e22", "1e23", "1e-22", "1e-23", "9007199254740992", "9007199254740993",
+            "123456789012345678", "1234567890123456789", "12345678901234567890", "123456789012345678901234",
+            "9999999999999999999", "-9999999999999999999", "9300000000000000000", "9223372036854775807",
+            "9223372036854775808", "99999999999999999999", "92233720368547758080", "9999999999.999999999",
+            "0.9999999999999999999", "0.00000000000000000009999999999999999999", "999999999999999999.9e-3",
+            "0.000000000000000000001", "1.7976931348623157e308", "1.8e308", "4.9e-324", "2e-324",
+            "1e37", "1e38", "3.4028235e38", "1.4e-45", "16777216", "16777217", "1e10", "1e11", "1e-10", "1e-11",
+            "1E5", "1e+5", "12.5e-3", "NaN", "-NaN", "Infinity", "-Infinity", " 1.5", "1.5 ", "1.5d", "1.5f",
+            "0x1p3", "1e", "1e+", ".", "-", "", "e5", ".e5", "1..5", "1.5.5", "abc", "1,5"
+    };
+
+    @Test
+    public void testParseDoubleMatchesJdk() {
+        for(String value : VALUES) {
+            assertDoubleMatches(value);
+        }
+    }
+
+    @Test
+    public void testParseFloatMatchesJdk() {
+        for(String value : VALUES) {
+            assertFloatMatches(value);
+        }
+    }
+
+    @Test
+    public void testRandomValuesMatchJdk() {
+        Random random = new Random(42);
+        for(int i = 0; i < 100000; i++) {
+            String value;
+            switch (i % 5) {
+                case 0:
+                    value = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+                    break;
+                case 1:
+                    value = Float.toString(random.nextFloat() * 1000);
+                    break;
+                case 2:
+                    value = BigDecimal.valueOf(random.nextInt(10000000), random.nextInt(8)).toPlainString();
+                    break;
+                case 3:
+                    // 19 and 20 digits, past the long range
+                    String digits = Long.toString(Long.MAX_VALUE - (random.nextLong() & Long.MAX_VALUE) / 10) + random.nextInt(10);
+                    digits = digits.substring(random.nextInt(2));
+                    int dot = random.nextInt(digits.length() + 1);
+                    value = digits.substring(0, dot) + "." + digits.substring(dot);
+                    break;
+                default:
+                    value = (random.nextBoolean() ? "-" : "") + Math.abs(random.nextLong() % 100000000000000000L) + "e" + (random.nextInt(60) - 30);
+            }
+            assertDoubleMatches(value);
+            assertFloatMatches(value);
+        }
+    }
+
+    @Test
+    public void testParseWithinBuffer() {
+        char[] chars = "xx12.75yy".toCharArray();
+        assertEquals(12.75, FloatingPointParser.parseDouble(chars, 2, 5), 0);
+        assertEquals(12.75f, FloatingPointParser.parseFloat(chars, 2, 5), 0);
+    }
+
+    @Test
+    public void testMapFloatingPointColumns() throws IOException {
+        CsvMapper<Prices> mapper = CsvMapperFactory.newInstance().newMapper(Prices.class);
+        Iterator<Prices> iterator = mapper.iterator(new StringReader("d,f,bd,boxedD\n12.5,0.1,123.4500,-1e3\n,,,\n"));
+
+        Prices prices = iterator.next();
+        assertEquals(12.5, prices.d, 0);
+        assertEquals(0.1f, prices.f, 0);
+        assertEquals(new BigDecimal("123.4500"), prices.bd);
+        assertEquals(Double.valueOf(-1000), prices.boxedD);
+
+        prices = iterator.next();
+        assertEquals(0, prices.d, 0);
+        assertEquals(0, prices.f, 0);
+        assertNull(prices.bd);
+        assertNull(prices.boxedD);
+    }
+
+    private static void assertDoubleMatches(String value) {
+        char[] chars = ("#" + value + "#").toCharArray();
+        Object expected;
+        try {
+            expected = Double.doubleToRawLongBits(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            expected = NumberFormatException.class;
+        }
+        Object actual;
+        try {
+            actual = Double.doubleToRawLongBits(FloatingPointParser.parseDouble(chars, 1, value.length()));
+        } catch (NumberFormatException e) {
+            actual = NumberFormatException.class;
+        }
+        assertEquals(value, expected, actual);
+    }
+
+    private static void assertFloatMatches(String value) {
+        char[] chars = ("#" + value + "#").toCharArray();
+        Object expected;
+        try {
+            expected = Float.floatToRawIntBits(Float.parseFloat(value));
+        } catch (NumberFormatException e) {
+            expected = NumberFormatException.class;
+        }
+        Object actual;
+        try {
+            actual = Float.floatToRawIntBits(FloatingPointParser.parseFloat(chars, 1, value.length()));
+        } catch (NumberFormatException e) {
+            actual = NumberFormatException.class;
+        }
+        assertEquals(value, expected, actual);
+    }
+
+    public static class Prices {
+        public double d;
+        public float f;
+        public BigDecimal bd;
+        public Double boxedD;
+    }
+}
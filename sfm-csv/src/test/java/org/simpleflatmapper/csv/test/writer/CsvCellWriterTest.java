@@ -4,6 +4,7 @@ import org.junit.Test;
 import org.simpleflatmapper.lightningcsv.CsvCellWriter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 
 import static org.junit.Assert.*;
@@ -79,4 +80,17 @@ public class CsvCellWriterTest {
 
     }
 
+    @Test
+    public void writeCharArrayRange() throws IOException {
+        char[] chars = "xx12.5,yy".toCharArray();
+        StringWriter sw = new StringWriter();
+        CsvCellWriter.DEFAULT_WRITER.writeValue(chars, 2, 6, sw);
+        CsvCellWriter.DEFAULT_WRITER.writeValue(chars, 4, 8, sw);
+        assertEquals("12.5\".5,y\"", sw.toString());
+
+        StringBuilder sb = new StringBuilder();
+        CsvCellWriter.DEFAULT_WRITER.alwaysEscape().writeValue(chars, 2, 6, sb);
+        assertEquals("\"12.5\"", sb.toString());
+    }
+
 }
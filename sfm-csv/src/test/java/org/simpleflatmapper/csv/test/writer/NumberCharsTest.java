@@ -0,0 +1,113 @@
+package org.simpleflatmapper.csv.test.writer;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.impl.writer.NumberChars;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class NumberCharsTest {
+
+    private final char[] chars = new char[NumberChars.BUFFER_SIZE];
+
+    @Test
+    public void testWriteIntMatchesJdk() {
+        int[] values = {0, 1, -1, 9, 10, -10, 99, 100, 123456, -987654321, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : values) {
+            assertEquals(Integer.toString(value), new String(chars, 0, NumberChars.writeInt(value, chars, 0)));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt();
+            assertEquals(Integer.toString(value), new String(chars, 0, NumberChars.writeInt(value, chars, 0)));
+        }
+    }
+
+    @Test
+    public void testWriteLongMatchesJdk() {
+        long[] values = {0, 1, -1, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : values) {
+            assertEquals(Long.toString(value), new String(chars, 0, NumberChars.writeLong(value, chars, 0)));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextLong();
+            assertEquals(Long.toString(value), new String(chars, 0, NumberChars.writeLong(value, chars, 0)));
+        }
+    }
+
+    @Test
+    public void testWriteDouble() {
+        assertDouble("0.0", 0.0);
+        assertDouble("-0.0", -0.0);
+        assertDouble("1.0", 1.0);
+        assertDouble("-12.5", -12.5);
+        assertDouble("0.1", 0.1);
+        assertDouble("0.3", 0.3);
+        assertDouble("0.001", 0.001);
+        assertDouble("123.456", 123.456);
+        assertDouble("9999999.0", 9999999.0);
+        assertDouble("0.1234567890123", 0.1234567890123);
+
+        assertEquals(-1, NumberChars.writeDouble(Double.NaN, chars, 0));
+        assertEquals(-1, NumberChars.writeDouble(Double.NEGATIVE_INFINITY, chars, 0));
+        assertEquals(-1, NumberChars.writeDouble(1e7, chars, 0));
+        assertEquals(-1, NumberChars.writeDouble(1e-4, chars, 0));
+        // 17 significant digits do not fit in the mantissa
+        assertEquals(-1, NumberChars.writeDouble(0.1 + 0.2, chars, 0));
+    }
+
+    @Test
+    public void testWriteFloat() {
+        assertFloat("0.0", 0.0f);
+        assertFloat("-0.0", -0.0f);
+        assertFloat("1.0", 1.0f);
+        assertFloat("0.1", 0.1f);
+        assertFloat("-3.14", -3.14f);
+        assertFloat("0.001", 0.001f);
+
+        assertEquals(-1, NumberChars.writeFloat(Float.NaN, chars, 0));
+        assertEquals(-1, NumberChars.writeFloat(1e7f, chars, 0));
+        assertEquals(-1, NumberChars.writeFloat(1e-4f, chars, 0));
+    }
+
+    @Test
+    public void testRandomValuesMatchJdkWhenWritten() {
+        Random random = new Random(31);
+        for (int i = 0; i < 100000; i++) {
+            double value;
+            switch (i % 3) {
+                case 0:
+                    value = random.nextInt(100000000) / Math.pow(10, random.nextInt(9));
+                    break;
+                case 1:
+                    value = random.nextDouble() * 1e7;
+                    break;
+                default:
+                    value = Double.longBitsToDouble(random.nextLong());
+            }
+            int end = NumberChars.writeDouble(value, chars, 0);
+            if (end != -1) {
+                assertEquals(Double.toString(value), new String(chars, 0, end));
+            }
+            float f = (float) value;
+            end = NumberChars.writeFloat(f, chars, 0);
+            if (end != -1) {
+                assertEquals(Float.toString(f), new String(chars, 0, end));
+            }
+        }
+    }
+
+    private void assertDouble(String expected, double value) {
+        int end = NumberChars.writeDouble(value, chars, 0);
+        assertEquals(expected, new String(chars, 0, end));
+        assertEquals(Double.toString(value), new String(chars, 0, end));
+    }
+
+    private void assertFloat(String expected, float value) {
+        int end = NumberChars.writeFloat(value, chars, 0);
+        assertEquals(expected, new String(chars, 0, end));
+        assertEquals(Float.toString(value), new String(chars, 0, end));
+    }
+}
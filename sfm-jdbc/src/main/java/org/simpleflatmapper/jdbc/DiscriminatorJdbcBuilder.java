@@ -5,11 +5,13 @@ import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.DiscriminatorMapper;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
+import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.Function;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.util.Predicate;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.UnaryFactory;
 
 import java.lang.reflect.Type;
@@ -131,6 +133,11 @@ public class DiscriminatorJdbcBuilder<T> {
         public MappingContext<? super ResultSet> newMappingContext(ResultSet resultSet) throws SQLException {
             return ((JdbcSourceFieldMapper<T>)getMapper(resultSet)).newMappingContext(resultSet);
         }
+
+        @Override
+        public <H extends CheckedConsumer<? super T>> H forEachReusing(ResultSet rs, Supplier<? extends T> supplier, H handler) {
+            throw new UnsupportedOperationException("Cannot reuse the instance with a discriminator mapper");
+        }
     }
 
     private static class DiscriminatorPredicate implements Predicate<String> {
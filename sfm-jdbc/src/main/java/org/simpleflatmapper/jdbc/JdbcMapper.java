@@ -4,6 +4,7 @@ import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactoryFromRows;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Supplier;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -63,6 +64,26 @@ public interface JdbcMapper<T> extends SetRowMapper<ResultSet, ResultSet, T, SQL
 	<H extends CheckedConsumer<? super T>> H forEach(final ResultSet rs, final H handler)
 			throws SQLException, MappingException;
 
+	/**
+	 * Loop over the resultSet, map each row into the same instance of T, obtained once from the supplier, and call back the handler.
+	 *<p>
+	 * Each row sets all the mapped properties, a null column sets the property to null or its default, the properties that are not mapped are left unchanged.
+	 * A nested object is mapped to a new instance for each row, unless the mapper infers it is null - then the property is reset to null.
+	 * The target must be mutable, and the handler must not keep it as it is overwritten by the next row.
+	 * The mappers that aggregate rows in collections - with keys - are not supported.
+	 *
+	 * @param rs the resultSet
+	 * @param supplier the factory of the reused instance
+	 * @param handler the handler that will get the callback
+	 * @param <H> the row handler type
+	 * @return the handler passed in
+	 * @throws SQLException if sql error occurs
+	 * @throws MappingException if an error occurs during the mapping
+	 * @throws UnsupportedOperationException if the mapper joins rows
+	 */
+	<H extends CheckedConsumer<? super T>> H forEachReusing(final ResultSet rs, final Supplier<? extends T> supplier, final H handler)
+			throws SQLException, MappingException;
+
 	/**
 	 *
 	 * @param rs the result set
@@ -16,10 +16,12 @@ import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.mapper.KeyFactory;
 import org.simpleflatmapper.map.mapper.MapperSourceImpl;
+import org.simpleflatmapper.map.mapper.StaticSetRowMapper;
 import org.simpleflatmapper.reflect.ReflectionService;
 import org.simpleflatmapper.reflect.getter.GetterFactory;
 import org.simpleflatmapper.util.BiFunction;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.Function;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
@@ -250,6 +252,15 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
             return setRowMapper.forEach(source, handler);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public <H extends CheckedConsumer<? super T>> H forEachReusing(ResultSet source, Supplier<? extends T> supplier, H handler) throws SQLException, MappingException {
+            if (setRowMapper instanceof StaticSetRowMapper) {
+                return ((StaticSetRowMapper<ResultSet, ResultSet, T, SQLException>) setRowMapper).forEachReusing(source, supplier, handler);
+            }
+            throw new UnsupportedOperationException("Cannot reuse the instance with " + setRowMapper);
+        }
+
         @Override
         public Iterator<T> iterator(ResultSet source) throws SQLException, MappingException {
             return setRowMapper.iterator(source);
@@ -3,6 +3,7 @@ package org.simpleflatmapper.jdbc;
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.getter.ContextualGetterFactory;
 import org.simpleflatmapper.map.getter.ContextualGetterFactoryAdapter;
 import org.simpleflatmapper.map.mapper.AbstractColumnNameDiscriminatorMapperFactory;
@@ -19,6 +20,8 @@ import org.simpleflatmapper.map.mapper.ConstantTargetFieldMapperFactoryImpl;
 import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
 import org.simpleflatmapper.map.mapper.FieldMapperColumnDefinitionProviderImpl;
 import org.simpleflatmapper.map.mapper.MapperKey;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
@@ -315,6 +318,11 @@ public final class JdbcMapperFactory
 		public MappingContext<? super ResultSet> newMappingContext(ResultSet resultSet) throws SQLException {
 			return getMapper(resultSet.getMetaData()).newMappingContext(resultSet);
 		}
+
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEachReusing(ResultSet rs, Supplier<? extends T> supplier, H handler) throws SQLException, MappingException {
+			return getMapper(rs.getMetaData()).forEachReusing(rs, supplier, handler);
+		}
 	}
 
 	/**
@@ -5,6 +5,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.simpleflatmapper.jdbc.JdbcMapper;
 import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.test.beans.Professor;
 import org.simpleflatmapper.test.jdbc.JoinTest;
@@ -113,6 +114,23 @@ public class JoinJdbcMapperTest {
         validateMapper(mapper);
     }
 
+    @Test
+    public void testUnorderedJoinWithMaxRowsFailsOnBuild() throws Exception {
+        try {
+            JdbcMapperFactoryHelper.asm()
+                    .unorderedJoin(10)
+                    .newBuilder(ProfessorGS.class)
+                    .addKey("id")
+                    .addMapping("name")
+                    .addKey("students_id")
+                    .addMapping("students_name")
+                    .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            // expected no spill format for a ResultSet
+        }
+    }
+
 
     private ResultSet setUpResultSetMock() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
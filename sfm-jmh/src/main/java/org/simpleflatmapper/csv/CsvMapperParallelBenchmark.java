@@ -0,0 +1,108 @@
+package org.simpleflatmapper.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * sequential : CsvMapper.forEach, the rows are parsed and mapped on the calling thread.
+ * ordered, unordered : CsvMapper.forEach with ParallelOptions, the rows are parsed on the calling thread and mapped by nbThreads threads.
+ * <p>
+ * The speedup needs as many cores as nbThreads + 1, the results below are from a single core machine and only show the
+ * cost of the batch copy and hand-off. Run with -p nbThreads=1,2,4 on a multi-core machine to measure the speedup.
+ <pre>
+ jdk 11.0.21, 1 cpu Xeon, -f 2 -wi 8 -i 10 -p nbThreads=1,4
+ Benchmark                   (batchSize)      (mode)  (nbThreads)  Mode  Cnt    Score    Error  Units
+ CsvMapperParallelBenchmark.forEach         1024  sequential            1  avgt   20  257.322 ± 25.727  ns/op
+ CsvMapperParallelBenchmark.forEach         1024  sequential            4  avgt   20  304.556 ± 33.726  ns/op
+ CsvMapperParallelBenchmark.forEach         1024     ordered            1  avgt   20  310.263 ± 39.676  ns/op
+ CsvMapperParallelBenchmark.forEach         1024     ordered            4  avgt   20  340.611 ± 57.795  ns/op
+ CsvMapperParallelBenchmark.forEach         1024   unordered            1  avgt   20  350.027 ± 51.828  ns/op
+ CsvMapperParallelBenchmark.forEach         1024   unordered            4  avgt   20  335.359 ± 56.105  ns/op
+ </pre>
+ */
+@State(Scope.Benchmark)
+public class CsvMapperParallelBenchmark {
+
+    private static final int NB_ROWS = 100000;
+
+    @Param({"sequential", "ordered", "unordered"})
+    public String mode;
+
+    @Param({"4"})
+    public int nbThreads;
+
+    @Param({"1024"})
+    public int batchSize;
+
+    private String csv;
+    private CsvMapper<Bean> mapper;
+    private ExecutorService executor;
+    private ParallelOptions parallelOptions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(17);
+        StringBuilder sb = new StringBuilder(NB_ROWS * 64);
+        sb.append("id,timestamp,price,name,active\n");
+        for (int i = 0; i < NB_ROWS; i++) {
+            sb.append(i).append(',')
+                    .append(random.nextLong()).append(',')
+                    .append(random.nextInt(1000000) / 100.0).append(',')
+                    .append("\"name, ").append(random.nextInt(100)).append("\",")
+                    .append(random.nextBoolean()).append('\n');
+        }
+        csv = sb.toString();
+        mapper = CsvMapperFactory.newInstance().newMapper(Bean.class);
+
+        if (!"sequential".equals(mode)) {
+            executor = Executors.newFixedThreadPool(nbThreads);
+            parallelOptions = "ordered".equals(mode) ? ParallelOptions.ordered(executor) : ParallelOptions.unordered(executor);
+            parallelOptions = parallelOptions.batchSize(batchSize);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NB_ROWS)
+    public void forEach(final Blackhole blackhole) throws IOException {
+        CheckedConsumer<Bean> handler = new CheckedConsumer<Bean>() {
+            @Override
+            public void accept(Bean bean) {
+                blackhole.consume(bean);
+            }
+        };
+        if (parallelOptions == null) {
+            mapper.forEach(new StringReader(csv), handler);
+        } else {
+            mapper.forEach(new StringReader(csv), handler, parallelOptions);
+        }
+    }
+
+    public static class Bean {
+        public int id;
+        public long timestamp;
+        public double price;
+        public String name;
+        public boolean active;
+    }
+}
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.csv;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
@@ -64,6 +65,10 @@ public class CsvParserBenchmark {
     public String csvQuote2 = "\"val \"\" \",\"val2  \"\"sdssddsds\",\"lllll llll\",\"sdkokokokokads<>Sddsdsds\",\"adsdsadsad\",\"1\",\"3\",\"4\"";
 
 
+    public String csvLongCells = longCells(false);
+    public String csvLongQuotedCells = longCells(true);
+
+
     public static final CsvParser.DSL dsl = CsvParser.dsl();
     public static final CsvParser.DSL dslPipe = CsvParser.dsl().separator('|');
 
@@ -96,6 +101,70 @@ public class CsvParserBenchmark {
     public void parseQuote2(Blackhole blackhole) throws IOException {
         dsl.parse(csvQuote2, new MyCellConsumer(blackhole));
     }
+
+    /*
+     * Structural char scanning, scalar vs jdk.incubator.vector - jdk17+ only, the vector forks fail on older jdk.
+
+     jdk 17.0.9, Xeon avx512, -f 2 -wi 10 -i 15
+     Benchmark                                      Mode  Cnt      Score      Error  Units
+     CsvParserBenchmark.parseLongCellsScalar        avgt   30  13415.827 ± 1304.752  ns/op
+     CsvParserBenchmark.parseLongCellsVector        avgt   30   6760.489 ±  386.664  ns/op
+     CsvParserBenchmark.parseLongQuotedCellsScalar  avgt   30  10304.726 ± 1741.927  ns/op
+     CsvParserBenchmark.parseLongQuotedCellsVector  avgt   30   5907.333 ±  205.365  ns/op
+     CsvParserBenchmark.parseScalar                 avgt   30    303.093 ±   30.703  ns/op
+     CsvParserBenchmark.parseVector                 avgt   30    324.219 ±   18.309  ns/op
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dorg.simpleflatmapper.lightningcsv.disableVector=true")
+    public void parseLongCellsScalar(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongCells, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public void parseLongCellsVector(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongCells, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dorg.simpleflatmapper.lightningcsv.disableVector=true")
+    public void parseLongQuotedCellsScalar(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongQuotedCells, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public void parseLongQuotedCellsVector(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongQuotedCells, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dorg.simpleflatmapper.lightningcsv.disableVector=true")
+    public void parseScalar(Blackhole blackhole) throws IOException {
+        dsl.parse(csv, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public void parseVector(Blackhole blackhole) throws IOException {
+        dsl.parse(csv, new MyCellConsumer(blackhole));
+    }
+
+    private static String longCells(boolean quoted) {
+        StringBuilder sb = new StringBuilder();
+        for(int row = 0; row < 10; row++) {
+            for(int cell = 0; cell < 8; cell++) {
+                if (cell > 0) sb.append(',');
+                if (quoted) sb.append('"');
+                for(int i = 0; i < 120; i++) {
+                    sb.append((char)('a' + ((i + cell + row) % 26)));
+                }
+                if (quoted) sb.append('"');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
     public static void main(String[] args) throws IOException {
         new CsvParserBenchmark().parseQuote(null);
     }
@@ -0,0 +1,113 @@
+package org.simpleflatmapper.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.reflect.ReflectionService;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * asm : the generated mapper, getter and setter calls inlined per column.
+ * noAsm : the MapperImpl chain of FieldMapper with reflection getters.
+ * handWritten : the same cells appended through the CsvCellWriter, the lower bound.
+ */
+@State(Scope.Benchmark)
+public class CsvWriterBenchmark {
+
+    private static final int NB_ROWS = 1000;
+
+    @Param({"asm", "noAsm"})
+    public String mapper;
+
+    private Bean[] beans;
+    private StringBuilder sb;
+    private CsvWriter<Bean> writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(17);
+        beans = new Bean[NB_ROWS];
+        for (int i = 0; i < NB_ROWS; i++) {
+            Bean bean = new Bean();
+            bean.id = i;
+            bean.timestamp = random.nextLong();
+            bean.price = random.nextInt(1000000) / 100.0;
+            bean.name = "name " + random.nextInt(100);
+            bean.active = random.nextBoolean();
+            beans[i] = bean;
+        }
+        sb = new StringBuilder(NB_ROWS * 64);
+
+        ReflectionService reflectionService = "asm".equals(mapper) ? ReflectionService.newInstance() : ReflectionService.disableAsm();
+        writer = CsvWriter
+                .from(Bean.class)
+                .classMeta(reflectionService.<Bean>getClassMeta(Bean.class))
+                .columns("id", "timestamp", "price", "name", "active")
+                .skipHeaders()
+                .to(sb);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NB_ROWS)
+    public int writeRows() throws IOException {
+        sb.setLength(0);
+        for (Bean bean : beans) {
+            writer.append(bean);
+        }
+        return sb.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NB_ROWS)
+    public int handWritten() throws IOException {
+        sb.setLength(0);
+        CsvCellWriter cellWriter = CsvCellWriter.DEFAULT_WRITER;
+        for (Bean bean : beans) {
+            cellWriter.writeValue(Integer.toString(bean.id), sb);
+            cellWriter.nextCell(sb);
+            cellWriter.writeValue(Long.toString(bean.timestamp), sb);
+            cellWriter.nextCell(sb);
+            cellWriter.writeValue(Double.toString(bean.price), sb);
+            cellWriter.nextCell(sb);
+            cellWriter.writeValue(bean.name, sb);
+            cellWriter.nextCell(sb);
+            cellWriter.writeValue(Boolean.toString(bean.active), sb);
+            cellWriter.endOfRow(sb);
+        }
+        return sb.length();
+    }
+
+    public static class Bean {
+        private int id;
+        private long timestamp;
+        private double price;
+        private String name;
+        private boolean active;
+
+        public int getId() {
+            return id;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
@@ -30,7 +30,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
                 RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, 
-                false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false);
+                false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false, -1);
     }
 
     public static <K extends FieldKey<K>, S> MapperConfig<K, S> config(ColumnDefinitionProvider<K> columnDefinitionProvider) {
@@ -41,7 +41,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
-                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false);
+                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false, -1);
     }
 
     private final ColumnDefinitionProvider<K> columnDefinitions;
@@ -57,6 +57,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
     private final Predicate<? super S> rowFilter;
     
     private final boolean unorderedJoin;
+    private final int unorderedJoinMaxRowsInMemory;
 
     private MapperConfig(
             ColumnDefinitionProvider<K> columnDefinitions,
@@ -67,7 +68,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
             FieldMapperErrorHandler<? super K> fieldMapperErrorHandler,
             ConsumerErrorHandler consumerErrorHandler,
             int maxMethodSize, boolean assumeInjectionModifiesValues,
-            List<Discriminator<S, K, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin) {
+            List<Discriminator<S, K, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin, int unorderedJoinMaxRowsInMemory) {
         this.columnDefinitions = columnDefinitions;
         this.propertyNameMatcherFactory = propertyNameMatcherFactory;
         this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -80,6 +81,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
         this.discriminators = discriminators;
         this.rowFilter = rowFilter;
         this.unorderedJoin = unorderedJoin;
+        this.unorderedJoinMaxRowsInMemory = unorderedJoinMaxRowsInMemory;
     }
 
     public ColumnDefinitionProvider<K> columnDefinitions() {
@@ -116,7 +118,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> propertyNameMatcherFactory(PropertyNameMatcherFactory propertyNameMatcherFactory) {
@@ -127,7 +129,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> mapperBuilderErrorHandler(MapperBuilderErrorHandler mapperBuilderErrorHandler) {
@@ -138,7 +140,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> failOnAsm(boolean failOnAsm) {
@@ -149,7 +151,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
 
@@ -162,7 +164,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> asmMapperNbFieldsLimit(int asmMapperNbFieldsLimit) {
@@ -173,7 +175,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> fieldMapperErrorHandler(FieldMapperErrorHandler<? super K> fieldMapperErrorHandler) {
@@ -184,7 +186,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> consumerErrorHandler(ConsumerErrorHandler consumerErrorHandler) {
@@ -196,7 +198,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public MapperConfig<K, S> rowFilter(Predicate<? super S> rowFilter) {
@@ -208,7 +210,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
     
     public MapperConfig<K, S> unorderedJoin(boolean unorderedJoin) {
@@ -220,13 +222,33 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
     
     public boolean unorderedJoin() {
         return unorderedJoin;
     }
 
+    /**
+     * @param unorderedJoinMaxRowsInMemory the number of rows an unordered join maps in memory before spilling the rows of the new keys to temp files, -1 for no limit
+     * @return the new config
+     */
+    public MapperConfig<K, S> unorderedJoinMaxRowsInMemory(int unorderedJoinMaxRowsInMemory) {
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
+    }
+
+    public int unorderedJoinMaxRowsInMemory() {
+        return unorderedJoinMaxRowsInMemory;
+    }
+
     public ConsumerErrorHandler consumerErrorHandler() {
         return consumerErrorHandler;
     }
@@ -262,7 +284,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
 
@@ -286,7 +308,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 assumeInjectionModifiesValues,
                 discriminators,
                 rowFilter,
-                unorderedJoin);
+                unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public <S, T> Discriminator<S, K, T>[] getDiscriminators(ClassMeta<T> classMeta) {
@@ -319,7 +341,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 maxMethodSize,
                 assumeInjectionModifiesValues,
                 discriminators, 
-                rowFilter, unorderedJoin);
+                rowFilter, unorderedJoin, unorderedJoinMaxRowsInMemory);
     }
 
     public DiscriminatorCase<S, K, ?> getDiscriminatorCase(Type type) {
@@ -37,4 +37,11 @@ public class MappingContext<S> implements Context {
         return null;
     }
 
+    /**
+     * @return true when every row is mapped into the same target, a nested object inferred null is then reset to null
+     */
+    public boolean isTargetReused() {
+        return false;
+    }
+
 }
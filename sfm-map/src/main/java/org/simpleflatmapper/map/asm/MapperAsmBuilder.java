@@ -1,6 +1,7 @@
 package org.simpleflatmapper.map.asm;
 
 import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextualConverter;
 import org.simpleflatmapper.map.fieldmapper.BooleanConstantSourceFieldMapper;
 import org.simpleflatmapper.map.fieldmapper.ByteConstantSourceFieldMapper;
 import org.simpleflatmapper.map.fieldmapper.CharacterConstantSourceFieldMapper;
@@ -10,14 +11,27 @@ import org.simpleflatmapper.map.fieldmapper.FloatConstantSourceFieldMapper;
 import org.simpleflatmapper.map.fieldmapper.IntConstantSourceFieldMapper;
 import org.simpleflatmapper.map.fieldmapper.LongConstantSourceFieldMapper;
 import org.simpleflatmapper.map.fieldmapper.ShortConstantSourceFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.BooleanConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.ByteConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.CharacterConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.ConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.ConvertingConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.DoubleConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.FloatConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.IntConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.LongConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.ShortConstantTargetFieldMapper;
 import org.simpleflatmapper.map.getter.OptimizableIndexedContextualGetter;
 import org.simpleflatmapper.ow2asm.ClassWriter;
 import org.simpleflatmapper.ow2asm.FieldVisitor;
+import org.simpleflatmapper.ow2asm.Label;
 import org.simpleflatmapper.ow2asm.MethodVisitor;
 import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.AbstractMapper;
+import org.simpleflatmapper.map.setter.ContextualSetter;
 import org.simpleflatmapper.reflect.BiInstantiator;
+import org.simpleflatmapper.reflect.Getter;
 import org.simpleflatmapper.reflect.asm.AsmUtils;
 import org.simpleflatmapper.util.TypeHelper;
 
@@ -40,6 +54,7 @@ import static org.simpleflatmapper.ow2asm.Opcodes.ASTORE;
 import static org.simpleflatmapper.ow2asm.Opcodes.CHECKCAST;
 import static org.simpleflatmapper.ow2asm.Opcodes.DUP;
 import static org.simpleflatmapper.ow2asm.Opcodes.GETFIELD;
+import static org.simpleflatmapper.ow2asm.Opcodes.IFNULL;
 import static org.simpleflatmapper.ow2asm.Opcodes.INVOKESPECIAL;
 import static org.simpleflatmapper.ow2asm.Opcodes.INVOKEVIRTUAL;
 import static org.simpleflatmapper.ow2asm.Opcodes.NEW;
@@ -303,6 +318,63 @@ public class MapperAsmBuilder {
                     "Double"
             );
         }
+        if (mapper instanceof ConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    ""
+            );
+        }
+        if (mapper instanceof BooleanConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Boolean"
+            );
+        }
+        if (mapper instanceof ByteConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Byte"
+            );
+        }
+        if (mapper instanceof CharacterConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Character"
+            );
+        }
+        if (mapper instanceof ShortConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Short"
+            );
+        }
+        if (mapper instanceof IntConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Int"
+            );
+        }
+        if (mapper instanceof LongConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Long"
+            );
+        }
+        if (mapper instanceof FloatConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Float"
+            );
+        }
+        if (mapper instanceof DoubleConstantTargetFieldMapper) {
+            return newConstantTargetFieldMapperBuilder(
+                    mapper, i, fieldMapperPrefix,
+                    "Double"
+            );
+        }
+        if (mapper instanceof ConvertingConstantTargetFieldMapper) {
+            return newConvertingConstantTargetFieldMapperBuilder(mapper, i, fieldMapperPrefix);
+        }
         return new DefaultMapperBuilder<S, T>(mapper, i, fieldMapperPrefix);
     }
 
@@ -313,11 +385,11 @@ public class MapperAsmBuilder {
         Object getter = getterField.get(mapper);
         Object setter = setterField.get(mapper);
         Class<?> getterClass = getter.getClass();
-        if (!Modifier.isPublic(getterClass.getModifiers())) {
+        if (!AsmUtils.isAccessible(getterClass)) {
             getterClass = getterField.getType();
         }
         Class<?> setterClass = setter.getClass();
-        if (!Modifier.isPublic(setterClass.getModifiers())) {
+        if (!AsmUtils.isAccessible(setterClass)) {
             setterClass = setterField.getType();
         }
 
@@ -359,6 +431,66 @@ public class MapperAsmBuilder {
     }
 
 
+    private static <S, T> MapperBuilder newConstantTargetFieldMapperBuilder(FieldMapper<? super S, ? super T> mapper, int i, String fieldMapperPrefix, String gsSuffix) throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+        Field getterField = mapper.getClass().getField("getter");
+        Field setterField = mapper.getClass().getField("setter");
+
+        Object getter = getterField.get(mapper);
+        Object setter = setterField.get(mapper);
+        Class<?> getterClass = getter.getClass();
+        if (!AsmUtils.isAccessible(getterClass)) {
+            getterClass = getterField.getType();
+        }
+        Class<?> setterClass = setter.getClass();
+        if (!AsmUtils.isAccessible(setterClass)) {
+            setterClass = setterField.getType();
+        }
+
+        // the context goes to the setter, the getter only sees the source
+        Method getterMethod = getterClass.getMethod("get" + gsSuffix, Object.class);
+        Class<?> propClass = getterMethod.getReturnType();
+
+        Method setterMethod = setterClass.getMethod("set" + gsSuffix, Object.class, propClass, Context.class);
+
+        return new ConstantTargetFieldMapperBuilder<S, T>(
+                mapper,
+                i,
+                fieldMapperPrefix,
+                getterClass,
+                getterMethod,
+                setterClass,
+                setterMethod, getterField.getType(), setterField.getType());
+    }
+
+    private static <S, T> MapperBuilder newConvertingConstantTargetFieldMapperBuilder(FieldMapper<? super S, ? super T> mapper, int i, String fieldMapperPrefix) throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+        Field getterField = mapper.getClass().getField("getter");
+        Field converterField = mapper.getClass().getField("converter");
+        Field setterField = mapper.getClass().getField("setter");
+
+        Class<?> getterClass = accessibleClass(getterField.get(mapper), getterField);
+        Class<?> converterClass = accessibleClass(converterField.get(mapper), converterField);
+        Class<?> setterClass = accessibleClass(setterField.get(mapper), setterField);
+
+        return new ConvertingConstantTargetFieldMapperBuilder<S, T>(
+                mapper,
+                i,
+                fieldMapperPrefix,
+                getterClass,
+                getterClass.getMethod("get", Object.class),
+                converterClass,
+                converterClass.getMethod("convert", Object.class, Context.class),
+                setterClass,
+                setterClass.getMethod("set", Object.class, Object.class, Context.class));
+    }
+
+    private static Class<?> accessibleClass(Object value, Field field) {
+        Class<?> clazz = value.getClass();
+        if (!AsmUtils.isAccessible(clazz)) {
+            clazz = field.getType();
+        }
+        return clazz;
+    }
+
     private static Method getMapToMethod(Class<?> aClass) {
         Method m = null;
         for (Method p : aClass.getDeclaredMethods()) {
@@ -526,6 +658,169 @@ public class MapperAsmBuilder {
     }
 
 
+    private static final class ConstantTargetFieldMapperBuilder<S, T> implements MapperBuilder {
+        private final FieldMapper<? super S, ? super T> mapper;
+
+        private final int index;
+        private final String prefix;
+        private final Class<?> getterClass;
+        private final Method getMethod;
+        private final Class<?> setterClass;
+        private final Method setMethod;
+        private final Class<?> declaredGetterClass;
+        private final Class<?> declaredSetterClass;
+
+        private ConstantTargetFieldMapperBuilder(FieldMapper<? super S, ? super T> mapper, int index, String prefix, Class<?> getterClass, Method getMethod, Class<?> setterClass, Method setMethod, Class<?> declaredGetterClass, Class<?> declaredSetterClass) {
+            this.mapper = mapper;
+            this.index = index;
+            this.prefix = prefix;
+
+            this.getterClass = getterClass;
+            this.setterClass = setterClass;
+
+            this.getMethod = getMethod;
+            this.setMethod = setMethod;
+            this.declaredGetterClass = declaredGetterClass;
+            this.declaredSetterClass = declaredSetterClass;
+        }
+
+        @Override
+        public void addInit(MethodVisitor mv, String mapperClassType) {
+            String fieldMapperType = AsmUtils.toAsmType(mapper.getClass());
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, prefix == CONSTRUCTOR_MAPPER_PREFIX ? 2 : 1);
+            AsmUtils.addIndex(mv, index);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, fieldMapperType);
+            mv.visitFieldInsn(GETFIELD, fieldMapperType, "getter", toTargetTypeDeclaration(AsmUtils.toAsmType(declaredGetterClass)));
+            mv.visitTypeInsn(CHECKCAST, AsmUtils.toAsmType(getterClass));
+            mv.visitFieldInsn(PUTFIELD, mapperClassType, prefix + index + "Getter", toTargetTypeDeclaration(AsmUtils.toAsmType(getterClass)));
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, prefix == CONSTRUCTOR_MAPPER_PREFIX ? 2 : 1);
+            AsmUtils.addIndex(mv, index);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, fieldMapperType);
+            mv.visitFieldInsn(GETFIELD, fieldMapperType, "setter", toTargetTypeDeclaration(AsmUtils.toAsmType(declaredSetterClass)));
+            mv.visitTypeInsn(CHECKCAST, AsmUtils.toAsmType(setterClass));
+            mv.visitFieldInsn(PUTFIELD, mapperClassType, prefix + index + "Setter", toTargetTypeDeclaration(AsmUtils.toAsmType(setterClass)));
+        }
+
+        @Override
+        public void addMappingCall(MethodVisitor mv, String mapperClassType) throws NoSuchMethodException {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, mapperClassType, prefix + index + "Setter", toTargetTypeDeclaration(AsmUtils.toAsmType(setterClass)));
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, mapperClassType, prefix + index + "Getter", toTargetTypeDeclaration(AsmUtils.toAsmType(getterClass)));
+            mv.visitVarInsn(ALOAD, 1);
+            AsmUtils.invoke(mv, getMethod);
+            mv.visitVarInsn(ALOAD, 3);
+            AsmUtils.invoke(mv, setMethod);
+        }
+
+        @Override
+        public void addDeclaration(ClassWriter cw) {
+            {
+                FieldVisitor fvGetter = cw.visitField(ACC_PRIVATE + ACC_FINAL, prefix + index + "Getter", toTargetTypeDeclaration(AsmUtils.toAsmType(getterClass)), toTargetTypeDeclaration(AsmUtils.toGenericAsmType(getterClass)), null);
+                fvGetter.visitEnd();
+            }
+            {
+                FieldVisitor fvSetter = cw.visitField(ACC_PRIVATE + ACC_FINAL, prefix + index+ "Setter", toTargetTypeDeclaration(AsmUtils.toAsmType(setterClass)), toTargetTypeDeclaration(AsmUtils.toGenericAsmType(setterClass)), null);
+                fvSetter.visitEnd();
+            }
+        }
+    }
+
+
+    private static final class ConvertingConstantTargetFieldMapperBuilder<S, T> implements MapperBuilder {
+        private static final int VALUE_VAR = 4;
+
+        private final FieldMapper<? super S, ? super T> mapper;
+
+        private final int index;
+        private final String prefix;
+        private final Class<?> getterClass;
+        private final Method getMethod;
+        private final Class<?> converterClass;
+        private final Method convertMethod;
+        private final Class<?> setterClass;
+        private final Method setMethod;
+
+        private ConvertingConstantTargetFieldMapperBuilder(FieldMapper<? super S, ? super T> mapper, int index, String prefix, Class<?> getterClass, Method getMethod, Class<?> converterClass, Method convertMethod, Class<?> setterClass, Method setMethod) {
+            this.mapper = mapper;
+            this.index = index;
+            this.prefix = prefix;
+            this.getterClass = getterClass;
+            this.getMethod = getMethod;
+            this.converterClass = converterClass;
+            this.convertMethod = convertMethod;
+            this.setterClass = setterClass;
+            this.setMethod = setMethod;
+        }
+
+        @Override
+        public void addInit(MethodVisitor mv, String mapperClassType) {
+            addFieldInit(mv, mapperClassType, "getter", Getter.class, "Getter", getterClass);
+            addFieldInit(mv, mapperClassType, "converter", ContextualConverter.class, "Converter", converterClass);
+            addFieldInit(mv, mapperClassType, "setter", ContextualSetter.class, "Setter", setterClass);
+        }
+
+        private void addFieldInit(MethodVisitor mv, String mapperClassType, String name, Class<?> declaredClass, String suffix, Class<?> fieldClass) {
+            String fieldMapperType = AsmUtils.toAsmType(mapper.getClass());
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, prefix == CONSTRUCTOR_MAPPER_PREFIX ? 2 : 1);
+            AsmUtils.addIndex(mv, index);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, fieldMapperType);
+            mv.visitFieldInsn(GETFIELD, fieldMapperType, name, toTargetTypeDeclaration(AsmUtils.toAsmType(declaredClass)));
+            mv.visitTypeInsn(CHECKCAST, AsmUtils.toAsmType(fieldClass));
+            mv.visitFieldInsn(PUTFIELD, mapperClassType, prefix + index + suffix, toTargetTypeDeclaration(AsmUtils.toAsmType(fieldClass)));
+        }
+
+        @Override
+        public void addMappingCall(MethodVisitor mv, String mapperClassType) throws NoSuchMethodException {
+            Label end = new Label();
+
+            // value = getter.get(source); if (value != null) setter.set(target, converter.convert(value, context), context);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, mapperClassType, prefix + index + "Getter", toTargetTypeDeclaration(AsmUtils.toAsmType(getterClass)));
+            mv.visitVarInsn(ALOAD, 1);
+            AsmUtils.invoke(mv, getMethod);
+            mv.visitVarInsn(ASTORE, VALUE_VAR);
+            mv.visitVarInsn(ALOAD, VALUE_VAR);
+            mv.visitJumpInsn(IFNULL, end);
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, mapperClassType, prefix + index + "Setter", toTargetTypeDeclaration(AsmUtils.toAsmType(setterClass)));
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, mapperClassType, prefix + index + "Converter", toTargetTypeDeclaration(AsmUtils.toAsmType(converterClass)));
+            mv.visitVarInsn(ALOAD, VALUE_VAR);
+            mv.visitVarInsn(ALOAD, 3);
+            AsmUtils.invoke(mv, convertMethod);
+            mv.visitVarInsn(ALOAD, 3);
+            AsmUtils.invoke(mv, setMethod);
+
+            mv.visitLabel(end);
+        }
+
+        @Override
+        public void addDeclaration(ClassWriter cw) {
+            addFieldDeclaration(cw, "Getter", getterClass);
+            addFieldDeclaration(cw, "Converter", converterClass);
+            addFieldDeclaration(cw, "Setter", setterClass);
+        }
+
+        private void addFieldDeclaration(ClassWriter cw, String suffix, Class<?> fieldClass) {
+            FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, prefix + index + suffix, toTargetTypeDeclaration(AsmUtils.toAsmType(fieldClass)), toTargetTypeDeclaration(AsmUtils.toGenericAsmType(fieldClass)), null);
+            fv.visitEnd();
+        }
+    }
+
+
     private static final class IndexableConstantSourceFieldMapperBuilder<S, T> implements MapperBuilder {
         private final FieldMapper<? super S, ? super T> mapper;
 
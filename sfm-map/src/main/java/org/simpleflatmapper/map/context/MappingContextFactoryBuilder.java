@@ -72,6 +72,12 @@ public class MappingContextFactoryBuilder<S, K> implements ContextFactoryBuilder
     @Override
     public int addSupplier(Supplier<?> supplier) {
         if (parent == null) {
+            // the same supplier instance shares its slot
+            for(int i = 0; i < suppliers.size(); i++) {
+                if (suppliers.get(i) == supplier) {
+                    return i;
+                }
+            }
             int index = suppliers.size();
             suppliers.add(index, supplier);
             return index;
@@ -0,0 +1,50 @@
+package org.simpleflatmapper.map.context;
+
+import org.simpleflatmapper.map.MappingContext;
+
+/**
+ * MappingContext of a mapping that maps every row into the same target, delegates to the context of the mapper.
+ */
+public class ReusedTargetMappingContext<S> extends MappingContext<S> {
+
+    private final MappingContext<? super S> delegate;
+
+    public ReusedTargetMappingContext(MappingContext<? super S> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean broke(S source) {
+        return delegate.broke(source);
+    }
+
+    @Override
+    public void handleSource(S source) {
+        delegate.handleSource(source);
+    }
+
+    @Override
+    public void markAsBroken() {
+        delegate.markAsBroken();
+    }
+
+    @Override
+    public <T> T context(int i) {
+        return delegate.context(i);
+    }
+
+    @Override
+    public void setCurrentValue(int i, Object value) {
+        delegate.setCurrentValue(i, value);
+    }
+
+    @Override
+    public Object getCurrentValue(int i) {
+        return delegate.getCurrentValue(i);
+    }
+
+    @Override
+    public boolean isTargetReused() {
+        return true;
+    }
+}
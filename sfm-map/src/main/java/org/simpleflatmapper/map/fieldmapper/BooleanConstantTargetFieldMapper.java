@@ -11,8 +11,8 @@ import org.simpleflatmapper.reflect.primitive.BooleanSetter;
 
 public final class BooleanConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final BooleanGetter<? super S> getter;
-	private final BooleanContextualSetter<? super T> setter;
+	public final BooleanGetter<? super S> getter;
+	public final BooleanContextualSetter<? super T> setter;
 	
 	public BooleanConstantTargetFieldMapper(final BooleanGetter<? super S> getter, final BooleanContextualSetter<? super T> setter) {
 		this.getter = getter;
@@ -7,8 +7,8 @@ import org.simpleflatmapper.reflect.primitive.ByteGetter;
 
 public final class ByteConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final ByteGetter<? super S> getter;
-	private final ByteContextualSetter<? super T> setter;
+	public final ByteGetter<? super S> getter;
+	public final ByteContextualSetter<? super T> setter;
 	
 	
 	public ByteConstantTargetFieldMapper(final ByteGetter<? super S> getter, final ByteContextualSetter<? super T> setter) {
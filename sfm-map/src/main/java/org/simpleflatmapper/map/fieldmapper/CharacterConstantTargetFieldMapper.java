@@ -11,8 +11,8 @@ import org.simpleflatmapper.reflect.primitive.CharacterSetter;
 
 public final class CharacterConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final CharacterGetter<? super S> getter;
-	private final CharacterContextualSetter<? super T> setter;
+	public final CharacterGetter<? super S> getter;
+	public final CharacterContextualSetter<? super T> setter;
 	
 
 	public CharacterConstantTargetFieldMapper(final CharacterGetter<? super S> getter, final CharacterContextualSetter<? super T> setter) {
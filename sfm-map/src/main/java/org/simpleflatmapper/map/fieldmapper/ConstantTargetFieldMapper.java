@@ -14,8 +14,8 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
 
 public final class ConstantTargetFieldMapper<S, T, P> implements FieldMapper<S, T> {
 	
-	private final Getter<? super S, ? extends P> getter;
-	private final ContextualSetter<? super T, ? super P> setter;
+	public final Getter<? super S, ? extends P> getter;
+	public final ContextualSetter<? super T, ? super P> setter;
 
 
 	public ConstantTargetFieldMapper(final Getter<? super S, ? extends P> getter, final ContextualSetter<? super T, ? super P> setter) {
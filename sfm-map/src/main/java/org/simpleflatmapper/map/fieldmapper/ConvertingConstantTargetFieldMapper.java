@@ -0,0 +1,43 @@
+package org.simpleflatmapper.map.fieldmapper;
+
+import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.setter.ContextualSetter;
+import org.simpleflatmapper.reflect.Getter;
+
+import static org.simpleflatmapper.util.Asserts.requireNonNull;
+
+/**
+ * Convert the property before setting it on the target, a null property is neither converted nor set.
+ */
+public final class ConvertingConstantTargetFieldMapper<S, T, P, V> implements FieldMapper<S, T> {
+
+	public final Getter<? super S, ? extends P> getter;
+	public final ContextualConverter<? super P, ? extends V> converter;
+	public final ContextualSetter<? super T, ? super V> setter;
+
+
+	public ConvertingConstantTargetFieldMapper(final Getter<? super S, ? extends P> getter, final ContextualConverter<? super P, ? extends V> converter, final ContextualSetter<? super T, ? super V> setter) {
+		this.getter = requireNonNull("getter", getter);
+		this.converter = requireNonNull("converter", converter);
+		this.setter = requireNonNull("setter", setter);
+	}
+
+	@Override
+	public void mapTo(final S source, final T target, final MappingContext<? super S> mappingContext) throws Exception {
+		final P value = getter.get(source);
+		if (value != null) {
+			setter.set(target, converter.convert(value, mappingContext), mappingContext);
+		}
+	}
+
+    @Override
+    public String toString() {
+        return "ConvertingConstantTargetFieldMapper{" +
+                "getter=" + getter +
+                ", converter=" + converter +
+                ", setter=" + setter +
+                '}';
+    }
+}
@@ -7,8 +7,8 @@ import org.simpleflatmapper.reflect.primitive.DoubleGetter;
 
 public final class DoubleConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final DoubleGetter<? super S> getter;
-	private final DoubleContextualSetter<? super T> setter;
+	public final DoubleGetter<? super S> getter;
+	public final DoubleContextualSetter<? super T> setter;
 	
 
 	public DoubleConstantTargetFieldMapper(final DoubleGetter<? super S> getter, final DoubleContextualSetter<? super T> setter) {
@@ -11,8 +11,8 @@ import org.simpleflatmapper.reflect.primitive.FloatSetter;
 
 public final class FloatConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final FloatGetter<? super S> getter;
-	private final FloatContextualSetter<? super T> setter;
+	public final FloatGetter<? super S> getter;
+	public final FloatContextualSetter<? super T> setter;
 	
 	public FloatConstantTargetFieldMapper(final FloatGetter<? super S> getter, final FloatContextualSetter<? super T> setter) {
 		this.getter = getter;
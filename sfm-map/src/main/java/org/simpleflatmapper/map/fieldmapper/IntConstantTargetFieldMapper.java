@@ -11,8 +11,8 @@ import org.simpleflatmapper.reflect.primitive.IntSetter;
 
 public final class IntConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final IntGetter<? super S> getter;
-	private final IntContextualSetter<? super T> setter;
+	public final IntGetter<? super S> getter;
+	public final IntContextualSetter<? super T> setter;
 	
 	public IntConstantTargetFieldMapper(final IntGetter<? super S> getter, final IntContextualSetter<? super T> setter) {
 		this.getter = getter;
@@ -11,8 +11,8 @@ import org.simpleflatmapper.reflect.primitive.LongSetter;
 
 public final class LongConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final LongGetter<? super S> getter;
-	private final LongContextualSetter<? super T> setter;
+	public final LongGetter<? super S> getter;
+	public final LongContextualSetter<? super T> setter;
 	
 	public LongConstantTargetFieldMapper(final LongGetter<? super S> getter, final LongContextualSetter<? super T> setter) {
 		this.getter = getter;
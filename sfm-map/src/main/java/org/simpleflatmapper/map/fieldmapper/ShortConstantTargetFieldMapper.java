@@ -7,8 +7,8 @@ import org.simpleflatmapper.reflect.primitive.ShortGetter;
 
 public final class ShortConstantTargetFieldMapper<S, T> implements FieldMapper<S, T> {
 
-	private final ShortGetter<? super S> getter;
-	private final ShortContextualSetter<? super T> setter;
+	public final ShortGetter<? super S> getter;
+	public final ShortContextualSetter<? super T> setter;
 	
 	public ShortConstantTargetFieldMapper(final ShortGetter<? super S> getter, final ShortContextualSetter<? super T> setter) {
 		this.getter = getter;
@@ -3,10 +3,14 @@ package org.simpleflatmapper.map.mapper;
 import org.simpleflatmapper.map.EnumerableMapper;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableIterator;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Iterator;
 
 //IFJAVA8_START
@@ -30,9 +34,13 @@ public abstract class AbstractEnumerableMapper<SET, T, E extends Exception> impl
 	public final <H extends CheckedConsumer<? super T>> H forEach(final SET source, final H handler)
 			throws E, MappingException {
         final Enumerable<T> enumerable = enumerate(source);
-        while(enumerable.next()) {
-            final T t = enumerable.currentValue();
-            handleT(handler, t);
+        try {
+            while(enumerable.next()) {
+                final T t = enumerable.currentValue();
+                handleT(handler, t);
+            }
+        } finally {
+            close(enumerable);
         }
         return handler;
 	}
@@ -47,16 +55,41 @@ public abstract class AbstractEnumerableMapper<SET, T, E extends Exception> impl
 
     @Override
 	public final Iterator<T> iterator(SET source) throws MappingException, E {
-		return new EnumerableIterator<T>(enumerate(source));
+        Enumerable<T> enumerable = enumerate(source);
+        if (enumerable instanceof Closeable) {
+            // the enumerable holds resources, ie temp files, that the caller can release
+            return new CloseableIterator<T>(new EnumerableIterator<T>(enumerable), (Closeable) enumerable);
+        }
+		return new EnumerableIterator<T>(enumerable);
 	}
 
     //IFJAVA8_START
 	@Override
 	public final Stream<T> stream(SET source) throws MappingException, E {
-		return StreamSupport.stream(new EnumerableSpliterator<T>(enumerate(source)), false);
+        final Enumerable<T> enumerable = enumerate(source);
+        Stream<T> stream = StreamSupport.stream(new EnumerableSpliterator<T>(enumerable), false);
+        if (enumerable instanceof Closeable) {
+            return stream.onClose(new Runnable() {
+                @Override
+                public void run() {
+                    close(enumerable);
+                }
+            });
+        }
+		return stream;
 	}
     //IFJAVA8_END
 
+    private static void close(Enumerable<?> enumerable) {
+        if (enumerable instanceof Closeable) {
+            try {
+                ((Closeable) enumerable).close();
+            } catch (IOException e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+    }
+
 
 
 }
@@ -50,6 +50,7 @@ public abstract class AbstractMapperFactory<
 	
 	private Predicate<? super S> rowFilter = null;
 	private boolean unorderedJoin;
+	private int unorderedJoinMaxRowsInMemory = -1;
 
 	protected ContextualGetterFactory<? super S, K> getterFactory;
 
@@ -72,6 +73,7 @@ public abstract class AbstractMapperFactory<
 		this.assumeInjectionModifiesValues = config.assumeInjectionModifiesValues;
 		this.rowFilter = config.rowFilter;
 		this.unorderedJoin = config.unorderedJoin;
+		this.unorderedJoinMaxRowsInMemory = config.unorderedJoinMaxRowsInMemory;
 		this.getterFactory = config.getterFactory;
 	}
 
@@ -111,6 +113,24 @@ public abstract class AbstractMapperFactory<
 		return (MF) this;
 	}
 
+	/**
+	 * Enabled support for unordered join at the root level with a bound on the rows mapped in memory.
+	 * Once maxRowsInMemory rows are mapped, the rows of the keys not already loaded are partitioned by key into temp files
+	 * and each partition is joined in memory after the objects already loaded are returned.
+	 * The peak memory is then proportional to the largest partition instead of the whole source.
+	 * The source rows need to be writable to a file, only the csv mappers provide a spill format, the other mappers fail to build with a MapperBuildingException.
+	 * The temp files are deleted once read, close the iterator or the stream to delete the remaining ones when not reading to the end.
+	 *
+	 * @param maxRowsInMemory the number of rows to map in memory before spilling to disk
+	 * @return the current factory
+	 */
+	public final MF unorderedJoin(int maxRowsInMemory) {
+		if (maxRowsInMemory <= 0) throw new IllegalArgumentException("maxRowsInMemory should be greater than 0");
+		this.unorderedJoin = true;
+		this.unorderedJoinMaxRowsInMemory = maxRowsInMemory;
+		return (MF) this;
+	}
+
     /**
      * Change the mapperBuilderErrorHandler to an IgnoreMapperBuilderErrorHandler.
      * @return the current factory
@@ -194,7 +214,8 @@ public abstract class AbstractMapperFactory<
 				.assumeInjectionModifiesValues(assumeInjectionModifiesValues)
 				.discriminators(discriminators)
 				.rowFilter(rowFilter)
-				.unorderedJoin(unorderedJoin);
+				.unorderedJoin(unorderedJoin)
+				.unorderedJoinMaxRowsInMemory(unorderedJoinMaxRowsInMemory);
 	}
 
 	public AbstractColumnDefinitionProvider<K> enrichColumnDefinitions(AbstractColumnDefinitionProvider<K> columnDefinitions) {
@@ -3,6 +3,7 @@ package org.simpleflatmapper.map.mapper;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
 import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.KeySourceGetter;
@@ -31,6 +32,27 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
             MapperSource<? super ROW, K> mapperSource,
             KeyFactory<K> keyFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory, 
             KeySourceGetter<K, ? super ROW> keySourceGetter) {
+        this(classMeta, parentBuilder, mapperConfig, mapperSource, keyFactory, enumerableFactory, keySourceGetter, null);
+    }
+
+    /**
+     * @param classMeta           the meta for the target class.
+     * @param parentBuilder       the parent builder, null if none.
+     * @param mapperConfig        the mapperConfig.
+     * @param mapperSource        the Mapper source.
+     * @param keyFactory
+     * @param enumerableFactory
+     * @param keySourceGetter
+     * @param spillFormat         the format to spill the rows of an unordered join to disk, null if not supported, building an unordered join with a row bound then fails.
+     */
+    public DefaultSetRowMapperBuilder(
+            ClassMeta<T> classMeta,
+            MappingContextFactoryBuilder<ROW, K> parentBuilder,
+            MapperConfig<K, ROW> mapperConfig,
+            MapperSource<? super ROW, K> mapperSource,
+            KeyFactory<K> keyFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory,
+            KeySourceGetter<K, ? super ROW> keySourceGetter,
+            RowSpillFormat<ROW> spillFormat) {
         super(
                 classMeta, 
                 parentBuilder, 
@@ -38,13 +60,25 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
                 mapperSource, 
                 keyFactory, 
                 mapperConfig.applyEnumerableFilter(enumerableFactory),
-                new DefaultSetRowMapperFactory<ROW, SET, T, E>(), 
+                new DefaultSetRowMapperFactory<ROW, SET, T, E>(spillFormat, mapperConfig.unorderedJoinMaxRowsInMemory()), 
                 keySourceGetter);
     }
 
 
     public static class DefaultSetRowMapperFactory<ROW, SET, T , E extends Exception> implements SetRowMapperFactory<SetRowMapper<ROW, SET, T, E>, ROW, SET, T, E> {
 
+        private final RowSpillFormat<ROW> spillFormat;
+        private final int maxRowsInMemory;
+
+        public DefaultSetRowMapperFactory() {
+            this(null, -1);
+        }
+
+        public DefaultSetRowMapperFactory(RowSpillFormat<ROW> spillFormat, int maxRowsInMemory) {
+            this.spillFormat = spillFormat;
+            this.maxRowsInMemory = maxRowsInMemory;
+        }
+
         @Override
         public SetRowMapper<ROW, SET, T, E> newJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory) {
             return  new JoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory);
@@ -52,7 +86,10 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
 
         @Override
         public SetRowMapper<ROW, SET, T, E> newUnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory) {
-            return  new UnorderedJoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory);
+            if (maxRowsInMemory != -1 && spillFormat == null) {
+                throw new MapperBuildingException("unorderedJoin(maxRowsInMemory) needs the rows to be spilled to disk, this source does not support it, use unorderedJoin()");
+            }
+            return  new UnorderedJoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory, spillFormat, maxRowsInMemory);
         }
 
         @Override
@@ -0,0 +1,34 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Write the rows of a source to a stream and read them back, used by the unordered join to spill the rows to temp files.
+ * @param <S> the row type
+ */
+public interface RowSpillFormat<S> {
+
+    /**
+     * @param out the stream to write to, flushed and closed by the caller
+     * @return a writer of the rows
+     * @throws IOException if an error occurs
+     */
+    RowWriter<S> newWriter(OutputStream out) throws IOException;
+
+    /**
+     * @param in the stream written by a RowWriter, closed by the caller
+     * @return the rows in the order they were written
+     * @throws IOException if an error occurs
+     */
+    Enumerable<S> newReader(InputStream in) throws IOException;
+
+    interface RowWriter<S> {
+        void write(S row) throws IOException;
+
+        void flush() throws IOException;
+    }
+}
@@ -1,14 +1,19 @@
 package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.ContextualSourceMapper;
+import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactory;
+import org.simpleflatmapper.map.context.ReusedTargetMappingContext;
 import org.simpleflatmapper.map.impl.StaticMapperEnumerable;
+import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.UnaryFactory;
 
 public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E> {
@@ -37,6 +42,45 @@ public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends Abstra
 		return mapper.map(rs, context);
 	}
 
+	/**
+	 * map each row of source into the same instance of T, obtained once from the supplier, and pass it to the handler.
+	 * <p>
+	 * Each row sets all the mapped properties, an empty value sets the property to null or its default.
+	 * The properties that are not mapped are left unchanged. A nested object is mapped to a new instance for each row,
+	 * unless the mapper infers it is null - then the property is reset to null.
+	 * The handler must not keep the instance, it is overwritten by the next row.
+	 * @param source the rows
+	 * @param supplier the factory of the reused instance
+	 * @param handler the callback
+	 * @param <H> the handler type
+	 * @return the handler
+	 * @throws E if an error occurs reading the rows
+	 * @throws MappingException if an error occurs during the mapping
+	 */
+	@SuppressWarnings("unchecked")
+	public final <H extends CheckedConsumer<? super T>> H forEachReusing(SET source, Supplier<? extends T> supplier, H handler) throws E, MappingException {
+		if (!(mapper instanceof FieldMapper)) {
+			throw new UnsupportedOperationException("Mapper " + mapper + " cannot map into an existing instance");
+		}
+		FieldMapper<ROW, T> fieldMapper = (FieldMapper<ROW, T>) mapper;
+		MappingContext<? super ROW> mappingContext = new ReusedTargetMappingContext<ROW>(mappingContextFactory.newContext());
+		Enumerable<ROW> rows = enumerableFactory.newInstance(source);
+		T target = supplier.get();
+		while (rows.next()) {
+			try {
+				fieldMapper.mapTo(rows.currentValue(), target, mappingContext);
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+			try {
+				handler.accept(target);
+			} catch (Throwable e) {
+				errorHandler.handlerError(e, target);
+			}
+		}
+		return handler;
+	}
+
 	@Override
 	public String toString() {
 		return "StaticSetRowMapper{" + mapper + '}';
@@ -47,7 +91,17 @@ public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends Abstra
 		return new StaticMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerableFactory.newInstance(source));
 	}
 
-	protected MappingContextFactory<? super ROW> getMappingContextFactory() {
+	/**
+	 * @return the factory of the MappingContext, a context must only be used by one thread at a time
+	 */
+	public MappingContextFactory<? super ROW> getMappingContextFactory() {
 		return mappingContextFactory;
 	}
+
+	/**
+	 * @return the error handler called when the handler passed to forEach throws
+	 */
+	public ConsumerErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
 }
@@ -15,12 +15,20 @@ public class UnorderedJoinMapper<ROW, ROWS, T, EX extends Exception> extends Abs
     private final ContextualSourceFieldMapper<ROW, T> mapper;
     private final MappingContextFactory<? super ROW> mappingContextFactory;
     private final UnaryFactory<ROWS, Enumerable<ROW>> factory;
+    private final RowSpillFormat<ROW> spillFormat;
+    private final int maxRowsInMemory;
 
     public UnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler errorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<ROWS, Enumerable<ROW>> factory) {
+        this(mapper, errorHandler, mappingContextFactory, factory, null, -1);
+    }
+
+    public UnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler errorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<ROWS, Enumerable<ROW>> factory, RowSpillFormat<ROW> spillFormat, int maxRowsInMemory) {
         super(errorHandler);
         this.mapper = mapper;
         this.mappingContextFactory = mappingContextFactory;
         this.factory = factory;
+        this.spillFormat = spillFormat;
+        this.maxRowsInMemory = maxRowsInMemory;
     }
 
 
@@ -31,7 +39,7 @@ public class UnorderedJoinMapper<ROW, ROWS, T, EX extends Exception> extends Abs
 
     @Override
     public final Enumerable<T> enumerate(ROWS source) throws EX {
-        return new UnorderedJoinMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerateRows(source));
+        return new UnorderedJoinMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerateRows(source), spillFormat, maxRowsInMemory);
     }
 
     private Enumerable<ROW> enumerateRows(ROWS source) {
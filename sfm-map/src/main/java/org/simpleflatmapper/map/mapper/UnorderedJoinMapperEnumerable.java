@@ -2,15 +2,40 @@ package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.SourceFieldMapper;
+import org.simpleflatmapper.map.context.Key;
+import org.simpleflatmapper.map.context.KeyDefinition;
 import org.simpleflatmapper.map.context.impl.BreakDetector;
 import org.simpleflatmapper.map.context.impl.BreakDetectorMappingContext;
 import org.simpleflatmapper.util.ArrayListEnumerable;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedList;
 
-public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
+/**
+ * Map all the rows of the source keeping the root objects by key, then enumerate the root objects.
+ * <p>
+ * With a spill format and maxRowsInMemory, once maxRowsInMemory rows are mapped the rows of the keys that are not already loaded
+ * are hash partitioned by root key into temp files. The loaded objects are returned first, then each partition is joined in memory
+ * - partitioning it again if it is still too big.
+ * <p>
+ * A partition file is deleted once read, close deletes the ones not read yet.
+ */
+public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T>, Closeable {
+
+    // 4 bits of the key hash per level
+    private static final int NB_PARTITIONS = 16;
+    private static final int MAX_LEVEL = 8;
 
     private final SourceFieldMapper<S, T> mapper;
     private final MappingContext<? super S> mappingContext;
@@ -19,15 +44,30 @@ public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
     private final Enumerable<S> sourceEnumerable;
     private final BreakDetector<? super S> breakDetector;
 
+    private final RowSpillFormat<S> spillFormat;
+    private final int maxRowsInMemory;
+    private final LinkedList<Partition> partitions = new LinkedList<Partition>();
+
     private Enumerable<T> objectsEnumerable;
-    
+    private boolean sourceLoaded;
+
     public UnorderedJoinMapperEnumerable(SourceFieldMapper<S, T> mapper,
                                          MappingContext<? super S> mappingContext,
                                          Enumerable<S> sourceEnumerable) {
+        this(mapper, mappingContext, sourceEnumerable, null, -1);
+    }
+
+    public UnorderedJoinMapperEnumerable(SourceFieldMapper<S, T> mapper,
+                                         MappingContext<? super S> mappingContext,
+                                         Enumerable<S> sourceEnumerable,
+                                         RowSpillFormat<S> spillFormat,
+                                         int maxRowsInMemory) {
         this.mapper = mapper;
         this.mappingContext = mappingContext;
         this.sourceEnumerable = sourceEnumerable;
         this.breakDetector = getRootDetector(mappingContext);
+        this.spillFormat = spillFormat;
+        this.maxRowsInMemory = spillFormat != null ? maxRowsInMemory : -1;
     }
 
     private BreakDetector<? super S> getRootDetector(MappingContext<? super S> mappingContext) {
@@ -42,37 +82,93 @@ public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
     @Override
     public boolean next() {
         try {
-            if (objectsEnumerable == null) objectsEnumerable = fetchAll();
-            return objectsEnumerable.next();
+            while (true) {
+                if (objectsEnumerable != null && objectsEnumerable.next()) {
+                    return true;
+                }
+                objectsEnumerable = null;
+                if (!sourceLoaded) {
+                    sourceLoaded = true;
+                    objectsEnumerable = fetchAll(sourceEnumerable, 0);
+                } else if (!partitions.isEmpty()) {
+                    objectsEnumerable = fetchPartition(partitions.removeFirst());
+                } else {
+                    return false;
+                }
+            }
         } catch (Exception e) {
+            deletePartitions();
             ErrorHelper.rethrow(e);
             return false;
         }
 
     }
 
-    private Enumerable<T> fetchAll() throws Exception {
+    private Enumerable<T> fetchPartition(Partition partition) throws Exception {
+        InputStream is = new BufferedInputStream(new FileInputStream(partition.file));
+        try {
+            return fetchAll(spillFormat.newReader(is), partition.level);
+        } finally {
+            is.close();
+            partition.file.delete();
+        }
+    }
+
+    private Enumerable<T> fetchAll(Enumerable<S> sourceEnumerable, int level) throws Exception {
+        // forget the objects of the previous partition
+        mappingContext.markAsBroken();
+
         ArrayList<T> objects = new ArrayList<T>();
-        while (sourceEnumerable.next()) {
-
-            S source = sourceEnumerable.currentValue();
-
-            mappingContext.handleSource(source); // set current key
-            
-            T currentValue = (T) breakDetector.getValue();
-            
-            if (currentValue == null) {
-                currentValue = mapper.map(source, mappingContext);
-                breakDetector.setValue(currentValue);
-                objects.add(currentValue);
-            } else {
-                mapper.mapTo(source, currentValue, mappingContext);
+        PartitionWriters partitionWriters = null;
+        int nbRows = 0;
+        try {
+            while (sourceEnumerable.next()) {
+
+                S source = sourceEnumerable.currentValue();
+
+                mappingContext.handleSource(source); // set current key
+
+                T currentValue = (T) breakDetector.getValue();
+
+                if (currentValue != null) {
+                    mapper.mapTo(source, currentValue, mappingContext);
+                    nbRows++;
+                } else if (partitionWriters == null
+                        && (maxRowsInMemory == -1 || nbRows < maxRowsInMemory || level >= MAX_LEVEL)) {
+                    currentValue = mapper.map(source, mappingContext);
+                    breakDetector.setValue(currentValue);
+                    objects.add(currentValue);
+                    nbRows++;
+                } else {
+                    if (partitionWriters == null) {
+                        partitionWriters = new PartitionWriters(level);
+                    }
+                    partitionWriters.write(breakDetector.getCurrentKey(), source);
+                }
+            }
+        } finally {
+            if (partitionWriters != null) {
+                partitionWriters.close();
             }
         }
-        
+
         return new ArrayListEnumerable<T>(objects);
     }
 
+    @Override
+    public void close() {
+        sourceLoaded = true;
+        objectsEnumerable = null;
+        deletePartitions();
+    }
+
+    private void deletePartitions() {
+        for(Partition partition : partitions) {
+            partition.file.delete();
+        }
+        partitions.clear();
+    }
+
     @Override
     public T currentValue() {
         return objectsEnumerable.currentValue();
@@ -84,4 +180,67 @@ public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
                 "jdbcMapper=" + mapper +
                 '}';
     }
+
+    private static final class Partition {
+        private final File file;
+        private final int level;
+
+        private Partition(File file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+    }
+
+    private final class PartitionWriters {
+        private final int level;
+        private final OutputStream[] outputStreams = new OutputStream[NB_PARTITIONS];
+        @SuppressWarnings("unchecked")
+        private final RowSpillFormat.RowWriter<S>[] writers = new RowSpillFormat.RowWriter[NB_PARTITIONS];
+        private int nbNoKeyRows;
+
+        private PartitionWriters(int level) {
+            this.level = level;
+        }
+
+        private void write(Key key, S source) throws IOException {
+            int index;
+            if (key == KeyDefinition.NOT_EQUALS) {
+                // no key to join on, spread the rows evenly
+                index = (nbNoKeyRows++) & (NB_PARTITIONS - 1);
+            } else {
+                // the top bits of the mixed hash for the first level, the next 4 bits for the next level
+                int h = key.hashCode() * 0x9E3779B9;
+                index = (h >>> (28 - level * 4)) & (NB_PARTITIONS - 1);
+            }
+
+            RowSpillFormat.RowWriter<S> writer = writers[index];
+            if (writer == null) {
+                File file = File.createTempFile("sfm-unordered-join", ".tmp");
+                partitions.add(new Partition(file, level + 1));
+                outputStreams[index] = new BufferedOutputStream(new FileOutputStream(file));
+                writer = spillFormat.newWriter(outputStreams[index]);
+                writers[index] = writer;
+            }
+            writer.write(source);
+        }
+
+        private void close() throws IOException {
+            IOException error = null;
+            for(int i = 0; i < NB_PARTITIONS; i++) {
+                if (writers[i] != null) {
+                    try {
+                        writers[i].flush();
+                    } catch (IOException e) {
+                        error = e;
+                    }
+                    try {
+                        outputStreams[i].close();
+                    } catch (IOException e) {
+                        error = e;
+                    }
+                }
+            }
+            if (error != null) throw error;
+        }
+    }
 }
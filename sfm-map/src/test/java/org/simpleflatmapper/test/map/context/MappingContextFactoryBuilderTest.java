@@ -44,6 +44,18 @@ public class MappingContextFactoryBuilderTest {
         assertEquals("hh", mappingContextFactory.newContext().context(i));
     }
 
+    @Test
+    public void testSameSupplierSharesItsIndex() {
+        ConstantSupplier<String> supplier = new ConstantSupplier<String>("hh");
+        int i = builder.addSupplier(supplier);
+        int j = builder.addSupplier(new ConstantSupplier<String>("hh"));
+        MappingContextFactoryBuilder<Object[], SampleFieldKey> subBuilder = builder.newBuilder(Arrays.asList(new KeyAndPredicate<Object[], SampleFieldKey>(new SampleFieldKey("k2", 3), null)), null, null);
+
+        assertEquals(i, builder.addSupplier(supplier));
+        assertEquals(i, subBuilder.addSupplier(supplier));
+        assertNotEquals(i, j);
+    }
+
     @Test
     public void testKeys() throws Exception {
         builder.addKey(new KeyAndPredicate<Object[], SampleFieldKey>(new SampleFieldKey("k1", 0), null));
@@ -4,6 +4,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.simpleflatmapper.map.EnumerableMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.Supplier;
 
 import java.util.Iterator;
 //IFJAVA8_START
@@ -64,6 +65,34 @@ public interface SheetMapper<T> extends EnumerableMapper<Sheet, T, RuntimeExcept
      */
     <RH extends CheckedConsumer<? super T>> RH forEach(int startRow, Sheet sheet, RH consumer);
 
+    /**
+     * map each row into the same instance of T, obtained once from the supplier, and call back the handler.
+     * <p>
+     * Each row sets all the mapped properties, an empty cell sets the property to null or its default, the properties that are not mapped are left unchanged.
+     * A nested object is mapped to a new instance for each row, unless the mapper infers it is null - then the property is reset to null.
+     * The target must be mutable, and the handler must not keep it as it is overwritten by the next row.
+     * The mappers that aggregate rows in collections - with keys - throw an UnsupportedOperationException.
+     *
+     * @param sheet the sheet to map from
+     * @param supplier the factory of the reused instance
+     * @param consumer the handler to call back
+     * @param <RH> the type of the handler
+     * @return the handler
+     */
+    <RH extends CheckedConsumer<? super T>> RH forEachReusing(Sheet sheet, Supplier<? extends T> supplier, RH consumer);
+
+    /**
+     * map each row from startRow into the same instance of T, see {@link #forEachReusing(Sheet, Supplier, CheckedConsumer)}.
+     *
+     * @param startRow row index to start at
+     * @param sheet the sheet to map from
+     * @param supplier the factory of the reused instance
+     * @param consumer the handler to call back
+     * @param <RH> the type of the handler
+     * @return the handler
+     */
+    <RH extends CheckedConsumer<? super T>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends T> supplier, RH consumer);
+
 
     /**
      *
@@ -5,6 +5,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.map.getter.ContextualGetterFactory;
@@ -66,7 +67,7 @@ public class SheetMapperBuilder<T> extends MapperBuilder<Row, Sheet, T, CsvColum
                                 throw new UnsupportedOperationException();
                             }
                         },
-                        new RowMapperFactory<T>(),
+                        new RowMapperFactory<T>(mapperConfig.unorderedJoinMaxRowsInMemory()),
                         CsvColumnKeyRowKeySourceGetter.INSTANCE),  new BiFunction<RowMapper<T>, List<CsvColumnKey>, RowMapper<T>>() {
                     @Override
                     public RowMapper<T> apply(RowMapper<T> setRowMapper, List<CsvColumnKey> keys) {
@@ -78,6 +79,12 @@ public class SheetMapperBuilder<T> extends MapperBuilder<Row, Sheet, T, CsvColum
     }
 
     private static class RowMapperFactory<T> implements SetRowMapperBuilderImpl.SetRowMapperFactory<RowMapper<T>, Row, Sheet, T, RuntimeException> {
+        private final int unorderedJoinMaxRowsInMemory;
+
+        private RowMapperFactory(int unorderedJoinMaxRowsInMemory) {
+            this.unorderedJoinMaxRowsInMemory = unorderedJoinMaxRowsInMemory;
+        }
+
         @Override
         public RowMapper<T> newJoinMapper(ContextualSourceFieldMapper<Row, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super Row> mappingContextFactory, UnaryFactory<Sheet, Enumerable<Row>> enumerableFactory) {
             return new JoinSheetMapper<T>(mapper, consumerErrorHandler, mappingContextFactory);
@@ -85,6 +92,9 @@ public class SheetMapperBuilder<T> extends MapperBuilder<Row, Sheet, T, CsvColum
 
         @Override
         public RowMapper<T> newUnorderedJoinMapper(ContextualSourceFieldMapper<Row, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super Row> mappingContextFactory, UnaryFactory<Sheet, Enumerable<Row>> enumerableFactory) {
+            if (unorderedJoinMaxRowsInMemory != -1) {
+                throw new MapperBuildingException("unorderedJoin(maxRowsInMemory) is not supported on a sheet, use unorderedJoin()");
+            }
             return new UnorderedJoinSheetMapper<T>(mapper, consumerErrorHandler, mappingContextFactory);
         }
 
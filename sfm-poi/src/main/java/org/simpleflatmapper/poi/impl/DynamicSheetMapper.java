@@ -18,6 +18,7 @@ import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.csv.CsvColumnKeyMapperKeyComparator;
 import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.Supplier;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -87,6 +88,16 @@ public class DynamicSheetMapper<T> implements SheetMapper<T> {
         return getPoiMapper(startRow, sheet).forEach(startRow + 1, sheet, consumer);
     }
 
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        return forEachReusing(startRow, sheet, supplier, consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        return getPoiMapper(startRow, sheet).forEachReusing(startRow + 1, sheet, supplier, consumer);
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
@@ -16,6 +16,7 @@ import org.simpleflatmapper.util.CheckedConsumer;
 import java.util.Iterator;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableIterator;
+import org.simpleflatmapper.util.Supplier;
 
 //IFJAVA8_START
 import org.simpleflatmapper.util.EnumerableSpliterator;
@@ -84,6 +85,16 @@ public class JoinSheetMapper<T> implements RowMapper<T> {
         return consumer;
     }
 
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        return forEachReusing(startRow, sheet, supplier, consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        throw new UnsupportedOperationException("Cannot reuse the instance with a join mapper");
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
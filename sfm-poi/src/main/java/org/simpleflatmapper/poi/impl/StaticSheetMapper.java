@@ -10,10 +10,13 @@ import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.context.MappingContextFactory;
+import org.simpleflatmapper.map.context.ReusedTargetMappingContext;
 import org.simpleflatmapper.poi.RowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableIterator;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.Supplier;
 
 import java.util.Iterator;
 
@@ -83,6 +86,34 @@ public class StaticSheetMapper<T> implements RowMapper<T>, SourceFieldMapper<Row
         return consumer;
     }
 
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        return forEachReusing(startRow, sheet, supplier, consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        MappingContext<? super Row> mappingContext = new ReusedTargetMappingContext<Row>(newMappingContext());
+        ContextualSourceFieldMapper<Row, T> lMapper = this.mapper;
+        T object = supplier.get();
+        for(int rowNum = startRow; rowNum <= sheet.getLastRowNum(); rowNum++) {
+            Row row = sheet.getRow(rowNum);
+            if (row != null) {
+                try {
+                    lMapper.mapTo(row, object, mappingContext);
+                } catch (Exception e) {
+                    ErrorHelper.rethrow(e);
+                }
+                try {
+                    consumer.accept(object);
+                } catch (Exception e) {
+                    consumerErrorHandler.handlerError(e, object);
+                }
+            }
+        }
+        return consumer;
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
@@ -9,6 +9,7 @@ import org.simpleflatmapper.poi.RowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.Function;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.TransformCheckedConsumer;
 import org.simpleflatmapper.util.TransformIterator;
 
@@ -65,6 +66,16 @@ public class TransformRowMapper<I, O> implements RowMapper<O> {
         return consumer;
     }
 
+    @Override
+    public <RH extends CheckedConsumer<? super O>> RH forEachReusing(Sheet sheet, Supplier<? extends O> supplier, RH consumer) {
+        throw new UnsupportedOperationException("Cannot reuse the instance with a transform mapper");
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super O>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends O> supplier, RH consumer) {
+        throw new UnsupportedOperationException("Cannot reuse the instance with a transform mapper");
+    }
+
 
     //IFJAVA8_START
     @Override
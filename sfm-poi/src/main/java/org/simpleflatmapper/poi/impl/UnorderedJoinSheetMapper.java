@@ -13,6 +13,7 @@ import org.simpleflatmapper.poi.RowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableIterator;
+import org.simpleflatmapper.util.Supplier;
 
 import java.util.Iterator;
 //IFJAVA8_START
@@ -81,6 +82,16 @@ public class UnorderedJoinSheetMapper<T> implements RowMapper<T> {
         return consumer;
     }
 
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        return forEachReusing(startRow, sheet, supplier, consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEachReusing(int startRow, Sheet sheet, Supplier<? extends T> supplier, RH consumer) {
+        throw new UnsupportedOperationException("Cannot reuse the instance with a join mapper");
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
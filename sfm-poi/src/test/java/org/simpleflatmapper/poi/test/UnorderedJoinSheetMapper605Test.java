@@ -6,6 +6,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.junit.Test;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.poi.SheetMapper;
 import org.simpleflatmapper.poi.SheetMapperFactory;
 import org.simpleflatmapper.util.ListCollector;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 
 public class UnorderedJoinSheetMapper605Test {
@@ -69,6 +71,24 @@ public class UnorderedJoinSheetMapper605Test {
         ), profs);
     }
 
+    @Test
+    public void testUnorderedJoinWithMaxRowsFailsOnBuild() {
+        try {
+            SheetMapperFactory
+                .newInstance()
+                .unorderedJoin(10)
+                .newBuilder(Prof.class)
+                .addKey("id")
+                .addMapping("name")
+                .addKey("students_id")
+                .addMapping("students_name")
+                .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            // expected
+        }
+    }
+
 
     public static class Prof {
         public final long id;
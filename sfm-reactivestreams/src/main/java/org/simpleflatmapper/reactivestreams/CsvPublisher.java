@@ -0,0 +1,96 @@
+package org.simpleflatmapper.reactivestreams;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.simpleflatmapper.csv.CsvBatchSubscription;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Reactive streams Publisher of the objects mapped by a CsvMapper, emitted in List batches.
+ * <p>
+ * Each subscriber gets its own reader from the reader factory, opened on the first request and closed on completion, error or cancel.
+ * The rows are only parsed and mapped when a batch is requested, request(n) asks for n batches of up to batchSize objects.
+ * The signals are delivered on the executor, by default the ParallelReader executor.
+ * @param <T> the mapped type
+ * @see CsvBatchSubscription
+ */
+public final class CsvPublisher<T> implements Publisher<List<T>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final CsvMapper<T> mapper;
+    private final Callable<? extends Reader> readerFactory;
+    private final int batchSize;
+    private final Executor executor;
+
+    public CsvPublisher(CsvMapper<T> mapper, Callable<? extends Reader> readerFactory) {
+        this(mapper, readerFactory, DEFAULT_BATCH_SIZE, ParallelReader.getDefaultExecutor());
+    }
+
+    public CsvPublisher(CsvMapper<T> mapper, Callable<? extends Reader> readerFactory, int batchSize, Executor executor) {
+        if (mapper == null || readerFactory == null || executor == null) throw new NullPointerException();
+        if (batchSize <= 0) throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        this.mapper = mapper;
+        this.readerFactory = readerFactory;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    public static <T> CsvPublisher<T> of(CsvMapper<T> mapper, File file) {
+        return of(mapper, file, CsvParser.DEFAULT_CHARSET);
+    }
+
+    public static <T> CsvPublisher<T> of(CsvMapper<T> mapper, final File file, final Charset charset) {
+        return new CsvPublisher<T>(mapper, new Callable<Reader>() {
+            @Override
+            public Reader call() throws Exception {
+                return new InputStreamReader(new FileInputStream(file), charset);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super List<T>> subscriber) {
+        if (subscriber == null) throw new NullPointerException();
+        final CsvBatchSubscription<T> subscription = new CsvBatchSubscription<T>(mapper, readerFactory, batchSize, executor, new CsvBatchSubscription.Subscriber<T>() {
+            @Override
+            public void onNext(List<T> batch) {
+                subscriber.onNext(batch);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                subscriber.onError(error);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                subscription.cancel();
+            }
+        });
+        subscription.start();
+    }
+}
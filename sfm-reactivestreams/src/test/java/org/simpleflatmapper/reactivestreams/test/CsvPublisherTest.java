@@ -0,0 +1,124 @@
+package org.simpleflatmapper.reactivestreams.test;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.reactivestreams.CsvPublisher;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class CsvPublisherTest {
+
+	private final CsvMapper<Item> mapper = CsvMapperFactory.newInstance().newMapper(Item.class);
+
+	@Test
+	public void testPublishesAllRowsOneBatchAtATime() throws Exception {
+		File file = createFile(1000);
+		try {
+			BatchSubscriber subscriber = new BatchSubscriber(Long.MAX_VALUE);
+			CsvPublisher.of(mapper, file).subscribe(subscriber);
+
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertNull(subscriber.error);
+			assertTrue(subscriber.completed);
+			assertEquals(1000, subscriber.items.size());
+			assertEquals(4, subscriber.nbBatches);
+			for(int i = 0; i < subscriber.items.size(); i++) {
+				assertEquals(i, subscriber.items.get(i).id);
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testCancelStopsEmission() throws Exception {
+		File file = createFile(1000);
+		try {
+			BatchSubscriber subscriber = new BatchSubscriber(2);
+			CsvPublisher.of(mapper, file).subscribe(subscriber);
+
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertEquals(2, subscriber.nbBatches);
+			assertEquals(2 * CsvPublisher.DEFAULT_BATCH_SIZE, subscriber.items.size());
+			assertFalse(subscriber.completed);
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static File createFile(int n) throws IOException {
+		File file = File.createTempFile("publisher", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write("id,name\n");
+			for(int i = 0; i < n; i++) {
+				writer.write(i + ",name" + i + "\n");
+			}
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	public static class Item {
+		public int id;
+		public String name;
+	}
+
+	private static class BatchSubscriber implements Subscriber<List<Item>> {
+		private final long maxBatches;
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private final List<Item> items = new ArrayList<Item>();
+		private Subscription subscription;
+		private int nbBatches;
+		private volatile boolean completed;
+		private volatile Throwable error;
+
+		private BatchSubscriber(long maxBatches) {
+			this.maxBatches = maxBatches;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			subscription = s;
+			s.request(1);
+		}
+
+		@Override
+		public void onNext(List<Item> batch) {
+			items.addAll(batch);
+			nbBatches++;
+			if (nbBatches < maxBatches) {
+				subscription.request(1);
+			} else {
+				subscription.cancel();
+				latch.countDown();
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			error = t;
+			latch.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			latch.countDown();
+		}
+	}
+}
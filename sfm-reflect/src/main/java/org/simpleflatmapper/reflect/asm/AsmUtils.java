@@ -368,6 +368,52 @@ public class AsmUtils {
 		return findTypeInHierarchy(type, new TypeIsPublicAndImplement(expose));
 	}
 
+	private static final Method GET_MODULE;
+	private static final Method GET_UNNAMED_MODULE;
+	private static final Method IS_EXPORTED;
+	static {
+		Method getModule = null;
+		Method getUnnamedModule = null;
+		Method isExported = null;
+		try {
+			getModule = Class.class.getMethod("getModule");
+			getUnnamedModule = ClassLoader.class.getMethod("getUnnamedModule");
+			isExported = getModule.getReturnType().getMethod("isExported", String.class, getModule.getReturnType());
+		} catch (Exception e) {
+			// no module system before java 9
+			getModule = null;
+		}
+		GET_MODULE = getModule;
+		GET_UNNAMED_MODULE = getUnnamedModule;
+		IS_EXPORTED = isExported;
+	}
+
+	/**
+	 * The generated classes are defined in an unnamed module, they can only reference a public class
+	 * whose package is exported to the unnamed modules.
+	 * @param clazz the class
+	 * @return true if a generated class can reference clazz
+	 */
+	public static boolean isAccessible(Class<?> clazz) {
+		if (!Modifier.isPublic(clazz.getModifiers())) {
+			return false;
+		}
+		if (GET_MODULE == null || clazz.getPackage() == null) {
+			return true;
+		}
+		try {
+			ClassLoader classLoader = clazz.getClassLoader();
+			if (classLoader == null) {
+				classLoader = ClassLoader.getSystemClassLoader();
+			}
+			Object module = GET_MODULE.invoke(clazz);
+			Object unnamedModule = GET_UNNAMED_MODULE.invoke(classLoader);
+			return (Boolean) IS_EXPORTED.invoke(module, clazz.getPackage().getName(), unnamedModule);
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
 	public static Type findTypeInHierarchy(Type type, Predicate<Type> predicate) {
 
 		if (predicate.test(type)) {
@@ -648,7 +694,7 @@ public class AsmUtils {
 		@Override
 		public boolean test(Type type) {
 			Class<?> clazz = TypeHelper.toClass(type);
-			if (!Modifier.isPublic(clazz.getModifiers())) {
+			if (!isAccessible(clazz)) {
 				return false;
 			}
 			for(Method m : clazz.getMethods()) {
@@ -670,7 +716,7 @@ public class AsmUtils {
 		@Override
 		public boolean test(Type type) {
 			Class<Object> targetClass = TypeHelper.toClass(type);
-			return Modifier.isPublic(targetClass.getModifiers()) && expose.isAssignableFrom(targetClass);
+			return isAccessible(targetClass) && expose.isAssignableFrom(targetClass);
 		}
 	}
 }
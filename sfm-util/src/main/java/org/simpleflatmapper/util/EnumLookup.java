@@ -0,0 +1,167 @@
+package org.simpleflatmapper.util;
+
+/**
+ * Resolve an enum constant from its name or its ordinal read from a char range without creating a String.
+ * <p>
+ * The names are stored in a power of 2 table indexed by the String.hashCode of the name,
+ * the table is grown until there is no collision so a lookup is one hash and one comparison.
+ * An unknown name or an invalid ordinal fails with the same exception as Enum.valueOf and Integer.parseInt.
+ * @param <E> the enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private final Class<E> enumClass;
+    private final E[] values;
+    private final E[] table;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    private EnumLookup(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.values = enumClass.getEnumConstants();
+
+        int size = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+        while (size < MAX_TABLE_SIZE && !isPerfect(values, size - 1)) {
+            size <<= 1;
+        }
+        E[] table = (E[]) new Enum[size];
+        int mask = size - 1;
+        for (E value : values) {
+            // no collision in most cases, linear probing otherwise
+            int slot = slot(value.name().hashCode(), mask);
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+        this.table = table;
+        this.mask = mask;
+    }
+
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> enumClass) {
+        return new EnumLookup<E>(enumClass);
+    }
+
+    /**
+     * @param chars the buffer
+     * @param offset the start of the value
+     * @param length the length of the value
+     * @return the constant matching the name, or the ordinal if the value starts with a digit
+     */
+    public E get(char[] chars, int offset, int length) {
+        if (length > 0 && Character.isDigit(chars[offset])) {
+            int ordinal = 0;
+            for (int i = offset; i < offset + length; i++) {
+                char c = chars[i];
+                if (!isDigit(c) || ordinal > values.length) {
+                    ordinal = Integer.parseInt(new String(chars, offset, length));
+                    break;
+                }
+                ordinal = ordinal * 10 + (c - '0');
+            }
+            if (ordinal < values.length) {
+                return values[ordinal];
+            }
+            throw invalidOrdinal(new String(chars, offset, length));
+        }
+
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        int slot = slot(h, mask);
+        E value;
+        while ((value = table[slot]) != null) {
+            if (matches(value.name(), chars, offset, length)) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return Enum.valueOf(enumClass, new String(chars, offset, length));
+    }
+
+    /**
+     * @param cs the value
+     * @return the constant matching the name, or the ordinal if the value starts with a digit
+     */
+    public E get(CharSequence cs) {
+        final int length = cs.length();
+        if (length > 0 && Character.isDigit(cs.charAt(0))) {
+            int ordinal = 0;
+            for (int i = 0; i < length; i++) {
+                char c = cs.charAt(i);
+                if (!isDigit(c) || ordinal > values.length) {
+                    ordinal = Integer.parseInt(cs.toString());
+                    break;
+                }
+                ordinal = ordinal * 10 + (c - '0');
+            }
+            if (ordinal < values.length) {
+                return values[ordinal];
+            }
+            throw invalidOrdinal(cs);
+        }
+
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + cs.charAt(i);
+        }
+        int slot = slot(h, mask);
+        E value;
+        while ((value = table[slot]) != null) {
+            String name = value.name();
+            if (name.length() == length && matches(name, cs)) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return Enum.valueOf(enumClass, cs.toString());
+    }
+
+    private IllegalArgumentException invalidOrdinal(CharSequence in) {
+        return new IllegalArgumentException("Invalid ordinal value " + in + " for " + enumClass);
+    }
+
+    private static boolean isPerfect(Enum<?>[] values, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (Enum<?> value : values) {
+            int slot = slot(value.name().hashCode(), mask);
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private static int slot(int h, int mask) {
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean matches(String name, char[] chars, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String name, CharSequence cs) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != cs.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,22 @@
 package org.simpleflatmapper.util;
 
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
+/**
+ * Spliterator on an Enumerable. The split are done by pulling the values in batches of growing size
+ * like Spliterators.AbstractSpliterator, the enumeration stays sequential but the values can be processed in parallel.
+ * The values returned by the enumerable must not be reused between calls to next.
+ * @param <T> the type of value
+ */
 public class EnumerableSpliterator<T> implements Spliterator<T> {
 
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
     private final Enumerable<T> enumerable;
+    private int batch;
 
     public EnumerableSpliterator(Enumerable<T> enumerable) {
         this.enumerable = enumerable;
@@ -32,7 +43,18 @@ public class EnumerableSpliterator<T> implements Spliterator<T> {
 
     @Override
     public Spliterator<T> trySplit() {
-        return null;
+        Enumerable<T> lEnumerable = this.enumerable;
+        int n = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+        Object[] values = new Object[n];
+        int size = 0;
+        while(size < n && lEnumerable.next()) {
+            values[size++] = lEnumerable.currentValue();
+        }
+        if (size == 0) {
+            return null;
+        }
+        batch = size;
+        return Spliterators.spliterator(values, 0, size, characteristics());
     }
 
     @Override
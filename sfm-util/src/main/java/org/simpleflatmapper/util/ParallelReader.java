@@ -61,8 +61,8 @@ public class ParallelReader extends Reader {
         }
     };
     
-    private static final int DEFAULT_READ_BUFFER_SIZE = 8192;
-    private static final int DEFAULT_RING_BUFFER_SIZE = 1024 * 1024 * 4; // 4MB
+    public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024 * 1024 * 4; // 4MB
     
     private final RingBufferReader reader;
 
@@ -98,7 +98,9 @@ public class ParallelReader extends Reader {
      * @param waitingStrategy the waiting strategy when the ring buffer is full
      */
     public ParallelReader(Reader reader, Executor executorService, int bufferSize, int readBufferSize, WaitingStrategy waitingStrategy) {
-        this.reader = new RingBufferReader(reader, executorService, bufferSize, readBufferSize, waitingStrategy);
+        this.reader = WaitingStrategies.isSignalling(waitingStrategy)
+                ? new SignallingRingBufferReader(reader, executorService, bufferSize, readBufferSize, waitingStrategy)
+                : new RingBufferReader(reader, executorService, bufferSize, readBufferSize, waitingStrategy);
     }
 
     @Override
@@ -116,6 +118,11 @@ public class ParallelReader extends Reader {
         reader.close();
     }
     
+    /**
+     * Strategy called in a loop while one side waits on the other, i starts at 0 for each wait and is the value returned by the previous call.
+     * With the backoff and signal strategies a thread parked in idle is unparked as soon as the other side makes progress.
+     * @see WaitingStrategies
+     */
     public interface WaitingStrategy {
         int idle(int i);
     }
@@ -139,8 +146,16 @@ class Run extends Pad3 {
     volatile boolean run = true;
 }
 class Pad4 extends Run { long p1,p2,p3,p4,p5,p6,p7; }
+class ConsumerWaiter extends Pad4 {
+    volatile Thread consumerWaiter;
+}
+class Pad5 extends ConsumerWaiter { long p1,p2,p3,p4,p5,p6,p7; }
+class ProducerWaiter extends Pad5 {
+    volatile Thread producerWaiter;
+}
+class Pad6 extends ProducerWaiter { long p1,p2,p3,p4,p5,p6,p7; }
 
-final class RingBufferReader extends Pad4 {
+class RingBufferReader extends Pad6 {
 
     public static final int L1_CACHE_LINE_SIZE = 64;
     private final Reader reader;
@@ -152,6 +167,7 @@ final class RingBufferReader extends Pad4 {
     private final int tailPadding;
     private long tailCache;
     private final ParallelReader.WaitingStrategy waitingStrategy;
+    private final WaitingStrategies.MeteredWaitingStrategy meteredWaitingStrategy;
 
     public RingBufferReader(Reader reader, Executor executorService, int ringBufferSize, int readSize, ParallelReader.WaitingStrategy waitingStrategy) {
         capacity =  1 << 32 - Integer.numberOfLeadingZeros(ringBufferSize - 1);
@@ -160,7 +176,8 @@ final class RingBufferReader extends Pad4 {
         buffer = new char[capacity + L1_CACHE_LINE_SIZE * 2]; // cache line padding on both 
         bufferMask = capacity - 1;
         this.waitingStrategy = waitingStrategy;
-        dataProducer = new DataProducer(waitingStrategy, Math.max(Math.min(ringBufferSize / 8, readSize), 1));
+        this.meteredWaitingStrategy = waitingStrategy instanceof WaitingStrategies.MeteredWaitingStrategy ? (WaitingStrategies.MeteredWaitingStrategy) waitingStrategy : null;
+        dataProducer = new DataProducer(Math.max(Math.min(ringBufferSize / 8, readSize), 1));
         executorService.execute(dataProducer);
     }
 
@@ -168,22 +185,14 @@ final class RingBufferReader extends Pad4 {
         final long currentHead = head;
         if (currentHead >= tailCache) {
             tailCache = tail;
-            int i = 0;
-            while(currentHead >= tailCache) {
-                if (!run) {
-                    if (dataProducer.exception != null) {
-                        throw dataProducer.exception;
-                    } else if (currentHead >= tail) {
-                        return -1;
-                    }
-                } 
-                i = waitingStrategy.idle(i);
-                tailCache = tail;                
+            if (currentHead >= tailCache && !waitForData(currentHead)) {
+                return -1;
             }
         }
 
         int l = read(cbuf, off, len, currentHead, tailCache);
         head = currentHead + l;
+        signalProducer();
         return l;
     }
 
@@ -191,24 +200,72 @@ final class RingBufferReader extends Pad4 {
         final long currentHead = head;
         if (currentHead >= tailCache) {
             tailCache = tail;
+            if (currentHead >= tailCache && !waitForData(currentHead)) {
+                return -1;
+            }
+        }
+
+        int headIndex = (int) (currentHead & bufferMask);
+        char c = buffer[headIndex + L1_CACHE_LINE_SIZE];
+        head = currentHead + 1;
+        signalProducer();
+        return c;
+    }
+
+    /**
+     * wait for the producer to publish data after currentHead.
+     * @return false if the end of the stream is reached
+     */
+    boolean waitForData(long currentHead) throws IOException {
+        final long start = meteredWaitingStrategy != null ? System.nanoTime() : 0;
+        try {
             int i = 0;
+            tailCache = tail;
             while(currentHead >= tailCache) {
                 if (!run) {
                     if (dataProducer.exception != null) {
                         throw dataProducer.exception;
-                    } else if (currentHead >= tail){
-                        return -1;
                     }
+                    tailCache = tail;
+                    return currentHead < tailCache;
                 }
                 i = waitingStrategy.idle(i);
                 tailCache = tail;
             }
+            return true;
+        } finally {
+            if (meteredWaitingStrategy != null) {
+                meteredWaitingStrategy.consumerWaited(System.nanoTime() - start);
+            }
         }
+    }
 
-        int headIndex = (int) (currentHead & bufferMask);
-        char c = buffer[headIndex + L1_CACHE_LINE_SIZE];
-        head = currentHead + 1;
-        return c;
+    /**
+     * wait for the consumer to free the space up to wrapPoint.
+     * @return the head, still before wrapPoint if the reader was stopped
+     */
+    long waitForSpace(long wrapPoint) {
+        final long start = meteredWaitingStrategy != null ? System.nanoTime() : 0;
+        try {
+            int i = 0;
+            long headCache = head;
+            while (headCache <= wrapPoint && run) {
+                i = waitingStrategy.idle(i);
+                headCache = head;
+            }
+            return headCache;
+        } finally {
+            if (meteredWaitingStrategy != null) {
+                meteredWaitingStrategy.producerWaited(System.nanoTime() - start);
+            }
+        }
+    }
+
+    // no one to wake up unless the strategy parks, see SignallingRingBufferReader
+    void signalProducer() {
+    }
+
+    void signalConsumer() {
     }
 
     private int read(char[] cbuf, int off, int len, long currentHead, long currentTail) {
@@ -226,39 +283,44 @@ final class RingBufferReader extends Pad4 {
 
     public void close() throws IOException {
         dataProducer.stop();
+        signalProducer();
         reader.close();
     }
 
     private final class DataProducer implements Runnable {
         private volatile IOException exception;
-        private final ParallelReader.WaitingStrategy waitingStrategy;
 
         private int readSize;
-        public DataProducer(ParallelReader.WaitingStrategy waitingStrategy, int readSize) {
-            this.waitingStrategy = waitingStrategy;
+        public DataProducer(int readSize) {
             this.readSize = readSize;
         }
 
         @Override
         public void run() {
-            ParallelReader.WaitingStrategy waitingStrategy = this.waitingStrategy;
             long currentTail = tail;
             long headCache = head;
             int readSize = this.readSize;
             long wrapPointOffest = capacity - tailPadding - readSize;
-            while(run) {
-                final long wrapPoint = currentTail - wrapPointOffest;
-
-                if (headCache <= wrapPoint) {
-                    int i = 0;
-                    headCache = head;
-                    while (headCache <= wrapPoint) {
-                        i = waitingStrategy.idle(i);
+            try {
+                while (run) {
+                    final long wrapPoint = currentTail - wrapPointOffest;
+
+                    if (headCache <= wrapPoint) {
                         headCache = head;
+                        if (headCache <= wrapPoint) {
+                            headCache = waitForSpace(wrapPoint);
+                            if (headCache <= wrapPoint) {
+                                // stopped
+                                return;
+                            }
+                        }
                     }
-                }
 
-                currentTail = fillBuffer(currentTail, headCache, readSize);
+                    currentTail = fillBuffer(currentTail, headCache, readSize);
+                    signalConsumer();
+                }
+            } finally {
+                signalConsumer();
             }
         }
 
@@ -299,4 +361,50 @@ final class RingBufferReader extends Pad4 {
     }
 }
 
+/**
+ * RingBufferReader for the strategies that park, the waiting side is unparked as soon as the other side makes progress.
+ */
+final class SignallingRingBufferReader extends RingBufferReader {
+
+    public SignallingRingBufferReader(Reader reader, Executor executorService, int ringBufferSize, int readSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        super(reader, executorService, ringBufferSize, readSize, waitingStrategy);
+    }
 
+    @Override
+    boolean waitForData(long currentHead) throws IOException {
+        // publish the waiter before checking the tail again so the producer cannot miss it
+        consumerWaiter = Thread.currentThread();
+        try {
+            return super.waitForData(currentHead);
+        } finally {
+            consumerWaiter = null;
+        }
+    }
+
+    @Override
+    long waitForSpace(long wrapPoint) {
+        // publish the waiter before checking the head again so the consumer cannot miss it
+        producerWaiter = Thread.currentThread();
+        try {
+            return super.waitForSpace(wrapPoint);
+        } finally {
+            producerWaiter = null;
+        }
+    }
+
+    @Override
+    void signalProducer() {
+        Thread waiter = producerWaiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    @Override
+    void signalConsumer() {
+        Thread waiter = consumerWaiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+}
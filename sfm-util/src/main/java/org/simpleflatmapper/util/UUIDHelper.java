@@ -18,4 +18,86 @@ public class UUIDHelper {
         final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
     }
+
+    /**
+     * Read a UUID in the canonical 8-4-4-4-12 hex form straight from the chars, falls back to UUID.fromString otherwise.
+     * @param chars the buffer
+     * @param offset the start of the value
+     * @param length the length of the value
+     * @return the uuid
+     */
+    public static UUID fromChars(char[] chars, int offset, int length) {
+        if (length == 36
+                && chars[offset + 8] == '-' && chars[offset + 13] == '-'
+                && chars[offset + 18] == '-' && chars[offset + 23] == '-') {
+            long msb1 = hex(chars, offset, 8);
+            long msb2 = hex(chars, offset + 9, 4);
+            long msb3 = hex(chars, offset + 14, 4);
+            long lsb1 = hex(chars, offset + 19, 4);
+            long lsb2 = hex(chars, offset + 24, 12);
+            if ((msb1 | msb2 | msb3 | lsb1 | lsb2) >= 0) {
+                return new UUID(msb1 << 32 | msb2 << 16 | msb3, lsb1 << 48 | lsb2);
+            }
+        }
+        return UUID.fromString(new String(chars, offset, length));
+    }
+
+    /**
+     * Read a UUID in the canonical 8-4-4-4-12 hex form straight from the CharSequence, falls back to UUID.fromString otherwise.
+     * @param cs the value
+     * @return the uuid
+     */
+    public static UUID fromCharSequence(CharSequence cs) {
+        if (cs.length() == 36
+                && cs.charAt(8) == '-' && cs.charAt(13) == '-'
+                && cs.charAt(18) == '-' && cs.charAt(23) == '-') {
+            long msb1 = hex(cs, 0, 8);
+            long msb2 = hex(cs, 9, 4);
+            long msb3 = hex(cs, 14, 4);
+            long lsb1 = hex(cs, 19, 4);
+            long lsb2 = hex(cs, 24, 12);
+            if ((msb1 | msb2 | msb3 | lsb1 | lsb2) >= 0) {
+                return new UUID(msb1 << 32 | msb2 << 16 | msb3, lsb1 << 48 | lsb2);
+            }
+        }
+        return UUID.fromString(cs.toString());
+    }
+
+    /**
+     * @return the value of the hex digits or -1 if one of the char is not an hex digit
+     */
+    private static long hex(char[] chars, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int d = hex(chars[i]);
+            if (d == -1) {
+                return -1;
+            }
+            value = value << 4 | d;
+        }
+        return value;
+    }
+
+    private static long hex(CharSequence cs, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int d = hex(cs.charAt(i));
+            if (d == -1) {
+                return -1;
+            }
+            value = value << 4 | d;
+        }
+        return value;
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
 }
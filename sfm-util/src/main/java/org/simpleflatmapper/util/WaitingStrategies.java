@@ -0,0 +1,192 @@
+package org.simpleflatmapper.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * WaitingStrategy for the ParallelReader.
+ * <p>
+ * The strategies keep track of the number of waits and of the time spent waiting on each side of the ring buffer,
+ * the producer waiting for free space, the consumer waiting for data. The counters are shared by all the ParallelReader
+ * using the same instance.
+ */
+public final class WaitingStrategies {
+
+    private static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DEFAULT_SIGNAL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private WaitingStrategies() {
+    }
+
+    /**
+     * Lowest latency, burns a core on the waiting side.
+     * @return a new busy spin strategy
+     */
+    public static MeteredWaitingStrategy busySpin() {
+        return new BusySpinWaitingStrategy();
+    }
+
+    /**
+     * Yield the cpu while waiting.
+     * @return a new yield strategy
+     */
+    public static MeteredWaitingStrategy yielding() {
+        return new YieldingWaitingStrategy();
+    }
+
+    /**
+     * Spin then yield then park for an exponentially growing time up to 1 ms.
+     * @return a new backoff strategy
+     */
+    public static MeteredWaitingStrategy backoff() {
+        return backoff(100, 100, DEFAULT_MAX_PARK_NANOS);
+    }
+
+    /**
+     * Spin nbSpins times, yield nbYields times then park for an exponentially growing time up to maxParkNanos.
+     * @param nbSpins the number of spins
+     * @param nbYields the number of yields
+     * @param maxParkNanos the max time to park for
+     * @return a new backoff strategy
+     */
+    public static MeteredWaitingStrategy backoff(int nbSpins, int nbYields, long maxParkNanos) {
+        return new BackoffWaitingStrategy(nbSpins, nbYields, maxParkNanos);
+    }
+
+    /**
+     * Park until the other side of the ring buffer signals that data or space is available.
+     * Lowest cpu usage, the waiting side is woken up by the ParallelReader as soon as the state of the ring buffer changes.
+     * @return a new signal strategy
+     */
+    public static MeteredWaitingStrategy signal() {
+        return new SignalWaitingStrategy(DEFAULT_SIGNAL_TIMEOUT_NANOS);
+    }
+
+    static boolean isSignalling(ParallelReader.WaitingStrategy waitingStrategy) {
+        return waitingStrategy instanceof MeteredWaitingStrategy && ((MeteredWaitingStrategy) waitingStrategy).parks();
+    }
+
+    public static abstract class MeteredWaitingStrategy implements ParallelReader.WaitingStrategy {
+        private final AtomicLong producerWaits = new AtomicLong();
+        private final AtomicLong producerWaitNanos = new AtomicLong();
+        private final AtomicLong consumerWaits = new AtomicLong();
+        private final AtomicLong consumerWaitNanos = new AtomicLong();
+
+        // true if idle can park, the ParallelReader then unparks the waiting side on progress
+        boolean parks() {
+            return false;
+        }
+
+        void producerWaited(long nanos) {
+            producerWaits.incrementAndGet();
+            producerWaitNanos.addAndGet(nanos);
+        }
+
+        void consumerWaited(long nanos) {
+            consumerWaits.incrementAndGet();
+            consumerWaitNanos.addAndGet(nanos);
+        }
+
+        /**
+         * @return the number of time the producer had to wait for space in the ring buffer
+         */
+        public long getProducerWaits() {
+            return producerWaits.get();
+        }
+
+        /**
+         * @return the time in nanoseconds the producer spent waiting for space in the ring buffer
+         */
+        public long getProducerWaitNanos() {
+            return producerWaitNanos.get();
+        }
+
+        /**
+         * @return the number of time the consumer had to wait for data in the ring buffer
+         */
+        public long getConsumerWaits() {
+            return consumerWaits.get();
+        }
+
+        /**
+         * @return the time in nanoseconds the consumer spent waiting for data in the ring buffer
+         */
+        public long getConsumerWaitNanos() {
+            return consumerWaitNanos.get();
+        }
+
+        public void resetCounters() {
+            producerWaits.set(0);
+            producerWaitNanos.set(0);
+            consumerWaits.set(0);
+            consumerWaitNanos.set(0);
+        }
+    }
+
+    private static final class BusySpinWaitingStrategy extends MeteredWaitingStrategy {
+        @Override
+        public int idle(int i) {
+            return i + 1;
+        }
+    }
+
+    private static final class YieldingWaitingStrategy extends MeteredWaitingStrategy {
+        @Override
+        public int idle(int i) {
+            Thread.yield();
+            return i + 1;
+        }
+    }
+
+    private static final class BackoffWaitingStrategy extends MeteredWaitingStrategy {
+        private final int nbSpins;
+        private final int spinsAndYields;
+        private final long maxParkNanos;
+
+        private BackoffWaitingStrategy(int nbSpins, int nbYields, long maxParkNanos) {
+            this.nbSpins = nbSpins;
+            this.spinsAndYields = nbSpins + nbYields;
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        boolean parks() {
+            return true;
+        }
+
+        @Override
+        public int idle(int i) {
+            if (i < nbSpins) {
+                return i + 1;
+            } else if (i < spinsAndYields) {
+                Thread.yield();
+                return i + 1;
+            }
+            int shift = i - spinsAndYields;
+            long parkNanos = shift < 62 ? Math.min(1l << shift, maxParkNanos) : maxParkNanos;
+            LockSupport.parkNanos(parkNanos);
+            return parkNanos < maxParkNanos ? i + 1 : i;
+        }
+    }
+
+    private static final class SignalWaitingStrategy extends MeteredWaitingStrategy {
+        // only a safety net, the waiting thread is unparked by the other side
+        private final long timeoutNanos;
+
+        private SignalWaitingStrategy(long timeoutNanos) {
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        @Override
+        boolean parks() {
+            return true;
+        }
+
+        @Override
+        public int idle(int i) {
+            LockSupport.parkNanos(this, timeoutNanos);
+            return i + 1;
+        }
+    }
+}
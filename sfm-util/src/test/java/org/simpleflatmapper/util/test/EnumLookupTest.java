@@ -0,0 +1,61 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.EnumLookup;
+
+import static org.junit.Assert.*;
+
+public class EnumLookupTest {
+
+    public enum Colour {
+        RED, GREEN, BLUE,
+        // same String.hashCode
+        Aa, BB
+    }
+
+    private final EnumLookup<Colour> lookup = EnumLookup.of(Colour.class);
+
+    @Test
+    public void testByName() {
+        for (Colour colour : Colour.values()) {
+            char[] chars = ("xx" + colour.name() + "yy").toCharArray();
+            assertSame(colour, lookup.get(chars, 2, colour.name().length()));
+            assertSame(colour, lookup.get(colour.name()));
+        }
+    }
+
+    @Test
+    public void testByOrdinal() {
+        for (Colour colour : Colour.values()) {
+            String ordinal = String.valueOf(colour.ordinal());
+            assertSame(colour, lookup.get(ordinal.toCharArray(), 0, ordinal.length()));
+            assertSame(colour, lookup.get(ordinal));
+        }
+        assertSame(Colour.GREEN, lookup.get("001"));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        String[] invalids = {"red", "RE", "REDD", "", "5", "123456789012", "1a"};
+        for (String invalid : invalids) {
+            Exception expected = exception(invalid, false);
+            assertNotNull(invalid, expected);
+            assertEquals(invalid, expected.getClass(), exception(invalid, true).getClass());
+        }
+        assertTrue(exception("1a", false) instanceof NumberFormatException);
+        assertEquals("No enum constant " + Colour.class.getCanonicalName() + ".red", exception("red", false).getMessage());
+    }
+
+    private Exception exception(String value, boolean chars) {
+        try {
+            if (chars) {
+                lookup.get(value.toCharArray(), 0, value.length());
+            } else {
+                lookup.get(value);
+            }
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.simpleflatmapper.util.EnumerableSpliterator;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -35,4 +36,25 @@ public class EnumerableSpliteratorTest {
         assertEquals(Arrays.asList(STRINGS).subList(0, 1), list);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testParallelStreamSplitsInBatches() {
+        Integer[] values = new Integer[5000];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        EnumerableSpliterator<Integer> spliterator = new EnumerableSpliterator<Integer>(new ArrayEnumerable<Integer>(values));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(1024, prefix.estimateSize());
+        assertEquals(2048, spliterator.trySplit().estimateSize());
+
+        List<Integer> list = StreamSupport
+                .stream(new EnumerableSpliterator<Integer>(new ArrayEnumerable<Integer>(values)), true)
+                .map(i -> i * 2)
+                .collect(Collectors.<Integer>toList());
+        assertEquals(values.length, list.size());
+        for(int i = 0; i < values.length; i++) {
+            assertEquals(i * 2, list.get(i).intValue());
+        }
+    }
+
+}
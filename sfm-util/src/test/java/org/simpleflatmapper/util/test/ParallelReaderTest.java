@@ -2,8 +2,10 @@ package org.simpleflatmapper.util.test;
 
 import org.junit.Test;
 import org.simpleflatmapper.util.ParallelReader;
+import org.simpleflatmapper.util.WaitingStrategies;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
@@ -12,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class ParallelReaderTest {
 
@@ -24,12 +27,76 @@ public class ParallelReaderTest {
         testReadFromString(str, new char[3], false, 4);
     }
 
+    @Test
+    public void testWaitingStrategies() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 20000; i++) {
+            sb.append(i).append(data);
+        }
+        String str = sb.toString();
+
+        WaitingStrategies.MeteredWaitingStrategy[] waitingStrategies = new WaitingStrategies.MeteredWaitingStrategy[] {
+                WaitingStrategies.busySpin(),
+                WaitingStrategies.yielding(),
+                WaitingStrategies.backoff(),
+                WaitingStrategies.backoff(0, 0, 1000),
+                WaitingStrategies.signal()
+        };
+        for (WaitingStrategies.MeteredWaitingStrategy waitingStrategy : waitingStrategies) {
+            testReadFromString(str, new char[100], false, 1 << 10, waitingStrategy);
+            testReadFromString(str, new char[1000], true, 1 << 10, waitingStrategy);
+
+            // slow consumer on a small ring, the producer has to wait
+            assertTrue(waitingStrategy.getProducerWaits() > 0);
+            assertTrue(waitingStrategy.getProducerWaitNanos() > 0);
+            assertTrue(waitingStrategy.getConsumerWaits() >= 0);
+            waitingStrategy.resetCounters();
+            assertEquals(0, waitingStrategy.getProducerWaits());
+        }
+    }
+
+    @Test
+    public void testSignalConsumerWaitsForSlowProducer() throws IOException {
+        WaitingStrategies.MeteredWaitingStrategy waitingStrategy = WaitingStrategies.signal();
+        Reader slowReader = new Reader() {
+            int i = 0;
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                if (i >= 20) return -1;
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                cbuf[off] = (char)('a' + i++);
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ParallelReader parallelReader = new ParallelReader(slowReader, executorService, 1 << 10, 8192, waitingStrategy);
+        StringBuilder sb = new StringBuilder();
+        try {
+            int c;
+            while((c = parallelReader.read()) != -1) {
+                sb.append((char)c);
+            }
+        } finally {
+            parallelReader.close();
+        }
+        assertEquals("abcdefghijklmnopqrst", sb.toString());
+        assertTrue(waitingStrategy.getConsumerWaits() > 0);
+        assertTrue(waitingStrategy.getConsumerWaitNanos() > 0);
+    }
+
     public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize) throws IOException {
+        testReadFromString(str, buffer, slow, bufferSize, null);
+    }
+
+    public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize, ParallelReader.WaitingStrategy waitingStrategy) throws IOException {
         StringReader stringReader = new StringReader(str);
 
 
         StringBuilder sb = new StringBuilder();
-        ParallelReader parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        ParallelReader parallelReader = newParallelReader(stringReader, bufferSize, waitingStrategy);
         try {
             int l;
             while((l = parallelReader.read(buffer, 0, buffer.length)) != -1) {
@@ -49,7 +116,7 @@ public class ParallelReaderTest {
 
 
         sb = new StringBuilder();
-        parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        parallelReader = newParallelReader(stringReader, bufferSize, waitingStrategy);
         try {
             int l;
             while((l = parallelReader.read()) != -1) {
@@ -63,6 +130,13 @@ public class ParallelReaderTest {
     }
 
 
+    private ParallelReader newParallelReader(Reader reader, int bufferSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        if (waitingStrategy == null) {
+            return new ParallelReader(reader, executorService, bufferSize);
+        }
+        return new ParallelReader(reader, executorService, bufferSize, 8192, waitingStrategy);
+    }
+
     String data = "abcdefghijklmnopqrstuvwxyz\n";
     @Test
     public void testReadFromRandomStringsReader() throws IOException {
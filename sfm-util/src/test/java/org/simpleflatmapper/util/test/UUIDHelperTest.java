@@ -4,9 +4,13 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.simpleflatmapper.util.UUIDHelper;
 
+import java.util.Random;
 import java.util.UUID;
 
 public class UUIDHelperTest {
+
+    private static final Random RANDOM = new Random(17);
+
     @Test
     public void test() throws Exception {
         UUID uuid = UUID.randomUUID();
@@ -14,5 +18,25 @@ public class UUIDHelperTest {
         Assert.assertEquals(uuid, UUIDHelper.fromBytes(UUIDHelper.toBytes(uuid)));
     }
 
+    @Test
+    public void testFromChars() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(RANDOM.nextLong(), RANDOM.nextLong());
+            String str = uuid.toString();
+            char[] chars = ("#" + str + "#").toCharArray();
+            Assert.assertEquals(uuid, UUIDHelper.fromChars(chars, 1, str.length()));
+            Assert.assertEquals(uuid, UUIDHelper.fromCharSequence(str));
+            Assert.assertEquals(uuid, UUIDHelper.fromCharSequence(str.toUpperCase()));
+        }
+        // non canonical form handled by UUID.fromString
+        Assert.assertEquals(UUID.fromString("1-2-3-4-5"), UUIDHelper.fromCharSequence("1-2-3-4-5"));
+        try {
+            UUIDHelper.fromCharSequence("0123456g-89ab-cdef-0123-456789abcdef");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
 
 }
\ No newline at end of file